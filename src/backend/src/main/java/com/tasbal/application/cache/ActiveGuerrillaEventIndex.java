@@ -0,0 +1,148 @@
+package com.tasbal.application.cache;
+
+import com.tasbal.domain.model.GuerrillaEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.TreeSet;
+
+/**
+ * 開催中ゲリライベントを検索するための不変インターバルインデックス。
+ *
+ * <p>読み込んだイベントの開始・終了時刻をすべて境界点として昇順に並べ、
+ * 隣接する境界点で区切られた各区間について「その区間で開催中のイベント」を
+ * 構築時に確定させておきます。これにより、任意時刻の開催中イベントの取得は
+ * 境界配列の二分探索のみ（O(log n)）で完了し、リクエストごとのDBアクセスは発生しません。</p>
+ *
+ * <h3>優先度の扱い:</h3>
+ * <ul>
+ *   <li>同一区間に複数のイベントが重なる場合、最大優先度のイベントのみを開催中とします</li>
+ *   <li>管理者イベント（ADMIN）は自動生成イベントより高い優先度で登録されるため、
+ *       重なる時間帯では自動生成イベントを上書きします</li>
+ * </ul>
+ *
+ * <h3>スレッドセーフティ:</h3>
+ * <p>インスタンスは構築後に変更されないため、複数スレッドから安全に参照できます。
+ * 更新時は新しいインスタンスを構築して参照を差し替えてください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEvent
+ */
+public final class ActiveGuerrillaEventIndex {
+
+    private static final ActiveGuerrillaEventIndex EMPTY =
+            new ActiveGuerrillaEventIndex(new long[0], List.of());
+
+    /** 昇順に並んだ境界時刻（エポックミリ秒） */
+    private final long[] boundaries;
+
+    /** 区間 [boundaries[i], boundaries[i+1]) で開催中のイベント */
+    private final List<List<GuerrillaEvent>> segments;
+
+    private ActiveGuerrillaEventIndex(long[] boundaries, List<List<GuerrillaEvent>> segments) {
+        this.boundaries = boundaries;
+        this.segments = segments;
+    }
+
+    /**
+     * 空のインデックスを取得します。
+     *
+     * @return イベントを1件も含まないインデックス
+     */
+    public static ActiveGuerrillaEventIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * イベントのリストからインデックスを構築します。
+     *
+     * @param events 対象期間のゲリライベント
+     * @return 構築されたインデックス
+     */
+    public static ActiveGuerrillaEventIndex build(List<GuerrillaEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return EMPTY;
+        }
+
+        TreeSet<Long> points = new TreeSet<>();
+        for (GuerrillaEvent event : events) {
+            points.add(event.getStartsAt().toInstant().toEpochMilli());
+            points.add(event.getEndsAt().toInstant().toEpochMilli());
+        }
+        long[] boundaries = points.stream().mapToLong(Long::longValue).toArray();
+
+        List<List<GuerrillaEvent>> segments = new ArrayList<>(boundaries.length);
+        for (int i = 0; i < boundaries.length - 1; i++) {
+            segments.add(activeAt(events, boundaries[i]));
+        }
+        // 最後の境界以降は開催中のイベントが存在しない
+        segments.add(List.of());
+
+        return new ActiveGuerrillaEventIndex(boundaries, List.copyOf(segments));
+    }
+
+    /**
+     * 指定時刻に開催中のイベントを取得します。
+     *
+     * @param instant 判定する時刻（エポックミリ秒）
+     * @return 開催中のイベント（最大優先度のもののみ）、該当なしの場合は空のリスト
+     */
+    public List<GuerrillaEvent> findActive(long instant) {
+        int segment = segmentOf(instant);
+        return segment < 0 ? List.of() : segments.get(segment);
+    }
+
+    /**
+     * 指定時刻より後にある最初の境界時刻を取得します。
+     *
+     * <p>開催中イベントの集合はこの時刻まで変化しないため、
+     * インデックスの再読み込みタイミングの決定に使用します。</p>
+     *
+     * @param instant 基準時刻（エポックミリ秒）
+     * @return 次の境界時刻、存在しない場合は空
+     */
+    public OptionalLong nextBoundaryAfter(long instant) {
+        int pos = Arrays.binarySearch(boundaries, instant);
+        int next = pos >= 0 ? pos + 1 : -pos - 1;
+        return next < boundaries.length ? OptionalLong.of(boundaries[next]) : OptionalLong.empty();
+    }
+
+    /**
+     * インデックスに含まれる境界点の数を取得します。
+     *
+     * @return 境界点の数
+     */
+    public int size() {
+        return boundaries.length;
+    }
+
+    private int segmentOf(long instant) {
+        if (boundaries.length == 0 || instant < boundaries[0]) {
+            return -1;
+        }
+        int pos = Arrays.binarySearch(boundaries, instant);
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    private static List<GuerrillaEvent> activeAt(List<GuerrillaEvent> events, long instant) {
+        int maxPriority = Integer.MIN_VALUE;
+        List<GuerrillaEvent> active = new ArrayList<>();
+        for (GuerrillaEvent event : events) {
+            if (!event.isActiveAt(instant)) {
+                continue;
+            }
+            int priority = event.getPriority() != null ? event.getPriority() : 0;
+            if (priority > maxPriority) {
+                maxPriority = priority;
+                active.clear();
+            }
+            if (priority == maxPriority) {
+                active.add(event);
+            }
+        }
+        return List.copyOf(active);
+    }
+}
@@ -0,0 +1,127 @@
+package com.tasbal.application.cache;
+
+import com.tasbal.domain.model.BreathContribution;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 呼吸回数をメモリ上で集約するダブルバッファ。
+ *
+ * <p>受け付けた呼吸回数を (風船, Tasbal Day, ユーザー) ごとのカウンタに加算し、
+ * 定期的な書き出し時にまとめて取り出します。書き出しまでに何回受け付けても、
+ * キーごとに台帳1行・(風船, Tasbal Day) ごとに進捗更新1回にまとめられます。</p>
+ *
+ * <h3>スレッドセーフティ:</h3>
+ * <ul>
+ *   <li>加算は読み取りロック（共有）を取得して現在のバッファに行うため、互いにブロックしません</li>
+ *   <li>取り出しは書き込みロック（排他）の下でバッファを差し替えるため、
+ *       差し替え前のバッファへの加算が取りこぼされることはありません</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BreathContribution
+ */
+public final class BreathCounterBuffer {
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile ConcurrentHashMap<Key, AtomicLong> current = new ConcurrentHashMap<>();
+
+    /**
+     * 呼吸回数を加算します。
+     *
+     * @param balloonId 呼吸風船ID
+     * @param tasbalDay 呼吸が行われたTasbal Day
+     * @param userId 呼吸を行ったユーザーID
+     * @param count 呼吸回数
+     */
+    public void add(UUID balloonId, LocalDate tasbalDay, UUID userId, long count) {
+        Key key = new Key(balloonId, tasbalDay, userId);
+        swapLock.readLock().lock();
+        try {
+            current.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(count);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 集約済みの呼吸回数をすべて取り出し、バッファを空にします。
+     *
+     * @return 集約済みの呼吸貢献のリスト
+     */
+    public List<BreathContribution> drain() {
+        ConcurrentHashMap<Key, AtomicLong> drained;
+        swapLock.writeLock().lock();
+        try {
+            drained = current;
+            current = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        List<BreathContribution> contributions = new ArrayList<>(drained.size());
+        for (Map.Entry<Key, AtomicLong> entry : drained.entrySet()) {
+            long amount = entry.getValue().get();
+            // 台帳のamountはINTのため、極端な値は分割して記録する
+            while (amount > 0) {
+                int chunk = (int) Math.min(amount, Integer.MAX_VALUE);
+                Key key = entry.getKey();
+                contributions.add(new BreathContribution(key.balloonId, key.tasbalDay, key.userId, chunk));
+                amount -= chunk;
+            }
+        }
+        return contributions;
+    }
+
+    /**
+     * 現在バッファに保持しているキーの数を取得します。
+     *
+     * @return キーの数
+     */
+    public int size() {
+        return current.size();
+    }
+
+    /**
+     * 集約キー。
+     */
+    private static final class Key {
+        private final UUID balloonId;
+        private final LocalDate tasbalDay;
+        private final UUID userId;
+
+        private Key(UUID balloonId, LocalDate tasbalDay, UUID userId) {
+            this.balloonId = balloonId;
+            this.tasbalDay = tasbalDay;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return balloonId.equals(other.balloonId)
+                    && tasbalDay.equals(other.tasbalDay)
+                    && userId.equals(other.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(balloonId, tasbalDay, userId);
+        }
+    }
+}
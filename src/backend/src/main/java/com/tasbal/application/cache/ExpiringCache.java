@@ -0,0 +1,98 @@
+package com.tasbal.application.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 一定時間だけ値を保持するインメモリキャッシュ。
+ *
+ * <p>変更通知で無効化できない読み取り結果（検索結果など）を短時間保持し、
+ * 同じ読み取りが集中した際のデータベースアクセスを{@code ttl}ごとに1回に抑えます。
+ * 保持中の値は最大{@code ttl}だけ古い可能性があります。</p>
+ *
+ * <p>保持件数が上限に達した場合は期限切れの値を破棄し、それでも上限に達している場合は全件を破棄します
+ * （頻繁に読み取られるキーは読み込み直しで再び温まります）。</p>
+ *
+ * <p>同じキーの読み込みが同時に発生した場合はそれぞれ読み込みます
+ * （データベースへの同一クエリは{@link com.tasbal.infrastructure.db.common.annotation.Coalesced}でまとめられます）。</p>
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see NearCache
+ */
+public class ExpiringCache<K, V> {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param ttl 値を保持する期間
+     * @param maxEntries 保持する最大件数
+     */
+    public ExpiringCache(Duration ttl, int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 値を取得します。保持していない場合、または期限切れの場合は読み込んで保持します。
+     *
+     * @param key キー
+     * @param loader 値の読み込み関数
+     * @return 値
+     */
+    public V get(K key, Function<K, V> loader) {
+        long now = System.nanoTime();
+        Entry<V> cached = entries.get(key);
+        if (cached != null && now - cached.loadedAt < ttlNanos) {
+            return cached.value;
+        }
+        V loaded = loader.apply(key);
+        if (ttlNanos > 0) {
+            if (cached == null && entries.size() >= maxEntries) {
+                evict(now);
+            }
+            entries.put(key, new Entry<>(loaded, now));
+        }
+        return loaded;
+    }
+
+    /**
+     * すべての値を破棄します。
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 保持している件数を取得します。
+     *
+     * @return 保持件数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> now - entry.loadedAt >= ttlNanos);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tasbal.application.cache;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * データベースの変更通知で無効化されるインメモリのニアキャッシュ。
+ *
+ * <p>キーごとに読み込み結果（存在しないことも含む）を保持し、
+ * 変更通知を受けたキーを{@link #invalidate(Object)}で、通知を取りこぼした可能性がある場合は
+ * {@link #clear()}で破棄します。有効期限はなく、通知を受けるまで保持し続けます。</p>
+ *
+ * <h3>読み込みと無効化の競合:</h3>
+ * <p>読み込み中に無効化された場合、読み込んだ値は古い可能性があるため保持しません。
+ * 無効化のたびに世代を進め、読み込み開始時と保持時の世代が異なる場合は値を返すのみとします。</p>
+ *
+ * <p>保持件数が上限を超えた場合は全件を破棄します（読み込み直しで再び温まります）。</p>
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class NearCache<K, V> {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<K, Optional<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param maxEntries 保持する最大件数
+     */
+    public NearCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 値を取得します。保持していない場合は読み込んで保持します。
+     *
+     * @param key キー
+     * @param loader 値の読み込み関数（存在しない場合は空のOptional）
+     * @param cacheable 読み込んだ値を保持してよい場合true（変更通知を受信できない間はfalse）
+     * @return 値（存在しない場合は空のOptional）
+     */
+    public Optional<V> get(K key, Function<K, Optional<V>> loader, boolean cacheable) {
+        Optional<V> cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadedGeneration = generation.get();
+        Optional<V> loaded = loader.apply(key);
+        if (cacheable) {
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+            entries.put(key, loaded);
+            if (generation.get() != loadedGeneration) {
+                entries.remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * キーの値を破棄します。
+     *
+     * @param key キー
+     */
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * すべての値を破棄します。
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 保持している件数を取得します。
+     *
+     * @return 保持件数
+     */
+    public int size() {
+        return entries.size();
+    }
+}
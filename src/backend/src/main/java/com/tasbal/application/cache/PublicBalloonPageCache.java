@@ -0,0 +1,163 @@
+package com.tasbal.application.cache;
+
+import com.tasbal.domain.division.BalloonType;
+import com.tasbal.domain.division.BalloonVisibility;
+import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.BalloonCursor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 公開風船一覧の先頭ページのインメモリキャッシュ。
+ *
+ * <p>公開風船一覧の先頭から{@code capacity}件を作成日時・IDの降順で保持します。
+ * 要求されたページがキャッシュの範囲内に収まる場合はデータベースにアクセスせずに返します。
+ * 一覧画面の大半は先頭数ページの閲覧のため、ほとんどのリクエストがキャッシュで完結します。</p>
+ *
+ * <h3>更新:</h3>
+ * <ul>
+ *   <li>{@link #replace(List)}: データベースから読み込んだ先頭ページで置き換える（定期更新）</li>
+ *   <li>{@link #prepend(Balloon)}: 作成された公開風船を先頭に追加する（作成時の即時反映）</li>
+ *   <li>{@link #remove(Collection)}: 停止された風船を取り除く（停止時の即時反映）</li>
+ * </ul>
+ *
+ * <p>参照はロックなしで不変のスナップショットを読み、更新のみ同期します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class PublicBalloonPageCache {
+
+    private final int capacity;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), false, false);
+
+    /**
+     * コンストラクタ。
+     *
+     * @param capacity 保持する風船の最大件数
+     */
+    public PublicBalloonPageCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * キャッシュをデータベースから読み込んだ先頭ページで置き換えます。
+     *
+     * @param head 公開風船一覧の先頭から最大{@link #getCapacity()}件
+     */
+    public synchronized void replace(List<Balloon> head) {
+        boolean complete = head.size() < capacity;
+        snapshot = new Snapshot(List.copyOf(head.subList(0, Math.min(head.size(), capacity))), complete, true);
+    }
+
+    /**
+     * 作成された風船が公開一覧の対象であれば先頭に追加します。
+     *
+     * <p>キャッシュが未読み込みの場合は何もしません（次回の{@link #replace(List)}で反映されます）。</p>
+     *
+     * @param balloon 作成された風船
+     */
+    public synchronized void prepend(Balloon balloon) {
+        Snapshot current = snapshot;
+        if (!current.loaded || !isListed(balloon)) {
+            return;
+        }
+        List<Balloon> balloons = new ArrayList<>(current.balloons.size() + 1);
+        balloons.add(balloon);
+        balloons.addAll(current.balloons);
+        balloons.sort(BalloonCursor.ORDER);
+        boolean complete = current.complete && balloons.size() <= capacity;
+        snapshot = new Snapshot(List.copyOf(balloons.subList(0, Math.min(balloons.size(), capacity))), complete, true);
+    }
+
+    /**
+     * 風船をキャッシュから取り除きます。
+     *
+     * <p>取り除いた件数だけキャッシュの末尾が欠けるため、キャッシュの範囲外のページは
+     * 次回の{@link #replace(List)}までデータベースから取得されます。</p>
+     *
+     * @param balloonIds 取り除く風船IDのコレクション
+     */
+    public synchronized void remove(Collection<UUID> balloonIds) {
+        Snapshot current = snapshot;
+        if (!current.loaded) {
+            return;
+        }
+        List<Balloon> balloons = current.balloons.stream()
+                .filter(balloon -> !balloonIds.contains(balloon.getId()))
+                .toList();
+        if (balloons.size() != current.balloons.size()) {
+            snapshot = new Snapshot(balloons, current.complete, true);
+        }
+    }
+
+    /**
+     * キャッシュからページを取得します。
+     *
+     * @param cursor 前ページのカーソル（先頭ページの場合はnull）
+     * @param limit 取得する最大件数
+     * @return キャッシュの範囲内に収まる場合はページ、収まらない場合は空のOptional
+     */
+    public Optional<List<Balloon>> find(BalloonCursor cursor, int limit) {
+        Snapshot current = snapshot;
+        if (!current.loaded) {
+            return Optional.empty();
+        }
+        List<Balloon> balloons = current.balloons;
+        int from = cursor == null ? 0 : firstAfter(balloons, cursor);
+        int to = from + limit;
+        if (to > balloons.size()) {
+            if (!current.complete) {
+                return Optional.empty();
+            }
+            to = balloons.size();
+        }
+        return Optional.of(balloons.subList(from, to));
+    }
+
+    /**
+     * 保持する風船の最大件数を取得します。
+     *
+     * @return 最大件数
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static int firstAfter(List<Balloon> balloons, BalloonCursor cursor) {
+        int low = 0;
+        int high = balloons.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cursor.precedes(balloons.get(mid))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private static boolean isListed(Balloon balloon) {
+        return Boolean.TRUE.equals(balloon.getIsActive())
+                && balloon.getVisibilityEnum() == BalloonVisibility.Public_
+                && balloon.getBalloonTypeEnum() == BalloonType.User;
+    }
+
+    private static class Snapshot {
+        private final List<Balloon> balloons;
+        private final boolean complete;
+        private final boolean loaded;
+
+        private Snapshot(List<Balloon> balloons, boolean complete, boolean loaded) {
+            this.balloons = balloons;
+            this.complete = complete;
+            this.loaded = loaded;
+        }
+    }
+}
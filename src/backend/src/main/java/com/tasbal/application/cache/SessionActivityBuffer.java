@@ -0,0 +1,133 @@
+package com.tasbal.application.cache;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * セッション・端末の最終利用日時をメモリ上で集約するダブルバッファ。
+ *
+ * <p>リクエストごとの利用をセッションID・端末IDごとの最新日時にまとめ、
+ * 定期的な書き出し時にまとめて取り出します。書き出しまでに何回利用されても、
+ * セッション・端末ごとに1行の更新にまとめられます。</p>
+ *
+ * <h3>スレッドセーフティ:</h3>
+ * <ul>
+ *   <li>記録は読み取りロック（共有）を取得して現在のバッファに行うため、互いにブロックしません</li>
+ *   <li>取り出しは書き込みロック（排他）の下でバッファを差し替えるため、
+ *       差し替え前のバッファへの記録が取りこぼされることはありません</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BreathCounterBuffer
+ */
+public final class SessionActivityBuffer {
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Buffers current = new Buffers();
+
+    /**
+     * セッションの利用を記録します。
+     *
+     * @param sessionId セッションID
+     * @param deviceId 端末ID（端末に紐付かないセッションの場合はnull）
+     * @param atMillis 利用日時（エポックミリ秒）
+     */
+    public void record(UUID sessionId, UUID deviceId, long atMillis) {
+        swapLock.readLock().lock();
+        try {
+            Buffers buffers = current;
+            buffers.sessions.merge(sessionId, atMillis, Math::max);
+            if (deviceId != null) {
+                buffers.devices.merge(deviceId, atMillis, Math::max);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 集約済みの最終利用日時をすべて取り出し、バッファを空にします。
+     *
+     * @return 集約済みの最終利用日時
+     */
+    public Snapshot drain() {
+        Buffers drained;
+        swapLock.writeLock().lock();
+        try {
+            drained = current;
+            current = new Buffers();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        return new Snapshot(toInstants(drained.sessions), toInstants(drained.devices));
+    }
+
+    /**
+     * 書き出しに失敗した最終利用日時をバッファに戻します。
+     *
+     * <p>戻すまでに記録された日時の方が新しい場合はそちらを残します。</p>
+     *
+     * @param snapshot 戻す最終利用日時
+     */
+    public void restore(Snapshot snapshot) {
+        swapLock.readLock().lock();
+        try {
+            Buffers buffers = current;
+            snapshot.sessionLastUsed.forEach((id, at) -> buffers.sessions.merge(id, at.toEpochMilli(), Math::max));
+            snapshot.deviceLastSeen.forEach((id, at) -> buffers.devices.merge(id, at.toEpochMilli(), Math::max));
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 現在バッファに保持しているセッションの数を取得します。
+     *
+     * @return セッションの数
+     */
+    public int size() {
+        return current.sessions.size();
+    }
+
+    private static Map<UUID, Instant> toInstants(Map<UUID, Long> millis) {
+        Map<UUID, Instant> instants = new HashMap<>(Math.max(16, millis.size() * 2));
+        millis.forEach((id, at) -> instants.put(id, Instant.ofEpochMilli(at)));
+        return instants;
+    }
+
+    /**
+     * 取り出した最終利用日時。
+     */
+    public static final class Snapshot {
+        private final Map<UUID, Instant> sessionLastUsed;
+        private final Map<UUID, Instant> deviceLastSeen;
+
+        private Snapshot(Map<UUID, Instant> sessionLastUsed, Map<UUID, Instant> deviceLastSeen) {
+            this.sessionLastUsed = sessionLastUsed;
+            this.deviceLastSeen = deviceLastSeen;
+        }
+
+        public Map<UUID, Instant> getSessionLastUsed() {
+            return sessionLastUsed;
+        }
+
+        public Map<UUID, Instant> getDeviceLastSeen() {
+            return deviceLastSeen;
+        }
+
+        public boolean isEmpty() {
+            return sessionLastUsed.isEmpty() && deviceLastSeen.isEmpty();
+        }
+    }
+
+    private static final class Buffers {
+        private final ConcurrentHashMap<UUID, Long> sessions = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<UUID, Long> devices = new ConcurrentHashMap<>();
+    }
+}
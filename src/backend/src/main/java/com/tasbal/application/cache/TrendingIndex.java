@@ -0,0 +1,336 @@
+package com.tasbal.application.cache;
+
+import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.TrendingBalloon;
+import com.tasbal.domain.model.TrendingCandidate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 公開風船の人気ランキングを差分更新するインメモリインデックス。
+ *
+ * <p>風船ごとに参加人数と時間減衰させた貢献スコアを保持し、貢献のたびに差分で加算します。
+ * ランキングは全体と国ごとに上位{@code topK}件の最小ヒープで保持するため、
+ * 参照時に集計は発生しません。</p>
+ *
+ * <h3>時間減衰:</h3>
+ * <p>スコアは半減期{@code halfLife}で指数減衰します。全風船のスコアを毎回減衰させる代わりに、
+ * 基準時刻（ランドマーク）からの経過時間に応じて加算量を {@code e^(λ(t - landmark))} 倍して記録します。
+ * これにより減衰は全風船で共通の係数となり、スコアは加算でのみ変化します
+ * （順位は加算された風船だけを入れ替えれば維持されます）。
+ * 指数が大きくなりすぎる前に基準時刻を進め、全スコアを一括で縮小します。</p>
+ *
+ * <h3>スレッドセーフティ:</h3>
+ * <p>更新は同期し、参照はロックなしで{@link #publish(Instant)}時点の不変のスナップショットを読みます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingBalloon
+ */
+public class TrendingIndex {
+
+    /** 基準時刻を進める指数の上限（e^50 ≒ 5e21 のため double の精度内に収まる） */
+    private static final double REBASE_EXPONENT = 50.0;
+
+    private static final Comparator<Entry> BY_SCORE = Comparator
+            .comparingDouble((Entry entry) -> entry.score)
+            .thenComparing(entry -> entry.balloon.getId());
+
+    private final int topK;
+    private final double decayPerSecond;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Scope global = new Scope();
+    private final Map<String, Scope> countries = new HashMap<>();
+    private Instant landmark;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), Map.of());
+
+    /**
+     * コンストラクタ。
+     *
+     * @param topK 全体・国ごとに保持する上位件数
+     * @param halfLife スコアの半減期
+     * @param landmark 減衰の基準時刻
+     */
+    public TrendingIndex(int topK, Duration halfLife, Instant landmark) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("topK must be positive");
+        }
+        if (halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("halfLife must be positive");
+        }
+        this.topK = topK;
+        this.decayPerSecond = Math.log(2) / halfLife.toSeconds();
+        this.landmark = landmark;
+    }
+
+    /**
+     * ランキングの対象風船を登録します。
+     *
+     * <p>登録済みの場合は風船の情報と参加人数のみ更新し、スコアは維持します。</p>
+     *
+     * @param candidate 対象風船
+     */
+    public synchronized void register(TrendingCandidate candidate) {
+        UUID balloonId = candidate.getBalloon().getId();
+        String country = normalizeCountry(candidate.getCountryCode());
+        Entry entry = entries.get(balloonId);
+        if (entry == null) {
+            entries.put(balloonId, new Entry(candidate.getBalloon(), country, memberCountOf(candidate.getBalloon())));
+            return;
+        }
+        if (!country.equals(entry.country)) {
+            detach(entry);
+            entry.country = country;
+            attach(entry);
+        }
+        entry.balloon = candidate.getBalloon();
+        entry.memberCount = memberCountOf(candidate.getBalloon());
+    }
+
+    /**
+     * 風船に貢献を加算します。
+     *
+     * @param balloonId 風船ID
+     * @param amount 貢献量
+     * @param at 貢献日時
+     * @return 対象風船の場合true（未登録の風船の場合は何もせずfalse）
+     */
+    public synchronized boolean addContribution(UUID balloonId, double amount, Instant at) {
+        Entry entry = entries.get(balloonId);
+        if (entry == null || amount <= 0) {
+            return false;
+        }
+        if (exponentAt(at) > REBASE_EXPONENT) {
+            rebase(at);
+        }
+        detach(entry);
+        entry.score += amount * Math.exp(exponentAt(at));
+        attach(entry);
+        return true;
+    }
+
+    /**
+     * 風船の参加人数を増減します。
+     *
+     * @param balloonId 風船ID
+     * @param delta 参加人数の増減（参加は正、離脱は負）
+     * @return 対象風船の場合true（未登録の風船の場合は何もせずfalse）
+     */
+    public synchronized boolean addMembers(UUID balloonId, int delta) {
+        Entry entry = entries.get(balloonId);
+        if (entry == null) {
+            return false;
+        }
+        entry.memberCount = Math.max(0, entry.memberCount + delta);
+        return true;
+    }
+
+    /**
+     * 風船をランキングの対象から取り除きます。
+     *
+     * <p>上位から取り除かれた分、圏外だった風船は次の加算または再構築まで繰り上がりません。</p>
+     *
+     * @param balloonId 風船ID
+     * @return 対象風船だった場合true
+     */
+    public synchronized boolean remove(UUID balloonId) {
+        Entry entry = entries.remove(balloonId);
+        if (entry == null) {
+            return false;
+        }
+        detach(entry);
+        return true;
+    }
+
+    /**
+     * 現在のランキングをスナップショットとして公開します。
+     *
+     * <p>スコアは公開時点まで減衰させた値で公開されます。
+     * 参加人数の変化も公開時に反映されます。</p>
+     *
+     * @param now 公開日時
+     */
+    public synchronized void publish(Instant now) {
+        if (exponentAt(now) > REBASE_EXPONENT) {
+            rebase(now);
+        }
+        double factor = Math.exp(-exponentAt(now));
+        Map<String, List<TrendingBalloon>> byCountry = new HashMap<>();
+        for (Map.Entry<String, Scope> scope : countries.entrySet()) {
+            if (!scope.getValue().heap.isEmpty()) {
+                byCountry.put(scope.getKey(), scope.getValue().ranking(factor));
+            }
+        }
+        snapshot = new Snapshot(global.ranking(factor), Map.copyOf(byCountry));
+    }
+
+    /**
+     * 公開済みのランキングを取得します。
+     *
+     * @param countryCode 国コード（全体のランキングの場合はnull）
+     * @param limit 取得する最大件数
+     * @return スコアの降順のランキング
+     */
+    public List<TrendingBalloon> top(String countryCode, int limit) {
+        Snapshot current = snapshot;
+        List<TrendingBalloon> ranking = countryCode == null
+                ? current.global
+                : current.countries.getOrDefault(normalizeCountry(countryCode), List.of());
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    /**
+     * 全体・国ごとに保持する上位件数を取得します。
+     *
+     * @return 上位件数
+     */
+    public int getTopK() {
+        return topK;
+    }
+
+    /**
+     * 登録済みの対象風船の数を取得します。
+     *
+     * @return 対象風船の数
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private double exponentAt(Instant at) {
+        return decayPerSecond * Duration.between(landmark, at).toMillis() / 1000.0;
+    }
+
+    /**
+     * 基準時刻を進め、全スコアを同じ係数で縮小します。
+     *
+     * <p>縮小で順位は変わりませんが、アンダーフローで同値になった風船の順序を保つためヒープを再構築します。</p>
+     */
+    private void rebase(Instant now) {
+        double factor = Math.exp(-exponentAt(now));
+        for (Entry entry : entries.values()) {
+            entry.score *= factor;
+        }
+        landmark = now;
+        global.rebuild();
+        for (Scope scope : countries.values()) {
+            scope.rebuild();
+        }
+    }
+
+    private void detach(Entry entry) {
+        global.remove(entry);
+        if (!entry.country.isEmpty()) {
+            Scope scope = countries.get(entry.country);
+            if (scope != null) {
+                scope.remove(entry);
+            }
+        }
+    }
+
+    private void attach(Entry entry) {
+        if (entry.score <= 0) {
+            return;
+        }
+        global.offer(entry);
+        if (!entry.country.isEmpty()) {
+            countries.computeIfAbsent(entry.country, k -> new Scope()).offer(entry);
+        }
+    }
+
+    private static int memberCountOf(Balloon balloon) {
+        return balloon.getMemberCount() != null ? balloon.getMemberCount() : 0;
+    }
+
+    private static String normalizeCountry(String countryCode) {
+        return countryCode == null ? "" : countryCode.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 風船ごとの集計値。スコアは基準時刻時点に換算した値です。
+     */
+    private static class Entry {
+        private Balloon balloon;
+        private String country;
+        private int memberCount;
+        private double score;
+
+        private Entry(Balloon balloon, String country, int memberCount) {
+            this.balloon = balloon;
+            this.country = country;
+            this.memberCount = memberCount;
+        }
+    }
+
+    /**
+     * 上位{@code topK}件を保持する最小ヒープ。
+     *
+     * <p>先頭が最下位のため、圏外の風船がランクインするかは先頭との比較のみで判定できます。
+     * スコアは増加のみのため、圏外に押し出された風船は加算されない限り再びランクインしません。</p>
+     */
+    private class Scope {
+        private final PriorityQueue<Entry> heap = new PriorityQueue<>(BY_SCORE);
+        private final Set<UUID> members = new HashSet<>();
+
+        private void remove(Entry entry) {
+            if (members.remove(entry.balloon.getId())) {
+                heap.remove(entry);
+            }
+        }
+
+        private void offer(Entry entry) {
+            if (heap.size() >= topK) {
+                Entry lowest = heap.peek();
+                if (BY_SCORE.compare(entry, lowest) <= 0) {
+                    return;
+                }
+                heap.poll();
+                members.remove(lowest.balloon.getId());
+            }
+            heap.add(entry);
+            members.add(entry.balloon.getId());
+        }
+
+        private void rebuild() {
+            List<Entry> ranked = new ArrayList<>(heap);
+            heap.clear();
+            heap.addAll(ranked);
+        }
+
+        private List<TrendingBalloon> ranking(double factor) {
+            List<Entry> ranked = new ArrayList<>(heap);
+            ranked.sort(BY_SCORE.reversed());
+            List<TrendingBalloon> balloons = new ArrayList<>(ranked.size());
+            for (Entry entry : ranked) {
+                balloons.add(new TrendingBalloon(
+                        entry.balloon,
+                        entry.country.isEmpty() ? null : entry.country,
+                        entry.memberCount,
+                        entry.score * factor));
+            }
+            return List.copyOf(balloons);
+        }
+    }
+
+    private static class Snapshot {
+        private final List<TrendingBalloon> global;
+        private final Map<String, List<TrendingBalloon>> countries;
+
+        private Snapshot(List<TrendingBalloon> global, Map<String, List<TrendingBalloon>> countries) {
+            this.global = global;
+            this.countries = countries;
+        }
+    }
+}
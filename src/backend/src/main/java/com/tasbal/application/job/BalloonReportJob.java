@@ -0,0 +1,46 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.BalloonReportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 風船の通報を書き出し、通報が集中した風船を自動停止するジョブ。
+ *
+ * <p>通報の受付はメモリ上で完結し、このジョブが{@code flush-interval-ms}ごとに
+ * まとめて登録と停止を行います。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonReportService#flush()
+ */
+@Component
+public class BalloonReportJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BalloonReportJob.class);
+
+    private final BalloonReportService balloonReportService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonReportService 風船の通報サービス
+     */
+    public BalloonReportJob(BalloonReportService balloonReportService) {
+        this.balloonReportService = balloonReportService;
+    }
+
+    /**
+     * 書き出し待ちの通報を登録し、閾値に達した風船を停止します。
+     */
+    @Scheduled(fixedDelayString = "${tasbal.report.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            balloonReportService.flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush balloon reports", e);
+        }
+    }
+}
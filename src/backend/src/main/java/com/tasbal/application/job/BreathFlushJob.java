@@ -0,0 +1,83 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.BreathService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 呼吸貢献の書き出しと関連キャッシュの保守を行うジョブ。
+ *
+ * <h3>実行タイミング:</h3>
+ * <ul>
+ *   <li>{@code flush-interval-ms}ごと: 集約済みの呼吸貢献を書き出し</li>
+ *   <li>{@code balloon-refresh-interval-ms}ごと: 有効な呼吸風船IDの再読み込みと未使用バケットの破棄</li>
+ *   <li>停止時: 残っている呼吸貢献を書き出し</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BreathService
+ */
+@Component
+public class BreathFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BreathFlushJob.class);
+
+    private final BreathService breathService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param breathService 呼吸貢献サービス
+     */
+    public BreathFlushJob(BreathService breathService) {
+        this.breathService = breathService;
+    }
+
+    /**
+     * 起動完了時に有効な呼吸風船IDを読み込みます。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 集約済みの呼吸貢献を書き出します。
+     */
+    @Scheduled(fixedDelayString = "${tasbal.breath.flush-interval-ms:1000}")
+    public void flush() {
+        int written = breathService.flush();
+        if (written > 0) {
+            log.debug("Breath contributions flushed: ledgerRows={}", written);
+        }
+    }
+
+    /**
+     * 有効な呼吸風船IDを再読み込みし、未使用のトークンバケットを破棄します。
+     */
+    @Scheduled(
+            fixedDelayString = "${tasbal.breath.balloon-refresh-interval-ms:60000}",
+            initialDelayString = "${tasbal.breath.balloon-refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            breathService.refreshBreathingBalloonIds();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh breathing balloon ids", e);
+        }
+        breathService.evictIdleBuckets();
+    }
+
+    /**
+     * 停止時に残っている呼吸貢献を書き出します。
+     */
+    @PreDestroy
+    public void onShutdown() {
+        breathService.flush();
+    }
+}
@@ -0,0 +1,106 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.BreathingBalloonService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * 呼吸風船の日次ロールオーバーを行うジョブ。
+ *
+ * <h3>実行タイミング:</h3>
+ * <ul>
+ *   <li>日中（既定 12:00 UTC）: 翌日分の進捗行を事前作成</li>
+ *   <li>日付変更後（既定 00:05 UTC）: 前日分を集計し、割れ履歴を記録</li>
+ *   <li>起動時: 当日・翌日分の事前作成と、未集計の過去日の追いつき集計</li>
+ * </ul>
+ *
+ * <p>集計を日付変更の数分後に行うのは、0時直前に開始したトランザクションの
+ * 台帳書き込みが確定するのを待つためです。</p>
+ *
+ * <h3>複数ノードでの実行:</h3>
+ * <p>事前作成は{@code ON CONFLICT DO NOTHING}、集計は集計記録テーブルへの
+ * 一意挿入によって保護されているため、各ノードが同時に実行しても安全です。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BreathingBalloonService
+ */
+@Component
+public class BreathingDayRolloverJob {
+
+    private static final Logger log = LoggerFactory.getLogger(BreathingDayRolloverJob.class);
+
+    private final BreathingBalloonService breathingBalloonService;
+    private final int catchUpDays;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param breathingBalloonService 呼吸風船サービス
+     * @param catchUpDays 起動時に未集計を確認する過去日数
+     */
+    public BreathingDayRolloverJob(
+            BreathingBalloonService breathingBalloonService,
+            @Value("${tasbal.breathing.catch-up-days:7}") int catchUpDays) {
+        this.breathingBalloonService = breathingBalloonService;
+        this.catchUpDays = catchUpDays;
+    }
+
+    /**
+     * 起動完了時に当日・翌日分を準備し、未集計の過去日を集計します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        prepare(today);
+        prepare(today.plusDays(1));
+        for (int i = catchUpDays; i >= 1; i--) {
+            rollover(today.minusDays(i));
+        }
+    }
+
+    /**
+     * 翌日分の進捗行を事前作成します。
+     */
+    @Scheduled(cron = "${tasbal.breathing.prepare-cron:0 0 12 * * *}", zone = "UTC")
+    public void prepareNextDay() {
+        prepare(LocalDate.now(ZoneOffset.UTC).plusDays(1));
+    }
+
+    /**
+     * 前日分の貢献を集計します。
+     */
+    @Scheduled(cron = "${tasbal.breathing.rollover-cron:0 5 0 * * *}", zone = "UTC")
+    public void rolloverPreviousDay() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        rollover(today.minusDays(1));
+        // 事前作成が失敗していた場合の保険（作成済みなら何もしない）
+        prepare(today);
+    }
+
+    private void prepare(LocalDate day) {
+        try {
+            int created = breathingBalloonService.prepareDay(day);
+            log.debug("Breathing progress prepared: day={}, created={}", day, created);
+        } catch (RuntimeException e) {
+            log.warn("Failed to prepare breathing progress: day={}", day, e);
+        }
+    }
+
+    private void rollover(LocalDate day) {
+        try {
+            int pops = breathingBalloonService.rolloverDay(day);
+            log.info("Breathing day rolled over: day={}, pops={}", day, pops);
+        } catch (RuntimeException e) {
+            log.warn("Failed to roll over breathing day: day={}", day, e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.GuerrillaEventService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * ゲリライベントの事前生成とインデックス更新を行うジョブ。
+ *
+ * <p>起動時および一定間隔で、当日から指定日数先までのTasbal Dayについて
+ * AUTOイベントを事前生成し、開催中イベントのインデックスを再構築します。</p>
+ *
+ * <h3>インデックスの更新タイミング:</h3>
+ * <ul>
+ *   <li>定期実行（生成直後）</li>
+ *   <li>次のイベント境界（開始・終了時刻）— 開催中イベントの集合はこの時刻にしか変化しない</li>
+ *   <li>境界が遠い場合でも、管理者イベントの追加を拾うため{@code refresh-interval}ごと</li>
+ * </ul>
+ *
+ * <h3>複数ノードでの実行:</h3>
+ * <p>各ノードが独立して実行しても安全です。生成処理はデータベース側の
+ * アドバイザリロックと既存チェックにより1日1回のみ行われ、
+ * インデックスは各ノードのローカルな読み取り専用キャッシュです。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEventService
+ */
+@Component
+public class GuerrillaEventScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GuerrillaEventScheduler.class);
+
+    private final GuerrillaEventService guerrillaEventService;
+    private final TaskScheduler taskScheduler;
+    private final int daysAhead;
+    private final Duration refreshInterval;
+
+    private ScheduledFuture<?> nextReload;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param guerrillaEventService ゲリライベントサービス
+     * @param taskScheduler 境界時刻での再読み込みに使用するスケジューラ
+     * @param daysAhead 事前生成する日数（当日を含まない）
+     * @param refreshInterval インデックスの最大再読み込み間隔
+     */
+    public GuerrillaEventScheduler(
+            GuerrillaEventService guerrillaEventService,
+            TaskScheduler taskScheduler,
+            @Value("${tasbal.guerrilla.generate-days-ahead:1}") int daysAhead,
+            @Value("${tasbal.guerrilla.refresh-interval:PT5M}") Duration refreshInterval) {
+        this.guerrillaEventService = guerrillaEventService;
+        this.taskScheduler = taskScheduler;
+        this.daysAhead = daysAhead;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * アプリケーション起動完了時にイベント生成とインデックス構築を行います。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        generateAhead();
+    }
+
+    /**
+     * 当日から{@code daysAhead}日先までのイベントを生成し、インデックスを再構築します。
+     */
+    @Scheduled(
+            fixedDelayString = "${tasbal.guerrilla.generate-interval-ms:3600000}",
+            initialDelayString = "${tasbal.guerrilla.generate-interval-ms:3600000}")
+    public void generateAhead() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        for (int i = 0; i <= daysAhead; i++) {
+            LocalDate day = today.plusDays(i);
+            try {
+                int count = guerrillaEventService.generateForDay(day).size();
+                log.debug("Guerrilla events ready: day={}, count={}", day, count);
+            } catch (RuntimeException e) {
+                log.warn("Failed to generate guerrilla events: day={}", day, e);
+            }
+        }
+        reloadAndReschedule();
+    }
+
+    /**
+     * インデックスを再読み込みし、次の境界時刻に再実行を予約します。
+     */
+    synchronized void reloadAndReschedule() {
+        Instant now = Instant.now();
+        try {
+            guerrillaEventService.reloadIndex(now);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload guerrilla event index", e);
+        }
+
+        Instant fallback = now.plus(refreshInterval);
+        Instant next = guerrillaEventService.nextBoundaryAfter(now).stream()
+                .mapToObj(Instant::ofEpochMilli)
+                .filter(boundary -> boundary.isBefore(fallback))
+                .findFirst()
+                .orElse(fallback);
+
+        if (nextReload != null) {
+            nextReload.cancel(false);
+        }
+        nextReload = taskScheduler.schedule(this::reloadAndReschedule, next);
+    }
+}
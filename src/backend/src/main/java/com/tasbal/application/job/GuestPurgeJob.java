@@ -0,0 +1,49 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.GuestPurgeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 利用されなくなったゲストユーザーを削除するジョブ。
+ *
+ * <p>毎日、非アクティブなゲストユーザーを小さなバッチに分けて削除します。</p>
+ *
+ * <h3>複数ノードでの実行:</h3>
+ * <p>各バッチは他のトランザクションがロック中のユーザーを読み飛ばすため、複数のノードで同時に実行しても
+ * 同じユーザーを二重に削除することはありません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuestPurgeService#purgeInactiveGuests()
+ */
+@Component
+public class GuestPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestPurgeJob.class);
+
+    private final GuestPurgeService guestPurgeService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param guestPurgeService ゲストユーザー削除サービス
+     */
+    public GuestPurgeJob(GuestPurgeService guestPurgeService) {
+        this.guestPurgeService = guestPurgeService;
+    }
+
+    /**
+     * 非アクティブなゲストユーザーを削除します。
+     */
+    @Scheduled(cron = "${tasbal.guest-purge.cron:0 0 3 * * *}", zone = "UTC")
+    public void purge() {
+        try {
+            guestPurgeService.purgeInactiveGuests();
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge inactive guests", e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.ContributionLedgerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 貢献台帳のパーティション保守を行うジョブ。
+ *
+ * <p>起動時および毎日、将来月のパーティションを事前作成します。
+ * 保持月数が設定されている場合は、保持期間を過ぎたパーティションを切り離して
+ * {@code ledger_archive}スキーマへ移動します（既定は0で切り離しなし）。</p>
+ *
+ * <h3>複数ノードでの実行:</h3>
+ * <p>パーティションの作成・切り離しはデータベース側のアドバイザリロックで直列化され、
+ * 作成済み・切り離し済みのパーティションはスキップされるため、各ノードが実行しても安全です。</p>
+ *
+ * <h3>失敗の報告:</h3>
+ * <p>台帳にはDEFAULTパーティションがないため、月パーティションが作成されないまま月が替わると台帳への追記が失敗します。
+ * 作成・切り離しの失敗はエラーとしてログに出力し、{@code tasbal.ledger.partition.failures}カウンタ
+ * （{@code operation}タグ: {@code create}・{@code detach}）で監視できるようにします。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ContributionLedgerService
+ */
+@Component
+public class LedgerPartitionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerPartitionJob.class);
+
+    private final ContributionLedgerService contributionLedgerService;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Counter createFailureCounter;
+    private final Counter detachFailureCounter;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param contributionLedgerService 貢献台帳サービス
+     * @param monthsAhead 事前作成する月数
+     * @param retentionMonths 保持する月数（0以下の場合は切り離しを行わない）
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public LedgerPartitionJob(
+            ContributionLedgerService contributionLedgerService,
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.ledger.partition-months-ahead:3}") int monthsAhead,
+            @Value("${tasbal.ledger.retention-months:0}") int retentionMonths) {
+        this.contributionLedgerService = contributionLedgerService;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.createFailureCounter = meterRegistry.counter("tasbal.ledger.partition.failures", "operation", "create");
+        this.detachFailureCounter = meterRegistry.counter("tasbal.ledger.partition.failures", "operation", "detach");
+    }
+
+    /**
+     * 起動完了時にパーティション保守を実行します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * パーティションの事前作成と切り離しを実行します。
+     */
+    @Scheduled(cron = "${tasbal.ledger.partition-cron:0 30 1 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            List<String> created = contributionLedgerService.ensurePartitions(monthsAhead);
+            if (!created.isEmpty()) {
+                log.info("Ledger partitions created: {}", created);
+            }
+        } catch (RuntimeException e) {
+            createFailureCounter.increment();
+            log.error("Failed to create ledger partitions", e);
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        try {
+            List<String> detached = contributionLedgerService.detachExpiredPartitions(retentionMonths);
+            if (!detached.isEmpty()) {
+                log.info("Ledger partitions detached to ledger_archive: {}", detached);
+            }
+        } catch (RuntimeException e) {
+            detachFailureCounter.increment();
+            log.error("Failed to detach ledger partitions", e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.BalloonService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 参加・離脱による参加人数の増減を風船に反映するジョブ。
+ *
+ * <p>参加・離脱は増減テーブルへの追記のみで完了し、風船の参加人数は
+ * このジョブが{@code flush-interval-ms}ごとに風船単位で合算して更新します。
+ * 反映処理は複数ノード安全のため、全ノードで実行して構いません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonService#flushMemberCounts()
+ */
+@Component
+public class MemberCountFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberCountFlushJob.class);
+
+    private final BalloonService balloonService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonService バルーンサービス
+     */
+    public MemberCountFlushJob(BalloonService balloonService) {
+        this.balloonService = balloonService;
+    }
+
+    /**
+     * 未反映の参加人数の増減を反映します。
+     */
+    @Scheduled(fixedDelayString = "${tasbal.membership.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            int flushed = balloonService.flushMemberCounts();
+            if (flushed > 0) {
+                log.debug("Member count deltas flushed: deltas={}", flushed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush member count deltas", e);
+        }
+    }
+}
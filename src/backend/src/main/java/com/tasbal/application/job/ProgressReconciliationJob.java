@@ -0,0 +1,69 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.reconcile.ReconciliationReport;
+import com.tasbal.application.service.ProgressReconciliationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 進捗の再集計を定期実行するジョブ。
+ *
+ * <p>台帳を全件走査するため、既定では無効（cronが{@code "-"}）です。
+ * 1つのノードでのみ{@code tasbal.reconcile.cron}を設定して有効にしてください。
+ * {@code tasbal.reconcile.repair}がfalseの場合は不整合の報告のみを行います。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ProgressReconciliationService
+ */
+@Component
+public class ProgressReconciliationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressReconciliationJob.class);
+
+    private final ProgressReconciliationService progressReconciliationService;
+    private final boolean repair;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param progressReconciliationService 進捗再集計サービス
+     * @param repair 不整合を修復する場合true
+     */
+    public ProgressReconciliationJob(
+            ProgressReconciliationService progressReconciliationService,
+            @Value("${tasbal.reconcile.repair:false}") boolean repair) {
+        this.progressReconciliationService = progressReconciliationService;
+        this.repair = repair;
+    }
+
+    /**
+     * 全風船の進捗を再集計します。前回の実行が終わっていない場合はスキップします。
+     */
+    @Scheduled(cron = "${tasbal.reconcile.cron:-}", zone = "UTC")
+    public void reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Progress reconciliation is still running; skipped");
+            return;
+        }
+        try {
+            ReconciliationReport report = progressReconciliationService.reconcileAll(repair);
+            log.info("Progress reconciliation finished: balloons={}, ledgerRows={}, units={}, "
+                            + "progressMismatches={}, historyMismatches={}, repaired={}, failed={}, detached={}, elapsed={}, rows/s={}",
+                    report.getBalloonCount(), report.getLedgerRowCount(), report.getUnitCount(),
+                    report.getProgressMismatchCount(), report.getHistoryMismatchCount(), report.getRepairedCount(),
+                    report.getFailedBalloonCount(), report.getDetachedBalloonCount(), report.getElapsed(),
+                    Math.round(report.getRowsPerSecond()));
+        } catch (RuntimeException e) {
+            log.warn("Progress reconciliation failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.BalloonService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 公開風船一覧のキャッシュを更新するジョブ。
+ *
+ * <p>起動時にキャッシュを読み込み、以降は一定間隔で再読み込みします。
+ * 自ノードで作成された公開風船は作成時に即時反映されるため、
+ * 定期更新は他ノードでの作成や無効化を反映するためのものです。</p>
+ *
+ * <p>変更通知を受けたバルーンの停止・非公開化も、{@code changed-evict-interval-ms}ごとに確認して取り除きます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonService#refreshPublicBalloonCache()
+ */
+@Component
+public class PublicBalloonCacheJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicBalloonCacheJob.class);
+
+    private final BalloonService balloonService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonService バルーンサービス
+     */
+    public PublicBalloonCacheJob(BalloonService balloonService) {
+        this.balloonService = balloonService;
+    }
+
+    /**
+     * 起動完了時にキャッシュを読み込みます。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * キャッシュを再読み込みします。
+     */
+    @Scheduled(
+            fixedDelayString = "${tasbal.balloon.public-cache-refresh-interval-ms:30000}",
+            initialDelayString = "${tasbal.balloon.public-cache-refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            balloonService.refreshPublicBalloonCache();
+        } catch (RuntimeException e) {
+            log.warn("Failed to refresh public balloon cache", e);
+        }
+    }
+
+    /**
+     * 変更通知を受けたバルーンのうち、停止・非公開化されたバルーンを取り除きます。
+     */
+    @Scheduled(fixedDelayString = "${tasbal.balloon.changed-evict-interval-ms:1000}")
+    public void evictChanged() {
+        try {
+            balloonService.evictChangedBalloons();
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict changed balloons", e);
+        }
+    }
+}
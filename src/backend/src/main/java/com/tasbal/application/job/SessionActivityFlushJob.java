@@ -0,0 +1,46 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.SessionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * セッション・端末の最終利用日時を書き出すジョブ。
+ *
+ * <p>リクエストごとの利用はメモリ上で集約され、このジョブが{@code activity-flush-interval-ms}ごとに
+ * まとめて user_sessions.last_used_at・user_devices.last_seen_at に反映します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see SessionService#flushActivity()
+ */
+@Component
+public class SessionActivityFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SessionActivityFlushJob.class);
+
+    private final SessionService sessionService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param sessionService セッションサービス
+     */
+    public SessionActivityFlushJob(SessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    /**
+     * 集約済みの最終利用日時を書き出します。
+     */
+    @Scheduled(fixedDelayString = "${tasbal.session.activity-flush-interval-ms:30000}")
+    public void flush() {
+        try {
+            sessionService.flushActivity();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush session activity", e);
+        }
+    }
+}
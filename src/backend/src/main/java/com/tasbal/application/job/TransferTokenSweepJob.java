@@ -0,0 +1,45 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.TransferService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 期限切れの引き継ぎトークンを削除するジョブ。
+ *
+ * <p>{@code sweep-interval-ms}ごとに、期限切れの引き継ぎトークンを上限件数ずつ削除します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferService#sweepExpired()
+ */
+@Component
+public class TransferTokenSweepJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferTokenSweepJob.class);
+
+    private final TransferService transferService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param transferService 引き継ぎトークンサービス
+     */
+    public TransferTokenSweepJob(TransferService transferService) {
+        this.transferService = transferService;
+    }
+
+    /**
+     * 期限切れの引き継ぎトークンを削除します。
+     */
+    @Scheduled(fixedDelayString = "${tasbal.transfer.sweep-interval-ms:600000}")
+    public void sweep() {
+        try {
+            transferService.sweepExpired();
+        } catch (RuntimeException e) {
+            log.warn("Failed to sweep expired transfer tokens", e);
+        }
+    }
+}
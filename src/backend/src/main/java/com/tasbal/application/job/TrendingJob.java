@@ -0,0 +1,76 @@
+package com.tasbal.application.job;
+
+import com.tasbal.application.service.TrendingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 人気ランキングを公開・再同期するジョブ。
+ *
+ * <p>起動時にデータベースからランキングを構築し、以降は次の2つを定期的に行います。</p>
+ * <ul>
+ *   <li>公開: 差分更新されたランキングを参照用のスナップショットとして公開する（短い間隔）</li>
+ *   <li>再同期: 時間別ロールアップからランキングを再構築し、他ノードでの貢献や公開風船の増減を反映する（長い間隔）</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingService
+ */
+@Component
+public class TrendingJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingJob.class);
+
+    private final TrendingService trendingService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param trendingService 人気ランキングサービス
+     */
+    public TrendingJob(TrendingService trendingService) {
+        this.trendingService = trendingService;
+    }
+
+    /**
+     * 起動完了時にランキングを構築します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reseed();
+    }
+
+    /**
+     * ランキングをデータベースから再構築します。
+     */
+    @Scheduled(
+            fixedDelayString = "${tasbal.trending.reseed-interval-ms:600000}",
+            initialDelayString = "${tasbal.trending.reseed-interval-ms:600000}")
+    public void reseed() {
+        try {
+            int balloons = trendingService.reseed();
+            log.debug("Reseeded trending index with {} balloons", balloons);
+        } catch (RuntimeException e) {
+            log.warn("Failed to reseed trending index", e);
+        }
+    }
+
+    /**
+     * 差分更新されたランキングを公開します。
+     */
+    @Scheduled(
+            fixedDelayString = "${tasbal.trending.publish-interval-ms:5000}",
+            initialDelayString = "${tasbal.trending.publish-interval-ms:5000}")
+    public void publish() {
+        try {
+            trendingService.publish();
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish trending index", e);
+        }
+    }
+}
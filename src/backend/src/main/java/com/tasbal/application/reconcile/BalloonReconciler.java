@@ -0,0 +1,159 @@
+package com.tasbal.application.reconcile;
+
+import com.tasbal.domain.model.ProgressUnit;
+import com.tasbal.domain.repository.BalloonProgressRepository;
+import com.tasbal.domain.repository.ContributionLedgerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 1つの風船の進捗を台帳から再集計するコンポーネント。
+ *
+ * <p>進捗・集計済みの日・台帳の走査は、REPEATABLE READの読み取り専用トランザクション内で行います。
+ * 同じスナップショットを参照するため、走査中に加算された貢献によって誤検出することはありません。</p>
+ *
+ * <p>修復は別のトランザクションで行い、走査時点の{@code lock_version}と一致する行のみ更新します。
+ * 走査後に加算された行は修復されず、次回の再集計で改めて検証されます。
+ * ユーザーの統合で加算した進捗は報告のみで修復しません（{@link UnitMismatch#isRepairable()}）。
+ * 台帳の一部が切り離し済みのパーティションにある風船は、再生結果が実際の進捗と一致しないため修復しません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonReplay
+ */
+@Component
+public class BalloonReconciler {
+
+    private final BalloonProgressRepository balloonProgressRepository;
+    private final ContributionLedgerRepository contributionLedgerRepository;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate repairTransaction;
+    private final int fetchSize;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonProgressRepository 風船進捗リポジトリ
+     * @param contributionLedgerRepository 貢献台帳リポジトリ
+     * @param transactionManager トランザクションマネージャ
+     * @param fetchSize 台帳の走査で1回のサーバー往復で取得する行数
+     */
+    public BalloonReconciler(
+            BalloonProgressRepository balloonProgressRepository,
+            ContributionLedgerRepository contributionLedgerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${tasbal.reconcile.fetch-size:10000}") int fetchSize) {
+        this.balloonProgressRepository = balloonProgressRepository;
+        this.contributionLedgerRepository = contributionLedgerRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTransaction.setReadOnly(true);
+        this.repairTransaction = new TransactionTemplate(transactionManager);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 風船の進捗を再集計します。
+     *
+     * @param balloonId 対象の風船ID
+     * @param repair 不整合を修復する場合true
+     * @return 再集計の結果
+     */
+    public Result reconcile(UUID balloonId, boolean repair) {
+        boolean[] historyDetached = new boolean[1];
+        BalloonReplay replay = snapshotTransaction.execute(status -> {
+            historyDetached[0] = contributionLedgerRepository.hasDetachedHistory(balloonId);
+            BalloonReplay r = new BalloonReplay(
+                    balloonId,
+                    balloonProgressRepository.findUnits(balloonId),
+                    balloonProgressRepository.findRolledBreathingDays());
+            contributionLedgerRepository.streamByBalloon(balloonId, fetchSize, r);
+            return r;
+        });
+        List<UnitMismatch> mismatches = replay.finish();
+
+        int repaired = 0;
+        if (repair && !historyDetached[0]) {
+            List<ProgressUnit> repairs = mismatches.stream()
+                    .filter(UnitMismatch::isRepairable)
+                    .map(UnitMismatch::getExpected)
+                    .toList();
+            if (!repairs.isEmpty()) {
+                Integer count = repairTransaction.execute(status -> balloonProgressRepository.repairUnits(balloonId, repairs));
+                repaired = count != null ? count : 0;
+            }
+        }
+        return new Result(replay.getRowCount(), replay.getUnitCount(), mismatches, repaired, historyDetached[0]);
+    }
+
+    /**
+     * 1つの風船の再集計の結果。
+     */
+    public static class Result {
+        private final long rowCount;
+        private final long unitCount;
+        private final List<UnitMismatch> mismatches;
+        private final int repairedCount;
+        private final boolean historyDetached;
+
+        private Result(long rowCount, long unitCount, List<UnitMismatch> mismatches, int repairedCount,
+                       boolean historyDetached) {
+            this.rowCount = rowCount;
+            this.unitCount = unitCount;
+            this.mismatches = mismatches;
+            this.repairedCount = repairedCount;
+            this.historyDetached = historyDetached;
+        }
+
+        /**
+         * 再生した台帳の行数を取得します。
+         *
+         * @return 台帳の行数
+         */
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        /**
+         * 再集計した進捗単位の数を取得します。
+         *
+         * @return 進捗単位の数
+         */
+        public long getUnitCount() {
+            return unitCount;
+        }
+
+        /**
+         * 保存済みの進捗と再集計の結果が一致しなかった進捗単位を取得します。
+         *
+         * @return 不一致のリスト
+         */
+        public List<UnitMismatch> getMismatches() {
+            return mismatches;
+        }
+
+        /**
+         * 修復した進捗単位の数を取得します。
+         *
+         * @return 修復した数（修復しなかった場合は0）
+         */
+        public int getRepairedCount() {
+            return repairedCount;
+        }
+
+        /**
+         * 台帳の一部が切り離し済みのパーティションにあるかを取得します。
+         *
+         * @return 切り離し済みのパーティションにある場合true（再生結果が不完全なため修復しない）
+         */
+        public boolean isHistoryDetached() {
+            return historyDetached;
+        }
+    }
+}
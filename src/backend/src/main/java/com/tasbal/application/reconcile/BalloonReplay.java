@@ -0,0 +1,228 @@
+package com.tasbal.application.reconcile;
+
+import com.tasbal.domain.division.ProgressUnitType;
+import com.tasbal.domain.model.LedgerEntry;
+import com.tasbal.domain.model.ProgressUnit;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 1つの風船の台帳を再生し、集計単位ごとの期待される進捗を求めるクラス。
+ *
+ * <p>台帳の行は{@code (unit_type, unit_key, created_at)}の順で渡されることを前提とし、
+ * 集計単位が切り替わった時点でその単位を確定して実際の進捗と比較します。
+ * 保持する状態は確定前の1単位分と実際の進捗のみのため、台帳の行数に依存しません。</p>
+ *
+ * <h3>再生ルール:</h3>
+ * <ul>
+ *   <li>UTC_DAY以外: 書き込み時と同じく、加算ごとに{@code current >= threshold}なら
+ *       {@code current -= threshold; threshold++; breaks++}（1回の加算で割れるのは1回まで）</li>
+ *   <li>UTC_DAY: 日ごとの合計量から、日次集計と同じく必要量{@code t}からの割れ回数{@code k}を求める。
+ *       {@code t}は前日の期待される必要量（前日分が無い場合は前日行の値、行も無い場合は1）。
+ *       未集計の日は加算のみの状態{@code (合計, t, 0)}が期待値となる</li>
+ * </ul>
+ *
+ * <p>このクラスはスレッドセーフではありません。風船ごとに1つのインスタンスを使用してください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+class BalloonReplay implements Consumer<LedgerEntry> {
+
+    private static final int UTC_DAY = ProgressUnitType.UtcDay.getValue();
+
+    private final UUID balloonId;
+    private final Map<String, ProgressUnit> actualUnits;
+    private final Set<LocalDate> rolledDays;
+    private final List<UnitMismatch> mismatches = new ArrayList<>();
+    private final TreeMap<String, Long> dayTotals = new TreeMap<>();
+
+    private long rowCount;
+    private long unitCount;
+
+    private short unitType;
+    private String unitKey;
+    private long currentValue;
+    private long nextThreshold;
+    private long breakCount;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     * @param actualUnits 実際の進捗（台帳と同じスナップショットで取得したもの）
+     * @param rolledDays 日次集計済みのTasbal Day
+     */
+    BalloonReplay(UUID balloonId, List<ProgressUnit> actualUnits, Set<LocalDate> rolledDays) {
+        this.balloonId = balloonId;
+        this.actualUnits = new HashMap<>(actualUnits.size() * 2);
+        for (ProgressUnit unit : actualUnits) {
+            this.actualUnits.put(key(unit.getUnitType(), unit.getUnitKey()), unit);
+        }
+        this.rolledDays = rolledDays;
+    }
+
+    /**
+     * 台帳の1行を再生します。
+     *
+     * @param entry 台帳の行
+     */
+    @Override
+    public void accept(LedgerEntry entry) {
+        rowCount++;
+        if (entry.getUnitType() == UTC_DAY) {
+            dayTotals.merge(entry.getUnitKey(), (long) entry.getAmount(), Long::sum);
+            return;
+        }
+        if (unitKey == null || unitType != entry.getUnitType() || !unitKey.equals(entry.getUnitKey())) {
+            completeUnit();
+            unitType = entry.getUnitType();
+            unitKey = entry.getUnitKey();
+            currentValue = 0;
+            nextThreshold = 1;
+            breakCount = 0;
+        }
+        currentValue += entry.getAmount();
+        if (currentValue >= nextThreshold) {
+            currentValue -= nextThreshold;
+            nextThreshold++;
+            breakCount++;
+        }
+    }
+
+    /**
+     * 再生を終了し、検出した不整合を返します。
+     *
+     * <p>台帳の行が無い集計単位も、空の状態（UTC_DAYでは必要量のみ引き継いだ状態）と比較します。</p>
+     *
+     * @return 検出した不整合のリスト
+     */
+    List<UnitMismatch> finish() {
+        completeUnit();
+        unitKey = null;
+
+        // 比較済みのUTC_DAY以外の単位は取り除かれているため、残りは台帳の行が無い単位
+        for (ProgressUnit actual : List.copyOf(actualUnits.values())) {
+            if (actual.getUnitType() == UTC_DAY) {
+                dayTotals.putIfAbsent(actual.getUnitKey(), 0L);
+            } else {
+                compare(actual.getUnitType(), actual.getUnitKey(), 0, 1, 0);
+            }
+        }
+
+        Map<String, Long> expectedThresholds = new HashMap<>();
+        for (Map.Entry<String, Long> day : dayTotals.entrySet()) {
+            String dayKey = day.getKey();
+            long total = day.getValue();
+            long threshold = startThreshold(dayKey, expectedThresholds);
+            long pops = 0;
+            long remainder = total;
+            if (isRolled(dayKey)) {
+                pops = popsFor(threshold, total);
+                remainder = total - consumed(threshold, pops);
+            }
+            expectedThresholds.put(dayKey, threshold + pops);
+            compare((short) UTC_DAY, dayKey, remainder, threshold + pops, pops);
+        }
+        dayTotals.clear();
+        return mismatches;
+    }
+
+    /**
+     * 再生した台帳の行数を取得します。
+     *
+     * @return 台帳の行数
+     */
+    long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 検証した集計単位の数を取得します。
+     *
+     * @return 集計単位の数
+     */
+    long getUnitCount() {
+        return unitCount;
+    }
+
+    /**
+     * 必要量{@code t}から{@code total}で割れる回数を求めます。
+     *
+     * <p>{@code k}回の割れに必要な量は{@code k*t + k(k-1)/2}のため、二次方程式の解を求めた後、
+     * 浮動小数点の丸め誤差を補正します（日次集計の{@code sp_rollover_breathing_day}と同じ計算）。</p>
+     *
+     * @param threshold 必要量
+     * @param total 合計量
+     * @return 割れ回数
+     */
+    static long popsFor(long threshold, long total) {
+        double b = 2d * threshold - 1;
+        long pops = Math.max(0, (long) Math.floor((-b + Math.sqrt(b * b + 8d * total)) / 2));
+        while (pops > 0 && consumed(threshold, pops) > total) {
+            pops--;
+        }
+        while (consumed(threshold, pops + 1) <= total) {
+            pops++;
+        }
+        return pops;
+    }
+
+    private static long consumed(long threshold, long pops) {
+        return pops * threshold + pops * (pops - 1) / 2;
+    }
+
+    private void completeUnit() {
+        if (unitKey != null) {
+            compare(unitType, unitKey, currentValue, nextThreshold, breakCount);
+        }
+    }
+
+    private long startThreshold(String dayKey, Map<String, Long> expectedThresholds) {
+        String previousKey;
+        try {
+            previousKey = LocalDate.parse(dayKey).minusDays(1).toString();
+        } catch (DateTimeParseException e) {
+            return 1;
+        }
+        Long expected = expectedThresholds.get(previousKey);
+        if (expected != null) {
+            return expected;
+        }
+        ProgressUnit previous = actualUnits.get(key((short) UTC_DAY, previousKey));
+        return previous != null ? previous.getNextThreshold() : 1;
+    }
+
+    private boolean isRolled(String dayKey) {
+        try {
+            return rolledDays.contains(LocalDate.parse(dayKey));
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private void compare(short type, String key, long current, long threshold, long breaks) {
+        unitCount++;
+        // UTC_DAYの行は翌日の必要量の引き継ぎに使うため残す
+        ProgressUnit actual = type == UTC_DAY ? actualUnits.get(key(type, key)) : actualUnits.remove(key(type, key));
+        ProgressUnit expected = new ProgressUnit(type, key, (int) current, (int) threshold, (int) breaks,
+                actual != null ? actual.getLockVersion() : null, (int) breaks, false);
+        UnitMismatch mismatch = new UnitMismatch(balloonId, expected, actual);
+        if (mismatch.isProgressDrift() || mismatch.isHistoryDrift()) {
+            mismatches.add(mismatch);
+        }
+    }
+
+    private static String key(short type, String key) {
+        return type + "/" + key;
+    }
+}
@@ -0,0 +1,108 @@
+package com.tasbal.application.reconcile;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 進捗再集計の実行結果。
+ *
+ * <p>件数の集計に加え、調査用に検出した不整合の一部（先頭から上限件数まで）を保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class ReconciliationReport {
+
+    private final long balloonCount;
+    private final long ledgerRowCount;
+    private final long unitCount;
+    private final long progressMismatchCount;
+    private final long historyMismatchCount;
+    private final long repairedCount;
+    private final long failedBalloonCount;
+    private final long detachedBalloonCount;
+    private final Duration elapsed;
+    private final List<UnitMismatch> samples;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonCount 走査した風船数
+     * @param ledgerRowCount 走査した台帳行数
+     * @param unitCount 検証した集計単位数
+     * @param progressMismatchCount 進捗の値が不整合だった集計単位数
+     * @param historyMismatchCount 割れ履歴の件数が不整合だった集計単位数
+     * @param repairedCount 修復した進捗行数
+     * @param failedBalloonCount 走査に失敗した風船数
+     * @param detachedBalloonCount 台帳の一部が切り離し済みのため修復しなかった風船数
+     * @param elapsed 所要時間
+     * @param samples 検出した不整合の一部
+     */
+    public ReconciliationReport(long balloonCount, long ledgerRowCount, long unitCount,
+                                long progressMismatchCount, long historyMismatchCount, long repairedCount,
+                                long failedBalloonCount, long detachedBalloonCount, Duration elapsed,
+                                List<UnitMismatch> samples) {
+        this.balloonCount = balloonCount;
+        this.ledgerRowCount = ledgerRowCount;
+        this.unitCount = unitCount;
+        this.progressMismatchCount = progressMismatchCount;
+        this.historyMismatchCount = historyMismatchCount;
+        this.repairedCount = repairedCount;
+        this.failedBalloonCount = failedBalloonCount;
+        this.detachedBalloonCount = detachedBalloonCount;
+        this.elapsed = elapsed;
+        this.samples = List.copyOf(samples);
+    }
+
+    public long getBalloonCount() {
+        return balloonCount;
+    }
+
+    public long getLedgerRowCount() {
+        return ledgerRowCount;
+    }
+
+    public long getUnitCount() {
+        return unitCount;
+    }
+
+    public long getProgressMismatchCount() {
+        return progressMismatchCount;
+    }
+
+    public long getHistoryMismatchCount() {
+        return historyMismatchCount;
+    }
+
+    public long getRepairedCount() {
+        return repairedCount;
+    }
+
+    public long getFailedBalloonCount() {
+        return failedBalloonCount;
+    }
+
+    public long getDetachedBalloonCount() {
+        return detachedBalloonCount;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public List<UnitMismatch> getSamples() {
+        return samples;
+    }
+
+    /**
+     * 1秒あたりの台帳行の走査数を取得します。
+     *
+     * <p>全件走査の所要時間の見積もり（台帳の総行数 ÷ この値）に使用します。</p>
+     *
+     * @return 1秒あたりの台帳行数
+     */
+    public double getRowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? ledgerRowCount : ledgerRowCount * 1000d / millis;
+    }
+}
@@ -0,0 +1,89 @@
+package com.tasbal.application.reconcile;
+
+import com.tasbal.domain.model.ProgressUnit;
+
+import java.util.UUID;
+
+/**
+ * 再集計で検出された集計単位の不整合。
+ *
+ * <p>台帳から再計算した期待値と、balloon_progressに記録されている実際の進捗を保持します。
+ * 進捗の値（現在値・必要量・割れ回数）の不整合は修復対象ですが、
+ * 割れ履歴の件数の不整合は履歴を再生成できないため報告のみとなります。
+ * ユーザーの統合で加算した進捗の不整合も、台帳の再生では統合後の値を再現できないため報告のみとなります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class UnitMismatch {
+
+    private final UUID balloonId;
+    private final ProgressUnit expected;
+    private final ProgressUnit actual;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     * @param expected 台帳から再計算した期待値（lockVersionは実際の進捗のもの）
+     * @param actual 実際の進捗（進捗行が存在しない場合はnull）
+     */
+    public UnitMismatch(UUID balloonId, ProgressUnit expected, ProgressUnit actual) {
+        this.balloonId = balloonId;
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public ProgressUnit getExpected() {
+        return expected;
+    }
+
+    public ProgressUnit getActual() {
+        return actual;
+    }
+
+    /**
+     * 進捗の値が期待値と異なるか（進捗行の欠落を含む）を判定します。
+     *
+     * @return 進捗の修復が必要な場合true
+     */
+    public boolean isProgressDrift() {
+        return actual == null
+                || actual.getCurrentValue() != expected.getCurrentValue()
+                || actual.getNextThreshold() != expected.getNextThreshold()
+                || actual.getBreakCount() != expected.getBreakCount();
+    }
+
+    /**
+     * 進捗を台帳の再生結果で修復できるかを判定します。
+     *
+     * @return 進捗に不整合があり、ユーザーの統合で加算した進捗でない場合true
+     */
+    public boolean isRepairable() {
+        return isProgressDrift() && (actual == null || !actual.isMerged());
+    }
+
+    /**
+     * 割れ履歴の件数が期待される割れ回数と異なるかを判定します。
+     *
+     * @return 割れ履歴に不整合がある場合true
+     */
+    public boolean isHistoryDrift() {
+        int popHistoryCount = actual != null ? actual.getPopHistoryCount() : 0;
+        return popHistoryCount != expected.getBreakCount();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("balloon=%s unit=%d/%s expected=(%d,%d,%d) actual=%s",
+                balloonId, expected.getUnitType(), expected.getUnitKey(),
+                expected.getCurrentValue(), expected.getNextThreshold(), expected.getBreakCount(),
+                actual == null ? "missing" : String.format("(%d,%d,%d) popHistory=%d",
+                        actual.getCurrentValue(), actual.getNextThreshold(), actual.getBreakCount(),
+                        actual.getPopHistoryCount()));
+    }
+}
@@ -0,0 +1,248 @@
+package com.tasbal.application.service;
+
+import com.tasbal.domain.model.BalloonReport;
+import com.tasbal.domain.repository.BalloonReportRepository;
+import com.tasbal.infrastructure.ratelimit.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 風船の通報アプリケーションサービス。
+ *
+ * <p>このクラスは風船の通報の受付と、通報が集中した風船の自動停止を担当します。
+ * 受付処理はメモリ上で完結し、通報ごとのデータベースアクセスは発生しません。</p>
+ *
+ * <h3>受付処理:</h3>
+ * <ol>
+ *   <li>同じユーザーによる同じ風船の通報が書き出し待ちの場合は受け付けない（登録済みの通報は書き出し時に除外）</li>
+ *   <li>書き出し待ちの通報に追加（上限に達している場合は429）</li>
+ * </ol>
+ *
+ * <h3>書き出し処理:</h3>
+ * <ol>
+ *   <li>書き出し待ちの通報を配列パラメータでまとめて登録（登録済みの通報・存在しない風船の通報はデータベースで除外）</li>
+ *   <li>通報が登録された風船ごとに、データベースが返すウィンドウ内の未処理の通報数で閾値を判定
+ *       （他ノード・再起動前に登録された通報も数える）</li>
+ *   <li>通報数が閾値に達した風船を1回の更新でまとめて停止（失敗した場合は次回の書き出しで再試行）</li>
+ *   <li>停止した風船を公開一覧のキャッシュと人気ランキングから直ちに取り除く</li>
+ * </ol>
+ *
+ * <h3>再試行:</h3>
+ * <p>登録に失敗したバッチは半分に分割して再試行の待ち行列に戻し、次回以降の書き出しで先に再試行します。
+ * 1回の書き出しで登録に失敗した時点で残りのバッチは次回に回すため、データベースの障害中も呼び出しは1回で済みます。
+ * 登録できない通報が含まれる場合は分割を繰り返して特定され、{@code max-flush-attempts}回失敗した通報は
+ * ログに記録して破棄します（{@code tasbal.report.dropped}カウンタ）。</p>
+ *
+ * <p>メモリ上に保持するのは書き出し待ちの通報のみで、通報数はデータベースで数えます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonReportRepository
+ */
+@Service
+public class BalloonReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalloonReportService.class);
+
+    private final BalloonReportRepository balloonReportRepository;
+    private final BalloonService balloonService;
+    private final Duration window;
+    private final int threshold;
+    private final int maxPending;
+    private final int flushBatchSize;
+    private final int maxFlushAttempts;
+    private final Counter droppedCounter;
+
+    private final Object pendingLock = new Object();
+    private List<BalloonReport> pending = new ArrayList<>();
+    private final Set<String> pendingKeys = new HashSet<>();
+    private final Deque<RetryBatch> retries = new ArrayDeque<>();
+    private final Set<UUID> undeactivated = new LinkedHashSet<>();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonReportRepository 風船の通報リポジトリ
+     * @param balloonService バルーンサービス
+     * @param meterRegistry メトリクスレジストリ
+     * @param window 通報を数える期間
+     * @param threshold 風船を停止する通報ユーザー数
+     * @param maxPending 書き出し待ちとして保持する通報の最大件数
+     * @param flushBatchSize 1回のプロシージャ呼び出しで登録する最大件数
+     * @param maxFlushAttempts 通報の登録を試行する最大回数（超えた通報は破棄する）
+     */
+    public BalloonReportService(
+            BalloonReportRepository balloonReportRepository,
+            BalloonService balloonService,
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.report.window:PT1H}") Duration window,
+            @Value("${tasbal.report.threshold:5}") int threshold,
+            @Value("${tasbal.report.max-pending:100000}") int maxPending,
+            @Value("${tasbal.report.flush-batch-size:5000}") int flushBatchSize,
+            @Value("${tasbal.report.max-flush-attempts:16}") int maxFlushAttempts) {
+        this.balloonReportRepository = balloonReportRepository;
+        this.balloonService = balloonService;
+        if (window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("tasbal.report.window must be positive");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("tasbal.report.threshold must be positive");
+        }
+        this.window = window;
+        this.threshold = threshold;
+        this.maxPending = maxPending;
+        this.flushBatchSize = flushBatchSize;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.droppedCounter = meterRegistry.counter("tasbal.report.dropped");
+    }
+
+    /**
+     * 風船の通報を受け付けます。
+     *
+     * <p>風船の存在は書き出し時に確認されます（存在しない風船の通報は登録されず、閾値の判定にも数えません）。</p>
+     *
+     * @param userId 通報したユーザーID
+     * @param balloonId 通報された風船ID
+     * @param reasonType 通報理由区分値
+     * @param comment 通報コメント（任意）
+     * @return 受け付けた場合true（同じユーザーの同じ風船への通報が書き出し待ちの場合false）
+     * @throws RateLimitExceededException 書き出し待ちの通報が上限に達している場合
+     */
+    public boolean submit(UUID userId, UUID balloonId, short reasonType, String comment) {
+        synchronized (pendingLock) {
+            if (pendingKeys.size() >= maxPending) {
+                throw new RateLimitExceededException("Too many reports", 1);
+            }
+            if (!pendingKeys.add(key(balloonId, userId))) {
+                return false;
+            }
+            pending.add(new BalloonReport(balloonId, userId, reasonType, comment, Instant.now()));
+        }
+        return true;
+    }
+
+    /**
+     * 書き出し待ちの通報を登録し、通報が閾値に達した風船を停止します。
+     *
+     * @return 停止した風船の数
+     */
+    public int flush() {
+        Deque<RetryBatch> batches;
+        Set<UUID> reached;
+        synchronized (pendingLock) {
+            batches = new ArrayDeque<>(retries);
+            retries.clear();
+            reached = new LinkedHashSet<>(undeactivated);
+            undeactivated.clear();
+            for (int from = 0; from < pending.size(); from += flushBatchSize) {
+                batches.add(new RetryBatch(pending.subList(from, Math.min(from + flushBatchSize, pending.size())), 0));
+            }
+            pending = new ArrayList<>();
+        }
+
+        RetryBatch batch;
+        while ((batch = batches.poll()) != null) {
+            try {
+                for (Map.Entry<UUID, Integer> entry : balloonReportRepository.addReports(batch.reports, window).entrySet()) {
+                    if (entry.getValue() >= threshold) {
+                        reached.add(entry.getKey());
+                    }
+                }
+                release(batch.reports);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush balloon reports, retrying {} entries later", batch.reports.size(), e);
+                requeue(batch, batches);
+                break;
+            }
+        }
+
+        if (reached.isEmpty()) {
+            return 0;
+        }
+        List<UUID> deactivated;
+        try {
+            deactivated = balloonReportRepository.deactivateBalloons(reached);
+        } catch (RuntimeException e) {
+            log.warn("Failed to deactivate reported balloons, retrying {} balloons", reached.size(), e);
+            synchronized (pendingLock) {
+                undeactivated.addAll(reached);
+            }
+            return 0;
+        }
+        balloonService.evictFromPublicLists(deactivated);
+        if (!deactivated.isEmpty()) {
+            log.info("Balloons deactivated by reports: balloonIds={}", deactivated);
+        }
+        return deactivated.size();
+    }
+
+    /**
+     * 登録に失敗したバッチを分割して再試行の待ち行列に戻し、未試行のバッチはそのまま戻します。
+     *
+     * <p>試行回数が{@code max-flush-attempts}に達した通報は破棄します。</p>
+     *
+     * @param failed 登録に失敗したバッチ
+     * @param untried この書き出しで試行しなかったバッチ
+     */
+    private void requeue(RetryBatch failed, Deque<RetryBatch> untried) {
+        int attempts = failed.attempts + 1;
+        List<RetryBatch> requeued = new ArrayList<>(2);
+        if (attempts >= maxFlushAttempts) {
+            log.error("Dropping {} balloon reports after {} failed attempts: {}", failed.reports.size(), attempts,
+                    failed.reports.stream().map(r -> key(r.getBalloonId(), r.getReporterUserId())).toList());
+            droppedCounter.increment(failed.reports.size());
+            release(failed.reports);
+        } else if (failed.reports.size() > 1) {
+            int half = failed.reports.size() / 2;
+            requeued.add(new RetryBatch(failed.reports.subList(0, half), attempts));
+            requeued.add(new RetryBatch(failed.reports.subList(half, failed.reports.size()), attempts));
+        } else {
+            requeued.add(new RetryBatch(failed.reports, attempts));
+        }
+        synchronized (pendingLock) {
+            retries.addAll(requeued);
+            retries.addAll(untried);
+        }
+    }
+
+    private void release(List<BalloonReport> reports) {
+        synchronized (pendingLock) {
+            for (BalloonReport report : reports) {
+                pendingKeys.remove(key(report.getBalloonId(), report.getReporterUserId()));
+            }
+        }
+    }
+
+    private static String key(UUID balloonId, UUID reporterUserId) {
+        return balloonId + "/" + reporterUserId;
+    }
+
+    /**
+     * 登録を試行する通報のバッチ。
+     */
+    private static class RetryBatch {
+        private final List<BalloonReport> reports;
+        private final int attempts;
+
+        private RetryBatch(List<BalloonReport> reports, int attempts) {
+            this.reports = reports;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -1,12 +1,31 @@
 package com.tasbal.application.service;
 
+import com.tasbal.application.cache.ExpiringCache;
+import com.tasbal.application.cache.PublicBalloonPageCache;
 import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.BalloonCursor;
+import com.tasbal.domain.division.BalloonVisibility;
+import com.tasbal.domain.division.UserPlan;
+import com.tasbal.domain.model.BalloonMembership;
+import com.tasbal.domain.model.User;
 import com.tasbal.domain.repository.BalloonRepository;
+import com.tasbal.domain.repository.UserRepository;
+import com.tasbal.infrastructure.db.common.PgNotificationListener;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * バルーンアプリケーションサービス。
@@ -17,34 +36,92 @@ import java.util.UUID;
  * <p>主な機能:</p>
  * <ul>
  *   <li>バルーンの新規作成</li>
- *   <li>公開バルーン一覧の取得（ページネーション対応）</li>
- *   <li>ユーザーが選択中のバルーン取得</li>
- *   <li>選択中バルーンの設定</li>
+ *   <li>公開バルーン一覧の取得（カーソルによるページネーション対応）</li>
+ *   <li>公開バルーンのタイトル・説明の部分一致検索</li>
+ *   <li>ユーザーが選択中のバルーン一覧取得</li>
+ *   <li>選択中バルーンの設定（プランによる選択数の制限）</li>
+ *   <li>バルーンへの参加・離脱</li>
  * </ul>
  *
+ * <p>公開バルーン一覧の先頭ページは{@link PublicBalloonPageCache}から返します。
+ * 検索結果は{@link ExpiringCache}に短時間保持し、人気の検索語の読み取りを{@code search-cache-ttl}ごとに1回に抑えます。
+ * 他のノードで停止・非公開化されたバルーンは{@code tasbal_balloon_changed}の通知を受けて記録し、
+ * {@link #evictChangedBalloons()}で公開一覧のキャッシュと人気ランキングから取り除きます
+ * （通知の受信スレッドではデータベースにアクセスしません）。
+ * キャッシュ参照でトランザクション（=コネクション取得）が発生しないよう、
+ * トランザクションは更新系のメソッドにのみ付与しています。</p>
+ *
  * @author Tasbal Team
  * @since 1.0.0
  * @see BalloonRepository
  * @see Balloon
+ * @see PublicBalloonPageCache
  */
 @Service
-@Transactional
 public class BalloonService {
 
     private final BalloonRepository balloonRepository;
+    private final UserRepository userRepository;
+    private final TrendingService trendingService;
+    private final ContributionTargetResolver contributionTargetResolver;
+    private final PublicBalloonPageCache publicBalloonPageCache;
+    private final ExpiringCache<String, List<Balloon>> searchCache;
+    private final int memberCountFlushBatchSize;
+    private final int maxProSelections;
+    private final Set<UUID> changedBalloonIds = ConcurrentHashMap.newKeySet();
 
     /**
      * コンストラクタ。
      *
      * @param balloonRepository バルーンリポジトリ
+     * @param userRepository ユーザーリポジトリ
+     * @param trendingService 人気ランキングサービス
+     * @param contributionTargetResolver 貢献の加算先の解決サービス
+     * @param notificationListener データベースの変更通知の受信クラス
+     * @param publicCacheSize 公開バルーン一覧のキャッシュに保持する件数
+     * @param searchCacheTtl 検索結果をキャッシュに保持する期間
+     * @param searchCacheSize 検索結果のキャッシュに保持する最大件数
+     * @param memberCountFlushBatchSize 参加人数の反映1回あたりの最大件数
+     * @param maxProSelections プロプランのユーザーが同時に選択できるバルーンの数
      */
-    public BalloonService(BalloonRepository balloonRepository) {
+    public BalloonService(
+            BalloonRepository balloonRepository,
+            UserRepository userRepository,
+            TrendingService trendingService,
+            ContributionTargetResolver contributionTargetResolver,
+            PgNotificationListener notificationListener,
+            @Value("${tasbal.balloon.public-cache-size:100}") int publicCacheSize,
+            @Value("${tasbal.balloon.search-cache-ttl:PT30S}") Duration searchCacheTtl,
+            @Value("${tasbal.balloon.search-cache-size:1000}") int searchCacheSize,
+            @Value("${tasbal.membership.flush-batch-size:10000}") int memberCountFlushBatchSize,
+            @Value("${tasbal.selection.max-pro:3}") int maxProSelections) {
         this.balloonRepository = balloonRepository;
+        this.userRepository = userRepository;
+        this.trendingService = trendingService;
+        this.contributionTargetResolver = contributionTargetResolver;
+        this.publicBalloonPageCache = new PublicBalloonPageCache(publicCacheSize);
+        this.searchCache = new ExpiringCache<>(searchCacheTtl, searchCacheSize);
+        this.memberCountFlushBatchSize = memberCountFlushBatchSize;
+        this.maxProSelections = maxProSelections;
+
+        notificationListener.subscribe(ContributionTargetResolver.BALLOON_CHANNEL, new PgNotificationListener.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+                changedBalloonIds.add(UUID.fromString(payload));
+            }
+
+            @Override
+            public void onReset() {
+                // 取りこぼした変更は公開一覧の定期更新と人気ランキングの再同期で反映される
+            }
+        });
     }
 
     /**
      * 新しいバルーンを作成します。
      *
+     * <p>公開バルーンの場合、コミット後に公開一覧のキャッシュの先頭に追加します。</p>
+     *
      * @param ownerUserId バルーンの所有者ユーザーID
      * @param title バルーンのタイトル
      * @param description バルーンの説明
@@ -53,41 +130,230 @@ public class BalloonService {
      * @param isPublic 公開フラグ（trueの場合、他のユーザーから閲覧可能）
      * @return 作成されたバルーンオブジェクト
      */
+    @Transactional
     public Balloon createBalloon(UUID ownerUserId, String title, String description, Short colorId, Short tagIconId, Boolean isPublic) {
-        return balloonRepository.create(ownerUserId, title, description, colorId, tagIconId, isPublic);
+        Balloon balloon = balloonRepository.create(ownerUserId, title, description, colorId, tagIconId, isPublic);
+        if (balloon != null && Boolean.TRUE.equals(isPublic)) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publicBalloonPageCache.prepend(balloon);
+                }
+            });
+        }
+        return balloon;
     }
 
     /**
      * 公開バルーン一覧を取得します。
      *
-     * <p>ページネーションに対応し、指定された件数とオフセットで公開バルーンを取得します。</p>
+     * <p>要求されたページがキャッシュの範囲内に収まる場合はデータベースにアクセスしません。
+     * 範囲外の場合は1回の読み取りのみのため、トランザクションを開始せずに取得します。</p>
      *
+     * @param cursor 前ページのカーソル（先頭ページの場合はnull）
      * @param limit 取得する最大件数
-     * @param offset 取得開始位置（スキップする件数）
      * @return 公開バルーンのリスト
      */
-    public List<Balloon> getPublicBalloons(int limit, int offset) {
-        return balloonRepository.findPublicBalloons(limit, offset);
+    public List<Balloon> getPublicBalloons(BalloonCursor cursor, int limit) {
+        return publicBalloonPageCache.find(cursor, limit)
+                .orElseGet(() -> cursor == null
+                        ? balloonRepository.findPublicBalloons(null, null, limit)
+                        : balloonRepository.findPublicBalloons(cursor.getCreatedAt(), cursor.getId(), limit));
     }
 
     /**
-     * ユーザーが現在選択中のバルーンIDを取得します。
+     * タイトルまたは説明に検索語を含む公開バルーンを取得します。
+     *
+     * <p>検索語は大文字・小文字を区別しません。同じ検索語・カーソル・件数の結果は
+     * 一定時間キャッシュから返すため、直近に作成・更新されたバルーンは数十秒遅れて反映されます。
+     * 停止されたバルーンは{@link #evictFromPublicLists(Collection)}でキャッシュごと破棄されます。</p>
+     *
+     * @param query 検索語（3文字以上）
+     * @param cursor 前ページのカーソル（先頭ページの場合はnull）
+     * @param limit 取得する最大件数
+     * @return 検索語に一致する公開バルーンのリスト
+     */
+    public List<Balloon> searchPublicBalloons(String query, BalloonCursor cursor, int limit) {
+        String normalized = query.toLowerCase(Locale.ROOT);
+        String key = normalized + '\n' + (cursor != null ? cursor.encode() : "") + '\n' + limit;
+        return searchCache.get(key, k -> cursor == null
+                ? balloonRepository.searchPublicBalloons(normalized, null, null, limit)
+                : balloonRepository.searchPublicBalloons(normalized, cursor.getCreatedAt(), cursor.getId(), limit));
+    }
+
+    /**
+     * 公開バルーン一覧のキャッシュをデータベースから再読み込みします。
+     *
+     * <p>他のノードで作成されたバルーンや、無効化されたバルーンを反映するために定期的に呼び出します。</p>
+     */
+    public void refreshPublicBalloonCache() {
+        publicBalloonPageCache.replace(
+                balloonRepository.findPublicBalloons(null, null, publicBalloonPageCache.getCapacity()));
+    }
+
+    /**
+     * 停止されたバルーンを公開一覧のキャッシュ・検索結果のキャッシュと人気ランキングから直ちに取り除きます。
+     *
+     * @param balloonIds 取り除くバルーンIDのコレクション
+     */
+    public void evictFromPublicLists(Collection<UUID> balloonIds) {
+        if (balloonIds.isEmpty()) {
+            return;
+        }
+        publicBalloonPageCache.remove(balloonIds);
+        searchCache.clear();
+        trendingService.remove(balloonIds);
+    }
+
+    /**
+     * 変更通知を受けたバルーンのうち、停止・非公開化されたバルーンを公開一覧のキャッシュと人気ランキングから取り除きます。
+     *
+     * <p>通知の受信スレッドを止めないよう、通知では風船IDの記録のみを行い、このメソッドで定期的にまとめて確認します。
+     * 確認に失敗した場合、未確認の風船IDは次回の呼び出しで改めて確認します。</p>
+     *
+     * @return 取り除いたバルーンの数
+     */
+    public int evictChangedBalloons() {
+        List<UUID> unlisted = new ArrayList<>();
+        Iterator<UUID> it = changedBalloonIds.iterator();
+        try {
+            while (it.hasNext()) {
+                UUID balloonId = it.next();
+                it.remove();
+                boolean listed;
+                try {
+                    listed = balloonRepository.findMetadata(balloonId)
+                            .map(metadata -> metadata.isActive() && metadata.getVisibility() == BalloonVisibility.Public_.getValue())
+                            .orElse(false);
+                } catch (RuntimeException e) {
+                    changedBalloonIds.add(balloonId);
+                    throw e;
+                }
+                if (!listed) {
+                    unlisted.add(balloonId);
+                }
+            }
+        } finally {
+            evictFromPublicLists(unlisted);
+        }
+        return unlisted.size();
+    }
+
+    /**
+     * ユーザーが現在選択中のバルーンIDを優先度順に取得します。
      *
      * @param userId ユーザーID
-     * @return 選択中のバルーンID、選択されていない場合はnull
+     * @return 選択中のバルーンIDのリスト、選択されていない場合は空のリスト
      */
-    public UUID getSelectedBalloon(UUID userId) {
-        return balloonRepository.findSelectedBalloon(userId)
-                .orElse(null);
+    @Transactional
+    public List<UUID> getSelectedBalloons(UUID userId) {
+        return balloonRepository.findSelectedBalloons(userId);
     }
 
     /**
-     * ユーザーの選択中バルーンを設定します。
+     * ユーザーが同時に選択できるバルーンの数を取得します。
      *
      * @param userId ユーザーID
-     * @param balloonId 選択するバルーンID
+     * @return 選択できるバルーンの最大数（無料プランは1、プロプランは設定値）
+     * @throws IllegalArgumentException ユーザーが存在しない場合
      */
-    public void setSelectedBalloon(UUID userId, UUID balloonId) {
-        balloonRepository.setSelection(userId, balloonId);
+    @Transactional
+    public int getMaxSelections(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        return user.getPlanEnum() == UserPlan.Pro ? maxProSelections : 1;
+    }
+
+    /**
+     * ユーザーの選択中バルーンを指定された一覧で置き換えます。
+     *
+     * <p>一覧の並び順が優先度となります。選択できる数はユーザーのプランで制限されます。
+     * コミット後、変更通知を待たずに自ノードの加算先のキャッシュを破棄します。</p>
+     *
+     * @param userId ユーザーID
+     * @param balloonIds 選択するバルーンIDのリスト（優先度順、空の場合はすべて解除）
+     * @return 設定後の選択中のバルーンIDのリスト
+     * @throws IllegalArgumentException 選択数がプランの上限を超える場合、または有効でないバルーンが含まれる場合
+     */
+    @Transactional
+    public List<UUID> setSelectedBalloons(UUID userId, List<UUID> balloonIds) {
+        List<UUID> distinctIds = balloonIds.stream().distinct().toList();
+        if (distinctIds.size() > getMaxSelections(userId)) {
+            throw new IllegalArgumentException("Too many balloons selected for the current plan");
+        }
+        List<UUID> selected = balloonRepository.setSelections(userId, distinctIds);
+        if (selected.size() != distinctIds.size()) {
+            throw new IllegalArgumentException("Balloon not found");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                contributionTargetResolver.invalidateSelection(userId);
+            }
+        });
+        return selected;
+    }
+
+    /**
+     * ユーザーをバルーンに参加させます。
+     *
+     * <p>参加済みの場合は何もせず現在のメンバーシップを返します。
+     * バルーンの参加人数は一定間隔でまとめて反映されます。</p>
+     *
+     * @param userId ユーザーID
+     * @param balloonId 参加するバルーンID
+     * @return 参加後のメンバーシップ
+     * @throws IllegalArgumentException 参加できるバルーン（有効な公開バルーン、または自分のバルーン）でない場合
+     */
+    @Transactional
+    public BalloonMembership joinBalloon(UUID userId, UUID balloonId) {
+        BalloonMembership membership = balloonRepository.join(userId, balloonId)
+                .orElseThrow(() -> new IllegalArgumentException("Balloon not found"));
+        if (membership.isChanged()) {
+            recordMembershipAfterCommit(balloonId, 1);
+        }
+        return membership;
+    }
+
+    /**
+     * ユーザーをバルーンから離脱させます。
+     *
+     * <p>参加していない場合は何もしません。</p>
+     *
+     * @param userId ユーザーID
+     * @param balloonId 離脱するバルーンID
+     */
+    @Transactional
+    public void leaveBalloon(UUID userId, UUID balloonId) {
+        balloonRepository.leave(userId, balloonId)
+                .ifPresent(membership -> recordMembershipAfterCommit(balloonId, -1));
+    }
+
+    /**
+     * 参加・離脱による参加人数の増減をバルーンに反映します。
+     *
+     * <p>未反映の増減がなくなるまで、1回あたり最大{@code tasbal.membership.flush-batch-size}件ずつ
+     * 個別のトランザクションで反映します。</p>
+     *
+     * @return 反映した増減の件数
+     */
+    public int flushMemberCounts() {
+        int total = 0;
+        int flushed;
+        do {
+            flushed = balloonRepository.flushMemberCountDeltas(memberCountFlushBatchSize);
+            total += flushed;
+        } while (flushed == memberCountFlushBatchSize);
+        return total;
+    }
+
+
+    private void recordMembershipAfterCommit(UUID balloonId, int delta) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                trendingService.recordMembership(balloonId, delta);
+            }
+        });
     }
 }
@@ -0,0 +1,240 @@
+package com.tasbal.application.service;
+
+import com.tasbal.application.cache.BreathCounterBuffer;
+import com.tasbal.domain.model.BreathContribution;
+import com.tasbal.domain.repository.BalloonProgressRepository;
+import com.tasbal.domain.repository.BalloonRepository;
+import com.tasbal.infrastructure.ratelimit.KeyedTokenBuckets;
+import com.tasbal.infrastructure.ratelimit.RateLimitExceededException;
+import com.tasbal.infrastructure.ratelimit.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 呼吸貢献アプリケーションサービス。
+ *
+ * <p>このクラスはクライアントでまとめられた呼吸回数の受付と、
+ * 集約済みの呼吸貢献のデータベースへの書き出しを担当します。
+ * 受付処理はメモリ上で完結し、リクエストごとのデータベースアクセスは発生しません。</p>
+ *
+ * <h3>受付処理:</h3>
+ * <ol>
+ *   <li>ユーザーごとのトークンバケットで呼吸回数分のトークンを消費（不足時は429）</li>
+ *   <li>キャッシュ済みの有効な呼吸風船IDで風船を検証</li>
+ *   <li>(風船, Tasbal Day, ユーザー) ごとのカウンタに加算</li>
+ * </ol>
+ *
+ * <h3>書き出し処理:</h3>
+ * <p>カウンタをまとめて取り出し、配列パラメータで1回のプロシージャ呼び出しとして書き込みます。
+ * 書き出しまでに受付時のTasbal Dayが日次集計済みになった場合、データベース側で当日に付け替えて加算されます。</p>
+ *
+ * <h3>再試行:</h3>
+ * <p>書き込みに失敗したバッチは半分に分割して再試行の待ち行列に戻し、次回以降の書き出しで先に再試行します。
+ * 1回の書き出しで書き込みに失敗した時点で残りのバッチは次回に回します。
+ * {@code max-flush-attempts}回失敗した呼吸貢献はログに記録して破棄します（{@code tasbal.breath.dropped}カウンタ）。
+ * データベースの障害中に書き出し待ちのキーが{@code max-buffered-keys}に達した場合、受付を429で拒否します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BreathCounterBuffer
+ * @see KeyedTokenBuckets
+ */
+@Service
+public class BreathService {
+
+    private static final Logger log = LoggerFactory.getLogger(BreathService.class);
+
+    private final BalloonRepository balloonRepository;
+    private final BalloonProgressRepository balloonProgressRepository;
+    private final BreathCounterBuffer buffer = new BreathCounterBuffer();
+    private final KeyedTokenBuckets buckets;
+    private final long bucketCapacity;
+    private final int flushBatchSize;
+    private final int maxBufferedKeys;
+    private final int maxFlushAttempts;
+    private final Counter droppedCounter;
+
+    private final Object retryLock = new Object();
+    private final Deque<RetryBatch> retries = new ArrayDeque<>();
+    private volatile int retryingEntries;
+
+    private volatile Set<UUID> breathingBalloonIds = Set.of();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonRepository 風船リポジトリ
+     * @param balloonProgressRepository 風船進捗リポジトリ
+     * @param bucketCapacity ユーザーごとに一度に受け付ける最大呼吸回数
+     * @param refillPerSecond ユーザーごとの1秒あたりの呼吸回数の補充量
+     * @param bucketIdle 未使用のトークンバケットを破棄するまでの時間
+     * @param maxBuckets 保持するトークンバケットの最大数（超えた場合は使われなくなった順に破棄する）
+     * @param flushBatchSize 1回のプロシージャ呼び出しで書き込む最大件数
+     * @param maxBufferedKeys 書き出し待ちのキー（再試行待ちを含む）の最大数
+     * @param maxFlushAttempts 呼吸貢献を破棄するまでの書き込みの最大試行回数
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public BreathService(
+            BalloonRepository balloonRepository,
+            BalloonProgressRepository balloonProgressRepository,
+            @Value("${tasbal.breath.bucket-capacity:600}") long bucketCapacity,
+            @Value("${tasbal.breath.refill-per-second:5}") double refillPerSecond,
+            @Value("${tasbal.breath.bucket-idle:PT10M}") Duration bucketIdle,
+            @Value("${tasbal.breath.max-buckets:100000}") int maxBuckets,
+            @Value("${tasbal.breath.flush-batch-size:5000}") int flushBatchSize,
+            @Value("${tasbal.breath.max-buffered-keys:1000000}") int maxBufferedKeys,
+            @Value("${tasbal.breath.max-flush-attempts:16}") int maxFlushAttempts,
+            MeterRegistry meterRegistry) {
+        this.balloonRepository = balloonRepository;
+        this.balloonProgressRepository = balloonProgressRepository;
+        this.bucketCapacity = bucketCapacity;
+        this.buckets = new KeyedTokenBuckets(bucketCapacity, refillPerSecond, maxBuckets, bucketIdle.toNanos());
+        this.flushBatchSize = flushBatchSize;
+        this.maxBufferedKeys = maxBufferedKeys;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.droppedCounter = meterRegistry.counter("tasbal.breath.dropped");
+    }
+
+    /**
+     * 呼吸回数を受け付けます。
+     *
+     * @param userId 呼吸を行ったユーザーID
+     * @param balloonId 呼吸風船ID
+     * @param count 呼吸回数
+     * @return 受付けたTasbal Day（UTC日付）
+     * @throws IllegalArgumentException 呼吸回数がトークンバケットの容量を超える場合（待っても受け付けられないため）、
+     *         または呼吸風船として有効でない風船IDが指定された場合
+     * @throws RateLimitExceededException ユーザーの呼吸回数が上限を超えた場合、
+     *         または書き出し待ちのキーが上限に達している場合
+     */
+    public LocalDate submit(UUID userId, UUID balloonId, int count) {
+        if (count > bucketCapacity) {
+            throw new IllegalArgumentException("count must be at most " + bucketCapacity);
+        }
+        if (!breathingBalloonIds.contains(balloonId)) {
+            throw new IllegalArgumentException("Breathing balloon not found");
+        }
+        if (buffer.size() + retryingEntries >= maxBufferedKeys) {
+            throw new RateLimitExceededException("Too many pending breaths", 1);
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(userId.toString(), now);
+        if (!bucket.tryConsume(count, now)) {
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable(count)) + 1);
+            throw new RateLimitExceededException("Too many breaths", retryAfter);
+        }
+        LocalDate tasbalDay = LocalDate.now(ZoneOffset.UTC);
+        buffer.add(balloonId, tasbalDay, userId, count);
+        return tasbalDay;
+    }
+
+    /**
+     * 集約済みの呼吸貢献をデータベースに書き出します。
+     *
+     * @return 記録された台帳行の数
+     */
+    public int flush() {
+        Deque<RetryBatch> batches;
+        synchronized (retryLock) {
+            batches = new ArrayDeque<>(retries);
+            retries.clear();
+            retryingEntries = 0;
+        }
+        List<BreathContribution> drained = buffer.drain();
+        for (int from = 0; from < drained.size(); from += flushBatchSize) {
+            batches.add(new RetryBatch(drained.subList(from, Math.min(from + flushBatchSize, drained.size())), 0));
+        }
+
+        int written = 0;
+        RetryBatch batch;
+        while ((batch = batches.poll()) != null) {
+            try {
+                written += balloonProgressRepository.addBreathContributions(batch.contributions);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush breath contributions, retrying {} entries later", batch.contributions.size(), e);
+                requeue(batch, batches);
+                break;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * 書き込みに失敗したバッチを分割して再試行の待ち行列に戻し、未試行のバッチはそのまま戻します。
+     *
+     * <p>試行回数が{@code max-flush-attempts}に達した呼吸貢献は破棄します。</p>
+     *
+     * @param failed 書き込みに失敗したバッチ
+     * @param untried この書き出しで試行しなかったバッチ
+     */
+    private void requeue(RetryBatch failed, Deque<RetryBatch> untried) {
+        int attempts = failed.attempts + 1;
+        List<RetryBatch> requeued = new ArrayList<>(2);
+        if (attempts >= maxFlushAttempts) {
+            long amount = failed.contributions.stream().mapToLong(BreathContribution::getAmount).sum();
+            log.error("Dropping {} breath contributions ({} breaths) after {} failed attempts",
+                    failed.contributions.size(), amount, attempts);
+            droppedCounter.increment(failed.contributions.size());
+        } else if (failed.contributions.size() > 1) {
+            int half = failed.contributions.size() / 2;
+            requeued.add(new RetryBatch(failed.contributions.subList(0, half), attempts));
+            requeued.add(new RetryBatch(failed.contributions.subList(half, failed.contributions.size()), attempts));
+        } else {
+            requeued.add(new RetryBatch(failed.contributions, attempts));
+        }
+        synchronized (retryLock) {
+            for (RetryBatch batch : requeued) {
+                retries.add(batch);
+                retryingEntries += batch.contributions.size();
+            }
+            for (RetryBatch batch : untried) {
+                retries.add(batch);
+                retryingEntries += batch.contributions.size();
+            }
+        }
+    }
+
+    /**
+     * 有効な呼吸風船IDのキャッシュを再読み込みします。
+     */
+    public void refreshBreathingBalloonIds() {
+        this.breathingBalloonIds = balloonRepository.findActiveBreathingBalloonIds();
+    }
+
+    /**
+     * 満杯のまま使われていないトークンバケットを破棄します。
+     *
+     * @return 破棄したバケットの数
+     */
+    public int evictIdleBuckets() {
+        return buckets.evictIdle(System.nanoTime());
+    }
+
+    /**
+     * 書き込みを試行する呼吸貢献のバッチ。
+     */
+    private static class RetryBatch {
+        private final List<BreathContribution> contributions;
+        private final int attempts;
+
+        private RetryBatch(List<BreathContribution> contributions, int attempts) {
+            this.contributions = contributions;
+            this.attempts = attempts;
+        }
+    }
+}
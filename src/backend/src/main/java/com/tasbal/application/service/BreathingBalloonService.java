@@ -0,0 +1,59 @@
+package com.tasbal.application.service;
+
+import com.tasbal.domain.repository.BalloonProgressRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 呼吸風船アプリケーションサービス。
+ *
+ * <p>このクラスは呼吸風船（UTC_DAY単位で進捗を持つ風船）の日次処理を提供します。
+ * 呼吸風船への貢献は当日の進捗行に加算されるのみで、割れ判定は日次集計でまとめて行います。</p>
+ *
+ * <p>主な機能:</p>
+ * <ul>
+ *   <li>翌日分の進捗行の事前作成（0時UTCの行作成集中の回避）</li>
+ *   <li>前日分の貢献の集計と割れ判定</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonProgressRepository
+ */
+@Service
+@Transactional
+public class BreathingBalloonService {
+
+    private final BalloonProgressRepository balloonProgressRepository;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonProgressRepository 風船進捗リポジトリ
+     */
+    public BreathingBalloonService(BalloonProgressRepository balloonProgressRepository) {
+        this.balloonProgressRepository = balloonProgressRepository;
+    }
+
+    /**
+     * 指定したTasbal Dayの進捗行を事前作成します。
+     *
+     * @param tasbalDay 対象のTasbal Day（UTC日付）
+     * @return 新たに作成された進捗行の数
+     */
+    public int prepareDay(LocalDate tasbalDay) {
+        return balloonProgressRepository.prepareBreathingDay(tasbalDay);
+    }
+
+    /**
+     * 指定したTasbal Dayの貢献を集計し、割れ判定を行います。
+     *
+     * @param tasbalDay 集計対象のTasbal Day（UTC日付）
+     * @return 対象日に発生した割れの総数
+     */
+    public int rolloverDay(LocalDate tasbalDay) {
+        return balloonProgressRepository.rolloverBreathingDay(tasbalDay);
+    }
+}
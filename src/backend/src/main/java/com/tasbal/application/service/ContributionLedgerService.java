@@ -0,0 +1,62 @@
+package com.tasbal.application.service;
+
+import com.tasbal.domain.repository.ContributionLedgerRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 貢献台帳アプリケーションサービス。
+ *
+ * <p>このクラスは月単位でパーティション分割された貢献台帳の保守を提供します。</p>
+ *
+ * <p>主な機能:</p>
+ * <ul>
+ *   <li>将来月のパーティションの事前作成</li>
+ *   <li>保持期間を過ぎたパーティションの切り離し・アーカイブ</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ContributionLedgerRepository
+ */
+@Service
+@Transactional
+public class ContributionLedgerService {
+
+    private final ContributionLedgerRepository contributionLedgerRepository;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param contributionLedgerRepository 貢献台帳リポジトリ
+     */
+    public ContributionLedgerService(ContributionLedgerRepository contributionLedgerRepository) {
+        this.contributionLedgerRepository = contributionLedgerRepository;
+    }
+
+    /**
+     * 当月から指定か月先までの月パーティションを作成します。
+     *
+     * @param monthsAhead 事前作成する月数
+     * @return 新たに作成されたパーティション名のリスト
+     */
+    public List<String> ensurePartitions(int monthsAhead) {
+        return contributionLedgerRepository.ensurePartitions(monthsAhead);
+    }
+
+    /**
+     * 保持期間を過ぎた月パーティションを切り離します。
+     *
+     * <p>切り離しはトランザクションブロック内で実行できないため、トランザクションの外で実行します。</p>
+     *
+     * @param retentionMonths 保持する月数
+     * @return 切り離されたパーティション名のリスト
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<String> detachExpiredPartitions(int retentionMonths) {
+        return contributionLedgerRepository.detachExpiredPartitions(retentionMonths);
+    }
+}
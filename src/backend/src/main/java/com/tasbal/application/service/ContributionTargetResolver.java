@@ -0,0 +1,137 @@
+package com.tasbal.application.service;
+
+import com.tasbal.application.cache.NearCache;
+import com.tasbal.domain.model.BalloonMetadata;
+import com.tasbal.domain.model.ContributionTarget;
+import com.tasbal.domain.repository.BalloonRepository;
+import com.tasbal.infrastructure.db.common.PgNotificationListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 貢献の加算先をニアキャッシュで解決するサービス。
+ *
+ * <p>タスク完了時の加算先（ユーザーの選択中の風船と、それぞれの風船の集計単位）は長期間変化しないため、
+ * 風船のメタデータとユーザーの選択中の風船一覧をJVM上に保持し、完了のたびに
+ * balloon_selections・balloons を参照しないようにします。</p>
+ *
+ * <h3>無効化:</h3>
+ * <ul>
+ *   <li>{@code tasbal_balloon_changed}: 風船の種類・公開区分・有効フラグ・国コードの変更、風船の削除</li>
+ *   <li>{@code tasbal_selection_changed}: 選択中の風船の変更</li>
+ *   <li>通知の接続の確立・切断時: 全件破棄（切断中はキャッシュせず、データベースで解決させる）</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see PgNotificationListener
+ * @see NearCache
+ */
+@Service
+public class ContributionTargetResolver {
+
+    /** 風船メタデータの変更通知のチャンネル（ペイロードは風船ID） */
+    public static final String BALLOON_CHANNEL = "tasbal_balloon_changed";
+
+    /** 選択中の風船の変更通知のチャンネル（ペイロードはユーザーID） */
+    public static final String SELECTION_CHANNEL = "tasbal_selection_changed";
+
+    private final BalloonRepository balloonRepository;
+    private final PgNotificationListener notificationListener;
+    private final NearCache<UUID, BalloonMetadata> metadataCache;
+    private final NearCache<UUID, List<UUID>> selectionCache;
+    private final Counter resolvedCounter;
+    private final Counter fallbackCounter;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonRepository 風船リポジトリ
+     * @param notificationListener データベースの変更通知の受信クラス
+     * @param meterRegistry メトリクスレジストリ
+     * @param maxBalloons 保持する風船メタデータの最大件数
+     * @param maxSelections 保持するユーザーの選択中の風船一覧の最大件数
+     */
+    public ContributionTargetResolver(
+            BalloonRepository balloonRepository,
+            PgNotificationListener notificationListener,
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.near-cache.max-balloons:100000}") int maxBalloons,
+            @Value("${tasbal.near-cache.max-selections:200000}") int maxSelections) {
+        this.balloonRepository = balloonRepository;
+        this.notificationListener = notificationListener;
+        this.metadataCache = new NearCache<>(maxBalloons);
+        this.selectionCache = new NearCache<>(maxSelections);
+        this.resolvedCounter = meterRegistry.counter("tasbal.nearcache.contribution.target", "result", "resolved");
+        this.fallbackCounter = meterRegistry.counter("tasbal.nearcache.contribution.target", "result", "fallback");
+
+        notificationListener.subscribe(BALLOON_CHANNEL, subscriber(metadataCache));
+        notificationListener.subscribe(SELECTION_CHANNEL, subscriber(selectionCache));
+    }
+
+    /**
+     * ユーザーの貢献の加算先を解決します。
+     *
+     * <p>変更通知を受信できない間は解決せず、空のOptionalを返します
+     * （呼び出し側はデータベースでの解決にフォールバックします）。</p>
+     *
+     * @param userId 貢献するユーザーID
+     * @return 選択中の風船ごとの加算先（優先度順、選択中の風船がない場合は空のリスト）、解決できない場合は空のOptional
+     */
+    public Optional<List<ContributionTarget>> resolve(UUID userId) {
+        if (!notificationListener.isListening()) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+        List<UUID> selected = selectionCache
+                .get(userId, id -> Optional.of(balloonRepository.findSelectedBalloons(id)), true)
+                .orElse(List.of());
+        LocalDate tasbalDay = LocalDate.now(ZoneOffset.UTC);
+        List<ContributionTarget> targets = new ArrayList<>(selected.size());
+        for (UUID balloonId : selected) {
+            Optional<BalloonMetadata> metadata = metadataCache.get(balloonId, balloonRepository::findMetadata, true);
+            if (metadata.isEmpty()) {
+                // 選択中の風船が削除された直後など。データベースで解決させる
+                fallbackCounter.increment();
+                return Optional.empty();
+            }
+            targets.add(metadata.get().targetFor(userId, tasbalDay));
+        }
+        resolvedCounter.increment();
+        return Optional.of(targets);
+    }
+
+    /**
+     * ユーザーの選択中の風船一覧のキャッシュを破棄します。
+     *
+     * <p>自ノードでの選択の変更を、変更通知の到着を待たずに反映するために使用します。</p>
+     *
+     * @param userId ユーザーID
+     */
+    public void invalidateSelection(UUID userId) {
+        selectionCache.invalidate(userId);
+    }
+
+    private static PgNotificationListener.Subscriber subscriber(NearCache<UUID, ?> cache) {
+        return new PgNotificationListener.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+                cache.invalidate(UUID.fromString(payload));
+            }
+
+            @Override
+            public void onReset() {
+                cache.clear();
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.tasbal.application.service;
+
+import com.tasbal.domain.division.DevicePlatform;
+import com.tasbal.domain.model.UserDevice;
+import com.tasbal.domain.repository.DeviceRepository;
+import com.tasbal.infrastructure.security.OpaqueTokens;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 端末アプリケーションサービス。
+ *
+ * <p>このクラスは初回起動時の端末登録を担当します。
+ * 登録時に端末キー（不透明な文字列）を発行し、データベースにはそのハッシュのみを保存します。
+ * 端末キーはゲスト開始時に端末を特定するために使用します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see DeviceRepository
+ * @see SessionService#startGuestSession(String)
+ */
+@Service
+@Transactional
+public class DeviceService {
+
+    private final DeviceRepository deviceRepository;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param deviceRepository 端末リポジトリ
+     */
+    public DeviceService(DeviceRepository deviceRepository) {
+        this.deviceRepository = deviceRepository;
+    }
+
+    /**
+     * 端末を登録し、端末キーを発行します。
+     *
+     * @param deviceName 端末名（任意）
+     * @param platform プラットフォーム区分値
+     * @param appVersion アプリのバージョン（任意）
+     * @param osVersion OSのバージョン（任意）
+     * @return 登録された端末と端末キー
+     * @throws IllegalArgumentException プラットフォーム区分値が不正な場合
+     */
+    public Registration registerDevice(String deviceName, short platform, String appVersion, String osVersion) {
+        DevicePlatform.fromValue(platform)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid platform: " + platform));
+        String deviceKey = OpaqueTokens.generate();
+        UserDevice device = deviceRepository.register(
+                OpaqueTokens.hash(deviceKey), deviceName, platform, appVersion, osVersion);
+        return new Registration(device, deviceKey);
+    }
+
+    /**
+     * 端末登録の結果。
+     */
+    public static final class Registration {
+        private final UserDevice device;
+        private final String deviceKey;
+
+        private Registration(UserDevice device, String deviceKey) {
+            this.device = device;
+            this.deviceKey = deviceKey;
+        }
+
+        public UserDevice getDevice() {
+            return device;
+        }
+
+        public String getDeviceKey() {
+            return deviceKey;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.tasbal.application.service;
+
+import com.tasbal.application.cache.ActiveGuerrillaEventIndex;
+import com.tasbal.domain.model.GuerrillaEvent;
+import com.tasbal.domain.repository.GuerrillaEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * ゲリライベントアプリケーションサービス。
+ *
+ * <p>このクラスはゲリライベントの事前生成と、開催中イベントの提供を担当します。
+ * 開催中イベントは{@link ActiveGuerrillaEventIndex}から取得するため、
+ * 参照系のリクエストではデータベースにアクセスしません。</p>
+ *
+ * <p>主な機能:</p>
+ * <ul>
+ *   <li>Tasbal Day単位のAUTOイベント生成（冪等・複数ノード安全）</li>
+ *   <li>前後の期間のイベントを読み込んだインデックスの再構築</li>
+ *   <li>現在時刻に開催中のイベントの取得</li>
+ * </ul>
+ *
+ * <p>インデックス参照でトランザクション（=コネクション取得）が発生しないよう、
+ * トランザクションはデータベースにアクセスするメソッドにのみ付与しています。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEventRepository
+ * @see ActiveGuerrillaEventIndex
+ */
+@Service
+public class GuerrillaEventService {
+
+    private final GuerrillaEventRepository guerrillaEventRepository;
+    private final int minGapMinutes;
+    private final Duration lookBehind;
+    private final Duration lookAhead;
+
+    private volatile ActiveGuerrillaEventIndex index = ActiveGuerrillaEventIndex.empty();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param guerrillaEventRepository ゲリライベントリポジトリ
+     * @param minGapMinutes イベント間の最小間隔（分）
+     * @param lookBehind インデックスに読み込む過去方向の期間
+     * @param lookAhead インデックスに読み込む未来方向の期間
+     */
+    public GuerrillaEventService(
+            GuerrillaEventRepository guerrillaEventRepository,
+            @Value("${tasbal.guerrilla.min-gap-minutes:30}") int minGapMinutes,
+            @Value("${tasbal.guerrilla.index-look-behind:P1D}") Duration lookBehind,
+            @Value("${tasbal.guerrilla.index-look-ahead:P2D}") Duration lookAhead) {
+        this.guerrillaEventRepository = guerrillaEventRepository;
+        this.minGapMinutes = minGapMinutes;
+        this.lookBehind = lookBehind;
+        this.lookAhead = lookAhead;
+    }
+
+    /**
+     * 指定したTasbal DayのAUTOイベントを生成します。
+     *
+     * <p>生成済みの日に対して呼び出しても新たなイベントは作成されません。</p>
+     *
+     * @param tasbalDay 生成対象のTasbal Day（UTC日付）
+     * @return 対象日のゲリライベントのリスト
+     */
+    @Transactional
+    public List<GuerrillaEvent> generateForDay(LocalDate tasbalDay) {
+        return guerrillaEventRepository.generateAutoEvents(tasbalDay, minGapMinutes);
+    }
+
+    /**
+     * 指定時刻の前後の期間のイベントを読み込み、インデックスを再構築します。
+     *
+     * @param now 基準時刻
+     * @return 再構築されたインデックス
+     */
+    @Transactional(readOnly = true)
+    public ActiveGuerrillaEventIndex reloadIndex(Instant now) {
+        OffsetDateTime base = now.atOffset(ZoneOffset.UTC);
+        List<GuerrillaEvent> events = guerrillaEventRepository.findInRange(
+                base.minus(lookBehind), base.plus(lookAhead));
+        ActiveGuerrillaEventIndex rebuilt = ActiveGuerrillaEventIndex.build(events);
+        this.index = rebuilt;
+        return rebuilt;
+    }
+
+    /**
+     * 現在開催中のゲリライベントを取得します。
+     *
+     * <p>インメモリのインデックスのみを参照し、データベースにはアクセスしません。</p>
+     *
+     * @return 開催中のゲリライベントのリスト、開催中のイベントがない場合は空のリスト
+     */
+    public List<GuerrillaEvent> getActiveEvents() {
+        return index.findActive(System.currentTimeMillis());
+    }
+
+    /**
+     * 指定時刻より後で開催中イベントの集合が次に変化する時刻を取得します。
+     *
+     * @param now 基準時刻
+     * @return 次のイベント境界時刻（エポックミリ秒）、存在しない場合は空
+     */
+    public OptionalLong nextBoundaryAfter(Instant now) {
+        return index.nextBoundaryAfter(now.toEpochMilli());
+    }
+}
@@ -0,0 +1,160 @@
+package com.tasbal.application.service;
+
+import com.tasbal.domain.model.GuestPurgeBatch;
+import com.tasbal.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 利用されなくなったゲストユーザーの削除を行うアプリケーションサービス。
+ *
+ * <p>アプリのインストールごとにゲストユーザーが作成されるため、最終ログイン・端末の最終利用から
+ * {@code inactive-days}日以上経過したゲストユーザーと、統合済みのゲストユーザーを定期的に削除します。</p>
+ *
+ * <h3>バッチ:</h3>
+ * <p>削除対象のゲストユーザーをIDのキーセットで{@code batch-size}件ずつロックし、バッチごとに個別のトランザクションで削除します。
+ * 子テーブル（タスク・台帳など）は外部キーで連鎖削除されるため、1バッチの処理時間は{@code batch-time-budget-ms}で
+ * 打ち切り、残りは次のバッチに回します。利用中のユーザーはロックせず、ロック中のユーザーと、
+ * ロック待ちが{@code lock-timeout-ms}を超えたユーザーは読み飛ばして次回の実行で削除するため、
+ * 利用中のユーザーの書き込みを長く待たせることはありません。</p>
+ *
+ * <h3>スロットリング:</h3>
+ * <p>バッチの間に{@code pause-ms}待機し、削除によるWAL・I/Oの負荷を平準化します。
+ * 1回の実行は{@code max-duration}で打ち切り、続きは次回の実行で先頭から走査し直します。</p>
+ *
+ * <h3>メトリクス:</h3>
+ * <p>走査・削除したユーザー数を{@code tasbal.guest.purge.scanned}・{@code tasbal.guest.purge.deleted}カウンタ、
+ * バッチの所要時間を{@code tasbal.guest.purge.batch.duration}タイマー、
+ * 直近の実行の1秒あたりの削除件数を{@code tasbal.guest.purge.rows.per.second}ゲージとして公開します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see UserRepository#purgeInactiveGuests
+ */
+@Service
+public class GuestPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestPurgeService.class);
+
+    private final UserRepository userRepository;
+    private final int inactiveDays;
+    private final int batchSize;
+    private final Duration batchTimeBudget;
+    private final Duration lockTimeout;
+    private final long pauseMs;
+    private final Duration maxDuration;
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param userRepository ユーザーリポジトリ
+     * @param meterRegistry メトリクスレジストリ
+     * @param inactiveDays 削除対象とする非アクティブ日数
+     * @param batchSize 1バッチで走査する最大件数
+     * @param batchTimeBudgetMs 1バッチの処理時間の上限（ミリ秒）
+     * @param lockTimeoutMs ロック待ちの上限（ミリ秒）
+     * @param pauseMs バッチの間の待機時間（ミリ秒）
+     * @param maxDuration 1回の実行の最大時間
+     */
+    public GuestPurgeService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.guest-purge.inactive-days:90}") int inactiveDays,
+            @Value("${tasbal.guest-purge.batch-size:500}") int batchSize,
+            @Value("${tasbal.guest-purge.batch-time-budget-ms:2000}") long batchTimeBudgetMs,
+            @Value("${tasbal.guest-purge.lock-timeout-ms:1000}") long lockTimeoutMs,
+            @Value("${tasbal.guest-purge.pause-ms:200}") long pauseMs,
+            @Value("${tasbal.guest-purge.max-duration:PT30M}") Duration maxDuration) {
+        this.userRepository = userRepository;
+        this.inactiveDays = inactiveDays;
+        this.batchSize = batchSize;
+        this.batchTimeBudget = Duration.ofMillis(batchTimeBudgetMs);
+        this.lockTimeout = Duration.ofMillis(lockTimeoutMs);
+        this.pauseMs = pauseMs;
+        this.maxDuration = maxDuration;
+        this.scannedCounter = meterRegistry.counter("tasbal.guest.purge.scanned");
+        this.deletedCounter = meterRegistry.counter("tasbal.guest.purge.deleted");
+        this.batchTimer = meterRegistry.timer("tasbal.guest.purge.batch.duration");
+        meterRegistry.gauge("tasbal.guest.purge.rows.per.second", lastRowsPerSecond);
+    }
+
+    /**
+     * 利用されなくなったゲストユーザーを削除します。
+     *
+     * @return 削除したユーザー数
+     */
+    public long purgeInactiveGuests() {
+        OffsetDateTime inactiveBefore = OffsetDateTime.now(ZoneOffset.UTC).minusDays(inactiveDays);
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + maxDuration.toNanos();
+        long scanned = 0;
+        long deleted = 0;
+        UUID afterId = null;
+
+        while (System.nanoTime() < deadlineNanos) {
+            long batchStartNanos = System.nanoTime();
+            GuestPurgeBatch batch = userRepository.purgeInactiveGuests(
+                    inactiveBefore, afterId, batchSize, batchTimeBudget, lockTimeout);
+            batchTimer.record(Duration.ofNanos(System.nanoTime() - batchStartNanos));
+            scannedCounter.increment(batch.getScannedCount());
+            deletedCounter.increment(batch.getDeletedCount());
+            scanned += batch.getScannedCount();
+            deleted += batch.getDeletedCount();
+
+            if (batch.getLastId() == null) {
+                break;
+            }
+            afterId = batch.getLastId();
+            if (!pause()) {
+                break;
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        long rowsPerSecond = Math.round(rowsPerSecond(deleted, elapsed));
+        lastRowsPerSecond.set(rowsPerSecond);
+        if (deleted > 0) {
+            log.info("Inactive guests purged: scanned={}, deleted={}, elapsed={}ms ({} rows/s)",
+                    scanned, deleted, elapsed.toMillis(), rowsPerSecond);
+        }
+        return deleted;
+    }
+
+    /**
+     * バッチの間に待機します。
+     *
+     * @return 続行する場合true（割り込まれた場合false）
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static double rowsPerSecond(long rows, Duration elapsed) {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? rows : rows * 1000d / millis;
+    }
+}
@@ -0,0 +1,249 @@
+package com.tasbal.application.service;
+
+import com.tasbal.application.reconcile.BalloonReconciler;
+import com.tasbal.application.reconcile.ReconciliationReport;
+import com.tasbal.application.reconcile.UnitMismatch;
+import com.tasbal.domain.repository.BalloonRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 進捗再集計アプリケーションサービス。
+ *
+ * <p>このクラスは貢献台帳を風船ごとに再生してballoon_progressの値を検証し、
+ * 不整合を報告・修復します。書き込み経路での二重加算や更新の欠落を検出するためのものです。</p>
+ *
+ * <h3>並列化:</h3>
+ * <p>風船IDをキーセットページングで取得し、ページごとにForkJoinPool上で
+ * 風船単位に分割して並列に処理します。風船間で状態を共有しないため、
+ * 並列度はデータベースの接続数に合わせて設定します。</p>
+ *
+ * <p>各ワーカーは1つの風船の走査の間、バックグラウンド用のコネクションプールの接続を1つ保持します。
+ * 呼吸の書き出しなど他のバックグラウンド処理の接続を残すため、並列度はプールの最大接続数 − 1 以下とし
+ * （既定値はプールの最大接続数 − 1）、超える値が設定された場合は起動時にエラーとします。</p>
+ *
+ * <h3>スループット:</h3>
+ * <p>台帳の走査行数を{@code tasbal.reconcile.ledger.rows}カウンタ、
+ * 直近の実行の1秒あたりの走査行数を{@code tasbal.reconcile.rows.per.second}ゲージとして公開し、
+ * ページごとにログにも出力します。全件走査の所要時間は「台帳の総行数 ÷ 走査行数/秒」で見積もれます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonReconciler
+ */
+@Service
+public class ProgressReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressReconciliationService.class);
+
+    private final BalloonRepository balloonRepository;
+    private final BalloonReconciler balloonReconciler;
+    private final int parallelism;
+    private final int pageSize;
+    private final int maxSamples;
+
+    private final Counter ledgerRowCounter;
+    private final Counter progressMismatchCounter;
+    private final Counter historyMismatchCounter;
+    private final Counter repairedCounter;
+    private final Counter detachedCounter;
+    private final Timer runTimer;
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonRepository 風船リポジトリ
+     * @param balloonReconciler 風船単位の再集計処理
+     * @param meterRegistry メトリクスレジストリ
+     * @param parallelism 並列に処理する風船数（0以下の場合はバックグラウンド用のプールの最大接続数 − 1）
+     * @param backgroundPoolSize バックグラウンド用のコネクションプールの最大接続数
+     * @param pageSize 1ページで取得する風船数
+     * @param maxSamples レポート・ログに含める不整合の最大件数
+     * @throws IllegalArgumentException 並列度がバックグラウンド用のプールの最大接続数 − 1 を超える場合
+     */
+    public ProgressReconciliationService(
+            BalloonRepository balloonRepository,
+            BalloonReconciler balloonReconciler,
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.reconcile.parallelism:0}") int parallelism,
+            @Value("${tasbal.datasource.pools.background.maximum-pool-size:3}") int backgroundPoolSize,
+            @Value("${tasbal.reconcile.page-size:1000}") int pageSize,
+            @Value("${tasbal.reconcile.max-samples:100}") int maxSamples) {
+        this.balloonRepository = balloonRepository;
+        this.balloonReconciler = balloonReconciler;
+        int maxParallelism = backgroundPoolSize - 1;
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException(
+                    "tasbal.datasource.pools.background.maximum-pool-size must be at least 2 for reconciliation");
+        }
+        if (parallelism > maxParallelism) {
+            throw new IllegalArgumentException("tasbal.reconcile.parallelism must be at most " + maxParallelism
+                    + " (background pool size - 1), but was " + parallelism);
+        }
+        this.parallelism = parallelism > 0 ? parallelism : maxParallelism;
+        this.pageSize = pageSize;
+        this.maxSamples = maxSamples;
+        this.ledgerRowCounter = meterRegistry.counter("tasbal.reconcile.ledger.rows");
+        this.progressMismatchCounter = meterRegistry.counter("tasbal.reconcile.mismatches", "kind", "progress");
+        this.historyMismatchCounter = meterRegistry.counter("tasbal.reconcile.mismatches", "kind", "history");
+        this.repairedCounter = meterRegistry.counter("tasbal.reconcile.repaired");
+        this.detachedCounter = meterRegistry.counter("tasbal.reconcile.detached");
+        this.runTimer = meterRegistry.timer("tasbal.reconcile.duration");
+        meterRegistry.gauge("tasbal.reconcile.rows.per.second", lastRowsPerSecond);
+    }
+
+    /**
+     * 全風船の進捗を再集計します。
+     *
+     * @param repair 不整合を修復する場合true（falseの場合は報告のみ）
+     * @return 実行結果
+     */
+    public ReconciliationReport reconcileAll(boolean repair) {
+        Run run = new Run(repair);
+        long startNanos = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            UUID afterId = null;
+            List<UUID> page;
+            while (!(page = balloonRepository.findIdsAfter(afterId, pageSize)).isEmpty()) {
+                pool.invoke(new BalloonRangeTask(run, page, 0, page.size()));
+                afterId = page.get(page.size() - 1);
+
+                Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+                log.info("Reconciled {} balloons, {} ledger rows ({} rows/s)",
+                        run.balloons.sum(), run.ledgerRows.sum(), Math.round(rowsPerSecond(run.ledgerRows.sum(), elapsed)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        runTimer.record(elapsed);
+        ReconciliationReport report = new ReconciliationReport(
+                run.balloons.sum(),
+                run.ledgerRows.sum(),
+                run.units.sum(),
+                run.progressMismatches.sum(),
+                run.historyMismatches.sum(),
+                run.repaired.sum(),
+                run.failures.sum(),
+                run.detached.sum(),
+                elapsed,
+                new ArrayList<>(run.samples));
+        lastRowsPerSecond.set(Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * 1つの風船を再集計し、結果を実行中の集計に加えます。
+     *
+     * @param run 実行中の集計
+     * @param balloonId 対象の風船ID
+     */
+    private void reconcile(Run run, UUID balloonId) {
+        BalloonReconciler.Result result;
+        try {
+            result = balloonReconciler.reconcile(balloonId, run.repair);
+        } catch (RuntimeException e) {
+            run.failures.increment();
+            log.warn("Failed to reconcile balloon {}", balloonId, e);
+            return;
+        }
+
+        run.balloons.increment();
+        run.ledgerRows.add(result.getRowCount());
+        run.units.add(result.getUnitCount());
+        run.repaired.add(result.getRepairedCount());
+        if (result.isHistoryDetached()) {
+            run.detached.increment();
+            detachedCounter.increment();
+        }
+        ledgerRowCounter.increment(result.getRowCount());
+        repairedCounter.increment(result.getRepairedCount());
+
+        for (UnitMismatch mismatch : result.getMismatches()) {
+            if (mismatch.isProgressDrift()) {
+                run.progressMismatches.increment();
+                progressMismatchCounter.increment();
+            }
+            if (mismatch.isHistoryDrift()) {
+                run.historyMismatches.increment();
+                historyMismatchCounter.increment();
+            }
+            if (run.sampleCount.getAndIncrement() < maxSamples) {
+                run.samples.add(mismatch);
+                log.warn("Progress mismatch: {}", mismatch);
+            }
+        }
+    }
+
+    private static double rowsPerSecond(long rows, Duration elapsed) {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? rows : rows * 1000d / millis;
+    }
+
+    /**
+     * 1回の再集計の実行中の集計。
+     */
+    private static class Run {
+        private final boolean repair;
+        private final LongAdder balloons = new LongAdder();
+        private final LongAdder ledgerRows = new LongAdder();
+        private final LongAdder units = new LongAdder();
+        private final LongAdder progressMismatches = new LongAdder();
+        private final LongAdder historyMismatches = new LongAdder();
+        private final LongAdder repaired = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder detached = new LongAdder();
+        private final AtomicInteger sampleCount = new AtomicInteger();
+        private final ConcurrentLinkedQueue<UnitMismatch> samples = new ConcurrentLinkedQueue<>();
+
+        private Run(boolean repair) {
+            this.repair = repair;
+        }
+    }
+
+    /**
+     * ページ内の風船の範囲を二分割しながら並列に再集計するタスク。
+     */
+    private class BalloonRangeTask extends RecursiveAction {
+        private final Run run;
+        private final List<UUID> balloonIds;
+        private final int from;
+        private final int to;
+
+        private BalloonRangeTask(Run run, List<UUID> balloonIds, int from, int to) {
+            this.run = run;
+            this.balloonIds = balloonIds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                reconcile(run, balloonIds.get(from));
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BalloonRangeTask(run, balloonIds, from, mid), new BalloonRangeTask(run, balloonIds, mid, to));
+        }
+    }
+}
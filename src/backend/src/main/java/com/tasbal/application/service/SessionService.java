@@ -0,0 +1,219 @@
+package com.tasbal.application.service;
+
+import com.tasbal.application.cache.ExpiringCache;
+import com.tasbal.application.cache.NearCache;
+import com.tasbal.application.cache.SessionActivityBuffer;
+import com.tasbal.domain.model.AuthTokens;
+import com.tasbal.domain.model.GuestSession;
+import com.tasbal.domain.model.User;
+import com.tasbal.domain.model.UserSession;
+import com.tasbal.domain.repository.SessionRepository;
+import com.tasbal.domain.repository.TransferTokenRepository;
+import com.tasbal.infrastructure.db.common.PgNotificationListener;
+import com.tasbal.infrastructure.security.AccessTokenIssuer;
+import com.tasbal.infrastructure.security.OpaqueTokens;
+import com.tasbal.infrastructure.security.SessionValidator;
+import com.tasbal.infrastructure.security.TransferCodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * セッションアプリケーションサービス。
+ *
+ * <p>このクラスはゲスト開始・引き継ぎによるセッションの作成と、リクエストごとのセッションの有効性の確認を担当します。</p>
+ *
+ * <h3>有効性の確認:</h3>
+ * <p>セッションはニアキャッシュに保持し、データベースで確認するのはノードごとにセッションの初回のみです
+ * （存在しないセッションも保持します）。セッションの失効・削除は{@code tasbal_session_changed}の通知で
+ * 全ノードのキャッシュから破棄されます。</p>
+ *
+ * <p>通知を受信できない間は失効を検知できないため、ニアキャッシュには保持せず、
+ * 読み込み結果を{@link ExpiringCache}に{@code fallback-ttl}だけ保持します。
+ * データベースでの確認はセッションごとに{@code fallback-ttl}に1回に抑えられ、失効は最大{@code fallback-ttl}遅れて反映されます。</p>
+ *
+ * <h3>最終利用日時:</h3>
+ * <p>有効性の確認のたびに{@link SessionActivityBuffer}に利用を記録し、
+ * {@link #flushActivity()}で定期的にまとめて書き出します。
+ * リクエストごとの同期的な書き込みは発生せず、セッション・端末ごとに書き出し1回につき1行の更新にまとめられます。
+ * 最終利用日時は書き出しの間隔だけ遅れて反映されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see SessionRepository
+ * @see TransferTokenRepository
+ * @see SessionActivityBuffer
+ */
+@Service
+public class SessionService implements SessionValidator {
+
+    /** セッションの変更通知のチャンネル（ペイロードはセッションID） */
+    public static final String SESSION_CHANNEL = "tasbal_session_changed";
+
+    private static final Logger log = LoggerFactory.getLogger(SessionService.class);
+
+    private final SessionRepository sessionRepository;
+    private final TransferTokenRepository transferTokenRepository;
+    private final AccessTokenIssuer accessTokenIssuer;
+    private final PgNotificationListener notificationListener;
+    private final NearCache<UUID, UserSession> sessionCache;
+    private final ExpiringCache<UUID, Optional<UserSession>> fallbackCache;
+    private final SessionActivityBuffer activityBuffer = new SessionActivityBuffer();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param sessionRepository セッションリポジトリ
+     * @param transferTokenRepository 引き継ぎトークンリポジトリ
+     * @param accessTokenIssuer アクセストークンの発行クラス
+     * @param notificationListener データベースの変更通知の受信クラス
+     * @param maxCached 保持するセッションの最大件数
+     * @param fallbackTtl 変更通知を受信できない間にセッションの読み込み結果を保持する期間
+     */
+    public SessionService(
+            SessionRepository sessionRepository,
+            TransferTokenRepository transferTokenRepository,
+            AccessTokenIssuer accessTokenIssuer,
+            PgNotificationListener notificationListener,
+            @Value("${tasbal.session.max-cached:200000}") int maxCached,
+            @Value("${tasbal.session.fallback-ttl:PT5S}") Duration fallbackTtl) {
+        this.sessionRepository = sessionRepository;
+        this.transferTokenRepository = transferTokenRepository;
+        this.accessTokenIssuer = accessTokenIssuer;
+        this.notificationListener = notificationListener;
+        this.sessionCache = new NearCache<>(maxCached);
+        this.fallbackCache = new ExpiringCache<>(fallbackTtl, maxCached);
+
+        notificationListener.subscribe(SESSION_CHANNEL, new PgNotificationListener.Subscriber() {
+            @Override
+            public void onNotification(String payload) {
+                sessionCache.invalidate(UUID.fromString(payload));
+            }
+
+            @Override
+            public void onReset() {
+                sessionCache.clear();
+                fallbackCache.clear();
+            }
+        });
+    }
+
+    /**
+     * 端末のゲストセッションを開始します。
+     *
+     * <p>端末にユーザーが紐付いていなければゲストユーザーを作成して紐付け、
+     * 新しいセッションのアクセストークンとリフレッシュトークンを発行します。</p>
+     *
+     * @param deviceKey 端末登録時に発行した端末キー
+     * @return セッション開始の結果
+     * @throws IllegalArgumentException 端末キーに対応する端末が存在しない場合
+     */
+    @Transactional
+    public SessionStart startGuestSession(String deviceKey) {
+        String refreshToken = OpaqueTokens.generate();
+        GuestSession session = sessionRepository
+                .startGuestSession(OpaqueTokens.hash(deviceKey), OpaqueTokens.hash(refreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("Device not found"));
+        return toSessionStart(session, refreshToken);
+    }
+
+    /**
+     * 引き継ぎトークンを使用し、端末で引き継ぎ元のユーザーのセッションを開始します。
+     *
+     * <p>端末は引き継ぎ元のユーザーに紐付け直され、端末の他のユーザーのセッションは失効します。
+     * 同じトークンを同時に使用した場合も、成功するのは1回だけです。</p>
+     *
+     * <p>{@code mergeDeviceGuest}が{@code true}の場合、端末で利用していた別のゲストユーザーのタスク・タグ・
+     * 参加中の風船・進捗などを引き継ぎ元のユーザーに統合します。統合は引き継ぎと同じトランザクションで行われます。</p>
+     *
+     * @param deviceKey 引き継ぎ先の端末の端末キー
+     * @param transferCode 引き継ぎトークン
+     * @param mergeDeviceGuest 端末で利用していた別のゲストユーザーのデータを統合するか
+     * @return セッション開始の結果
+     * @throws IllegalArgumentException 端末キーが不正な場合、またはトークンが不正・使用済み・期限切れの場合
+     */
+    @Transactional
+    public SessionStart startTransferredSession(String deviceKey, String transferCode, boolean mergeDeviceGuest) {
+        String refreshToken = OpaqueTokens.generate();
+        GuestSession session = transferTokenRepository
+                .consume(OpaqueTokens.hash(deviceKey), TransferCodes.hash(transferCode), OpaqueTokens.hash(refreshToken),
+                        mergeDeviceGuest)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid or expired transfer token"));
+        if (session.getMergedUserId() != null) {
+            log.info("Merged guest user {} into user {}", session.getMergedUserId(), session.getUser().getId());
+        }
+        return toSessionStart(session, refreshToken);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>有効な場合はセッションと端末の利用を記録します。</p>
+     */
+    @Override
+    public boolean validate(UUID sessionId, UUID userId) {
+        boolean listening = notificationListener.isListening();
+        Optional<UserSession> session = listening
+                ? sessionCache.get(sessionId, sessionRepository::findById, true)
+                : sessionCache.get(sessionId, id -> fallbackCache.get(id, sessionRepository::findById), false);
+        if (session.isEmpty() || session.get().isRevoked() || !session.get().getUserId().equals(userId)) {
+            return false;
+        }
+        activityBuffer.record(sessionId, session.get().getDeviceId(), System.currentTimeMillis());
+        return true;
+    }
+
+    /**
+     * 記録したセッション・端末の最終利用日時をまとめて書き出します。
+     *
+     * <p>書き込みに失敗した場合はバッファに戻し、次回の書き出しで再試行します。</p>
+     *
+     * @return 更新したセッションと端末の行数の合計
+     */
+    public int flushActivity() {
+        SessionActivityBuffer.Snapshot snapshot = activityBuffer.drain();
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+        try {
+            return sessionRepository.touch(snapshot.getSessionLastUsed(), snapshot.getDeviceLastSeen());
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush session activity, re-queueing {} sessions", snapshot.getSessionLastUsed().size(), e);
+            activityBuffer.restore(snapshot);
+            return 0;
+        }
+    }
+
+    private SessionStart toSessionStart(GuestSession session, String refreshToken) {
+        String accessToken = accessTokenIssuer.issue(session.getUser().getId(), session.getSessionId());
+        AuthTokens tokens = new AuthTokens(accessToken, refreshToken, accessTokenIssuer.getTtl().toSeconds());
+        return new SessionStart(session.getUser(), tokens);
+    }
+
+    /**
+     * セッション開始（ゲスト開始・引き継ぎ）の結果。
+     */
+    public static final class SessionStart {
+        private final User user;
+        private final AuthTokens tokens;
+
+        private SessionStart(User user, AuthTokens tokens) {
+            this.user = user;
+            this.tokens = tokens;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public AuthTokens getTokens() {
+            return tokens;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.tasbal.application.service;
 
+import com.tasbal.domain.model.ContributionTarget;
 import com.tasbal.domain.model.Task;
+import com.tasbal.domain.model.TaskToggleResult;
 import com.tasbal.domain.repository.TaskRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -35,14 +39,21 @@ import java.util.UUID;
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final TrendingService trendingService;
+    private final ContributionTargetResolver contributionTargetResolver;
 
     /**
      * コンストラクタ。
      *
      * @param taskRepository タスクリポジトリ
+     * @param trendingService 人気ランキングサービス
+     * @param contributionTargetResolver 貢献の加算先の解決サービス
      */
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TrendingService trendingService,
+                       ContributionTargetResolver contributionTargetResolver) {
         this.taskRepository = taskRepository;
+        this.trendingService = trendingService;
+        this.contributionTargetResolver = contributionTargetResolver;
     }
 
     /**
@@ -103,13 +114,33 @@ public class TaskService {
     /**
      * タスクの完了状態を切り替えます。
      *
+     * <p>完了時の加算先（選択中のすべての風船と集計単位）はニアキャッシュで解決して渡し、
+     * 解決できない場合はデータベースで解決させます。
+     * 完了によって選択中の風船に貢献が加算された場合、コミット後に人気ランキングにも加算します。</p>
+     *
      * @param taskId 対象のタスクID
      * @param userId ユーザーID（所有者確認用）
      * @param isDone 完了状態（trueで完了、falseで未完了）
      * @return 状態が更新されたタスクオブジェクト
      */
     public Task toggleTaskCompletion(UUID taskId, UUID userId, boolean isDone) {
-        return taskRepository.toggleCompletion(taskId, userId, isDone);
+        List<ContributionTarget> targets = isDone ? contributionTargetResolver.resolve(userId).orElse(null) : null;
+        TaskToggleResult result = taskRepository.toggleCompletion(taskId, userId, isDone, targets);
+        if (result == null) {
+            return null;
+        }
+        List<UUID> balloonIds = result.getContributedBalloonIds();
+        if (!balloonIds.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    for (UUID balloonId : balloonIds) {
+                        trendingService.recordContribution(balloonId, 1);
+                    }
+                }
+            });
+        }
+        return result.getTask();
     }
 
     /**
@@ -0,0 +1,113 @@
+package com.tasbal.application.service;
+
+import com.tasbal.domain.model.TransferToken;
+import com.tasbal.domain.repository.TransferTokenRepository;
+import com.tasbal.infrastructure.security.TransferCodes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークンアプリケーションサービス。
+ *
+ * <p>このクラスは引き継ぎトークンの発行と、期限切れの引き継ぎトークンの削除を担当します。
+ * 引き継ぎトークンの使用（引き継ぎ先の端末でのセッション開始）は
+ * {@link SessionService#startTransferredSession(String, String, boolean)}が担当します。</p>
+ *
+ * <h3>期限切れの削除:</h3>
+ * <p>1回の呼び出しで最大{@code sweep-batch-size}件ずつ削除し、削除件数がバッチサイズを下回るか
+ * {@code sweep-max-batches}回に達するまで繰り返します。各バッチは個別のトランザクションで実行するため、
+ * 大量の期限切れがあってもロックの保持時間は1バッチ分に抑えられます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferTokenRepository
+ * @see TransferCodes
+ */
+@Service
+public class TransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferService.class);
+
+    private final TransferTokenRepository transferTokenRepository;
+    private final int sweepBatchSize;
+    private final int sweepMaxBatches;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param transferTokenRepository 引き継ぎトークンリポジトリ
+     * @param sweepBatchSize 1回のプロシージャ呼び出しで削除する最大件数
+     * @param sweepMaxBatches 1回の削除で繰り返す最大バッチ数
+     */
+    public TransferService(
+            TransferTokenRepository transferTokenRepository,
+            @Value("${tasbal.transfer.sweep-batch-size:1000}") int sweepBatchSize,
+            @Value("${tasbal.transfer.sweep-max-batches:100}") int sweepMaxBatches) {
+        this.transferTokenRepository = transferTokenRepository;
+        this.sweepBatchSize = sweepBatchSize;
+        this.sweepMaxBatches = sweepMaxBatches;
+    }
+
+    /**
+     * 引き継ぎトークンを発行します。
+     *
+     * <p>同じユーザーの未使用の引き継ぎトークンは無効になります。</p>
+     *
+     * @param userId 引き継ぎ元のユーザーID
+     * @param expiresInMinutes 有効期間（分）
+     * @return 発行した引き継ぎトークンと引き継ぎコード
+     * @throws IllegalArgumentException ユーザーに登録済みの端末がない場合
+     */
+    public Issued issue(UUID userId, int expiresInMinutes) {
+        String code = TransferCodes.generate();
+        TransferToken token = transferTokenRepository
+                .issue(userId, TransferCodes.hash(code), expiresInMinutes)
+                .orElseThrow(() -> new IllegalArgumentException("No device registered for user"));
+        return new Issued(token, code);
+    }
+
+    /**
+     * 期限切れの引き継ぎトークンを削除します。
+     *
+     * @return 削除した件数
+     */
+    public int sweepExpired() {
+        int total = 0;
+        for (int batch = 0; batch < sweepMaxBatches; batch++) {
+            int deleted = transferTokenRepository.deleteExpired(sweepBatchSize);
+            total += deleted;
+            if (deleted < sweepBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Expired transfer tokens deleted: count={}", total);
+        }
+        return total;
+    }
+
+    /**
+     * 引き継ぎトークンの発行の結果。
+     */
+    public static final class Issued {
+        private final TransferToken token;
+        private final String code;
+
+        private Issued(TransferToken token, String code) {
+            this.token = token;
+            this.code = code;
+        }
+
+        public TransferToken getToken() {
+            return token;
+        }
+
+        public String getCode() {
+            return code;
+        }
+    }
+}
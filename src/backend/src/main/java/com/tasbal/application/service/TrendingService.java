@@ -0,0 +1,171 @@
+package com.tasbal.application.service;
+
+import com.tasbal.application.cache.TrendingIndex;
+import com.tasbal.domain.model.HourlyContribution;
+import com.tasbal.domain.model.TrendingBalloon;
+import com.tasbal.domain.model.TrendingCandidate;
+import com.tasbal.domain.repository.TrendingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 人気ランキングアプリケーションサービス。
+ *
+ * <p>公開風船の人気ランキングを{@link TrendingIndex}で差分更新し、参照はメモリ上の
+ * スナップショットから返します。貢献・参加のたびに加算されるため、参照時に
+ * balloon_memberships や contribution_ledger を集計することはありません。</p>
+ *
+ * <h3>再同期:</h3>
+ * <p>他ノードでの貢献や新たに公開された風船を反映するため、定期的に
+ * 時間別ロールアップからインデックスを再構築して差し替えます。
+ * 再構築中に自ノードで受け付けた加算は、差し替え時に新しいインデックスにも適用します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingIndex
+ * @see TrendingRepository
+ */
+@Service
+public class TrendingService {
+
+    private final TrendingRepository trendingRepository;
+    private final int topK;
+    private final Duration halfLife;
+    private final Duration window;
+
+    private final Object swapLock = new Object();
+    private volatile TrendingIndex index;
+    private List<Consumer<TrendingIndex>> pendingDuringReseed;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param trendingRepository 人気ランキングリポジトリ
+     * @param topK 全体・国ごとに保持する上位件数
+     * @param halfLife スコアの半減期
+     * @param window 再同期時に読み込む貢献の期間
+     */
+    public TrendingService(
+            TrendingRepository trendingRepository,
+            @Value("${tasbal.trending.top-k:100}") int topK,
+            @Value("${tasbal.trending.half-life:PT6H}") Duration halfLife,
+            @Value("${tasbal.trending.window:PT48H}") Duration window) {
+        this.trendingRepository = trendingRepository;
+        this.topK = topK;
+        this.halfLife = halfLife;
+        this.window = window;
+        this.index = new TrendingIndex(topK, halfLife, Instant.now());
+    }
+
+    /**
+     * 風船への貢献をランキングに加算します。
+     *
+     * <p>貢献がコミットされた後に呼び出してください。</p>
+     *
+     * @param balloonId 風船ID
+     * @param amount 貢献量
+     */
+    public void recordContribution(UUID balloonId, int amount) {
+        Instant now = Instant.now();
+        apply(index -> index.addContribution(balloonId, amount, now));
+    }
+
+    /**
+     * 風船の参加人数の増減をランキングに反映します。
+     *
+     * <p>参加・離脱がコミットされた後に呼び出してください。</p>
+     *
+     * @param balloonId 風船ID
+     * @param delta 参加人数の増減（参加は正、離脱は負）
+     */
+    public void recordMembership(UUID balloonId, int delta) {
+        apply(index -> index.addMembers(balloonId, delta));
+    }
+
+    /**
+     * 風船をランキングから取り除き、直ちに公開します。
+     *
+     * <p>停止された風船をランキングから即時に外すために使用します。</p>
+     *
+     * @param balloonIds 風船IDのコレクション
+     */
+    public void remove(Collection<UUID> balloonIds) {
+        apply(index -> balloonIds.forEach(index::remove));
+        publish();
+    }
+
+    /**
+     * 人気ランキングを取得します。
+     *
+     * @param countryCode 国コード（全体のランキングの場合はnull）
+     * @param limit 取得する最大件数
+     * @return スコアの降順のランキング
+     */
+    public List<TrendingBalloon> getTrending(String countryCode, int limit) {
+        return index.top(countryCode, limit);
+    }
+
+    /**
+     * 現在のランキングを公開します。
+     */
+    public void publish() {
+        index.publish(Instant.now());
+    }
+
+    /**
+     * データベースからランキングを再構築して差し替えます。
+     *
+     * <p>対象風船と期間内の時間別貢献量の2回の読み取りを同じスナップショットで行います。</p>
+     *
+     * @return 再構築後の対象風船の数
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public int reseed() {
+        synchronized (swapLock) {
+            pendingDuringReseed = new ArrayList<>();
+        }
+        try {
+            Instant now = Instant.now();
+            TrendingIndex fresh = new TrendingIndex(topK, halfLife, now);
+            for (TrendingCandidate candidate : trendingRepository.findCandidates()) {
+                fresh.register(candidate);
+            }
+            OffsetDateTime since = OffsetDateTime.ofInstant(now.minus(window), ZoneOffset.UTC);
+            for (HourlyContribution contribution : trendingRepository.findContributionsSince(since)) {
+                fresh.addContribution(contribution.getBalloonId(), contribution.getAmount(), contribution.getHour().toInstant());
+            }
+
+            synchronized (swapLock) {
+                pendingDuringReseed.forEach(update -> update.accept(fresh));
+                fresh.publish(Instant.now());
+                index = fresh;
+            }
+            return fresh.size();
+        } finally {
+            synchronized (swapLock) {
+                pendingDuringReseed = null;
+            }
+        }
+    }
+
+    private void apply(Consumer<TrendingIndex> update) {
+        synchronized (swapLock) {
+            update.accept(index);
+            if (pendingDuringReseed != null) {
+                pendingDuringReseed.add(update);
+            }
+        }
+    }
+}
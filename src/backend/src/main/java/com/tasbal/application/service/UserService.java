@@ -3,6 +3,7 @@ package com.tasbal.application.service;
 import com.tasbal.domain.model.User;
 import com.tasbal.domain.model.UserSettings;
 import com.tasbal.domain.repository.UserRepository;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +33,9 @@ import java.util.UUID;
 @Transactional
 public class UserService {
 
+    /** 自動生成されるゲストのハンドルの接頭辞（指定できるハンドルからは除外する） */
+    private static final String GENERATED_HANDLE_PREFIX = "guest-";
+
     private final UserRepository userRepository;
 
     /**
@@ -46,13 +50,24 @@ public class UserService {
     /**
      * ゲストユーザーを作成します。
      *
-     * <p>ゲストユーザーは認証なしで利用できる一時的なユーザーアカウントです。</p>
+     * <p>ゲストユーザーは認証なしで利用できる一時的なユーザーアカウントです。
+     * ハンドルを指定しない場合はデータベースのシーケンスから重複しないハンドルを生成するため、
+     * 同時に大量に作成しても一意制約違反は発生しません。</p>
      *
-     * @param handle ユーザーハンドル（表示名）
+     * @param handle ユーザーハンドル（表示名、省略時は自動生成）
      * @return 作成されたゲストユーザーオブジェクト
+     * @throws IllegalArgumentException 自動生成用のハンドル（{@code guest-}で始まる）を指定した場合、
+     *                                  または指定したハンドルが使用済みの場合
      */
     public User createGuestUser(String handle) {
-        return userRepository.createGuest(handle);
+        if (handle != null && handle.regionMatches(true, 0, GENERATED_HANDLE_PREFIX, 0, GENERATED_HANDLE_PREFIX.length())) {
+            throw new IllegalArgumentException("Handles starting with '" + GENERATED_HANDLE_PREFIX + "' are reserved");
+        }
+        try {
+            return userRepository.createGuest(handle);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException("Handle is already taken");
+        }
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.tasbal.domain.model;
+
+/**
+ * 発行したトークンの組。
+ *
+ * <p>アクセストークン（JWT）とリフレッシュトークン（不透明な文字列）を保持します。
+ * リフレッシュトークンはデータベースにハッシュのみを保存するため、平文を参照できるのは発行時のみです。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class AuthTokens {
+
+    private final String accessToken;
+    private final String refreshToken;
+    private final long expiresInSeconds;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param accessToken アクセストークン
+     * @param refreshToken リフレッシュトークン
+     * @param expiresInSeconds アクセストークンの有効期間（秒）
+     */
+    public AuthTokens(String accessToken, String refreshToken, long expiresInSeconds) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresInSeconds = expiresInSeconds;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public long getExpiresInSeconds() {
+        return expiresInSeconds;
+    }
+}
@@ -50,13 +50,14 @@ public class Balloon extends com.tasbal.domain.model.schema.Balloon {
      * @param isActive アクティブフラグ
      * @param createdAt 作成日時
      * @param updatedAt 更新日時
+     * @param memberCount 参加人数
      */
     public Balloon(UUID id, Short balloonType, Short displayGroup, Short visibility,
                    UUID ownerUserId, String title, String description, Short colorId,
                    Short tagIconId, String countryCode, Boolean isActive,
-                   OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+                   OffsetDateTime createdAt, OffsetDateTime updatedAt, Integer memberCount) {
         super(id, balloonType, displayGroup, visibility, ownerUserId, title, description,
-              colorId, tagIconId, countryCode, isActive, createdAt, updatedAt);
+              colorId, tagIconId, countryCode, isActive, createdAt, updatedAt, memberCount);
     }
 
     /**
@@ -0,0 +1,116 @@
+package com.tasbal.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 風船一覧のページングカーソル。
+ *
+ * <p>前ページの最後の風船の{@code (created_at, id)}を保持します。
+ * クライアントには不透明な文字列（Base64URL）として渡し、内部構造を公開しません。
+ * 作成日時はPostgreSQLのTIMESTAMPTZと同じマイクロ秒精度で保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class BalloonCursor {
+
+    /**
+     * 風船一覧の並び順（作成日時・IDの降順）。
+     *
+     * <p>IDはPostgreSQLのUUID型と同じく符号なしのバイト順で比較します
+     * （{@link UUID#compareTo(UUID)}は符号付きで比較するため使用しません）。</p>
+     */
+    public static final Comparator<Balloon> ORDER = Comparator
+            .comparing((Balloon balloon) -> balloon.getCreatedAt().toInstant())
+            .thenComparing(Balloon::getId, BalloonCursor::compareUuid)
+            .reversed();
+
+    private final OffsetDateTime createdAt;
+    private final UUID id;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param createdAt 前ページの最後の風船の作成日時
+     * @param id 前ページの最後の風船のID
+     */
+    public BalloonCursor(OffsetDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * 風船の位置を指すカーソルを生成します。
+     *
+     * @param balloon ページの最後の風船
+     * @return カーソル
+     */
+    public static BalloonCursor of(Balloon balloon) {
+        return new BalloonCursor(balloon.getCreatedAt(), balloon.getId());
+    }
+
+    /**
+     * 文字列表現からカーソルを復元します。
+     *
+     * @param value {@link #encode()}で生成した文字列
+     * @return カーソル
+     * @throws IllegalArgumentException 文字列が不正な場合
+     */
+    public static BalloonCursor decode(String value) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.US_ASCII);
+            int separator = decoded.indexOf('_');
+            long micros = Long.parseLong(decoded.substring(0, separator));
+            UUID id = UUID.fromString(decoded.substring(separator + 1));
+            Instant instant = Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+            return new BalloonCursor(instant.atOffset(ZoneOffset.UTC), id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+    }
+
+    /**
+     * カーソルを不透明な文字列に変換します。
+     *
+     * @return Base64URLでエンコードされたカーソル
+     */
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant());
+        String raw = micros + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 風船がこのカーソルより後（次ページ以降）に並ぶかを判定します。
+     *
+     * @param balloon 判定する風船
+     * @return カーソルより後に並ぶ場合true
+     */
+    public boolean precedes(Balloon balloon) {
+        int byCreatedAt = balloon.getCreatedAt().toInstant().compareTo(createdAt.toInstant());
+        if (byCreatedAt != 0) {
+            return byCreatedAt < 0;
+        }
+        return compareUuid(balloon.getId(), id) < 0;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    private static int compareUuid(UUID a, UUID b) {
+        int byHigh = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,68 @@
+package com.tasbal.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 風船へのユーザーの参加状態。
+ *
+ * <p>参加・離脱の操作結果として、対象のメンバーシップと、
+ * 操作によって状態が変わったか（参加済みの風船への参加などでは変わらない）を保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class BalloonMembership {
+
+    private final UUID balloonId;
+    private final UUID userId;
+    private final OffsetDateTime joinedAt;
+    private final OffsetDateTime leftAt;
+    private final boolean changed;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     * @param userId ユーザーID
+     * @param joinedAt 参加日時
+     * @param leftAt 離脱日時（参加中の場合はnull）
+     * @param changed 操作によって参加状態が変わった場合true
+     */
+    public BalloonMembership(UUID balloonId, UUID userId, OffsetDateTime joinedAt, OffsetDateTime leftAt, boolean changed) {
+        this.balloonId = balloonId;
+        this.userId = userId;
+        this.joinedAt = joinedAt;
+        this.leftAt = leftAt;
+        this.changed = changed;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public OffsetDateTime getJoinedAt() {
+        return joinedAt;
+    }
+
+    public OffsetDateTime getLeftAt() {
+        return leftAt;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * 参加中かどうかを判定します。
+     *
+     * @return 参加中の場合true
+     */
+    public boolean isActive() {
+        return leftAt == null;
+    }
+}
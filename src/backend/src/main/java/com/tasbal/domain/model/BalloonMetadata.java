@@ -0,0 +1,93 @@
+package com.tasbal.domain.model;
+
+import com.tasbal.domain.division.BalloonType;
+import com.tasbal.domain.division.ProgressUnitType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 風船のメタデータ。
+ *
+ * <p>貢献の加算先の解決に必要な、長期間変化しない風船の属性のみを保持する軽量なモデルです。
+ * 風船の種類から進捗の集計単位と集計単位キーを決定します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ContributionTarget
+ */
+public class BalloonMetadata {
+
+    private final UUID balloonId;
+    private final short balloonType;
+    private final short visibility;
+    private final boolean active;
+    private final String countryCode;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     * @param balloonType 風船タイプ区分値
+     * @param visibility 公開区分値
+     * @param active 有効フラグ
+     * @param countryCode 国コード
+     */
+    public BalloonMetadata(UUID balloonId, short balloonType, short visibility, boolean active, String countryCode) {
+        this.balloonId = balloonId;
+        this.balloonType = balloonType;
+        this.visibility = visibility;
+        this.active = active;
+        this.countryCode = countryCode;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public short getBalloonType() {
+        return balloonType;
+    }
+
+    public short getVisibility() {
+        return visibility;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    /**
+     * 風船の種類から進捗の集計単位を決定します。
+     *
+     * <p>{@code sp_add_balloon_contribution}の集計単位の決定と同じ対応です。</p>
+     *
+     * @return 集計単位
+     */
+    public ProgressUnitType getProgressUnitType() {
+        return switch (BalloonType.fromValue(balloonType).orElse(BalloonType.Global)) {
+            case User -> ProgressUnitType.User;
+            case Location -> ProgressUnitType.Country;
+            case Global -> ProgressUnitType.Global;
+            case Breath -> ProgressUnitType.UtcDay;
+            case Guerrilla -> ProgressUnitType.Event;
+        };
+    }
+
+    /**
+     * 貢献の加算先を決定します。
+     *
+     * @param actorUserId 貢献したユーザーID
+     * @param tasbalDay 貢献したTasbal Day（UTC日付）
+     * @return 加算先
+     */
+    public ContributionTarget targetFor(UUID actorUserId, LocalDate tasbalDay) {
+        ProgressUnitType unitType = getProgressUnitType();
+        String unitKey = unitType == ProgressUnitType.UtcDay ? tasbalDay.toString() : actorUserId.toString();
+        return new ContributionTarget(balloonId, (short) unitType.getValue(), unitKey);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tasbal.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 風船の通報。
+ *
+ * <p>受け付けた通報をデータベースに書き出すまでメモリ上に保持するためのモデルです。
+ * balloon_reports の1行に対応します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class BalloonReport {
+
+    private final UUID balloonId;
+    private final UUID reporterUserId;
+    private final short reasonType;
+    private final String comment;
+    private final Instant reportedAt;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 通報された風船ID
+     * @param reporterUserId 通報したユーザーID
+     * @param reasonType 通報理由区分値
+     * @param comment 通報コメント（任意）
+     * @param reportedAt 通報日時
+     */
+    public BalloonReport(UUID balloonId, UUID reporterUserId, short reasonType, String comment, Instant reportedAt) {
+        this.balloonId = balloonId;
+        this.reporterUserId = reporterUserId;
+        this.reasonType = reasonType;
+        this.comment = comment;
+        this.reportedAt = reportedAt;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public UUID getReporterUserId() {
+        return reporterUserId;
+    }
+
+    public short getReasonType() {
+        return reasonType;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public Instant getReportedAt() {
+        return reportedAt;
+    }
+}
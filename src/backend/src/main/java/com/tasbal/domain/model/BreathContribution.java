@@ -0,0 +1,52 @@
+package com.tasbal.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 集約済みの呼吸貢献。
+ *
+ * <p>メモリ上で (風船, Tasbal Day, ユーザー) ごとに合算された呼吸回数を表し、
+ * 貢献台帳の1行に対応します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class BreathContribution {
+
+    private final UUID balloonId;
+    private final LocalDate tasbalDay;
+    private final UUID userId;
+    private final int amount;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 呼吸風船ID
+     * @param tasbalDay 呼吸が行われたTasbal Day（UTC日付）
+     * @param userId 呼吸を行ったユーザーID
+     * @param amount 合算された呼吸回数
+     */
+    public BreathContribution(UUID balloonId, LocalDate tasbalDay, UUID userId, int amount) {
+        this.balloonId = balloonId;
+        this.tasbalDay = tasbalDay;
+        this.userId = userId;
+        this.amount = amount;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public LocalDate getTasbalDay() {
+        return tasbalDay;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+}
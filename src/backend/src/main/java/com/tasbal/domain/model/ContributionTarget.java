@@ -0,0 +1,45 @@
+package com.tasbal.domain.model;
+
+import java.util.UUID;
+
+/**
+ * 解決済みの貢献の加算先。
+ *
+ * <p>加算先の風船と、進捗の集計単位（unit_type, unit_key）を保持します。
+ * 選択中の風船ごとに1件となります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonMetadata#targetFor(UUID, java.time.LocalDate)
+ */
+public class ContributionTarget {
+
+    private final UUID balloonId;
+    private final Short unitType;
+    private final String unitKey;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 加算先の風船ID
+     * @param unitType 集計単位区分値
+     * @param unitKey 集計単位キー
+     */
+    public ContributionTarget(UUID balloonId, Short unitType, String unitKey) {
+        this.balloonId = balloonId;
+        this.unitType = unitType;
+        this.unitKey = unitKey;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public Short getUnitType() {
+        return unitType;
+    }
+
+    public String getUnitKey() {
+        return unitKey;
+    }
+}
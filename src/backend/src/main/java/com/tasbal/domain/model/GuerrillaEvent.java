@@ -0,0 +1,83 @@
+package com.tasbal.domain.model;
+
+import com.tasbal.domain.division.GuerrillaSourceType;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ゲリライベントドメインモデル。
+ *
+ * <p>このクラスは{@link com.tasbal.domain.model.schema.GuerrillaEvent}を継承し、
+ * ゲリライベントのビジネスロジックとdivision enumへのアクセスを提供します。</p>
+ *
+ * <p>ゲリライベントはTasbal Day（UTC日付）ごとに自動生成される、
+ * 期間限定のゲリラ風船の出現枠です。管理者が任意の期間で作成することもでき、
+ * 優先度によって自動生成分より優先して表示されます。</p>
+ *
+ * <h3>主な機能:</h3>
+ * <ul>
+ *   <li>生成元（AUTO/ADMIN）のenum変換</li>
+ *   <li>紐付くゲリラ風船IDの保持</li>
+ *   <li>指定時刻に開催中かどうかの判定</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.model.schema.GuerrillaEvent
+ * @see GuerrillaSourceType
+ */
+public class GuerrillaEvent extends com.tasbal.domain.model.schema.GuerrillaEvent {
+
+    private List<UUID> balloonIds;
+
+    /**
+     * ゲリライベントを構築します。
+     *
+     * @param id イベントID
+     * @param tasbalDay Tasbal Day（UTC日付）
+     * @param startsAt 開始日時
+     * @param endsAt 終了日時（この時刻は含まない）
+     * @param source 生成元区分値（1:AUTO, 2:ADMIN）
+     * @param priority 優先度（大きいほど優先）
+     * @param createdAt 作成日時
+     * @param balloonIds 紐付くゲリラ風船IDのリスト
+     */
+    public GuerrillaEvent(UUID id, LocalDate tasbalDay, OffsetDateTime startsAt, OffsetDateTime endsAt,
+                          Short source, Integer priority, OffsetDateTime createdAt, List<UUID> balloonIds) {
+        super(id, tasbalDay, startsAt, endsAt, source, priority, createdAt);
+        this.balloonIds = balloonIds != null ? balloonIds : List.of();
+    }
+
+    /**
+     * 生成元をenum型で取得します。
+     *
+     * <p>変換に失敗した場合は{@link GuerrillaSourceType#Auto}がデフォルト値として返されます。</p>
+     *
+     * @return 生成元enum
+     */
+    public GuerrillaSourceType getSourceEnum() {
+        return GuerrillaSourceType.fromValue(getSource()).orElse(GuerrillaSourceType.Auto);
+    }
+
+    /**
+     * 指定時刻にイベントが開催中かを判定します。
+     *
+     * @param instant 判定する時刻（エポックミリ秒）
+     * @return 開始日時以上かつ終了日時未満の場合true
+     */
+    public boolean isActiveAt(long instant) {
+        return getStartsAt().toInstant().toEpochMilli() <= instant
+                && instant < getEndsAt().toInstant().toEpochMilli();
+    }
+
+    public List<UUID> getBalloonIds() {
+        return balloonIds;
+    }
+
+    public void setBalloonIds(List<UUID> balloonIds) {
+        this.balloonIds = balloonIds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.tasbal.domain.model;
+
+import java.util.UUID;
+
+/**
+ * 非アクティブなゲストユーザーの削除（1バッチ分）の結果。
+ *
+ * <p>走査・削除した件数と、次のバッチの走査を開始するユーザーIDを保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class GuestPurgeBatch {
+
+    private final int scannedCount;
+    private final int deletedCount;
+    private final UUID lastId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param scannedCount 処理した削除対象のゲストユーザーの件数（ロック待ちで削除できなかったユーザーを含む）
+     * @param deletedCount 削除したゲストユーザーの件数
+     * @param lastId 最後に処理したユーザーID（削除対象のユーザーがいない場合はnull）
+     */
+    public GuestPurgeBatch(int scannedCount, int deletedCount, UUID lastId) {
+        this.scannedCount = scannedCount;
+        this.deletedCount = deletedCount;
+        this.lastId = lastId;
+    }
+
+    public int getScannedCount() {
+        return scannedCount;
+    }
+
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+}
@@ -0,0 +1,62 @@
+package com.tasbal.domain.model;
+
+import java.util.UUID;
+
+/**
+ * 端末でのセッション開始（ゲスト開始・引き継ぎ）の結果。
+ *
+ * <p>端末に紐付いたユーザーと、作成されたセッションを保持します。
+ * 引き継ぎ時に端末の別のゲストユーザーを統合した場合は、統合したユーザーのIDも保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class GuestSession {
+
+    private final User user;
+    private final UUID sessionId;
+    private final UUID deviceId;
+    private final UUID mergedUserId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param user 端末に紐付いたユーザー
+     * @param sessionId 作成されたセッションID
+     * @param deviceId 端末ID
+     */
+    public GuestSession(User user, UUID sessionId, UUID deviceId) {
+        this(user, sessionId, deviceId, null);
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param user 端末に紐付いたユーザー
+     * @param sessionId 作成されたセッションID
+     * @param deviceId 端末ID
+     * @param mergedUserId 統合したユーザーのID（統合しなかった場合はnull）
+     */
+    public GuestSession(User user, UUID sessionId, UUID deviceId, UUID mergedUserId) {
+        this.user = user;
+        this.sessionId = sessionId;
+        this.deviceId = deviceId;
+        this.mergedUserId = mergedUserId;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public UUID getSessionId() {
+        return sessionId;
+    }
+
+    public UUID getDeviceId() {
+        return deviceId;
+    }
+
+    public UUID getMergedUserId() {
+        return mergedUserId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.tasbal.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 風船への時間別の貢献量。
+ *
+ * <p>時間別ロールアップ（contribution_ledger_hourly）の1時間分の集計値です。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class HourlyContribution {
+
+    private final UUID balloonId;
+    private final OffsetDateTime hour;
+    private final long amount;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     * @param hour 集計時間（時間の先頭）
+     * @param amount 貢献量の合計
+     */
+    public HourlyContribution(UUID balloonId, OffsetDateTime hour, long amount) {
+        this.balloonId = balloonId;
+        this.hour = hour;
+        this.amount = amount;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public OffsetDateTime getHour() {
+        return hour;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+}
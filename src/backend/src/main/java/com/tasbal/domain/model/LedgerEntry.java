@@ -0,0 +1,51 @@
+package com.tasbal.domain.model;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 貢献台帳の1行。
+ *
+ * <p>再集計で台帳を走査する際に使用する軽量なモデルです。
+ * 集計単位（unit_type, unit_key）と加算量のみを保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class LedgerEntry {
+
+    private final short unitType;
+    private final String unitKey;
+    private final int amount;
+    private final OffsetDateTime createdAt;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param unitType 集計単位区分値
+     * @param unitKey 集計単位キー
+     * @param amount 加算量
+     * @param createdAt 記録日時
+     */
+    public LedgerEntry(short unitType, String unitKey, int amount, OffsetDateTime createdAt) {
+        this.unitType = unitType;
+        this.unitKey = unitKey;
+        this.amount = amount;
+        this.createdAt = createdAt;
+    }
+
+    public short getUnitType() {
+        return unitType;
+    }
+
+    public String getUnitKey() {
+        return unitKey;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,81 @@
+package com.tasbal.domain.model;
+
+/**
+ * 風船の集計単位ごとの進捗。
+ *
+ * <p>balloon_progressの1行に対応し、再集計での比較・修復に使用します。
+ * 修復時は走査時点の{@code lockVersion}と一致する行のみが更新されます。
+ * 進捗行が存在しない集計単位では{@code lockVersion}はnullです。</p>
+ *
+ * <p>ユーザーの統合で加算した進捗は台帳の再生と一致しないため、{@code merged}がtrueの単位は修復の対象外です。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class ProgressUnit {
+
+    private final short unitType;
+    private final String unitKey;
+    private final int currentValue;
+    private final int nextThreshold;
+    private final int breakCount;
+    private final Integer lockVersion;
+    private final int popHistoryCount;
+    private final boolean merged;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param unitType 集計単位区分値
+     * @param unitKey 集計単位キー
+     * @param currentValue 現在値
+     * @param nextThreshold 次回の割れに必要な量
+     * @param breakCount 割れ回数
+     * @param lockVersion 楽観的ロックのバージョン（進捗行が存在しない場合はnull）
+     * @param popHistoryCount 割れ履歴の件数
+     * @param merged ユーザーの統合で加算した進捗の場合true
+     */
+    public ProgressUnit(short unitType, String unitKey, int currentValue, int nextThreshold, int breakCount,
+                        Integer lockVersion, int popHistoryCount, boolean merged) {
+        this.unitType = unitType;
+        this.unitKey = unitKey;
+        this.currentValue = currentValue;
+        this.nextThreshold = nextThreshold;
+        this.breakCount = breakCount;
+        this.lockVersion = lockVersion;
+        this.popHistoryCount = popHistoryCount;
+        this.merged = merged;
+    }
+
+    public short getUnitType() {
+        return unitType;
+    }
+
+    public String getUnitKey() {
+        return unitKey;
+    }
+
+    public int getCurrentValue() {
+        return currentValue;
+    }
+
+    public int getNextThreshold() {
+        return nextThreshold;
+    }
+
+    public int getBreakCount() {
+        return breakCount;
+    }
+
+    public Integer getLockVersion() {
+        return lockVersion;
+    }
+
+    public int getPopHistoryCount() {
+        return popHistoryCount;
+    }
+
+    public boolean isMerged() {
+        return merged;
+    }
+}
@@ -0,0 +1,39 @@
+package com.tasbal.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * タスク完了状態の切り替え結果。
+ *
+ * <p>更新後のタスクに加えて、完了によって貢献が加算された風船のIDの一覧を保持します。
+ * 未完了への切り替えや、選択中の風船が無い場合など、加算が行われなかった場合は空のリストです。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see Task
+ */
+public class TaskToggleResult {
+
+    private final Task task;
+    private final List<UUID> contributedBalloonIds;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param task 更新後のタスク
+     * @param contributedBalloonIds 貢献が加算された風船のIDの一覧（加算されなかった場合は空のリスト）
+     */
+    public TaskToggleResult(Task task, List<UUID> contributedBalloonIds) {
+        this.task = task;
+        this.contributedBalloonIds = contributedBalloonIds;
+    }
+
+    public Task getTask() {
+        return task;
+    }
+
+    public List<UUID> getContributedBalloonIds() {
+        return contributedBalloonIds;
+    }
+}
@@ -0,0 +1,45 @@
+package com.tasbal.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークン。
+ *
+ * <p>別の端末にユーザーを引き継ぐための一度だけ使用できるトークンです。
+ * トークンそのものはハッシュのみを保存するため、このモデルには含まれません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class TransferToken {
+
+    private final UUID id;
+    private final OffsetDateTime expiresAt;
+    private final OffsetDateTime createdAt;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param id 引き継ぎトークンID
+     * @param expiresAt 有効期限
+     * @param createdAt 発行日時
+     */
+    public TransferToken(UUID id, OffsetDateTime expiresAt, OffsetDateTime createdAt) {
+        this.id = id;
+        this.expiresAt = expiresAt;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public OffsetDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tasbal.domain.model;
+
+/**
+ * 人気ランキングに掲載される風船。
+ *
+ * <p>風船と参加人数に加えて、時間減衰させた人気スコアを保持します。
+ * スコアは公開時点の値で、直近の貢献・参加ほど大きく寄与します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingCandidate
+ */
+public class TrendingBalloon {
+
+    private final Balloon balloon;
+    private final String countryCode;
+    private final int memberCount;
+    private final double score;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloon 風船
+     * @param countryCode ランキングの国コード（不明な場合はnull）
+     * @param memberCount 参加人数
+     * @param score 人気スコア
+     */
+    public TrendingBalloon(Balloon balloon, String countryCode, int memberCount, double score) {
+        this.balloon = balloon;
+        this.countryCode = countryCode;
+        this.memberCount = memberCount;
+        this.score = score;
+    }
+
+    public Balloon getBalloon() {
+        return balloon;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tasbal.domain.model;
+
+/**
+ * 人気ランキングの対象風船。
+ *
+ * <p>公開・有効なユーザー風船と、ランキングの集計に使用する国を保持します。
+ * 国は風船の国コード、未設定の場合はオーナーのユーザー設定の国コードです。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingBalloon
+ */
+public class TrendingCandidate {
+
+    private final Balloon balloon;
+    private final String countryCode;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloon 風船
+     * @param countryCode ランキングの国コード（不明な場合はnull）
+     */
+    public TrendingCandidate(Balloon balloon, String countryCode) {
+        this.balloon = balloon;
+        this.countryCode = countryCode;
+    }
+
+    public Balloon getBalloon() {
+        return balloon;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+}
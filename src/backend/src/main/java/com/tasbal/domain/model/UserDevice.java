@@ -0,0 +1,81 @@
+package com.tasbal.domain.model;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * ユーザーの端末。
+ *
+ * <p>初回起動時に登録され、ゲスト開始時にユーザーと紐付けられます。
+ * 端末キーはハッシュのみを保存するため、このモデルには含まれません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class UserDevice {
+
+    private final UUID id;
+    private final UUID userId;
+    private final String deviceName;
+    private final short platform;
+    private final String appVersion;
+    private final String osVersion;
+    private final OffsetDateTime createdAt;
+    private final OffsetDateTime lastSeenAt;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param id 端末ID
+     * @param userId ユーザーID（ゲスト開始前はnull）
+     * @param deviceName 端末名
+     * @param platform プラットフォーム区分値
+     * @param appVersion アプリのバージョン
+     * @param osVersion OSのバージョン
+     * @param createdAt 登録日時
+     * @param lastSeenAt 最終利用日時
+     */
+    public UserDevice(UUID id, UUID userId, String deviceName, short platform, String appVersion, String osVersion,
+                      OffsetDateTime createdAt, OffsetDateTime lastSeenAt) {
+        this.id = id;
+        this.userId = userId;
+        this.deviceName = deviceName;
+        this.platform = platform;
+        this.appVersion = appVersion;
+        this.osVersion = osVersion;
+        this.createdAt = createdAt;
+        this.lastSeenAt = lastSeenAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public short getPlatform() {
+        return platform;
+    }
+
+    public String getAppVersion() {
+        return appVersion;
+    }
+
+    public String getOsVersion() {
+        return osVersion;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public OffsetDateTime getLastSeenAt() {
+        return lastSeenAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.tasbal.domain.model;
+
+import java.util.UUID;
+
+/**
+ * ユーザーのセッション。
+ *
+ * <p>アクセストークンの{@code sid}クレームが指すセッションで、リクエストごとの有効性の確認に使用します。
+ * リフレッシュトークンはハッシュのみを保存するため、このモデルには含まれません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class UserSession {
+
+    private final UUID id;
+    private final UUID userId;
+    private final UUID deviceId;
+    private final boolean revoked;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param id セッションID
+     * @param userId ユーザーID
+     * @param deviceId 端末ID
+     * @param revoked 失効済みの場合true
+     */
+    public UserSession(UUID id, UUID userId, UUID deviceId, boolean revoked) {
+        this.id = id;
+        this.userId = userId;
+        this.deviceId = deviceId;
+        this.revoked = revoked;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getDeviceId() {
+        return deviceId;
+    }
+
+    public boolean isRevoked() {
+        return revoked;
+    }
+}
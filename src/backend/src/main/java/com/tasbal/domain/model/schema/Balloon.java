@@ -32,6 +32,9 @@ public class Balloon {
     private String countryCode;
     private Boolean isActive;
 
+    // 集計値
+    private Integer memberCount;
+
     // タイムスタンプ
     private final OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
@@ -52,11 +55,12 @@ public class Balloon {
      * @param isActive 有効フラグ
      * @param createdAt 作成日時
      * @param updatedAt 更新日時
+     * @param memberCount 参加人数
      */
     public Balloon(UUID id, Short balloonType, Short displayGroup, Short visibility,
                    UUID ownerUserId, String title, String description, Short colorId,
                    Short tagIconId, String countryCode, Boolean isActive,
-                   OffsetDateTime createdAt, OffsetDateTime updatedAt) {
+                   OffsetDateTime createdAt, OffsetDateTime updatedAt, Integer memberCount) {
         this.id = id;
         this.balloonType = balloonType;
         this.displayGroup = displayGroup;
@@ -70,6 +74,7 @@ public class Balloon {
         this.isActive = isActive;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.memberCount = memberCount;
     }
 
     // Getters
@@ -117,6 +122,10 @@ public class Balloon {
         return isActive;
     }
 
+    public Integer getMemberCount() {
+        return memberCount;
+    }
+
     public OffsetDateTime getCreatedAt() {
         return createdAt;
     }
@@ -166,6 +175,10 @@ public class Balloon {
         this.isActive = isActive;
     }
 
+    public void setMemberCount(Integer memberCount) {
+        this.memberCount = memberCount;
+    }
+
     public void setUpdatedAt(OffsetDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
@@ -0,0 +1,103 @@
+package com.tasbal.domain.model.schema;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * ゲリライベントスキーマモデル。
+ *
+ * <p>このクラスはデータベースのguerrilla_eventsテーブルと1:1で対応するスキーマ層のモデルです。
+ * 生成元などの区分値は数値（Short型）のまま保持します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class GuerrillaEvent {
+    // 識別子
+    private final UUID id;
+
+    // 開催期間
+    private LocalDate tasbalDay;
+    private OffsetDateTime startsAt;
+    private OffsetDateTime endsAt;
+
+    // 生成元・優先度
+    private Short source;
+    private Integer priority;
+
+    // タイムスタンプ
+    private final OffsetDateTime createdAt;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param id イベントID
+     * @param tasbalDay Tasbal Day（UTC日付）
+     * @param startsAt 開始日時
+     * @param endsAt 終了日時
+     * @param source 生成元区分
+     * @param priority 優先度
+     * @param createdAt 作成日時
+     */
+    public GuerrillaEvent(UUID id, LocalDate tasbalDay, OffsetDateTime startsAt, OffsetDateTime endsAt,
+                          Short source, Integer priority, OffsetDateTime createdAt) {
+        this.id = id;
+        this.tasbalDay = tasbalDay;
+        this.startsAt = startsAt;
+        this.endsAt = endsAt;
+        this.source = source;
+        this.priority = priority;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+
+    public LocalDate getTasbalDay() {
+        return tasbalDay;
+    }
+
+    public OffsetDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public OffsetDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public Short getSource() {
+        return source;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Setters
+    public void setTasbalDay(LocalDate tasbalDay) {
+        this.tasbalDay = tasbalDay;
+    }
+
+    public void setStartsAt(OffsetDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public void setEndsAt(OffsetDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public void setSource(Short source) {
+        this.source = source;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.BreathContribution;
+import com.tasbal.domain.model.ProgressUnit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 風船進捗のリポジトリインターフェース。
+ *
+ * <p>このインターフェースは、balloon_progressの集計単位ごとの進捗に対する
+ * バッチ的な操作（日次の事前作成・集計など）を定義します。
+ * 個々の貢献の加算はタスク完了などの各ユースケースのプロシージャ内で行われます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public interface BalloonProgressRepository {
+    /**
+     * 指定したTasbal Dayの呼吸風船の進捗行を事前作成します。
+     *
+     * <p>作成済みの行は変更されないため、何度呼び出しても安全です。</p>
+     *
+     * @param tasbalDay 対象のTasbal Day（UTC日付）
+     * @return 新たに作成された進捗行の数
+     */
+    int prepareBreathingDay(LocalDate tasbalDay);
+
+    /**
+     * 指定したTasbal Dayの呼吸風船の貢献を集計し、割れ判定を行います。
+     *
+     * <p>集計済みの日に対して呼び出した場合は再集計せず、記録済みの割れ回数を返します。</p>
+     *
+     * @param tasbalDay 集計対象のTasbal Day（UTC日付）
+     * @return 対象日に発生した割れの総数
+     */
+    int rolloverBreathingDay(LocalDate tasbalDay);
+
+    /**
+     * 集約済みの呼吸貢献をまとめて加算します。
+     *
+     * <p>貢献台帳には入力1件につき1行が記録され、進捗は (風船, Tasbal Day) ごとに
+     * 1回だけ更新されます。無効な風船・存在しないユーザーの貢献は読み捨てられます。</p>
+     *
+     * @param contributions 集約済みの呼吸貢献
+     * @return 記録された台帳行の数
+     */
+    int addBreathContributions(List<BreathContribution> contributions);
+
+    /**
+     * 風船の集計単位ごとの進捗を割れ履歴の件数とともに取得します。
+     *
+     * @param balloonId 対象の風船ID
+     * @return 集計単位ごとの進捗のリスト
+     */
+    List<ProgressUnit> findUnits(UUID balloonId);
+
+    /**
+     * 日次集計済みの呼吸風船のTasbal Dayを取得します。
+     *
+     * @return 集計済みのTasbal Dayのセット
+     */
+    Set<LocalDate> findRolledBreathingDays();
+
+    /**
+     * 再集計で求めた期待値で風船の進捗を修復します。
+     *
+     * <p>各要素の{@link ProgressUnit#getLockVersion()}は走査時点のバージョンで、
+     * 現在のバージョンと一致する行のみ更新されます（走査後に加算された行は上書きしません）。
+     * バージョンがnullの要素は進捗行が存在しない集計単位として新規作成されます。</p>
+     *
+     * @param balloonId 対象の風船ID
+     * @param units 修復後の進捗
+     * @return 修復された進捗行の数
+     */
+    int repairUnits(UUID balloonId, List<ProgressUnit> units);
+}
@@ -0,0 +1,44 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.BalloonReport;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 風船の通報のリポジトリインターフェース。
+ *
+ * <p>通報はメモリ上にまとめてから書き出すため、登録・停止ともに一括の操作のみを定義します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public interface BalloonReportRepository {
+    /**
+     * 通報をまとめて登録します。
+     *
+     * <p>同じユーザーによる同じ風船の通報が登録済みの場合と、風船・ユーザーが存在しない場合、
+     * その通報は登録されません。</p>
+     *
+     * <p>通報が登録された風船ごとに、直近{@code window}以内の未処理の通報数を返します
+     * （他のノードが登録した通報も含みます）。</p>
+     *
+     * @param reports 通報のリスト
+     * @param window 通報を数える期間
+     * @return 通報が登録された風船IDとウィンドウ内の未処理の通報数のマップ
+     */
+    Map<UUID, Integer> addReports(List<BalloonReport> reports, Duration window);
+
+    /**
+     * 通報が閾値を超えた風船をまとめて停止し、その風船の未処理の通報を処理済みにします。
+     *
+     * <p>停止の対象は有効なユーザー作成風船のみです。</p>
+     *
+     * @param balloonIds 停止する風船IDのコレクション
+     * @return 停止された風船IDのリスト
+     */
+    List<UUID> deactivateBalloons(Collection<UUID> balloonIds);
+}
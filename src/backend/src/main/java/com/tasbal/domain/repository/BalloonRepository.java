@@ -1,8 +1,12 @@
 package com.tasbal.domain.repository;
 
 import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.BalloonMembership;
+import com.tasbal.domain.model.BalloonMetadata;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -33,27 +37,103 @@ public interface BalloonRepository {
     Balloon create(UUID ownerUserId, String title, String description, Short colorId, Short tagIconId, Boolean isPublic);
 
     /**
-     * 公開されているバルーンの一覧を取得します。
+     * 公開されているバルーンの一覧を作成日時・IDの降順で取得します。
      *
+     * <p>カーソル（前ページの最後のバルーンの作成日時とID）より後のバルーンを返します。</p>
+     *
+     * @param cursorCreatedAt カーソルの作成日時（先頭ページの場合はnull）
+     * @param cursorId カーソルのバルーンID（先頭ページの場合はnull）
      * @param limit 取得する最大件数
-     * @param offset 取得開始位置（ページネーション用）
      * @return 公開バルーンのリスト
      */
-    List<Balloon> findPublicBalloons(int limit, int offset);
+    List<Balloon> findPublicBalloons(OffsetDateTime cursorCreatedAt, UUID cursorId, int limit);
 
     /**
-     * 指定されたユーザーが現在選択しているバルーンのIDを取得します。
+     * タイトルまたは説明に検索語を含む公開バルーンを作成日時・IDの降順で取得します。
+     *
+     * <p>カーソル（前ページの最後のバルーンの作成日時とID）より後のバルーンを返します。
+     * 大文字・小文字は区別しません。</p>
+     *
+     * @param query 検索語（3文字以上）
+     * @param cursorCreatedAt カーソルの作成日時（先頭ページの場合はnull）
+     * @param cursorId カーソルのバルーンID（先頭ページの場合はnull）
+     * @param limit 取得する最大件数
+     * @return 検索語に一致する公開バルーンのリスト
+     */
+    List<Balloon> searchPublicBalloons(String query, OffsetDateTime cursorCreatedAt, UUID cursorId, int limit);
+
+    /**
+     * 指定されたユーザーが現在選択しているバルーンのIDを優先度順に取得します。
      *
      * @param userId 対象ユーザーのID
-     * @return 選択中のバルーンID（選択されていない場合は空のOptional）
+     * @return 選択中のバルーンIDのリスト（選択されていない場合は空のリスト）
      */
-    Optional<UUID> findSelectedBalloon(UUID userId);
+    List<UUID> findSelectedBalloons(UUID userId);
 
     /**
-     * ユーザーの選択バルーンを設定します。
+     * 貢献の加算先の解決に使用するバルーンのメタデータを取得します。
+     *
+     * @param balloonId バルーンID
+     * @return バルーンのメタデータ（存在しない場合は空のOptional）
+     */
+    Optional<BalloonMetadata> findMetadata(UUID balloonId);
+
+    /**
+     * ユーザーの選択バルーンを指定された一覧で置き換えます。
+     *
+     * <p>一覧の並び順が優先度となり、一覧に含まれない選択は解除されます。
+     * 有効でないバルーンは選択されません。</p>
      *
      * @param userId 対象ユーザーのID
-     * @param balloonId 選択するバルーンのID
+     * @param balloonIds 選択するバルーンのIDのリスト（優先度順、空の場合はすべて解除）
+     * @return 設定後の選択中のバルーンIDのリスト（優先度順）
+     */
+    List<UUID> setSelections(UUID userId, List<UUID> balloonIds);
+
+    /**
+     * 有効な呼吸風船のID一覧を取得します。
+     *
+     * @return 呼吸風船IDのセット
+     */
+    Set<UUID> findActiveBreathingBalloonIds();
+
+    /**
+     * 風船IDをID昇順のキーセットページングで取得します。
+     *
+     * <p>無効化された風船も含めて返します。全風船を走査するバッチ処理で使用します。</p>
+     *
+     * @param afterId 前ページの最後の風船ID（先頭ページの場合はnull）
+     * @param limit 取得件数の上限
+     * @return 風船IDのリスト（ID昇順）
+     */
+    List<UUID> findIdsAfter(UUID afterId, int limit);
+
+    /**
+     * ユーザーを風船に参加させます。
+     *
+     * <p>参加済みの場合は既存のメンバーシップを変更なしとして返します。
+     * 参加人数は{@link #flushMemberCountDeltas(int)}で反映されるまで更新されません。</p>
+     *
+     * @param userId 参加するユーザーのID
+     * @param balloonId 参加する風船のID
+     * @return 参加後のメンバーシップ（有効な公開風船・自分の風船でない場合は空のOptional）
+     */
+    Optional<BalloonMembership> join(UUID userId, UUID balloonId);
+
+    /**
+     * ユーザーを風船から離脱させます。
+     *
+     * @param userId 離脱するユーザーのID
+     * @param balloonId 離脱する風船のID
+     * @return 離脱したメンバーシップ（参加中でなかった場合は空のOptional）
+     */
+    Optional<BalloonMembership> leave(UUID userId, UUID balloonId);
+
+    /**
+     * 参加・離脱による参加人数の増減を風船ごとに合算して反映します。
+     *
+     * @param limit 1回に反映する増減の最大件数
+     * @return 反映した増減の件数
      */
-    void setSelection(UUID userId, UUID balloonId);
+    int flushMemberCountDeltas(int limit);
 }
@@ -0,0 +1,62 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.LedgerEntry;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 貢献台帳のリポジトリインターフェース。
+ *
+ * <p>このインターフェースは、月単位でパーティション分割された貢献台帳の
+ * パーティション管理と、再集計のための台帳の走査を定義します。台帳への書き込みは各ユースケースのプロシージャ内で行われ、
+ * 時間単位のロールアップはデータベースのトリガーで維持されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public interface ContributionLedgerRepository {
+    /**
+     * 当月から指定か月先までの月パーティションを作成します。
+     *
+     * @param monthsAhead 事前作成する月数（当月を含まない）
+     * @return 新たに作成されたパーティション名のリスト
+     */
+    List<String> ensurePartitions(int monthsAhead);
+
+    /**
+     * 保持期間を過ぎた月パーティションを切り離してアーカイブします。
+     *
+     * <p>切り離しは台帳への追記を止めない方法（{@code DETACH PARTITION ... CONCURRENTLY}）で行うため、
+     * トランザクションの外で呼び出す必要があります。</p>
+     *
+     * @param retentionMonths 保持する月数（当月を含まない）
+     * @return 切り離されたパーティション名のリスト
+     * @throws IllegalStateException トランザクション内で呼び出された場合
+     */
+    List<String> detachExpiredPartitions(int retentionMonths);
+
+    /**
+     * 風船の台帳を集計単位・時系列順にカーソルで走査します。
+     *
+     * <p>行は{@code (unit_type, unit_key, created_at)}の順で渡されるため、
+     * 同じ集計単位の行は連続します。結果をメモリに読み込まないため、
+     * 行数の多い風船でもメモリ使用量は一定です。トランザクション内で呼び出す必要があります。</p>
+     *
+     * @param balloonId 対象の風船ID
+     * @param fetchSize 1回のサーバー往復で取得する行数
+     * @param consumer 各行を処理するコールバック
+     */
+    void streamByBalloon(UUID balloonId, int fetchSize, Consumer<LedgerEntry> consumer);
+
+    /**
+     * 風船の台帳の一部が切り離し済みのパーティションにあるかを判定します。
+     *
+     * <p>切り離し済みの行は{@link #streamByBalloon}で走査されないため、台帳の再生結果はその風船の進捗と一致しません。</p>
+     *
+     * @param balloonId 対象の風船ID
+     * @return 台帳の一部が切り離し済みの場合true
+     */
+    boolean hasDetachedHistory(UUID balloonId);
+}
@@ -0,0 +1,28 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.UserDevice;
+
+/**
+ * 端末のリポジトリインターフェース。
+ *
+ * <p>実装クラスは、ストアドプロシージャ・ストアドファンクションを経由して
+ * データベースアクセスを行う必要があります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see UserDevice
+ */
+public interface DeviceRepository {
+
+    /**
+     * 端末を登録します。
+     *
+     * @param deviceFingerprint 端末キーのハッシュ
+     * @param deviceName 端末名
+     * @param platform プラットフォーム区分値
+     * @param appVersion アプリのバージョン
+     * @param osVersion OSのバージョン
+     * @return 登録された端末
+     */
+    UserDevice register(String deviceFingerprint, String deviceName, short platform, String appVersion, String osVersion);
+}
@@ -0,0 +1,41 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.GuerrillaEvent;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * ゲリライベントのリポジトリインターフェース。
+ *
+ * <p>このインターフェースは、ゲリライベントの自動生成と期間検索を定義します。
+ * 実装クラスは、ストアドプロシージャ・ストアドファンクションを経由して
+ * データベースアクセスを行う必要があります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEvent
+ */
+public interface GuerrillaEventRepository {
+    /**
+     * 指定したTasbal DayのAUTOイベントを生成します。
+     *
+     * <p>この操作は冪等であり、既に生成済みの日や他ノードが生成中の日に対しては
+     * 新たなイベントを作成せず、その日の既存イベントを返します。</p>
+     *
+     * @param tasbalDay 生成対象のTasbal Day（UTC日付）
+     * @param minGapMinutes イベント間の最小間隔（分）
+     * @return 対象日のゲリライベントのリスト
+     */
+    List<GuerrillaEvent> generateAutoEvents(LocalDate tasbalDay, int minGapMinutes);
+
+    /**
+     * 指定期間に重なるゲリライベントを取得します。
+     *
+     * @param from 検索期間の開始日時
+     * @param to 検索期間の終了日時
+     * @return 開始日時の昇順に並んだゲリライベントのリスト
+     */
+    List<GuerrillaEvent> findInRange(OffsetDateTime from, OffsetDateTime to);
+}
@@ -0,0 +1,52 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.GuestSession;
+import com.tasbal.domain.model.UserSession;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * セッションのリポジトリインターフェース。
+ *
+ * <p>実装クラスは、ストアドプロシージャ・ストアドファンクションを経由して
+ * データベースアクセスを行う必要があります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see UserSession
+ */
+public interface SessionRepository {
+
+    /**
+     * 端末のゲストセッションを開始します。
+     *
+     * <p>端末にユーザーが紐付いていなければゲストユーザーを作成して紐付けます。</p>
+     *
+     * @param deviceFingerprint 端末キーのハッシュ
+     * @param refreshTokenHash リフレッシュトークンのハッシュ
+     * @return ゲスト開始の結果（端末が存在しない場合は空のOptional）
+     */
+    Optional<GuestSession> startGuestSession(String deviceFingerprint, String refreshTokenHash);
+
+    /**
+     * セッションを取得します。
+     *
+     * @param sessionId セッションID
+     * @return セッション（存在しない場合は空のOptional）
+     */
+    Optional<UserSession> findById(UUID sessionId);
+
+    /**
+     * セッションと端末の最終利用日時をまとめて更新します。
+     *
+     * <p>現在の値より新しい場合のみ更新します。</p>
+     *
+     * @param sessionLastUsed セッションIDごとの最終利用日時
+     * @param deviceLastSeen 端末IDごとの最終利用日時
+     * @return 更新したセッションと端末の行数の合計
+     */
+    int touch(Map<UUID, Instant> sessionLastUsed, Map<UUID, Instant> deviceLastSeen);
+}
@@ -1,6 +1,8 @@
 package com.tasbal.domain.repository;
 
+import com.tasbal.domain.model.ContributionTarget;
 import com.tasbal.domain.model.Task;
+import com.tasbal.domain.model.TaskToggleResult;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -69,9 +71,10 @@ public interface TaskRepository {
      * @param taskId 対象タスクのID
      * @param userId タスクの所有者のユーザーID（権限チェック用）
      * @param isDone 完了状態（true: 完了、false: 未完了）
-     * @return 更新後のタスクオブジェクト
+     * @param targets 解決済みの貢献の加算先の一覧（nullの場合はデータベースで解決）
+     * @return 更新後のタスクと貢献が加算された風船のID（タスクが存在しない場合はnull）
      */
-    Task toggleCompletion(UUID taskId, UUID userId, boolean isDone);
+    TaskToggleResult toggleCompletion(UUID taskId, UUID userId, boolean isDone, List<ContributionTarget> targets);
 
     /**
      * タスクを削除します。
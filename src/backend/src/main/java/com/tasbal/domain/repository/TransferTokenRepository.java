@@ -0,0 +1,55 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.GuestSession;
+import com.tasbal.domain.model.TransferToken;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークンのリポジトリインターフェース。
+ *
+ * <p>実装クラスは、ストアドプロシージャ・ストアドファンクションを経由して
+ * データベースアクセスを行う必要があります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferToken
+ */
+public interface TransferTokenRepository {
+
+    /**
+     * 引き継ぎトークンを発行します。
+     *
+     * <p>同じユーザーの未使用の引き継ぎトークンは無効になります。</p>
+     *
+     * @param userId 引き継ぎ元のユーザーID
+     * @param tokenHash トークンのハッシュ
+     * @param expiresInMinutes 有効期間（分）
+     * @return 発行した引き継ぎトークン（ユーザーに端末がない場合は空のOptional）
+     */
+    Optional<TransferToken> issue(UUID userId, String tokenHash, int expiresInMinutes);
+
+    /**
+     * 引き継ぎトークンを使用し、端末で引き継ぎ元のユーザーのセッションを開始します。
+     *
+     * <p>{@code mergeDeviceUser}が{@code true}の場合、端末に紐付いていた別のゲストユーザーのデータを
+     * 同じトランザクションで引き継ぎ元のユーザーに統合し、統合したゲストユーザーは削除されます。</p>
+     *
+     * @param deviceFingerprint 引き継ぎ先の端末の端末キーのハッシュ
+     * @param tokenHash トークンのハッシュ
+     * @param refreshTokenHash リフレッシュトークンのハッシュ
+     * @param mergeDeviceUser 端末に紐付いていた別のゲストユーザーのデータを統合するか
+     * @return セッション開始の結果（端末・トークンが無効な場合は空のOptional）
+     */
+    Optional<GuestSession> consume(String deviceFingerprint, String tokenHash, String refreshTokenHash,
+                                   boolean mergeDeviceUser);
+
+    /**
+     * 期限切れの引き継ぎトークンを削除します。
+     *
+     * @param batchSize 1回で削除する最大件数
+     * @return 削除した件数
+     */
+    int deleteExpired(int batchSize);
+}
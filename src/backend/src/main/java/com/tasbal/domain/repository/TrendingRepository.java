@@ -0,0 +1,33 @@
+package com.tasbal.domain.repository;
+
+import com.tasbal.domain.model.HourlyContribution;
+import com.tasbal.domain.model.TrendingCandidate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 人気ランキングのリポジトリインターフェース。
+ *
+ * <p>人気ランキングはメモリ上で差分更新されるため、このリポジトリは
+ * 起動時と定期的な再同期でランキングを再構築するための読み取りのみを定義します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public interface TrendingRepository {
+    /**
+     * 人気ランキングの対象風船（公開・有効なユーザー風船）をすべて取得します。
+     *
+     * @return 対象風船のリスト
+     */
+    List<TrendingCandidate> findCandidates();
+
+    /**
+     * 対象風船への指定日時以降の貢献量を時間別に取得します。
+     *
+     * @param since 取得開始日時
+     * @return 風船・時間ごとの貢献量のリスト
+     */
+    List<HourlyContribution> findContributionsSince(OffsetDateTime since);
+}
@@ -1,7 +1,10 @@
 package com.tasbal.domain.repository;
 
+import com.tasbal.domain.model.GuestPurgeBatch;
 import com.tasbal.domain.model.User;
 import com.tasbal.domain.model.UserSettings;
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -56,4 +59,22 @@ public interface UserRepository {
      * @return 更新後のユーザー設定オブジェクト
      */
     UserSettings updateSettings(UUID userId, String countryCode, Short renderQuality, Boolean autoLowPower);
+
+    /**
+     * 利用されなくなったゲストユーザーを1バッチ分削除します。
+     *
+     * <p>{@code afterId}より後のゲストユーザーのうち、{@code inactiveBefore}以降にログイン・端末の利用がないユーザーと
+     * 統合済みのユーザーをIDの順に最大{@code batchSize}件ロックして削除します。
+     * ロック待ちが{@code lockTimeout}を超えたユーザーは削除せずに次のユーザーに進み、
+     * 処理時間が{@code timeBudget}を超えた場合は、残りを次のバッチに回します。</p>
+     *
+     * @param inactiveBefore この日時より前から利用されていないゲストユーザーを削除する
+     * @param afterId 走査を開始するユーザーID（nullの場合は先頭から）
+     * @param batchSize 1回で処理する削除対象の最大件数
+     * @param timeBudget 1回の処理時間の上限
+     * @param lockTimeout ロック待ちの上限
+     * @return 削除の結果
+     */
+    GuestPurgeBatch purgeInactiveGuests(OffsetDateTime inactiveBefore, UUID afterId, int batchSize,
+                                        Duration timeBudget, Duration lockTimeout);
 }
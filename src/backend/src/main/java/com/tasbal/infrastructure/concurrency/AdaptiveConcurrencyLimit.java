@@ -0,0 +1,129 @@
+package com.tasbal.infrastructure.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 応答時間に応じて同時実行数の上限を調整するリミッター（AIMD）。
+ *
+ * <p>実行中の処理数が上限に達している場合、新しい処理は待たずに拒否されます。
+ * 上限は処理の完了ごとに次の規則で調整されます。</p>
+ * <ul>
+ *   <li>加算的増加: 応答時間が目標以内で、上限の半分以上が使われていた場合、上限を{@code 1 / 上限}増やす
+ *       （上限いっぱいの処理が1周するごとに約1増える）</li>
+ *   <li>乗算的減少: 応答時間が目標を超えた場合、または処理が失敗した場合、上限を{@code backoffRatio}倍にする
+ *       （同時に完了した複数の遅い処理で一度に下がりすぎないよう、減少は目標時間に1回まで）</li>
+ * </ul>
+ * <p>上限は{@code minLimit}〜{@code maxLimit}の範囲に保たれます。
+ * コネクションプールの待ちなどで応答が遅くなり始めた時点で同時実行数が絞られるため、
+ * 過負荷時もリクエストが長時間滞留せず、超過分はすぐに拒否されます。</p>
+ *
+ * <h3>スレッドセーフティ:</h3>
+ * <p>実行中の処理数と上限をアトミック変数で保持し、compare-and-setで更新するため、
+ * ロックを取得せずに複数スレッドから呼び出せます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecrease = new AtomicLong(System.nanoTime());
+
+    /**
+     * コンストラクタ。
+     *
+     * @param initialLimit 初期の上限
+     * @param minLimit 上限の最小値
+     * @param maxLimit 上限の最大値
+     * @param latencyTargetNanos 目標の応答時間（ナノ秒）
+     * @param backoffRatio 減少時に上限に掛ける比率（0より大きく1未満）
+     * @throws IllegalArgumentException 上限の範囲・比率が不正な場合
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long latencyTargetNanos, double backoffRatio) {
+        if (minLimit <= 0 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.backoffRatio = backoffRatio;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(clamp(initialLimit)));
+    }
+
+    /**
+     * 処理の開始を試みます。
+     *
+     * <p>{@code true}が返された場合、処理の完了時に必ず{@link #release(long, long, boolean)}を呼び出してください。</p>
+     *
+     * @return 開始できた場合true、実行中の処理数が上限に達している場合false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 処理の完了を記録し、上限を調整します。
+     *
+     * @param latencyNanos 処理の所要時間（ナノ秒）
+     * @param now 現在時刻（{@link System#nanoTime()}）
+     * @param failed 処理が失敗した場合true
+     */
+    public void release(long latencyNanos, long now, boolean failed) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyTargetNanos) {
+            long last = lastDecrease.get();
+            if (now - last >= latencyTargetNanos && lastDecrease.compareAndSet(last, now)) {
+                updateLimit(limit -> limit * backoffRatio);
+            }
+        } else if (inFlightBefore * 2 >= getLimit()) {
+            updateLimit(limit -> limit + 1 / limit);
+        }
+    }
+
+    /**
+     * 現在の上限を取得します。
+     *
+     * @return 同時実行数の上限
+     */
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * 実行中の処理数を取得します。
+     *
+     * @return 実行中の処理数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void updateLimit(DoubleUnaryOperator update) {
+        while (true) {
+            long currentBits = limitBits.get();
+            double next = clamp(update.applyAsDouble(Double.longBitsToDouble(currentBits)));
+            if (limitBits.compareAndSet(currentBits, Double.doubleToLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    private double clamp(double limit) {
+        return Math.max(minLimit, Math.min(maxLimit, limit));
+    }
+}
@@ -0,0 +1,99 @@
+package com.tasbal.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * APIの同時実行数を制限し、超過したリクエストを待たせずに503で拒否するフィルター。
+ *
+ * <p>{@code /api/}以下のリクエストを読み取り（GET・HEAD）と書き込みに分け、それぞれの
+ * {@link AdaptiveConcurrencyLimit}の枠を取得できた場合のみ後続の処理に進めます。
+ * 枠がない場合はコネクションプールの空きを待たずに、共通エラーフォーマットの503と{@code Retry-After: 1}を返します。
+ * 処理の完了時に所要時間と成否（例外、または5xxの応答を失敗とみなす）を記録し、上限を調整します。</p>
+ *
+ * <h3>レスポンス例:</h3>
+ * <pre>
+ * {
+ *   "error": {
+ *     "code": "SERVICE_UNAVAILABLE",
+ *     "message": "Server is busy"
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>拒否したリクエスト数は{@code type}タグごとに{@code tasbal.concurrency.rejected}カウンタとして公開します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ConcurrencyLimits
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH_PREFIX = "/api/";
+    private static final byte[] BODY =
+            "{\"error\":{\"code\":\"SERVICE_UNAVAILABLE\",\"message\":\"Server is busy\"}}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    private final ConcurrencyLimits limits;
+    private final Counter readRejectedCounter;
+    private final Counter writeRejectedCounter;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param limits 読み取り・書き込みの同時実行数の上限
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public ConcurrencyLimitFilter(ConcurrencyLimits limits, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        this.readRejectedCounter = meterRegistry.counter("tasbal.concurrency.rejected", "type", "read");
+        this.writeRejectedCounter = meterRegistry.counter("tasbal.concurrency.rejected", "type", "write");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !limits.isEnabled()
+                || !request.getRequestURI().startsWith(API_PATH_PREFIX, request.getContextPath().length());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        AdaptiveConcurrencyLimit limit = read ? limits.getRead() : limits.getWrite();
+        if (!limit.tryAcquire()) {
+            (read ? readRejectedCounter : writeRejectedCounter).increment();
+            reject(response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            long now = System.nanoTime();
+            limit.release(now - startNanos, now, failed);
+        }
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(BODY.length);
+        response.getOutputStream().write(BODY);
+    }
+}
@@ -0,0 +1,84 @@
+package com.tasbal.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 読み取り・書き込みのAPIの同時実行数の上限。
+ *
+ * <p>読み取り（GET・HEAD）と書き込み（それ以外）で別の{@link AdaptiveConcurrencyLimit}を持ち、
+ * 書き込みの応答が遅くなっても読み取りの上限は下がらないようにします。</p>
+ *
+ * <h3>メトリクス:</h3>
+ * <p>現在の上限を{@code tasbal.concurrency.limit}、実行中の処理数を{@code tasbal.concurrency.in.flight}ゲージとして
+ * {@code type}タグ（{@code read}・{@code write}）ごとに公開します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ConcurrencyLimitFilter
+ */
+@Component
+public class ConcurrencyLimits {
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimit read;
+    private final AdaptiveConcurrencyLimit write;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled 同時実行数の制限を有効にする場合true
+     * @param backoffRatio 応答が遅い場合に上限に掛ける比率
+     * @param readInitialLimit 読み取りの初期の上限
+     * @param readMinLimit 読み取りの上限の最小値
+     * @param readMaxLimit 読み取りの上限の最大値
+     * @param readLatencyTarget 読み取りの目標の応答時間
+     * @param writeInitialLimit 書き込みの初期の上限
+     * @param writeMinLimit 書き込みの上限の最小値
+     * @param writeMaxLimit 書き込みの上限の最大値
+     * @param writeLatencyTarget 書き込みの目標の応答時間
+     */
+    public ConcurrencyLimits(
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.concurrency.enabled:true}") boolean enabled,
+            @Value("${tasbal.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${tasbal.concurrency.read.initial-limit:20}") int readInitialLimit,
+            @Value("${tasbal.concurrency.read.min-limit:4}") int readMinLimit,
+            @Value("${tasbal.concurrency.read.max-limit:200}") int readMaxLimit,
+            @Value("${tasbal.concurrency.read.latency-target:PT0.25S}") Duration readLatencyTarget,
+            @Value("${tasbal.concurrency.write.initial-limit:10}") int writeInitialLimit,
+            @Value("${tasbal.concurrency.write.min-limit:2}") int writeMinLimit,
+            @Value("${tasbal.concurrency.write.max-limit:100}") int writeMaxLimit,
+            @Value("${tasbal.concurrency.write.latency-target:PT0.5S}") Duration writeLatencyTarget) {
+        this.enabled = enabled;
+        this.read = new AdaptiveConcurrencyLimit(
+                readInitialLimit, readMinLimit, readMaxLimit, readLatencyTarget.toNanos(), backoffRatio);
+        this.write = new AdaptiveConcurrencyLimit(
+                writeInitialLimit, writeMinLimit, writeMaxLimit, writeLatencyTarget.toNanos(), backoffRatio);
+        meterRegistry.gauge("tasbal.concurrency.limit", Tags.of("type", "read"),
+                read, AdaptiveConcurrencyLimit::getLimit);
+        meterRegistry.gauge("tasbal.concurrency.limit", Tags.of("type", "write"),
+                write, AdaptiveConcurrencyLimit::getLimit);
+        meterRegistry.gauge("tasbal.concurrency.in.flight", Tags.of("type", "read"),
+                read, AdaptiveConcurrencyLimit::getInFlight);
+        meterRegistry.gauge("tasbal.concurrency.in.flight", Tags.of("type", "write"),
+                write, AdaptiveConcurrencyLimit::getInFlight);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AdaptiveConcurrencyLimit getRead() {
+        return read;
+    }
+
+    public AdaptiveConcurrencyLimit getWrite() {
+        return write;
+    }
+}
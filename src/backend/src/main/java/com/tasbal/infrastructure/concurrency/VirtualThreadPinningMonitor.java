@@ -0,0 +1,129 @@
+package com.tasbal.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 仮想スレッドのキャリアスレッドへの固定（ピン留め）の検出クラス。
+ *
+ * <p>仮想スレッドが{@code synchronized}ブロックやネイティブメソッドの中でブロックすると、
+ * キャリアスレッドから外れられず、ほかの仮想スレッドを実行できなくなります。
+ * JDBCドライバやコネクションプールの{@code synchronized}な経路でこれが起きると、
+ * 少数のキャリアスレッドが埋まってリクエスト全体が停滞します。</p>
+ *
+ * <p>{@code spring.threads.virtual.enabled}が有効な場合に、JFRの{@code jdk.VirtualThreadPinned}イベントを
+ * アプリケーション内でストリーミングし、しきい値を超えた固定を{@code tasbal.vthread.pinned}タイマーとして記録します。
+ * 固定が発生したスタックトレースは、発生箇所ごとに初回のみ警告ログに出力します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Component
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /** ログに出力するスタックトレースのフレーム数 */
+    private static final int MAX_LOGGED_FRAMES = 20;
+
+    /** ログに出力済みの発生箇所の上限 */
+    private static final int MAX_REPORTED_SITES = 1000;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Timer pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param meterRegistry メトリクスレジストリ
+     * @param enabled 仮想スレッドでリクエストを処理する場合true
+     * @param threshold 記録する固定の最短時間
+     */
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+            @Value("${tasbal.virtual-threads.pinned-threshold:PT20MS}") Duration threshold) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.pinned = meterRegistry.timer("tasbal.vthread.pinned");
+    }
+
+    /**
+     * 起動完了時にイベントのストリーミングを開始します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || stream != null) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("Monitoring virtual thread pinning: threshold={}", threshold);
+        } catch (RuntimeException e) {
+            stream = null;
+            log.warn("Failed to start virtual thread pinning monitor", e);
+        }
+    }
+
+    /**
+     * 停止時にイベントのストリーミングを終了します。
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinned.record(duration);
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String site = frames.stream()
+                .limit(MAX_LOGGED_FRAMES)
+                .map(VirtualThreadPinningMonitor::describe)
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("Virtual thread pinned to its carrier for {} ms:\n\tat {}", duration.toMillis(), site);
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "<unknown>";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
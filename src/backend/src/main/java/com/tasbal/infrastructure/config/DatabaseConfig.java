@@ -1,13 +1,25 @@
 package com.tasbal.infrastructure.config;
 
+import com.tasbal.infrastructure.db.common.ConnectionPermitDataSource;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
 
 /**
  * データベース接続設定クラス。
@@ -17,11 +29,18 @@ import javax.sql.DataSource;
  *
  * <h3>提供される機能:</h3>
  * <ul>
+ *   <li>負荷種別（{@link WorkloadClass}）ごとのコネクションプールの構成</li>
  *   <li>JdbcTemplateの構成（ストアドプロシージャ/ファンクション実行用）</li>
  *   <li>トランザクションマネージャーの構成</li>
  *   <li>宣言的トランザクション管理の有効化</li>
  * </ul>
  *
+ * <h3>コネクションプール:</h3>
+ * <p>プールごとにサイズと、接続時に設定するセッションの{@code statement_timeout}・{@code work_mem}を
+ * {@code tasbal.datasource.pools.<プール名>}で設定します。プールの使用状況は
+ * {@code hikaricp.connections.active}・{@code hikaricp.connections.pending}などのメトリクスとして
+ * {@code pool}タグ付きで記録されます。</p>
+ *
  * @author Tasbal Team
  * @since 1.0.0
  */
@@ -29,6 +48,118 @@ import javax.sql.DataSource;
 @EnableTransactionManagement
 public class DatabaseConfig {
 
+    /**
+     * APIリクエストの参照用のコネクションプールを構成します。
+     *
+     * @param url 接続URL
+     * @param username ユーザー名
+     * @param password パスワード
+     * @param connectionTimeout コネクション取得の待ち時間の上限
+     * @param maximumPoolSize 最大コネクション数
+     * @param statementTimeout SQLの実行時間の上限
+     * @param workMem ソート・ハッシュ処理に使用するメモリの上限
+     * @param meterRegistry メトリクスレジストリ
+     * @return 構成されたコネクションプール
+     */
+    @Bean
+    public HikariDataSource interactiveReadPool(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${tasbal.datasource.connection-timeout:PT3S}") Duration connectionTimeout,
+            @Value("${tasbal.datasource.pools.interactive-read.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${tasbal.datasource.pools.interactive-read.statement-timeout:PT2S}") Duration statementTimeout,
+            @Value("${tasbal.datasource.pools.interactive-read.work-mem:4MB}") String workMem,
+            MeterRegistry meterRegistry) {
+        return createPool(WorkloadClass.INTERACTIVE_READ, url, username, password, connectionTimeout,
+                maximumPoolSize, statementTimeout, workMem, meterRegistry);
+    }
+
+    /**
+     * APIリクエストの更新用のコネクションプールを構成します。
+     *
+     * @param url 接続URL
+     * @param username ユーザー名
+     * @param password パスワード
+     * @param connectionTimeout コネクション取得の待ち時間の上限
+     * @param maximumPoolSize 最大コネクション数
+     * @param statementTimeout SQLの実行時間の上限
+     * @param workMem ソート・ハッシュ処理に使用するメモリの上限
+     * @param meterRegistry メトリクスレジストリ
+     * @return 構成されたコネクションプール
+     */
+    @Bean
+    public HikariDataSource interactiveWritePool(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${tasbal.datasource.connection-timeout:PT3S}") Duration connectionTimeout,
+            @Value("${tasbal.datasource.pools.interactive-write.maximum-pool-size:8}") int maximumPoolSize,
+            @Value("${tasbal.datasource.pools.interactive-write.statement-timeout:PT5S}") Duration statementTimeout,
+            @Value("${tasbal.datasource.pools.interactive-write.work-mem:4MB}") String workMem,
+            MeterRegistry meterRegistry) {
+        return createPool(WorkloadClass.INTERACTIVE_WRITE, url, username, password, connectionTimeout,
+                maximumPoolSize, statementTimeout, workMem, meterRegistry);
+    }
+
+    /**
+     * バックグラウンド処理用のコネクションプールを構成します。
+     *
+     * @param url 接続URL
+     * @param username ユーザー名
+     * @param password パスワード
+     * @param connectionTimeout コネクション取得の待ち時間の上限
+     * @param maximumPoolSize 最大コネクション数
+     * @param statementTimeout SQLの実行時間の上限
+     * @param workMem ソート・ハッシュ処理に使用するメモリの上限
+     * @param meterRegistry メトリクスレジストリ
+     * @return 構成されたコネクションプール
+     */
+    @Bean
+    public HikariDataSource backgroundPool(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${tasbal.datasource.background-connection-timeout:PT30S}") Duration connectionTimeout,
+            @Value("${tasbal.datasource.pools.background.maximum-pool-size:3}") int maximumPoolSize,
+            @Value("${tasbal.datasource.pools.background.statement-timeout:PT30M}") Duration statementTimeout,
+            @Value("${tasbal.datasource.pools.background.work-mem:64MB}") String workMem,
+            MeterRegistry meterRegistry) {
+        return createPool(WorkloadClass.BACKGROUND, url, username, password, connectionTimeout,
+                maximumPoolSize, statementTimeout, workMem, meterRegistry);
+    }
+
+    /**
+     * アプリケーションが使用するデータソースを構成します。
+     *
+     * <p>コネクションの取得を負荷種別ごとのプールに振り分けます。
+     * 最初のSQL実行時までプールからの取得を遅らせ、トランザクション内の最初の呼び出しの
+     * 負荷種別でプールを選びます。</p>
+     *
+     * <p>各プールの手前では、プールの最大サイズと同数の許可でコネクションの取得を制限します
+     * （{@link ConnectionPermitDataSource}）。仮想スレッドでリクエストを処理する場合も、
+     * プールへの要求は許可を得たスレッドに限られます。</p>
+     *
+     * @param interactiveReadPool 参照用のコネクションプール
+     * @param interactiveWritePool 更新用のコネクションプール
+     * @param backgroundPool バックグラウンド処理用のコネクションプール
+     * @param meterRegistry メトリクスレジストリ
+     * @return 構成されたデータソース
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("interactiveReadPool") HikariDataSource interactiveReadPool,
+            @Qualifier("interactiveWritePool") HikariDataSource interactiveWritePool,
+            @Qualifier("backgroundPool") HikariDataSource backgroundPool,
+            MeterRegistry meterRegistry) {
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(Map.of(
+                WorkloadClass.INTERACTIVE_READ, withPermits(interactiveReadPool, meterRegistry),
+                WorkloadClass.INTERACTIVE_WRITE, withPermits(interactiveWritePool, meterRegistry),
+                WorkloadClass.BACKGROUND, withPermits(backgroundPool, meterRegistry)));
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
     /**
      * JdbcTemplateを構成します。
      *
@@ -56,4 +187,42 @@ public class DatabaseConfig {
     public PlatformTransactionManager transactionManager(DataSource dataSource) {
         return new DataSourceTransactionManager(dataSource);
     }
+
+    /**
+     * コネクションプールの手前に、プールの最大サイズと同数の許可による制限を設けます。
+     */
+    private static DataSource withPermits(HikariDataSource pool, MeterRegistry meterRegistry) {
+        return new ConnectionPermitDataSource(pool, pool.getPoolName(), pool.getMaximumPoolSize(),
+                Duration.ofMillis(pool.getConnectionTimeout()), meterRegistry);
+    }
+
+    /**
+     * 負荷種別のコネクションプールを生成します。
+     *
+     * <p>{@code statement_timeout}と{@code work_mem}は接続時の{@code options}パラメータで設定するため、
+     * コネクションの取得ごとのSQL発行は発生しません。</p>
+     */
+    private static HikariDataSource createPool(
+            WorkloadClass workload,
+            String url,
+            String username,
+            String password,
+            Duration connectionTimeout,
+            int maximumPoolSize,
+            Duration statementTimeout,
+            String workMem,
+            MeterRegistry meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(workload.getPoolName());
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setMinimumIdle(Math.min(2, maximumPoolSize));
+        pool.setConnectionTimeout(connectionTimeout.toMillis());
+        pool.addDataSourceProperty("options",
+                "-c statement_timeout=" + statementTimeout.toMillis() + " -c work_mem=" + workMem);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
 }
@@ -1,8 +1,11 @@
 package com.tasbal.infrastructure.config;
 
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+import io.swagger.v3.oas.models.security.SecurityScheme;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,6 +20,7 @@ import org.springframework.context.annotation.Configuration;
  *   <li>APIメタデータの定義（タイトル、説明、バージョン）</li>
  *   <li>Swagger UI用のOpenAPI仕様の生成</li>
  *   <li>APIドキュメントのカスタマイズ</li>
+ *   <li>Bearerトークン（JWT）認証の定義</li>
  * </ul>
  *
  * <p>Swagger UIは {@code /swagger-ui.html} でアクセス可能です。</p>
@@ -27,11 +31,13 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class OpenApiConfig {
 
+    private static final String BEARER_AUTH = "bearerAuth";
+
     /**
      * OpenAPI設定を構成します。
      *
      * <p>Swagger UIで表示されるAPI仕様のメタデータを定義します。
-     * タイトル、説明、バージョン、ライセンス情報を含みます。</p>
+     * タイトル、説明、バージョン、ライセンス情報と、Bearerトークンによる認証方式を含みます。</p>
      *
      * @return 構成されたOpenAPIオブジェクト
      */
@@ -44,6 +50,12 @@ public class OpenApiConfig {
                         .version("v1.0.0")
                         .license(new License()
                                 .name("Private")
-                                .url("https://tasbal.com")));
+                                .url("https://tasbal.com")))
+                .components(new Components()
+                        .addSecuritySchemes(BEARER_AUTH, new SecurityScheme()
+                                .type(SecurityScheme.Type.HTTP)
+                                .scheme("bearer")
+                                .bearerFormat("JWT")))
+                .addSecurityItem(new SecurityRequirement().addList(BEARER_AUTH));
     }
 }
@@ -0,0 +1,53 @@
+package com.tasbal.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * バックグラウンドジョブのスケジューリング設定クラス。
+ *
+ * <p>{@code @Scheduled}による定期実行と、任意時刻での実行予約に使用する
+ * {@link TaskScheduler}を構成します。{@code spring.threads.virtual.enabled}が有効な場合は
+ * ジョブを仮想スレッドで実行し、無効な場合は{@link ThreadPoolTaskScheduler}のスレッドプールで実行します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * タスクスケジューラを構成します。
+     *
+     * <p>仮想スレッドの場合はジョブごとにスレッドを作成するため、スレッド数の設定は使用しません。
+     * データベースへの同時アクセスはコネクションプールの許可数で制限されます。</p>
+     *
+     * @param poolSize スケジューラのスレッド数（プラットフォームスレッドの場合）
+     * @param virtualThreads 仮想スレッドで実行する場合true
+     * @return 構成されたTaskScheduler
+     */
+    @Bean
+    public TaskScheduler taskScheduler(
+            @Value("${tasbal.scheduler.pool-size:4}") int poolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setVirtualThreads(true);
+            scheduler.setThreadNamePrefix("tasbal-scheduler-");
+            scheduler.setTaskTerminationTimeout(30_000);
+            return scheduler;
+        }
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("tasbal-scheduler-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
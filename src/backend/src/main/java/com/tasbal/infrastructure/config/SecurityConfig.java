@@ -1,11 +1,33 @@
 package com.tasbal.infrastructure.config;
 
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.tasbal.infrastructure.concurrency.ConcurrencyLimitFilter;
+import com.tasbal.infrastructure.concurrency.ConcurrencyLimits;
+import com.tasbal.infrastructure.ratelimit.RateLimitFilter;
+import com.tasbal.infrastructure.ratelimit.RateLimitPolicy;
+import com.tasbal.infrastructure.security.AccessTokenIssuer;
+import com.tasbal.infrastructure.security.JsonAuthenticationEntryPoint;
+import com.tasbal.infrastructure.security.JwkJwtDecoders;
+import com.tasbal.infrastructure.security.JwtAuthenticationFilter;
+import com.tasbal.infrastructure.security.JwtPrincipalCache;
+import com.tasbal.infrastructure.security.SessionValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
 
 /**
  * Spring Securityセキュリティ設定クラス。
@@ -13,15 +35,22 @@ import org.springframework.security.web.SecurityFilterChain;
  * <p>このクラスはアプリケーションのセキュリティポリシーを定義します。
  * 認証、認可、セッション管理、CSRF保護の設定を提供します。</p>
  *
- * <h3>現在の設定（MVP版）:</h3>
+ * <h3>現在の設定:</h3>
  * <ul>
  *   <li>CSRF保護: 無効（REST API用）</li>
  *   <li>セッション管理: ステートレス</li>
- *   <li>認証: すべてのAPIエンドポイントを許可（MVP版）</li>
+ *   <li>認証: Bearerトークン（JWT）、{@link JwtAuthenticationFilter}で検証</li>
+ *   <li>レート制限: 認証の前に{@link RateLimitFilter}でユーザー・端末・IPアドレスごとに制限（超過時は429、セッションの確認より前に拒否）</li>
+ *   <li>同時実行数: 認証の後に{@link ConcurrencyLimitFilter}で読み取り・書き込みごとに制限（超過時は503）</li>
+ *   <li>認証不要: 端末登録、ゲスト開始、引き継ぎコードの使用、ゲスト作成、公開風船の一覧・検索・人気ランキング、開催中のゲリライベント、JWKセット</li>
  *   <li>Swagger UI: アクセス許可</li>
  *   <li>Actuator: アクセス許可</li>
  * </ul>
  *
+ * <p>JWTの署名は{@code tasbal.auth.jwk-set-uri}のJWKセットで検証します。
+ * JWKセットはメモリ上にキャッシュされ、バックグラウンドで更新されます。
+ * 設定されていない場合は{@link AccessTokenIssuer}の公開鍵で検証します。</p>
+ *
  * @author Tasbal Team
  * @since 1.0.0
  */
@@ -29,29 +58,97 @@ import org.springframework.security.web.SecurityFilterChain;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
     /**
      * セキュリティフィルターチェーンを構成します。
      *
-     * <p>HTTP セキュリティの詳細設定を行います。
-     * MVP版では全APIエンドポイントへのアクセスを許可していますが、
-     * 本番環境では適切な認証・認可を実装する必要があります。</p>
-     *
      * @param http HttpSecurity設定ビルダー
+     * @param jwtDecoder JWTのデコーダー
+     * @param sessionValidator セッションの有効性の確認
+     * @param rateLimitPolicy レート制限の規則
+     * @param concurrencyLimits 読み取り・書き込みの同時実行数の上限
+     * @param meterRegistry メトリクスレジストリ
+     * @param principalCacheSize 検証済みトークンのキャッシュに保持する最大件数
+     * @param trustUserIdHeader {@code X-User-Id}ヘッダーを検証なしで信頼する場合true（ローカル開発用）
      * @return 構成されたSecurityFilterChain
      * @throws Exception セキュリティ設定のビルド時の例外
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(
+            HttpSecurity http,
+            JwtDecoder jwtDecoder,
+            SessionValidator sessionValidator,
+            RateLimitPolicy rateLimitPolicy,
+            ConcurrencyLimits concurrencyLimits,
+            MeterRegistry meterRegistry,
+            @Value("${tasbal.auth.principal-cache-size:100000}") int principalCacheSize,
+            @Value("${tasbal.auth.trust-user-id-header:false}") boolean trustUserIdHeader) throws Exception {
+        if (trustUserIdHeader) {
+            log.warn("tasbal.auth.trust-user-id-header is enabled; X-User-Id is trusted without verification");
+        }
+        JsonAuthenticationEntryPoint entryPoint = new JsonAuthenticationEntryPoint();
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                jwtDecoder, new JwtPrincipalCache(principalCacheSize), sessionValidator, entryPoint, trustUserIdHeader);
+        RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimitPolicy, meterRegistry);
+
         http
             .csrf(csrf -> csrf.disable())
+            .httpBasic(basic -> basic.disable())
+            .formLogin(form -> form.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .exceptionHandling(exceptions -> exceptions.authenticationEntryPoint(entryPoint))
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
+            .addFilterAfter(new ConcurrencyLimitFilter(concurrencyLimits, meterRegistry), JwtAuthenticationFilter.class)
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/actuator/**").permitAll()
-                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers("/api/v1/**").permitAll() // MVP: すべてのAPIを許可
+                .requestMatchers("/actuator/**", "/error").permitAll()
+                .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**", "/openapi.json").permitAll()
+                .requestMatchers(HttpMethod.POST,
+                        "/api/v1/devices/register",
+                        "/api/v1/auth/guest",
+                        "/api/v1/transfer-tokens/consume",
+                        "/api/v1/users/guest").permitAll()
+                .requestMatchers(HttpMethod.GET, "/.well-known/jwks.json").permitAll()
+                .requestMatchers(HttpMethod.GET,
+                        "/api/v1/balloons/public",
+                        "/api/v1/balloons/search",
+                        "/api/v1/balloons/trending",
+                        "/api/v1/guerrilla-events/active").permitAll()
                 .anyRequest().authenticated()
             );
 
         return http.build();
     }
+
+    /**
+     * JWKセットで署名を検証するJWTのデコーダーを構成します。
+     *
+     * <p>{@code tasbal.auth.jwk-set-uri}が設定されていない場合は、{@link AccessTokenIssuer}の公開鍵で検証します
+     * （このノードが発行したトークン、または同じ署名鍵を設定したノードが発行したトークンのみ受け付けます）。</p>
+     *
+     * @param accessTokenIssuer アクセストークンの発行クラス
+     * @param jwkSetUri JWKセットのURI
+     * @param issuer 期待する発行者（検証しない場合は空）
+     * @param jwkCacheTtl JWKセットのキャッシュの有効期間
+     * @param jwkRefreshAhead 有効期限のどれだけ前にバックグラウンドで再取得するか
+     * @param jwkRefreshTimeout JWKセットの取得のタイムアウト
+     * @return JWTのデコーダー
+     * @throws MalformedURLException JWKセットのURIが不正な場合
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(
+            AccessTokenIssuer accessTokenIssuer,
+            @Value("${tasbal.auth.jwk-set-uri:}") String jwkSetUri,
+            @Value("${tasbal.auth.issuer:}") String issuer,
+            @Value("${tasbal.auth.jwk-cache-ttl:PT15M}") Duration jwkCacheTtl,
+            @Value("${tasbal.auth.jwk-refresh-ahead:PT1M}") Duration jwkRefreshAhead,
+            @Value("${tasbal.auth.jwk-refresh-timeout:PT15S}") Duration jwkRefreshTimeout) throws MalformedURLException {
+        if (jwkSetUri.isBlank()) {
+            return JwkJwtDecoders.fromJwkSource(new ImmutableJWKSet<>(accessTokenIssuer.getPublicJwkSet()), issuer);
+        }
+        return JwkJwtDecoders.fromJwkSource(
+                JwkJwtDecoders.remoteJwkSource(URI.create(jwkSetUri).toURL(), jwkCacheTtl, jwkRefreshAhead, jwkRefreshTimeout),
+                issuer);
+    }
 }
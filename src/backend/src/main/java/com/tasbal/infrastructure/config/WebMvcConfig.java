@@ -0,0 +1,35 @@
+package com.tasbal.infrastructure.config;
+
+import com.tasbal.presentation.auth.AuthenticatedUserIdArgumentResolver;
+import com.tasbal.presentation.encoding.CborEncoding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC設定クラス。
+ *
+ * <p>コントローラーの引数に認証済みのユーザーIDを設定する
+ * {@link AuthenticatedUserIdArgumentResolver}を登録します。
+ * また、{@code Accept: application/cbor}でCBORのレスポンスを返却するため、
+ * {@link CborEncoding}のメッセージコンバーターをJSONの後に追加します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new AuthenticatedUserIdArgumentResolver());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(CborEncoding.messageConverter());
+    }
+}
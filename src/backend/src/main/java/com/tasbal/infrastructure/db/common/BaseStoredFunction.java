@@ -2,14 +2,20 @@ package com.tasbal.infrastructure.db.common;
 
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * ストアドファンクションの基底クラス。
@@ -156,6 +162,32 @@ public abstract class BaseStoredFunction<TResult> implements StoredFunctionCall<
         return annotation.value();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>ファンクション名とパラメータ値を宣言順に並べたリストを返します。
+     * 配列パラメータは要素のリストに変換されます。</p>
+     */
+    @Override
+    public Object getCallKey() {
+        Object[] parameters = buildParameterArray();
+        List<Object> key = new ArrayList<>(parameters.length + 1);
+        key.add(getFunctionName());
+        for (Object value : parameters) {
+            if (value != null && value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                List<Object> elements = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    elements.add(Array.get(value, i));
+                }
+                key.add(elements);
+            } else {
+                key.add(value);
+            }
+        }
+        return key;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -179,6 +211,27 @@ public abstract class BaseStoredFunction<TResult> implements StoredFunctionCall<
         return jdbcTemplate.query(sql, rowMapper, parameters);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>前方専用・読み取り専用のPreparedStatementにフェッチサイズを設定して実行し、
+     * 各行をRowMapperでマッピングしてから{@code consumer}に渡します。</p>
+     */
+    @Override
+    public void streamWith(JdbcTemplate jdbcTemplate, int fetchSize, Consumer<TResult> consumer) {
+        String sql = buildCallStatement();
+        Object[] parameters = buildParameterArray();
+        int[] rowNum = {0};
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(fetchSize);
+                    new ArgumentPreparedStatementSetter(parameters).setValues(ps);
+                    return ps;
+                },
+                (RowCallbackHandler) rs -> consumer.accept(rowMapper.mapRow(rs, rowNum[0]++)));
+    }
+
     /**
      * クラスのフィールドから{@link Parameter}アノテーションが付与されたフィールドを収集します。
      *
@@ -0,0 +1,133 @@
+package com.tasbal.infrastructure.db.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * コネクションの取得をプールサイズと同数の許可で制限するデータソース。
+ *
+ * <p>仮想スレッドではリクエストごとにスレッドが作られるため、同時にコネクションを要求するスレッド数に
+ * 上限がありません。プールの手前で公平なセマフォの許可を取得させ、待機中のスレッドを
+ * 到着順に並べることで、プールへの要求の殺到とコネクション追加の過剰な試行を防ぎます。
+ * 許可はコネクションのクローズ時に返却されます。</p>
+ *
+ * <p>待機の上限時間内に許可を取得できない場合は、プールのタイムアウトと同じく
+ * {@link SQLTransientConnectionException}をスローします。待機中のスレッド数は
+ * {@code tasbal.db.permits.waiting}、タイムアウトの件数は{@code tasbal.db.permits.timeouts}として
+ * {@code pool}タグ付きで記録されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+    private final Counter timeouts;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param targetDataSource コネクションプール
+     * @param poolName メトリクスのタグに使用するプール名
+     * @param maxConnections 同時に貸し出すコネクションの上限（プールの最大サイズ）
+     * @param timeout 許可の待機の上限時間
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public ConnectionPermitDataSource(
+            DataSource targetDataSource,
+            String poolName,
+            int maxConnections,
+            Duration timeout,
+            MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.timeoutNanos = timeout.toNanos();
+        this.timeouts = meterRegistry.counter("tasbal.db.permits.timeouts", "pool", poolName);
+        meterRegistry.gauge("tasbal.db.permits.waiting", Tags.of("pool", poolName),
+                permits, Semaphore::getQueueLength);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guard(() -> getTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guard(() -> getTargetDataSource().getConnection(username, password));
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException(
+                        "Connection permit not available, request timed out after "
+                                + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+
+    private Connection guard(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
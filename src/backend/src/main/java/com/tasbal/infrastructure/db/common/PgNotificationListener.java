@@ -0,0 +1,204 @@
+package com.tasbal.infrastructure.db.common;
+
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * PostgreSQLの{@code LISTEN/NOTIFY}による変更通知の受信クラス。
+ *
+ * <p>コネクションプールとは別の専用コネクションで購読中のチャンネルを{@code LISTEN}し、
+ * 受信した通知のペイロードを購読者に配信します。通知はトリガーから{@code pg_notify}で送信され、
+ * コミットされた変更のみが配信されます。</p>
+ *
+ * <h3>取りこぼしへの対応:</h3>
+ * <p>接続が切れている間の通知は失われるため、接続の確立時と切断時に購読者の
+ * {@link Subscriber#onReset()}を呼び出します。通知で無効化するキャッシュは、
+ * {@link #isListening()}がfalseの間は値を保持しないようにしてください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Component
+public class PgNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(PgNotificationListener.class);
+
+    private static final int POLL_TIMEOUT_MS = 500;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final long reconnectDelayMs;
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private volatile boolean listening;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param url データベースのJDBC URL
+     * @param username データベースのユーザー名
+     * @param password データベースのパスワード
+     * @param reconnectDelayMs 接続が切れた場合に再接続するまでの待ち時間（ミリ秒）
+     */
+    public PgNotificationListener(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username}") String username,
+            @Value("${spring.datasource.password}") String password,
+            @Value("${tasbal.near-cache.reconnect-delay-ms:5000}") long reconnectDelayMs) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.reconnectDelayMs = reconnectDelayMs;
+    }
+
+    /**
+     * チャンネルを購読します。
+     *
+     * <p>起動完了前に購読してください（起動完了後に追加されたチャンネルは次回の再接続から{@code LISTEN}されます）。</p>
+     *
+     * @param channel チャンネル名（英小文字・数字・アンダースコアのみ）
+     * @param subscriber 購読者
+     */
+    public void subscribe(String channel, Subscriber subscriber) {
+        if (!channel.matches("[a-z0-9_]+")) {
+            throw new IllegalArgumentException("Invalid channel name: " + channel);
+        }
+        subscribers.computeIfAbsent(channel, k -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    /**
+     * 通知を受信できる状態かどうかを判定します。
+     *
+     * @return 購読中のすべてのチャンネルを{@code LISTEN}している場合true
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    /**
+     * 起動完了時に受信スレッドを開始します。
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running || subscribers.isEmpty()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "pg-notification-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 停止時に受信スレッドを終了します。
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    for (String channel : subscribers.keySet()) {
+                        statement.execute("LISTEN " + channel);
+                    }
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening = true;
+                resetAll();
+                log.info("Listening for database notifications: channels={}", subscribers.keySet());
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getName(), notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Database notification connection lost, retrying in {} ms", reconnectDelayMs, e);
+                }
+            } finally {
+                if (listening) {
+                    listening = false;
+                    resetAll();
+                }
+            }
+            sleepBeforeReconnect();
+        }
+    }
+
+    private void dispatch(String channel, String payload) {
+        for (Subscriber subscriber : subscribers.getOrDefault(channel, List.of())) {
+            try {
+                subscriber.onNotification(payload);
+            } catch (RuntimeException e) {
+                log.warn("Failed to handle database notification: channel={}", channel, e);
+            }
+        }
+    }
+
+    private void resetAll() {
+        for (List<Subscriber> list : subscribers.values()) {
+            for (Subscriber subscriber : list) {
+                subscriber.onReset();
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(reconnectDelayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * 変更通知の購読者。
+     */
+    public interface Subscriber {
+
+        /**
+         * 通知を受信した時に呼び出されます。
+         *
+         * @param payload 通知のペイロード
+         */
+        void onNotification(String payload);
+
+        /**
+         * 通知を取りこぼした可能性がある時（接続の確立時・切断時）に呼び出されます。
+         */
+        void onReset();
+    }
+}
@@ -0,0 +1,79 @@
+package com.tasbal.infrastructure.db.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 同一キーの同時実行を1回にまとめるユーティリティ。
+ *
+ * <p>キーごとに実行中の処理を1つだけ保持し、同じキーで後から呼び出したスレッドは
+ * 実行中の処理の完了を待ってその結果（または例外）を共有します。
+ * 結果は保持しないため、処理が完了した後の呼び出しは再度実行されます（キャッシュではありません）。</p>
+ *
+ * <p>このクラスはスレッドセーフです。</p>
+ *
+ * @param <T> 結果の型
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class SingleFlight<T> {
+
+    private final ConcurrentHashMap<Object, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * キーに対する処理を実行します。
+     *
+     * <p>同じキーの処理が実行中の場合は{@code loader}を実行せずに、その完了を待って結果を返します。</p>
+     *
+     * @param key 呼び出しを識別するキー（{@code equals}/{@code hashCode}を実装していること）
+     * @param loader 結果を取得する処理
+     * @param onShared 実行中の処理の結果を共有した場合に呼び出されるコールバック
+     * @return 処理の結果
+     * @throws RuntimeException 処理が例外をスローした場合（共有した呼び出し元にも同じ例外がスローされます）
+     */
+    public T execute(Object key, Supplier<T> loader, Runnable onShared) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            onShared.run();
+            return await(existing);
+        }
+
+        try {
+            T result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 実行中の処理の数を取得します。
+     *
+     * @return 実行中のキーの数
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.tasbal.infrastructure.db.common;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * ストアドファンクション呼び出しを表すインターフェース。
@@ -119,6 +120,18 @@ public interface StoredFunctionCall<TResult> {
      */
     String getFunctionName();
 
+    /**
+     * 呼び出しを識別するキーを取得します。
+     *
+     * <p>ファンクション名とパラメータ値が等しい呼び出しは等しいキーを返します
+     * （配列パラメータは要素で比較します）。
+     * {@link com.tasbal.infrastructure.db.common.annotation.Coalesced}による
+     * 同時実行の集約で、同一の呼び出しを判定するために使用されます。</p>
+     *
+     * @return {@code equals}/{@code hashCode}を実装した呼び出しキー
+     */
+    Object getCallKey();
+
     /**
      * JdbcTemplateを使用してストアドファンクションを実行します。
      *
@@ -167,4 +180,23 @@ public interface StoredFunctionCall<TResult> {
      * @throws IllegalStateException ファンクション名が未設定の場合
      */
     List<TResult> executeWith(JdbcTemplate jdbcTemplate);
+
+    /**
+     * JdbcTemplateを使用してストアドファンクションを実行し、結果をカーソルで1行ずつ処理します。
+     *
+     * <p>{@link #executeWith(JdbcTemplate)}と異なり、結果をリストに読み込まず、
+     * {@code fetchSize}行ずつサーバーから取得しながら{@code consumer}に渡します。
+     * 数百万行規模の走査でもメモリ使用量が一定に保たれます。</p>
+     *
+     * <p><strong>注意:</strong> PostgreSQLのJDBCドライバは自動コミットが無効な場合にのみ
+     * カーソルを使用するため、トランザクション内で呼び出す必要があります。
+     * また、PL/pgSQLの{@code RETURN QUERY}は結果をすべて生成してから返すため、
+     * ストリーミング対象のファンクションはインライン展開可能なSQL関数として定義してください。</p>
+     *
+     * @param jdbcTemplate Spring JDBCテンプレート
+     * @param fetchSize 1回のサーバー往復で取得する行数
+     * @param consumer 各行を処理するコールバック
+     * @throws org.springframework.dao.DataAccessException データアクセスエラーが発生した場合
+     */
+    void streamWith(JdbcTemplate jdbcTemplate, int fetchSize, Consumer<TResult> consumer);
 }
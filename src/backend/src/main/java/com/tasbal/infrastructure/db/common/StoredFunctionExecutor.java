@@ -1,9 +1,13 @@
 package com.tasbal.infrastructure.db.common;
 
+import com.tasbal.infrastructure.db.common.annotation.Coalesced;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * ストアドファンクションを実行するためのエグゼキュータクラス。
@@ -17,8 +21,17 @@ import java.util.List;
  *   <li><strong>リスト取得:</strong> {@link #execute} - すべての結果行をリストで取得</li>
  *   <li><strong>単一行取得:</strong> {@link #executeForSingle} - 最初の行のみ取得(なければnull)</li>
  *   <li><strong>必須単一行:</strong> {@link #executeForSingleRequired} - 最初の行を取得(なければ例外)</li>
+ *   <li><strong>カーソル走査:</strong> {@link #stream} - 結果を1行ずつ処理</li>
  * </ul>
  *
+ * <h2>同時実行の集約</h2>
+ * <p>{@link Coalesced}が付与されたファンクションは、同じパラメータの呼び出しが実行中であれば
+ * 新たにクエリを発行せずに実行中のクエリの結果を共有します（シングルフライト）。
+ * トランザクション内の呼び出しは、そのトランザクションのスナップショット（読み書きトランザクションでは自身の書き込み）で
+ * 結果が決まるべきため集約しません。
+ * 集約された呼び出し数は{@code tasbal.db.function.coalesced}、
+ * 実際に実行された呼び出し数は{@code tasbal.db.function.executions}カウンタ（{@code function}タグ付き）で計測します。</p>
+ *
  * <h2>使用例</h2>
  *
  * <h3>リストで取得:</h3>
@@ -112,6 +125,26 @@ public class StoredFunctionExecutor {
      */
     private final JdbcTemplate jdbcTemplate;
 
+    /**
+     * メトリクスレジストリ。
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * {@link Coalesced}が付与されたファンクションの実行中の呼び出し。
+     */
+    private final SingleFlight<List<?>> singleFlight = new SingleFlight<>();
+
+    /**
+     * ファンクションクラスごとの{@link Coalesced}の付与有無。
+     */
+    private static final ClassValue<Boolean> COALESCED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(Coalesced.class);
+        }
+    };
+
     /**
      * コンストラクタ。
      *
@@ -119,13 +152,16 @@ public class StoredFunctionExecutor {
      * JdbcTemplateは、DataSourceから自動的に構成されます。</p>
      *
      * @param jdbcTemplate Spring JDBCテンプレート
+     * @param meterRegistry メトリクスレジストリ
      * @throws IllegalArgumentException jdbcTemplateがnullの場合
      */
-    public StoredFunctionExecutor(JdbcTemplate jdbcTemplate) {
+    public StoredFunctionExecutor(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
         if (jdbcTemplate == null) {
             throw new IllegalArgumentException("JdbcTemplate must not be null");
         }
         this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("tasbal.db.function.in.flight", singleFlight, SingleFlight::inFlightCount);
     }
 
     /**
@@ -149,6 +185,8 @@ public class StoredFunctionExecutor {
      * <ul>
      *   <li>大量のデータを取得する場合は、ファンクション側でLIMIT/OFFSETを使用してページネーションを実装</li>
      *   <li>結果セットはすべてメモリに読み込まれるため、データ量に注意</li>
+     *   <li>{@link Coalesced}が付与されたファンクションは、同一の呼び出しが実行中であればその結果を共有</li>
+     *   <li>{@link com.tasbal.infrastructure.db.common.annotation.Workload}で指定した負荷種別のコネクションプールで実行</li>
      * </ul>
      *
      * @param <TResult> 戻り値の型
@@ -157,11 +195,40 @@ public class StoredFunctionExecutor {
      * @throws IllegalArgumentException functionがnullの場合
      * @throws org.springframework.dao.DataAccessException ストアドファンクションの実行に失敗した場合
      */
+    @SuppressWarnings("unchecked")
     public <TResult> List<TResult> execute(StoredFunctionCall<TResult> function) {
         if (function == null) {
             throw new IllegalArgumentException("StoredFunctionCall must not be null");
         }
-        return function.executeWith(jdbcTemplate);
+        Class<?> callType = function.getClass();
+        if (!isCoalescable(function)) {
+            return WorkloadRoutingDataSource.callIn(callType, () -> function.executeWith(jdbcTemplate));
+        }
+        String functionName = function.getFunctionName();
+        return (List<TResult>) singleFlight.execute(
+                function.getCallKey(),
+                () -> {
+                    meterRegistry.counter("tasbal.db.function.executions", "function", functionName).increment();
+                    return WorkloadRoutingDataSource.callIn(callType,
+                            () -> List.copyOf(function.executeWith(jdbcTemplate)));
+                },
+                () -> meterRegistry.counter("tasbal.db.function.coalesced", "function", functionName).increment());
+    }
+
+    /**
+     * 呼び出しを実行中の同一の呼び出しとまとめてよいかを判定します。
+     *
+     * <p>{@link Coalesced}が付与されており、トランザクションの外で呼び出された場合にまとめます。
+     * 読み取り専用のトランザクションでも、他の呼び出し元の結果は別のスナップショットのものになるためまとめません。</p>
+     *
+     * @param function 実行するストアドファンクション
+     * @return まとめてよい場合true
+     */
+    private boolean isCoalescable(StoredFunctionCall<?> function) {
+        if (!COALESCED.get(function.getClass())) {
+            return false;
+        }
+        return !TransactionSynchronizationManager.isActualTransactionActive();
     }
 
     /**
@@ -234,4 +301,33 @@ public class StoredFunctionExecutor {
         }
         return result;
     }
+
+    /**
+     * ストアドファンクションを実行し、結果をカーソルで1行ずつ処理します。
+     *
+     * <p>結果セット全体をメモリに読み込まずに走査するため、
+     * 再集計などの大量行の処理に使用します。トランザクション内で呼び出す必要があります。</p>
+     *
+     * <h3>使用例:</h3>
+     * <pre>{@code
+     * transactionTemplate.executeWithoutResult(status ->
+     *     executor.stream(new StreamBalloonLedgerFunction(balloonId), 10_000, row -> replay(row)));
+     * }</pre>
+     *
+     * @param <TResult> 戻り値の型
+     * @param function 実行するストアドファンクション
+     * @param fetchSize 1回のサーバー往復で取得する行数
+     * @param consumer 各行を処理するコールバック
+     * @throws IllegalArgumentException functionがnullの場合
+     * @throws org.springframework.dao.DataAccessException ストアドファンクションの実行に失敗した場合
+     */
+    public <TResult> void stream(StoredFunctionCall<TResult> function, int fetchSize, Consumer<TResult> consumer) {
+        if (function == null) {
+            throw new IllegalArgumentException("StoredFunctionCall must not be null");
+        }
+        WorkloadRoutingDataSource.callIn(function.getClass(), () -> {
+            function.streamWith(jdbcTemplate, fetchSize, consumer);
+            return null;
+        });
+    }
 }
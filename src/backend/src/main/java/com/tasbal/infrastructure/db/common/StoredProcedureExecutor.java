@@ -38,7 +38,9 @@ public class StoredProcedureExecutor {
      * ストアドプロシージャを実行します。
      *
      * <p>このメソッドは、{@link StoredProcedureCall}インターフェースを実装した
-     * 任意のストアドプロシージャクラスを実行できます。</p>
+     * 任意のストアドプロシージャクラスを実行できます。
+     * {@link com.tasbal.infrastructure.db.common.annotation.Workload}で指定した負荷種別の
+     * コネクションプールで実行されます。</p>
      *
      * @param <TResult> 戻り値の型
      * @param procedure 実行するストアドプロシージャ
@@ -46,7 +48,7 @@ public class StoredProcedureExecutor {
      * @throws RuntimeException ストアドプロシージャの実行に失敗した場合
      */
     public <TResult> List<TResult> execute(StoredProcedureCall<TResult> procedure) {
-        return procedure.executeWith(jdbcTemplate);
+        return WorkloadRoutingDataSource.callIn(procedure.getClass(), () -> procedure.executeWith(jdbcTemplate));
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.tasbal.infrastructure.db.common;
+
+/**
+ * データベースアクセスの負荷種別。
+ *
+ * <p>負荷種別ごとに独立したコネクションプール（バルクヘッド）を使用し、
+ * バッチ処理やスパイクした参照がほかの種別のコネクションを使い切らないようにします。
+ * 各プールのサイズとセッション設定（{@code statement_timeout}・{@code work_mem}）は
+ * {@code tasbal.datasource.pools.<プール名>}で設定します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.infrastructure.db.common.annotation.Workload
+ */
+public enum WorkloadClass {
+
+    /** APIリクエストからの参照 */
+    INTERACTIVE_READ("interactive-read"),
+
+    /** APIリクエストからの更新（種別の指定がない呼び出しの既定） */
+    INTERACTIVE_WRITE("interactive-write"),
+
+    /** スケジュールジョブ・フラッシュ・再集計などのバックグラウンド処理 */
+    BACKGROUND("background");
+
+    private final String poolName;
+
+    WorkloadClass(String poolName) {
+        this.poolName = poolName;
+    }
+
+    /**
+     * コネクションプール名を取得します。
+     *
+     * <p>設定キーとメトリクスの{@code pool}タグに使用されます。</p>
+     *
+     * @return コネクションプール名
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+}
@@ -0,0 +1,114 @@
+package com.tasbal.infrastructure.db.common;
+
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 負荷種別ごとのコネクションプールにコネクションの取得を振り分けるデータソース。
+ *
+ * <p>{@link #callIn(Class, Supplier)}の実行中にコネクションを取得すると、
+ * 呼び出しクラスの{@link Workload}に対応するプールから取得します。
+ * それ以外（Flyway・JPAなど）の取得は{@link WorkloadClass#INTERACTIVE_WRITE}のプールから取得します。</p>
+ *
+ * <p>トランザクション開始時ではなく最初のSQL実行時にプールを選ぶため、
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}で
+ * ラップして使用してください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 実行中の呼び出しの負荷種別。
+     */
+    private static final ThreadLocal<WorkloadClass> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 呼び出しクラスごとの{@link Workload}の指定（指定がない場合はnull）。
+     */
+    private static final ClassValue<WorkloadClass> DECLARED = new ClassValue<>() {
+        @Override
+        protected WorkloadClass computeValue(Class<?> type) {
+            Workload workload = type.getAnnotation(Workload.class);
+            return workload != null ? workload.value() : null;
+        }
+    };
+
+    /**
+     * コンストラクタ。
+     *
+     * @param pools 負荷種別ごとのコネクションプール（すべての種別を含むこと）
+     * @throws IllegalArgumentException プールが不足している場合
+     */
+    public WorkloadRoutingDataSource(Map<WorkloadClass, DataSource> pools) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (WorkloadClass workload : WorkloadClass.values()) {
+            DataSource pool = pools.get(workload);
+            if (pool == null) {
+                throw new IllegalArgumentException("No connection pool for workload " + workload);
+            }
+            targets.put(workload, pool);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.get(WorkloadClass.INTERACTIVE_WRITE));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 呼び出しクラスの負荷種別のプールを使用して処理を実行します。
+     *
+     * @param <T> 処理結果の型
+     * @param callType ストアドファンクション/プロシージャの呼び出しクラス
+     * @param action 実行する処理
+     * @return 処理結果
+     */
+    public static <T> T callIn(Class<?> callType, Supplier<T> action) {
+        WorkloadClass previous = CURRENT.get();
+        CURRENT.set(resolve(callType));
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * 呼び出しクラスの負荷種別を決定します。
+     *
+     * @param callType ストアドファンクション/プロシージャの呼び出しクラス
+     * @return 負荷種別
+     */
+    static WorkloadClass resolve(Class<?> callType) {
+        WorkloadClass declared = DECLARED.get(callType);
+        boolean readOnlyTransaction = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        boolean readWriteTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                && !readOnlyTransaction;
+        if (declared == WorkloadClass.BACKGROUND) {
+            return declared;
+        }
+        if (declared == WorkloadClass.INTERACTIVE_READ && !readWriteTransaction) {
+            return declared;
+        }
+        if (declared == null && readOnlyTransaction) {
+            return WorkloadClass.INTERACTIVE_READ;
+        }
+        return WorkloadClass.INTERACTIVE_WRITE;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CURRENT.get();
+    }
+}
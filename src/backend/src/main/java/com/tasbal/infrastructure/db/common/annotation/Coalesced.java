@@ -0,0 +1,43 @@
+package com.tasbal.infrastructure.db.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 同時に実行された同一の呼び出しを1回のクエリにまとめるストアドファンクションを示すアノテーション。
+ *
+ * <p>このアノテーションが付与されたファンクションを{@link com.tasbal.infrastructure.db.common.StoredFunctionExecutor}
+ * で実行すると、同じファンクション名・同じパラメータの呼び出しが実行中の場合は
+ * 新たにクエリを発行せず、実行中のクエリの結果を共有します（シングルフライト）。
+ * キャッシュの有効期限切れなどで同じ一覧の取得が集中した際のデータベース負荷を抑えます。</p>
+ *
+ * <h3>付与してよいファンクション:</h3>
+ * <ul>
+ *   <li>副作用のない参照系のファンクション</li>
+ *   <li>呼び出し元のトランザクションのスナップショットに依存しないファンクション
+ *       （トランザクション内の呼び出しはまとめられません）</li>
+ *   <li>同時に同じパラメータで呼び出される可能性が高いファンクション
+ *       （呼び出し元が1つのキャッシュ更新処理などは、まとめる対象がなく集約のコストのみとなります）</li>
+ * </ul>
+ *
+ * <p>結果のリストと各要素は呼び出し元の間で共有されるため、変更しないでください。</p>
+ *
+ * <h3>使用例:</h3>
+ * <pre>{@code
+ * @Coalesced
+ * @StoredFunction("sp_get_public_balloons")
+ * public class GetPublicBalloonsFunction extends BaseStoredFunction<GetPublicBalloonsFunction.Result> {
+ *     // 実装...
+ * }
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see StoredFunction
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
@@ -0,0 +1,46 @@
+package com.tasbal.infrastructure.db.common.annotation;
+
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ストアドファンクション/プロシージャの実行に使用するコネクションプールを示すアノテーション。
+ *
+ * <p>{@link com.tasbal.infrastructure.db.common.StoredFunctionExecutor}と
+ * {@link com.tasbal.infrastructure.db.common.StoredProcedureExecutor}は、
+ * 呼び出しクラスに付与された負荷種別のプールからコネクションを取得します。
+ * 付与されていない呼び出しは、読み取り専用トランザクション内では{@link WorkloadClass#INTERACTIVE_READ}、
+ * それ以外では{@link WorkloadClass#INTERACTIVE_WRITE}のプールを使用します。</p>
+ *
+ * <p>トランザクション内では最初の呼び出しで取得したコネクションを使い続けるため、
+ * 読み書きトランザクション内の{@link WorkloadClass#INTERACTIVE_READ}は
+ * {@link WorkloadClass#INTERACTIVE_WRITE}として扱われます。</p>
+ *
+ * <h3>使用例:</h3>
+ * <pre>{@code
+ * @Workload(WorkloadClass.BACKGROUND)
+ * @StoredProcedure("sp_purge_inactive_guests")
+ * public class PurgeInactiveGuestsProcedure extends BaseStoredProcedure<PurgeInactiveGuestsProcedure.Result> {
+ *     // 実装...
+ * }
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see WorkloadClass
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Workload {
+
+    /**
+     * 負荷種別。
+     *
+     * @return 呼び出しに使用するコネクションプールの負荷種別
+     */
+    WorkloadClass value();
+}
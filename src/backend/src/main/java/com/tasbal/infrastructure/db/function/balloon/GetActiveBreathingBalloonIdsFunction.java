@@ -0,0 +1,77 @@
+package com.tasbal.infrastructure.db.function.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 有効な呼吸風船のID一覧を取得するストアドファンクション。
+ *
+ * <p>呼吸貢献の受付時に風船IDを検証するためのキャッシュ構築に使用されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_active_breathing_balloon_ids()
+ * RETURNS TABLE(
+ *     id UUID
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.BalloonRepository#findActiveBreathingBalloonIds()
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_get_active_breathing_balloon_ids")
+public class GetActiveBreathingBalloonIdsFunction extends BaseStoredFunction<GetActiveBreathingBalloonIdsFunction.Result> {
+
+    /**
+     * コンストラクタ。
+     */
+    public GetActiveBreathingBalloonIdsFunction() {
+        super(new ResultRowMapper());
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+
+        /**
+         * 風船IDを取得します。
+         *
+         * @return 風船ID (UUID)
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * 風船IDを設定します。
+         *
+         * @param id 風船ID
+         */
+        public void setId(UUID id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.tasbal.infrastructure.db.function.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 風船のメタデータを取得するストアドファンクション。
+ *
+ * <p>貢献の加算先の解決に使用する風船の属性（種類・公開区分・有効フラグ・国コード）を取得します。
+ * 取得結果はアプリケーション側のニアキャッシュに保持され、
+ * {@code tasbal_balloon_changed}チャンネルの通知で無効化されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_balloon_metadata(
+ *     p_balloon_id UUID
+ * )
+ * RETURNS TABLE(
+ *     id UUID,
+ *     balloon_type SMALLINT,
+ *     visibility SMALLINT,
+ *     is_active BOOLEAN,
+ *     country_code CHAR
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.BalloonRepository#findMetadata(UUID)
+ */
+@Workload(WorkloadClass.INTERACTIVE_READ)
+@StoredFunction("sp_get_balloon_metadata")
+public class GetBalloonMetadataFunction extends BaseStoredFunction<GetBalloonMetadataFunction.Result> {
+
+    /**
+     * 風船ID。
+     */
+    @Parameter("p_balloon_id")
+    private UUID balloonId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     */
+    public GetBalloonMetadataFunction(UUID balloonId) {
+        super(new ResultRowMapper());
+        this.balloonId = balloonId;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private short balloonType;
+        private short visibility;
+        private boolean isActive;
+        private String countryCode;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public short getBalloonType() { return balloonType; }
+        public void setBalloonType(short balloonType) { this.balloonType = balloonType; }
+        public short getVisibility() { return visibility; }
+        public void setVisibility(short visibility) { this.visibility = visibility; }
+        public boolean getIsActive() { return isActive; }
+        public void setIsActive(boolean isActive) { this.isActive = isActive; }
+        public String getCountryCode() { return countryCode; }
+        public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setBalloonType(rs.getShort("balloon_type"));
+            result.setVisibility(rs.getShort("visibility"));
+            result.setIsActive(rs.getBoolean("is_active"));
+            result.setCountryCode(rs.getString("country_code"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.tasbal.infrastructure.db.function.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * ユーザーの選択中の風船一覧を取得するストアドファンクション。
+ *
+ * <p>解除されていない選択を優先度の昇順で返します。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_balloon_selections(
+ *     p_user_id UUID
+ * )
+ * RETURNS TABLE(
+ *     user_id UUID,
+ *     balloon_id UUID,
+ *     priority INT,
+ *     selected_at TIMESTAMPTZ,
+ *     left_at TIMESTAMPTZ
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.BalloonRepository#findSelectedBalloons(UUID)
+ */
+@Workload(WorkloadClass.INTERACTIVE_READ)
+@StoredFunction("sp_get_balloon_selections")
+public class GetBalloonSelectionsFunction extends BaseStoredFunction<GetBalloonSelectionsFunction.Result> {
+
+    /**
+     * ユーザーID。
+     */
+    @Parameter("p_user_id")
+    private UUID userId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param userId ユーザーID
+     */
+    public GetBalloonSelectionsFunction(UUID userId) {
+        super(new ResultRowMapper());
+        this.userId = userId;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID balloonId;
+        private int priority;
+
+        public UUID getBalloonId() { return balloonId; }
+        public void setBalloonId(UUID balloonId) { this.balloonId = balloonId; }
+        public int getPriority() { return priority; }
+        public void setPriority(int priority) { this.priority = priority; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setBalloonId((UUID) rs.getObject("balloon_id"));
+            result.setPriority(rs.getInt("priority"));
+            return result;
+        }
+    }
+}
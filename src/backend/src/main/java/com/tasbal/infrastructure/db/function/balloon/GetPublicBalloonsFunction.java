@@ -1,8 +1,11 @@
 package com.tasbal.infrastructure.db.function.balloon;
 
 import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Coalesced;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
@@ -22,15 +25,16 @@ import java.util.UUID;
  *   <li>balloon_type = 4 (USER)</li>
  * </ul>
  *
- * <p>結果は作成日時の降順で返され、ページネーション機能をサポートします。</p>
+ * <p>結果は作成日時・IDの降順で返され、カーソル（キーセット）によるページネーションをサポートします。</p>
  *
  * <h2>対応するSQL</h2>
  * <p>このクラスは、PostgreSQLの{@code sp_get_public_balloons}ファンクションに対応します:</p>
  *
  * <pre>{@code
  * CREATE OR REPLACE FUNCTION sp_get_public_balloons(
- *     p_limit INT DEFAULT 20,
- *     p_offset INT DEFAULT 0
+ *     p_cursor_created_at TIMESTAMPTZ DEFAULT NULL,
+ *     p_cursor_id UUID DEFAULT NULL,
+ *     p_limit INT DEFAULT 20
  * )
  * RETURNS TABLE(
  *     id UUID,
@@ -45,20 +49,21 @@ import java.util.UUID;
  *     country_code CHAR,
  *     is_active BOOLEAN,
  *     created_at TIMESTAMPTZ,
- *     updated_at TIMESTAMPTZ
+ *     updated_at TIMESTAMPTZ,
+ *     member_count INT
  * ) AS $$
  * BEGIN
  *     RETURN QUERY
  *     SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
  *            b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
- *            b.is_active, b.created_at, b.updated_at
+ *            b.is_active, b.created_at, b.updated_at, b.member_count
  *     FROM balloons b
  *     WHERE b.visibility = 3  -- PUBLIC
  *       AND b.is_active = true
  *       AND b.balloon_type = 4  -- USER
- *     ORDER BY b.created_at DESC
- *     LIMIT p_limit
- *     OFFSET p_offset;
+ *       AND (p_cursor_created_at IS NULL OR (b.created_at, b.id) < (p_cursor_created_at, p_cursor_id))
+ *     ORDER BY b.created_at DESC, b.id DESC
+ *     LIMIT p_limit;
  * END;
  * $$ LANGUAGE plpgsql;
  * }</pre>
@@ -67,27 +72,21 @@ import java.util.UUID;
  *
  * <h3>最初の20件を取得:</h3>
  * <pre>{@code
- * GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(20, 0);
- * List<GetPublicBalloonsFunction.Result> results = executor.executeForList(function);
- * results.forEach(balloon -> System.out.println("Balloon: " + balloon.getTitle()));
+ * GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(null, null, 20);
+ * List<GetPublicBalloonsFunction.Result> results = executor.execute(function);
  * }</pre>
  *
  * <h3>次の20件を取得（ページネーション）:</h3>
  * <pre>{@code
- * GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(20, 20);
- * List<GetPublicBalloonsFunction.Result> results = executor.executeForList(function);
- * }</pre>
- *
- * <h3>最初の10件のみ取得:</h3>
- * <pre>{@code
- * GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(10, 0);
- * List<GetPublicBalloonsFunction.Result> results = executor.executeForList(function);
+ * GetPublicBalloonsFunction.Result last = results.get(results.size() - 1);
+ * GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(last.getCreatedAt(), last.getId(), 20);
+ * List<GetPublicBalloonsFunction.Result> next = executor.execute(function);
  * }</pre>
  *
  * <h2>制約とバリデーション</h2>
  * <ul>
  *   <li>limitは正の整数でなければならない</li>
- *   <li>offsetは0以上の整数でなければならない</li>
+ *   <li>カーソルの作成日時とIDは両方指定するか、両方nullにする</li>
  *   <li>公開風船のみが返される（非公開風船は除外）</li>
  *   <li>非アクティブな風船は除外される</li>
  * </ul>
@@ -97,20 +96,36 @@ import java.util.UUID;
  * 該当する公開風船が存在しない場合は空のリストが返されます。</p>
  *
  * <h2>ページネーション</h2>
- * <p>limitとoffsetパラメータを使用して、効率的なページネーションが可能です:</p>
+ * <p>前ページの最後の行の{@code (created_at, id)}をカーソルとして渡します。
+ * 部分インデックス{@code idx_balloons_public_created}の範囲走査になるため、
+ * OFFSETと異なりページが深くなっても読み飛ばす行は発生しません:</p>
  * <ul>
+ *   <li>cursorCreatedAt / cursorId: 前ページの最後の行（先頭ページはnull）</li>
  *   <li>limit: 取得する最大件数</li>
- *   <li>offset: スキップする件数（0始まり）</li>
  * </ul>
  *
  * @author Tasbal Team
  * @since 1.0.0
  * @see com.tasbal.backend.domain.model.Balloon
- * @see com.tasbal.backend.domain.repository.BalloonRepository#findPublicBalloons(int, int)
+ * @see com.tasbal.backend.domain.repository.BalloonRepository#findPublicBalloons(OffsetDateTime, UUID, int)
  */
+@Coalesced
+@Workload(WorkloadClass.INTERACTIVE_READ)
 @StoredFunction("sp_get_public_balloons")
 public class GetPublicBalloonsFunction extends BaseStoredFunction<GetPublicBalloonsFunction.Result> {
 
+    /**
+     * カーソルの作成日時（前ページの最後の行、先頭ページの場合はnull）。
+     */
+    @Parameter("p_cursor_created_at")
+    private OffsetDateTime cursorCreatedAt;
+
+    /**
+     * カーソルの風船ID（前ページの最後の行、先頭ページの場合はnull）。
+     */
+    @Parameter("p_cursor_id")
+    private UUID cursorId;
+
     /**
      * 取得する最大件数。
      *
@@ -119,24 +134,18 @@ public class GetPublicBalloonsFunction extends BaseStoredFunction<GetPublicBallo
     @Parameter("p_limit")
     private Integer limit;
 
-    /**
-     * スキップする件数（オフセット）。
-     *
-     * <p>デフォルト値は0です。</p>
-     */
-    @Parameter("p_offset")
-    private Integer offset;
-
     /**
      * コンストラクタ。
      *
+     * @param cursorCreatedAt カーソルの作成日時（先頭ページの場合はnull）
+     * @param cursorId カーソルの風船ID（先頭ページの場合はnull）
      * @param limit 取得する最大件数
-     * @param offset スキップする件数
      */
-    public GetPublicBalloonsFunction(Integer limit, Integer offset) {
+    public GetPublicBalloonsFunction(OffsetDateTime cursorCreatedAt, UUID cursorId, Integer limit) {
         super(new ResultRowMapper());
+        this.cursorCreatedAt = cursorCreatedAt;
+        this.cursorId = cursorId;
         this.limit = limit;
-        this.offset = offset;
     }
 
     /**
@@ -163,6 +172,7 @@ public class GetPublicBalloonsFunction extends BaseStoredFunction<GetPublicBallo
         private Boolean isActive;
         private OffsetDateTime createdAt;
         private OffsetDateTime updatedAt;
+        private Integer memberCount;
 
         /**
          * 風船IDを取得します。
@@ -403,6 +413,26 @@ public class GetPublicBalloonsFunction extends BaseStoredFunction<GetPublicBallo
         public void setUpdatedAt(OffsetDateTime updatedAt) {
             this.updatedAt = updatedAt;
         }
+
+        /**
+         * 参加人数を取得します。
+         *
+         * <p>参加・離脱は一定間隔でまとめて反映されるため、直近の参加・離脱は含まれない場合があります。</p>
+         *
+         * @return 参加人数
+         */
+        public Integer getMemberCount() {
+            return memberCount;
+        }
+
+        /**
+         * 参加人数を設定します。
+         *
+         * @param memberCount 参加人数
+         */
+        public void setMemberCount(Integer memberCount) {
+            this.memberCount = memberCount;
+        }
     }
 
     /**
@@ -437,6 +467,7 @@ public class GetPublicBalloonsFunction extends BaseStoredFunction<GetPublicBallo
             result.setIsActive(rs.getBoolean("is_active"));
             result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
             result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
+            result.setMemberCount(rs.getInt("member_count"));
             return result;
         }
     }
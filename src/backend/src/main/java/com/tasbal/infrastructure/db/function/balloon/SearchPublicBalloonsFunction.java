@@ -0,0 +1,175 @@
+package com.tasbal.infrastructure.db.function.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Coalesced;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 公開風船をタイトル・説明の部分一致で検索するストアドファンクション。
+ *
+ * <p>タイトルまたは説明に検索語を含む公開風船を、公開風船一覧と同じ作成日時・IDの降順で返します。
+ * 部分インデックス{@code idx_balloons_public_search}（pg_trgmのGIN）で候補を絞り込むため、
+ * 検索語は3文字以上である必要があります。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_search_public_balloons(
+ *     p_query TEXT,
+ *     p_cursor_created_at TIMESTAMPTZ DEFAULT NULL,
+ *     p_cursor_id UUID DEFAULT NULL,
+ *     p_limit INT DEFAULT 20
+ * )
+ * RETURNS TABLE(
+ *     id UUID,
+ *     balloon_type SMALLINT,
+ *     display_group SMALLINT,
+ *     visibility SMALLINT,
+ *     owner_user_id UUID,
+ *     title VARCHAR,
+ *     description TEXT,
+ *     color_id SMALLINT,
+ *     tag_icon_id SMALLINT,
+ *     country_code CHAR,
+ *     is_active BOOLEAN,
+ *     created_at TIMESTAMPTZ,
+ *     updated_at TIMESTAMPTZ,
+ *     member_count INT
+ * )
+ * }</pre>
+ *
+ * <h2>ページネーション</h2>
+ * <p>前ページの最後の行の{@code (created_at, id)}をカーソルとして渡します（先頭ページはnull）。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GetPublicBalloonsFunction
+ * @see com.tasbal.domain.repository.BalloonRepository#searchPublicBalloons(String, OffsetDateTime, UUID, int)
+ */
+@Coalesced
+@Workload(WorkloadClass.INTERACTIVE_READ)
+@StoredFunction("sp_search_public_balloons")
+public class SearchPublicBalloonsFunction extends BaseStoredFunction<SearchPublicBalloonsFunction.Result> {
+
+    /**
+     * 検索語（ワイルドカードはファンクション内でエスケープされる）。
+     */
+    @Parameter("p_query")
+    private String query;
+
+    /**
+     * カーソルの作成日時（前ページの最後の行、先頭ページの場合はnull）。
+     */
+    @Parameter("p_cursor_created_at")
+    private OffsetDateTime cursorCreatedAt;
+
+    /**
+     * カーソルの風船ID（前ページの最後の行、先頭ページの場合はnull）。
+     */
+    @Parameter("p_cursor_id")
+    private UUID cursorId;
+
+    /**
+     * 取得する最大件数。
+     */
+    @Parameter("p_limit")
+    private Integer limit;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param query 検索語
+     * @param cursorCreatedAt カーソルの作成日時（先頭ページの場合はnull）
+     * @param cursorId カーソルの風船ID（先頭ページの場合はnull）
+     * @param limit 取得する最大件数
+     */
+    public SearchPublicBalloonsFunction(String query, OffsetDateTime cursorCreatedAt, UUID cursorId, Integer limit) {
+        super(new ResultRowMapper());
+        this.query = query;
+        this.cursorCreatedAt = cursorCreatedAt;
+        this.cursorId = cursorId;
+        this.limit = limit;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private Short balloonType;
+        private Short displayGroup;
+        private Short visibility;
+        private UUID ownerUserId;
+        private String title;
+        private String description;
+        private Short colorId;
+        private Short tagIconId;
+        private String countryCode;
+        private Boolean isActive;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime updatedAt;
+        private Integer memberCount;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public Short getBalloonType() { return balloonType; }
+        public void setBalloonType(Short balloonType) { this.balloonType = balloonType; }
+        public Short getDisplayGroup() { return displayGroup; }
+        public void setDisplayGroup(Short displayGroup) { this.displayGroup = displayGroup; }
+        public Short getVisibility() { return visibility; }
+        public void setVisibility(Short visibility) { this.visibility = visibility; }
+        public UUID getOwnerUserId() { return ownerUserId; }
+        public void setOwnerUserId(UUID ownerUserId) { this.ownerUserId = ownerUserId; }
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public Short getColorId() { return colorId; }
+        public void setColorId(Short colorId) { this.colorId = colorId; }
+        public Short getTagIconId() { return tagIconId; }
+        public void setTagIconId(Short tagIconId) { this.tagIconId = tagIconId; }
+        public String getCountryCode() { return countryCode; }
+        public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+        public Boolean getIsActive() { return isActive; }
+        public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public OffsetDateTime getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+        public Integer getMemberCount() { return memberCount; }
+        public void setMemberCount(Integer memberCount) { this.memberCount = memberCount; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setBalloonType(rs.getShort("balloon_type"));
+            result.setDisplayGroup(rs.getShort("display_group"));
+            result.setVisibility(rs.getShort("visibility"));
+            result.setOwnerUserId((UUID) rs.getObject("owner_user_id"));
+            result.setTitle(rs.getString("title"));
+            result.setDescription(rs.getString("description"));
+            result.setColorId(rs.getShort("color_id"));
+            result.setTagIconId(rs.getShort("tag_icon_id"));
+            result.setCountryCode(rs.getString("country_code"));
+            result.setIsActive(rs.getBoolean("is_active"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
+            result.setMemberCount(rs.getInt("member_count"));
+            return result;
+        }
+    }
+}
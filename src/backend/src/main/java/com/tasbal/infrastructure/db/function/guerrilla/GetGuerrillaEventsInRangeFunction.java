@@ -0,0 +1,134 @@
+package com.tasbal.infrastructure.db.function.guerrilla;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 指定期間に重なるゲリライベントを取得するストアドファンクション。
+ *
+ * <p>{@code ends_at > p_from AND starts_at < p_to}を満たすイベントを、
+ * 紐付くゲリラ風船IDの配列とともに開始日時の昇順で返します。
+ * 開催中イベントのインメモリインデックス構築に使用されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_guerrilla_events_in_range(
+ *     p_from TIMESTAMPTZ,
+ *     p_to TIMESTAMPTZ
+ * )
+ * RETURNS TABLE(
+ *     id UUID,
+ *     tasbal_day DATE,
+ *     starts_at TIMESTAMPTZ,
+ *     ends_at TIMESTAMPTZ,
+ *     source SMALLINT,
+ *     priority INT,
+ *     created_at TIMESTAMPTZ,
+ *     balloon_ids UUID[]
+ * )
+ * }</pre>
+ *
+ * <h2>使用例</h2>
+ * <pre>{@code
+ * GetGuerrillaEventsInRangeFunction function = new GetGuerrillaEventsInRangeFunction(from, to);
+ * List<GetGuerrillaEventsInRangeFunction.Result> results = executor.execute(function);
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.GuerrillaEventRepository#findInRange(OffsetDateTime, OffsetDateTime)
+ */
+@Workload(WorkloadClass.INTERACTIVE_READ)
+@StoredFunction("sp_get_guerrilla_events_in_range")
+public class GetGuerrillaEventsInRangeFunction extends BaseStoredFunction<GetGuerrillaEventsInRangeFunction.Result> {
+
+    /**
+     * 検索期間の開始日時（この時刻より後に終了するイベントが対象）。
+     */
+    @Parameter("p_from")
+    private OffsetDateTime from;
+
+    /**
+     * 検索期間の終了日時（この時刻より前に開始するイベントが対象）。
+     */
+    @Parameter("p_to")
+    private OffsetDateTime to;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param from 検索期間の開始日時
+     * @param to 検索期間の終了日時
+     */
+    public GetGuerrillaEventsInRangeFunction(OffsetDateTime from, OffsetDateTime to) {
+        super(new ResultRowMapper());
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private LocalDate tasbalDay;
+        private OffsetDateTime startsAt;
+        private OffsetDateTime endsAt;
+        private Short source;
+        private Integer priority;
+        private OffsetDateTime createdAt;
+        private List<UUID> balloonIds;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public LocalDate getTasbalDay() { return tasbalDay; }
+        public void setTasbalDay(LocalDate tasbalDay) { this.tasbalDay = tasbalDay; }
+        public OffsetDateTime getStartsAt() { return startsAt; }
+        public void setStartsAt(OffsetDateTime startsAt) { this.startsAt = startsAt; }
+        public OffsetDateTime getEndsAt() { return endsAt; }
+        public void setEndsAt(OffsetDateTime endsAt) { this.endsAt = endsAt; }
+        public Short getSource() { return source; }
+        public void setSource(Short source) { this.source = source; }
+        public Integer getPriority() { return priority; }
+        public void setPriority(Integer priority) { this.priority = priority; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public List<UUID> getBalloonIds() { return balloonIds; }
+        public void setBalloonIds(List<UUID> balloonIds) { this.balloonIds = balloonIds; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setTasbalDay(rs.getObject("tasbal_day", LocalDate.class));
+            result.setStartsAt(rs.getObject("starts_at", OffsetDateTime.class));
+            result.setEndsAt(rs.getObject("ends_at", OffsetDateTime.class));
+            result.setSource(rs.getShort("source"));
+            result.setPriority(rs.getInt("priority"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            Array balloonIds = rs.getArray("balloon_ids");
+            result.setBalloonIds(balloonIds != null
+                    ? Arrays.asList((UUID[]) balloonIds.getArray())
+                    : List.of());
+            return result;
+        }
+    }
+}
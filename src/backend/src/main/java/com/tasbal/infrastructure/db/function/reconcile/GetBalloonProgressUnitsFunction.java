@@ -0,0 +1,242 @@
+package com.tasbal.infrastructure.db.function.reconcile;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 風船の集計単位ごとの進捗と割れ履歴件数を取得するストアドファンクション。
+ *
+ * <p>再集計で台帳から再計算した期待値と比較するために使用されます。
+ * 修復時の楽観的ロックに使用するため、{@code lock_version}も返します。
+ * ユーザーの統合で加算した進捗は{@code merged}がtrueとなります。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_balloon_progress_units(
+ *     p_balloon_id UUID
+ * )
+ * RETURNS TABLE(
+ *     unit_type SMALLINT,
+ *     unit_key VARCHAR,
+ *     current_value INT,
+ *     next_threshold INT,
+ *     break_count INT,
+ *     lock_version INT,
+ *     pop_history_count INT,
+ *     merged BOOLEAN
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.BalloonProgressRepository#findUnits(UUID)
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_get_balloon_progress_units")
+public class GetBalloonProgressUnitsFunction extends BaseStoredFunction<GetBalloonProgressUnitsFunction.Result> {
+
+    /**
+     * 対象の風船ID。
+     */
+    @Parameter("p_balloon_id")
+    private UUID balloonId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 対象の風船ID
+     * @throws IllegalArgumentException balloonIdがnullの場合
+     */
+    public GetBalloonProgressUnitsFunction(UUID balloonId) {
+        super(new ResultRowMapper());
+        if (balloonId == null) {
+            throw new IllegalArgumentException("balloonId must not be null");
+        }
+        this.balloonId = balloonId;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private Short unitType;
+        private String unitKey;
+        private Integer currentValue;
+        private Integer nextThreshold;
+        private Integer breakCount;
+        private Integer lockVersion;
+        private Integer popHistoryCount;
+        private Boolean merged;
+
+        /**
+         * 集計単位区分値を取得します。
+         *
+         * @return 集計単位区分値
+         */
+        public Short getUnitType() {
+            return unitType;
+        }
+
+        /**
+         * 集計単位区分値を設定します。
+         *
+         * @param unitType 集計単位区分値
+         */
+        public void setUnitType(Short unitType) {
+            this.unitType = unitType;
+        }
+
+        /**
+         * 集計単位キーを取得します。
+         *
+         * @return 集計単位キー
+         */
+        public String getUnitKey() {
+            return unitKey;
+        }
+
+        /**
+         * 集計単位キーを設定します。
+         *
+         * @param unitKey 集計単位キー
+         */
+        public void setUnitKey(String unitKey) {
+            this.unitKey = unitKey;
+        }
+
+        /**
+         * 現在値を取得します。
+         *
+         * @return 現在値
+         */
+        public Integer getCurrentValue() {
+            return currentValue;
+        }
+
+        /**
+         * 現在値を設定します。
+         *
+         * @param currentValue 現在値
+         */
+        public void setCurrentValue(Integer currentValue) {
+            this.currentValue = currentValue;
+        }
+
+        /**
+         * 次回の割れに必要な量を取得します。
+         *
+         * @return 次回の割れに必要な量
+         */
+        public Integer getNextThreshold() {
+            return nextThreshold;
+        }
+
+        /**
+         * 次回の割れに必要な量を設定します。
+         *
+         * @param nextThreshold 次回の割れに必要な量
+         */
+        public void setNextThreshold(Integer nextThreshold) {
+            this.nextThreshold = nextThreshold;
+        }
+
+        /**
+         * 割れ回数を取得します。
+         *
+         * @return 割れ回数
+         */
+        public Integer getBreakCount() {
+            return breakCount;
+        }
+
+        /**
+         * 割れ回数を設定します。
+         *
+         * @param breakCount 割れ回数
+         */
+        public void setBreakCount(Integer breakCount) {
+            this.breakCount = breakCount;
+        }
+
+        /**
+         * 楽観的ロックのバージョンを取得します。
+         *
+         * @return 楽観的ロックのバージョン
+         */
+        public Integer getLockVersion() {
+            return lockVersion;
+        }
+
+        /**
+         * 楽観的ロックのバージョンを設定します。
+         *
+         * @param lockVersion 楽観的ロックのバージョン
+         */
+        public void setLockVersion(Integer lockVersion) {
+            this.lockVersion = lockVersion;
+        }
+
+        /**
+         * 割れ履歴の件数を取得します。
+         *
+         * @return 割れ履歴の件数
+         */
+        public Integer getPopHistoryCount() {
+            return popHistoryCount;
+        }
+
+        /**
+         * 割れ履歴の件数を設定します。
+         *
+         * @param popHistoryCount 割れ履歴の件数
+         */
+        public void setPopHistoryCount(Integer popHistoryCount) {
+            this.popHistoryCount = popHistoryCount;
+        }
+
+        /**
+         * ユーザーの統合で加算した進捗かを取得します。
+         *
+         * @return 統合で加算した進捗の場合true
+         */
+        public Boolean getMerged() {
+            return merged;
+        }
+
+        /**
+         * ユーザーの統合で加算した進捗かを設定します。
+         *
+         * @param merged 統合で加算した進捗の場合true
+         */
+        public void setMerged(Boolean merged) {
+            this.merged = merged;
+        }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setUnitType(rs.getShort("unit_type"));
+            result.setUnitKey(rs.getString("unit_key"));
+            result.setCurrentValue(rs.getInt("current_value"));
+            result.setNextThreshold(rs.getInt("next_threshold"));
+            result.setBreakCount(rs.getInt("break_count"));
+            result.setLockVersion(rs.getInt("lock_version"));
+            result.setPopHistoryCount(rs.getInt("pop_history_count"));
+            result.setMerged(rs.getBoolean("merged"));
+            return result;
+        }
+    }
+}
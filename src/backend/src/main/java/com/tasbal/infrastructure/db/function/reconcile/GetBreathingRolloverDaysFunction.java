@@ -0,0 +1,78 @@
+package com.tasbal.infrastructure.db.function.reconcile;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * 日次集計済みの呼吸風船のTasbal Day一覧を取得するストアドファンクション。
+ *
+ * <p>再集計で、UTC_DAY単位の進捗が集計後の状態（割れ判定済み）か
+ * 集計前の状態（加算のみ）かを判定するために使用されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_breathing_rollover_days()
+ * RETURNS TABLE(
+ *     tasbal_day DATE
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.BalloonProgressRepository#findRolledBreathingDays()
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_get_breathing_rollover_days")
+public class GetBreathingRolloverDaysFunction extends BaseStoredFunction<GetBreathingRolloverDaysFunction.Result> {
+
+    /**
+     * コンストラクタ。
+     */
+    public GetBreathingRolloverDaysFunction() {
+        super(new ResultRowMapper());
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private LocalDate tasbalDay;
+
+        /**
+         * 集計済みのTasbal Dayを取得します。
+         *
+         * @return Tasbal Day（UTC日付）
+         */
+        public LocalDate getTasbalDay() {
+            return tasbalDay;
+        }
+
+        /**
+         * 集計済みのTasbal Dayを設定します。
+         *
+         * @param tasbalDay Tasbal Day（UTC日付）
+         */
+        public void setTasbalDay(LocalDate tasbalDay) {
+            this.tasbalDay = tasbalDay;
+        }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setTasbalDay(rs.getObject("tasbal_day", LocalDate.class));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.tasbal.infrastructure.db.function.reconcile;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 再集計対象の風船IDをキーセットページングで取得するストアドファンクション。
+ *
+ * <p>ID昇順で{@code p_after_id}より後の風船IDを最大{@code p_limit}件返します。
+ * 全風船を一定サイズのページに分けて再集計するために使用されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_reconcile_balloon_ids(
+ *     p_after_id UUID DEFAULT NULL,
+ *     p_limit INT DEFAULT 1000
+ * )
+ * RETURNS TABLE(
+ *     id UUID
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.BalloonRepository#findIdsAfter(UUID, int)
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_get_reconcile_balloon_ids")
+public class GetReconcileBalloonIdsFunction extends BaseStoredFunction<GetReconcileBalloonIdsFunction.Result> {
+
+    /**
+     * 前ページの最後の風船ID（先頭ページの場合はnull）。
+     */
+    @Parameter("p_after_id")
+    private UUID afterId;
+
+    /**
+     * 取得件数の上限。
+     */
+    @Parameter("p_limit")
+    private Integer limit;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param afterId 前ページの最後の風船ID（先頭ページの場合はnull）
+     * @param limit 取得件数の上限
+     */
+    public GetReconcileBalloonIdsFunction(UUID afterId, Integer limit) {
+        super(new ResultRowMapper());
+        this.afterId = afterId;
+        this.limit = limit;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+
+        /**
+         * 風船IDを取得します。
+         *
+         * @return 風船ID (UUID)
+         */
+        public UUID getId() {
+            return id;
+        }
+
+        /**
+         * 風船IDを設定します。
+         *
+         * @param id 風船ID
+         */
+        public void setId(UUID id) {
+            this.id = id;
+        }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            return result;
+        }
+    }
+}
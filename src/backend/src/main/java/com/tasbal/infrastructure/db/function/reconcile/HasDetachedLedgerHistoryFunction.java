@@ -0,0 +1,94 @@
+package com.tasbal.infrastructure.db.function.reconcile;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * 風船の台帳の一部が切り離し済みのパーティションにあるかを判定するストアドファンクション。
+ *
+ * <p>切り離したパーティションの行は台帳の走査に含まれないため、再集計でその風船の進捗を修復しないために使用されます。
+ * 判定は接続中の最も古い月パーティションより前の時間単位のロールアップの有無で行います。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_has_detached_ledger_history(
+ *     p_balloon_id UUID
+ * )
+ * RETURNS TABLE(
+ *     detached BOOLEAN
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.ContributionLedgerRepository#hasDetachedHistory(UUID)
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_has_detached_ledger_history")
+public class HasDetachedLedgerHistoryFunction extends BaseStoredFunction<HasDetachedLedgerHistoryFunction.Result> {
+
+    /**
+     * 対象の風船ID。
+     */
+    @Parameter("p_balloon_id")
+    private UUID balloonId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 対象の風船ID
+     * @throws IllegalArgumentException balloonIdがnullの場合
+     */
+    public HasDetachedLedgerHistoryFunction(UUID balloonId) {
+        super(new ResultRowMapper());
+        if (balloonId == null) {
+            throw new IllegalArgumentException("balloonId must not be null");
+        }
+        this.balloonId = balloonId;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private Boolean detached;
+
+        /**
+         * 台帳の一部が切り離し済みかを取得します。
+         *
+         * @return 切り離し済みの場合true
+         */
+        public Boolean getDetached() {
+            return detached;
+        }
+
+        /**
+         * 台帳の一部が切り離し済みかを設定します。
+         *
+         * @param detached 切り離し済みの場合true
+         */
+        public void setDetached(Boolean detached) {
+            this.detached = detached;
+        }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setDetached(rs.getBoolean("detached"));
+            return result;
+        }
+    }
+}
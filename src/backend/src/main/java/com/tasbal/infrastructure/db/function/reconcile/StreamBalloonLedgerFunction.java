@@ -0,0 +1,165 @@
+package com.tasbal.infrastructure.db.function.reconcile;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 風船の貢献台帳を集計単位・時系列順に取得するストアドファンクション。
+ *
+ * <p>台帳を{@code (unit_type, unit_key, created_at, id)}の順で返します。
+ * 風船によっては数百万行になるため、{@code executor.stream(...)}でカーソル走査することを前提とし、
+ * SQL側はインライン展開可能なSQL関数として定義されています。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_stream_balloon_ledger(
+ *     p_balloon_id UUID
+ * )
+ * RETURNS TABLE(
+ *     unit_type SMALLINT,
+ *     unit_key VARCHAR,
+ *     amount INT,
+ *     created_at TIMESTAMPTZ
+ * )
+ * }</pre>
+ *
+ * <h2>使用例</h2>
+ * <pre>{@code
+ * StreamBalloonLedgerFunction function = new StreamBalloonLedgerFunction(balloonId);
+ * executor.stream(function, 10_000, row -> replay(row));
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.ContributionLedgerRepository#streamByBalloon(UUID, int, java.util.function.Consumer)
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_stream_balloon_ledger")
+public class StreamBalloonLedgerFunction extends BaseStoredFunction<StreamBalloonLedgerFunction.Result> {
+
+    /**
+     * 対象の風船ID。
+     */
+    @Parameter("p_balloon_id")
+    private UUID balloonId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 対象の風船ID
+     * @throws IllegalArgumentException balloonIdがnullの場合
+     */
+    public StreamBalloonLedgerFunction(UUID balloonId) {
+        super(new ResultRowMapper());
+        if (balloonId == null) {
+            throw new IllegalArgumentException("balloonId must not be null");
+        }
+        this.balloonId = balloonId;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private Short unitType;
+        private String unitKey;
+        private Integer amount;
+        private OffsetDateTime createdAt;
+
+        /**
+         * 集計単位区分値を取得します。
+         *
+         * @return 集計単位区分値
+         */
+        public Short getUnitType() {
+            return unitType;
+        }
+
+        /**
+         * 集計単位区分値を設定します。
+         *
+         * @param unitType 集計単位区分値
+         */
+        public void setUnitType(Short unitType) {
+            this.unitType = unitType;
+        }
+
+        /**
+         * 集計単位キーを取得します。
+         *
+         * @return 集計単位キー
+         */
+        public String getUnitKey() {
+            return unitKey;
+        }
+
+        /**
+         * 集計単位キーを設定します。
+         *
+         * @param unitKey 集計単位キー
+         */
+        public void setUnitKey(String unitKey) {
+            this.unitKey = unitKey;
+        }
+
+        /**
+         * 加算量を取得します。
+         *
+         * @return 加算量
+         */
+        public Integer getAmount() {
+            return amount;
+        }
+
+        /**
+         * 加算量を設定します。
+         *
+         * @param amount 加算量
+         */
+        public void setAmount(Integer amount) {
+            this.amount = amount;
+        }
+
+        /**
+         * 記録日時を取得します。
+         *
+         * @return 記録日時
+         */
+        public OffsetDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        /**
+         * 記録日時を設定します。
+         *
+         * @param createdAt 記録日時
+         */
+        public void setCreatedAt(OffsetDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setUnitType(rs.getShort("unit_type"));
+            result.setUnitKey(rs.getString("unit_key"));
+            result.setAmount(rs.getInt("amount"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.tasbal.infrastructure.db.function.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Coalesced;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * セッションを取得するストアドファンクション。
+ *
+ * <p>アクセストークンの{@code sid}が指すセッションの有効性の確認に使用します。
+ * 取得結果はアプリケーション側のニアキャッシュに保持され、
+ * {@code tasbal_session_changed}チャンネルの通知で無効化されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_session(
+ *     p_session_id UUID
+ * )
+ * RETURNS TABLE(
+ *     id UUID,
+ *     user_id UUID,
+ *     device_id UUID,
+ *     is_revoked BOOLEAN
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.SessionRepository#findById(UUID)
+ */
+@Coalesced
+@Workload(WorkloadClass.INTERACTIVE_READ)
+@StoredFunction("sp_get_session")
+public class GetSessionFunction extends BaseStoredFunction<GetSessionFunction.Result> {
+
+    /**
+     * セッションID。
+     */
+    @Parameter("p_session_id")
+    private UUID sessionId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param sessionId セッションID
+     */
+    public GetSessionFunction(UUID sessionId) {
+        super(new ResultRowMapper());
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private UUID userId;
+        private UUID deviceId;
+        private boolean isRevoked;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public UUID getUserId() { return userId; }
+        public void setUserId(UUID userId) { this.userId = userId; }
+        public UUID getDeviceId() { return deviceId; }
+        public void setDeviceId(UUID deviceId) { this.deviceId = deviceId; }
+        public boolean getIsRevoked() { return isRevoked; }
+        public void setIsRevoked(boolean isRevoked) { this.isRevoked = isRevoked; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setUserId((UUID) rs.getObject("user_id"));
+            result.setDeviceId((UUID) rs.getObject("device_id"));
+            result.setIsRevoked(rs.getBoolean("is_revoked"));
+            return result;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.tasbal.infrastructure.db.function.task;
 
 import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
@@ -126,6 +128,7 @@ import java.util.UUID;
  * @see com.tasbal.backend.domain.model.Task
  * @see com.tasbal.backend.domain.repository.TaskRepository#findById(UUID, UUID)
  */
+@Workload(WorkloadClass.INTERACTIVE_READ)
 @StoredFunction("sp_get_task_by_id")
 public class GetTaskByIdFunction extends BaseStoredFunction<GetTaskByIdFunction.Result> {
 
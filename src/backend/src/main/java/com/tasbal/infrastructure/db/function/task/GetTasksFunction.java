@@ -1,8 +1,10 @@
 package com.tasbal.infrastructure.db.function.task;
 
 import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
@@ -125,6 +127,7 @@ import java.util.UUID;
  * @see com.tasbal.backend.domain.model.Task
  * @see com.tasbal.backend.domain.repository.TaskRepository#findByUserId(UUID, Integer, Integer)
  */
+@Workload(WorkloadClass.INTERACTIVE_READ)
 @StoredFunction("sp_get_tasks")
 public class GetTasksFunction extends BaseStoredFunction<GetTasksFunction.Result> {
 
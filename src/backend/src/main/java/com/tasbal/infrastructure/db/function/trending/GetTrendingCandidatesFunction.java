@@ -0,0 +1,129 @@
+package com.tasbal.infrastructure.db.function.trending;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 人気ランキングの対象風船を取得するストアドファンクション。
+ *
+ * <p>公開・有効なユーザー風船を、ランキングの国と参加人数とともに取得します。
+ * 人気ランキングはメモリ上で差分更新されるため、このファンクションは
+ * 起動時と定期的な再同期でのみ呼び出されます。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_trending_candidates()
+ * RETURNS TABLE(
+ *     id UUID,
+ *     balloon_type SMALLINT,
+ *     ...
+ *     updated_at TIMESTAMPTZ,
+ *     member_count INT,
+ *     ranking_country_code CHAR
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.TrendingRepository#findCandidates()
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_get_trending_candidates")
+public class GetTrendingCandidatesFunction extends BaseStoredFunction<GetTrendingCandidatesFunction.Result> {
+
+    /**
+     * コンストラクタ。
+     */
+    public GetTrendingCandidatesFunction() {
+        super(new ResultRowMapper());
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     *
+     * <p>風船の全カラムに加えて、ランキングの国（風船の国コード、未設定の場合はオーナーの国コード）と
+     * 参加人数を保持します。</p>
+     */
+    public static class Result {
+        private UUID id;
+        private Short balloonType;
+        private Short displayGroup;
+        private Short visibility;
+        private UUID ownerUserId;
+        private String title;
+        private String description;
+        private Short colorId;
+        private Short tagIconId;
+        private String countryCode;
+        private Boolean isActive;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime updatedAt;
+        private String rankingCountryCode;
+        private Integer memberCount;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public Short getBalloonType() { return balloonType; }
+        public void setBalloonType(Short balloonType) { this.balloonType = balloonType; }
+        public Short getDisplayGroup() { return displayGroup; }
+        public void setDisplayGroup(Short displayGroup) { this.displayGroup = displayGroup; }
+        public Short getVisibility() { return visibility; }
+        public void setVisibility(Short visibility) { this.visibility = visibility; }
+        public UUID getOwnerUserId() { return ownerUserId; }
+        public void setOwnerUserId(UUID ownerUserId) { this.ownerUserId = ownerUserId; }
+        public String getTitle() { return title; }
+        public void setTitle(String title) { this.title = title; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public Short getColorId() { return colorId; }
+        public void setColorId(Short colorId) { this.colorId = colorId; }
+        public Short getTagIconId() { return tagIconId; }
+        public void setTagIconId(Short tagIconId) { this.tagIconId = tagIconId; }
+        public String getCountryCode() { return countryCode; }
+        public void setCountryCode(String countryCode) { this.countryCode = countryCode; }
+        public Boolean getIsActive() { return isActive; }
+        public void setIsActive(Boolean isActive) { this.isActive = isActive; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public OffsetDateTime getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+        public String getRankingCountryCode() { return rankingCountryCode; }
+        public void setRankingCountryCode(String rankingCountryCode) { this.rankingCountryCode = rankingCountryCode; }
+        public Integer getMemberCount() { return memberCount; }
+        public void setMemberCount(Integer memberCount) { this.memberCount = memberCount; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setBalloonType(rs.getShort("balloon_type"));
+            result.setDisplayGroup(rs.getShort("display_group"));
+            result.setVisibility(rs.getShort("visibility"));
+            result.setOwnerUserId((UUID) rs.getObject("owner_user_id"));
+            result.setTitle(rs.getString("title"));
+            result.setDescription(rs.getString("description"));
+            result.setColorId(rs.getShort("color_id"));
+            result.setTagIconId(rs.getShort("tag_icon_id"));
+            result.setCountryCode(rs.getString("country_code"));
+            result.setIsActive(rs.getBoolean("is_active"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
+            result.setRankingCountryCode(rs.getString("ranking_country_code"));
+            result.setMemberCount(rs.getInt("member_count"));
+            return result;
+        }
+    }
+}
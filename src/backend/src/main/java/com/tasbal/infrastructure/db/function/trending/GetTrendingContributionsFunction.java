@@ -0,0 +1,86 @@
+package com.tasbal.infrastructure.db.function.trending;
+
+import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 人気ランキング用の時間別貢献量を取得するストアドファンクション。
+ *
+ * <p>台帳本体ではなく時間別ロールアップ（contribution_ledger_hourly）から、
+ * 公開・有効なユーザー風船の指定日時以降の貢献量を風船・時間ごとに取得します。</p>
+ *
+ * <h2>対応するSQL</h2>
+ * <pre>{@code
+ * CREATE OR REPLACE FUNCTION sp_get_trending_contributions(
+ *     p_since TIMESTAMPTZ
+ * )
+ * RETURNS TABLE(
+ *     balloon_id UUID,
+ *     hour TIMESTAMPTZ,
+ *     amount_sum BIGINT
+ * )
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.domain.repository.TrendingRepository#findContributionsSince(OffsetDateTime)
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredFunction("sp_get_trending_contributions")
+public class GetTrendingContributionsFunction extends BaseStoredFunction<GetTrendingContributionsFunction.Result> {
+
+    /**
+     * 取得開始日時（この日時を含む時間以降を取得）。
+     */
+    @Parameter("p_since")
+    private OffsetDateTime since;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param since 取得開始日時
+     */
+    public GetTrendingContributionsFunction(OffsetDateTime since) {
+        super(new ResultRowMapper());
+        this.since = since;
+    }
+
+    /**
+     * ストアドファンクションの実行結果を表すクラス。
+     */
+    public static class Result {
+        private UUID balloonId;
+        private OffsetDateTime hour;
+        private long amountSum;
+
+        public UUID getBalloonId() { return balloonId; }
+        public void setBalloonId(UUID balloonId) { this.balloonId = balloonId; }
+        public OffsetDateTime getHour() { return hour; }
+        public void setHour(OffsetDateTime hour) { this.hour = hour; }
+        public long getAmountSum() { return amountSum; }
+        public void setAmountSum(long amountSum) { this.amountSum = amountSum; }
+    }
+
+    /**
+     * ResultSetから{@link Result}オブジェクトへのマッピングを行うRowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setBalloonId((UUID) rs.getObject("balloon_id"));
+            result.setHour(rs.getObject("hour", OffsetDateTime.class));
+            result.setAmountSum(rs.getLong("amount_sum"));
+            return result;
+        }
+    }
+}
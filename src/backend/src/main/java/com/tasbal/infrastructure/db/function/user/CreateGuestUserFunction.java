@@ -20,8 +20,8 @@ import java.util.UUID;
  *   <li>is_guest = true</li>
  *   <li>auth_state = 1 (GUEST)</li>
  *   <li>plan = 1 (FREE)</li>
- *   <li>handleが指定されない場合は、自動的にランダムなhandleが生成される</li>
- *   <li>user_settingsレコードが自動的に作成される</li>
+ *   <li>handleが指定されない場合は、シーケンスから重複しないhandleが生成される（{@code guest-} + 8文字）</li>
+ *   <li>user_settingsレコードがユーザーと同じ1文で作成される</li>
  * </ul>
  *
  * <h2>対応するSQL</h2>
@@ -38,37 +38,31 @@ import java.util.UUID;
  *     created_at TIMESTAMPTZ,
  *     updated_at TIMESTAMPTZ
  * ) AS $$
- * DECLARE
- *     v_user_id UUID;
- *     v_handle VARCHAR;
  * BEGIN
- *     IF p_handle IS NULL THEN
- *         v_handle := 'guest_' || substr(md5(random()::text), 1, 8);
- *     ELSE
- *         v_handle := p_handle;
- *     END IF;
- *
- *     INSERT INTO users (handle, is_guest, auth_state, plan)
- *     VALUES (v_handle, true, 1, 1)
- *     RETURNING users.id INTO v_user_id;
- *
- *     INSERT INTO user_settings (user_id) VALUES (v_user_id);
- *
  *     RETURN QUERY
- *     SELECT u.id, u.handle, u.plan, u.is_guest, u.auth_state, u.created_at, u.updated_at
- *     FROM users u
- *     WHERE u.id = v_user_id;
+ *     WITH new_user AS (
+ *         INSERT INTO users (handle, is_guest, auth_state, plan)
+ *         VALUES (COALESCE(p_handle, sp_next_guest_handle()), true, 1, 1)
+ *         RETURNING users.id, users.handle, users.plan, users.is_guest, users.auth_state,
+ *                   users.created_at, users.updated_at
+ *     ),
+ *     new_settings AS (
+ *         INSERT INTO user_settings (user_id)
+ *         SELECT n.id FROM new_user n
+ *     )
+ *     SELECT n.id, n.handle, n.plan, n.is_guest, n.auth_state, n.created_at, n.updated_at
+ *     FROM new_user n;
  * END;
  * $$ LANGUAGE plpgsql;
  * }</pre>
  *
  * <h2>使用例</h2>
  *
- * <h3>ランダムなhandleでゲストユーザーを作成:</h3>
+ * <h3>自動生成のhandleでゲストユーザーを作成:</h3>
  * <pre>{@code
  * CreateGuestUserFunction function = new CreateGuestUserFunction(null);
  * CreateGuestUserFunction.Result result = executor.executeForSingleRequired(function);
- * System.out.println("Created user: " + result.getHandle()); // 例: "guest_a1b2c3d4"
+ * System.out.println("Created user: " + result.getHandle()); // 例: "guest-k3x09q2m"
  * }</pre>
  *
  * <h3>指定したhandleでゲストユーザーを作成:</h3>
@@ -1,8 +1,10 @@
 package com.tasbal.infrastructure.db.function.user;
 
 import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
@@ -65,6 +67,7 @@ import java.util.UUID;
  * @see com.tasbal.backend.domain.model.User
  * @see com.tasbal.backend.domain.repository.UserRepository#findById(UUID)
  */
+@Workload(WorkloadClass.INTERACTIVE_READ)
 @StoredFunction("sp_get_user_by_id")
 public class GetUserByIdFunction extends BaseStoredFunction<GetUserByIdFunction.Result> {
 
@@ -1,8 +1,10 @@
 package com.tasbal.infrastructure.db.function.user;
 
 import com.tasbal.infrastructure.db.common.BaseStoredFunction;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredFunction;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
@@ -95,6 +97,7 @@ import java.util.UUID;
  * @see com.tasbal.backend.domain.model.UserSettings
  * @see com.tasbal.backend.domain.repository.UserSettingsRepository#findByUserId(UUID)
  */
+@Workload(WorkloadClass.INTERACTIVE_READ)
 @StoredFunction("sp_get_user_settings")
 public class GetUserSettingsFunction extends BaseStoredFunction<GetUserSettingsFunction.Result> {
 
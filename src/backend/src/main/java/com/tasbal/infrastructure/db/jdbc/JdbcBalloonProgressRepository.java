@@ -0,0 +1,157 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.BreathContribution;
+import com.tasbal.domain.model.ProgressUnit;
+import com.tasbal.domain.repository.BalloonProgressRepository;
+import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.function.reconcile.GetBalloonProgressUnitsFunction;
+import com.tasbal.infrastructure.db.function.reconcile.GetBreathingRolloverDaysFunction;
+import com.tasbal.infrastructure.db.procedure.balloon.AddBreathContributionsProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.PrepareBreathingDayProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.RolloverBreathingDayProcedure;
+import com.tasbal.infrastructure.db.procedure.reconcile.RepairBalloonProgressProcedure;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 風船進捗リポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link BalloonProgressRepository}インターフェースを実装し、
+ * ストアドファンクション・プロシージャを使用して風船進捗のバッチ操作を提供します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonProgressRepository
+ * @see StoredFunctionExecutor
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcBalloonProgressRepository implements BalloonProgressRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+    private final StoredFunctionExecutor functionExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     * @param functionExecutor ストアドファンクション実行クラス
+     */
+    public JdbcBalloonProgressRepository(
+            StoredProcedureExecutor procedureExecutor,
+            StoredFunctionExecutor functionExecutor) {
+        this.procedureExecutor = procedureExecutor;
+        this.functionExecutor = functionExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int prepareBreathingDay(LocalDate tasbalDay) {
+        PrepareBreathingDayProcedure procedure = new PrepareBreathingDayProcedure(tasbalDay);
+        PrepareBreathingDayProcedure.Result result = procedureExecutor.executeForSingleRequired(procedure);
+        return result.getCreatedCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int rolloverBreathingDay(LocalDate tasbalDay) {
+        RolloverBreathingDayProcedure procedure = new RolloverBreathingDayProcedure(tasbalDay);
+        RolloverBreathingDayProcedure.Result result = procedureExecutor.executeForSingleRequired(procedure);
+        return result.getPopCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int addBreathContributions(List<BreathContribution> contributions) {
+        if (contributions.isEmpty()) {
+            return 0;
+        }
+        int size = contributions.size();
+        String[] balloonIds = new String[size];
+        String[] unitKeys = new String[size];
+        String[] userIds = new String[size];
+        int[] amounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            BreathContribution contribution = contributions.get(i);
+            balloonIds[i] = contribution.getBalloonId().toString();
+            unitKeys[i] = contribution.getTasbalDay().toString();
+            userIds[i] = contribution.getUserId().toString();
+            amounts[i] = contribution.getAmount();
+        }
+        AddBreathContributionsProcedure procedure = new AddBreathContributionsProcedure(balloonIds, unitKeys, userIds, amounts);
+        AddBreathContributionsProcedure.Result result = procedureExecutor.executeForSingleRequired(procedure);
+        return result.getLedgerCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProgressUnit> findUnits(UUID balloonId) {
+        GetBalloonProgressUnitsFunction function = new GetBalloonProgressUnitsFunction(balloonId);
+        return functionExecutor.execute(function).stream()
+                .map(result -> new ProgressUnit(
+                        result.getUnitType(),
+                        result.getUnitKey(),
+                        result.getCurrentValue(),
+                        result.getNextThreshold(),
+                        result.getBreakCount(),
+                        result.getLockVersion(),
+                        result.getPopHistoryCount(),
+                        Boolean.TRUE.equals(result.getMerged())))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<LocalDate> findRolledBreathingDays() {
+        GetBreathingRolloverDaysFunction function = new GetBreathingRolloverDaysFunction();
+        return functionExecutor.execute(function).stream()
+                .map(GetBreathingRolloverDaysFunction.Result::getTasbalDay)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int repairUnits(UUID balloonId, List<ProgressUnit> units) {
+        if (units.isEmpty()) {
+            return 0;
+        }
+        int size = units.size();
+        int[] unitTypes = new int[size];
+        String[] unitKeys = new String[size];
+        int[] currentValues = new int[size];
+        int[] nextThresholds = new int[size];
+        int[] breakCounts = new int[size];
+        Integer[] lockVersions = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            ProgressUnit unit = units.get(i);
+            unitTypes[i] = unit.getUnitType();
+            unitKeys[i] = unit.getUnitKey();
+            currentValues[i] = unit.getCurrentValue();
+            nextThresholds[i] = unit.getNextThreshold();
+            breakCounts[i] = unit.getBreakCount();
+            lockVersions[i] = unit.getLockVersion();
+        }
+        RepairBalloonProgressProcedure procedure = new RepairBalloonProgressProcedure(
+                balloonId, unitTypes, unitKeys, currentValues, nextThresholds, breakCounts, lockVersions);
+        RepairBalloonProgressProcedure.Result result = procedureExecutor.executeForSingleRequired(procedure);
+        return result.getRepairedCount();
+    }
+}
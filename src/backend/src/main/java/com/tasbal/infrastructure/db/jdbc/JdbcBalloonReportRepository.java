@@ -0,0 +1,86 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.BalloonReport;
+import com.tasbal.domain.repository.BalloonReportRepository;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.procedure.balloon.AddBalloonReportsProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.DeactivateReportedBalloonsProcedure;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 風船の通報リポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link BalloonReportRepository}インターフェースを実装し、
+ * 配列パラメータのストアドプロシージャで通報の登録と風船の停止をまとめて行います。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonReportRepository
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcBalloonReportRepository implements BalloonReportRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     */
+    public JdbcBalloonReportRepository(StoredProcedureExecutor procedureExecutor) {
+        this.procedureExecutor = procedureExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<UUID, Integer> addReports(List<BalloonReport> reports, Duration window) {
+        if (reports.isEmpty()) {
+            return Map.of();
+        }
+        int size = reports.size();
+        String[] balloonIds = new String[size];
+        String[] reporterUserIds = new String[size];
+        int[] reasonTypes = new int[size];
+        String[] comments = new String[size];
+        long[] reportedAtMillis = new long[size];
+        for (int i = 0; i < size; i++) {
+            BalloonReport report = reports.get(i);
+            balloonIds[i] = report.getBalloonId().toString();
+            reporterUserIds[i] = report.getReporterUserId().toString();
+            reasonTypes[i] = report.getReasonType();
+            comments[i] = report.getComment();
+            reportedAtMillis[i] = report.getReportedAt().toEpochMilli();
+        }
+        AddBalloonReportsProcedure procedure = new AddBalloonReportsProcedure(
+                balloonIds, reporterUserIds, reasonTypes, comments, reportedAtMillis, window.toMillis());
+        Map<UUID, Integer> openReports = new HashMap<>();
+        for (AddBalloonReportsProcedure.Result result : procedureExecutor.execute(procedure)) {
+            openReports.put(result.getBalloonId(), result.getOpenReports());
+        }
+        return openReports;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> deactivateBalloons(Collection<UUID> balloonIds) {
+        if (balloonIds.isEmpty()) {
+            return List.of();
+        }
+        String[] ids = balloonIds.stream().map(UUID::toString).toArray(String[]::new);
+        return procedureExecutor.execute(new DeactivateReportedBalloonsProcedure(ids)).stream()
+                .map(DeactivateReportedBalloonsProcedure.Result::getBalloonId)
+                .toList();
+    }
+}
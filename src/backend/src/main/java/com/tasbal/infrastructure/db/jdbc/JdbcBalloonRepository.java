@@ -1,18 +1,30 @@
 package com.tasbal.infrastructure.db.jdbc;
 
 import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.BalloonMembership;
+import com.tasbal.domain.model.BalloonMetadata;
 import com.tasbal.domain.repository.BalloonRepository;
 import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
 import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
-import com.tasbal.infrastructure.db.function.balloon.GetBalloonSelectionFunction;
+import com.tasbal.infrastructure.db.function.balloon.GetActiveBreathingBalloonIdsFunction;
+import com.tasbal.infrastructure.db.function.balloon.GetBalloonMetadataFunction;
+import com.tasbal.infrastructure.db.function.balloon.GetBalloonSelectionsFunction;
 import com.tasbal.infrastructure.db.function.balloon.GetPublicBalloonsFunction;
+import com.tasbal.infrastructure.db.function.balloon.SearchPublicBalloonsFunction;
+import com.tasbal.infrastructure.db.function.reconcile.GetReconcileBalloonIdsFunction;
 import com.tasbal.infrastructure.db.procedure.balloon.CreateBalloonProcedure;
-import com.tasbal.infrastructure.db.procedure.balloon.SetBalloonSelectionProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.FlushMemberCountDeltasProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.JoinBalloonProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.LeaveBalloonProcedure;
+import com.tasbal.infrastructure.db.procedure.balloon.SetBalloonSelectionsProcedure;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * バルーンリポジトリのJDBC実装。
@@ -65,8 +77,8 @@ public class JdbcBalloonRepository implements BalloonRepository {
      * {@inheritDoc}
      */
     @Override
-    public List<Balloon> findPublicBalloons(int limit, int offset) {
-        GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(limit, offset);
+    public List<Balloon> findPublicBalloons(OffsetDateTime cursorCreatedAt, UUID cursorId, int limit) {
+        GetPublicBalloonsFunction function = new GetPublicBalloonsFunction(cursorCreatedAt, cursorId, limit);
         List<GetPublicBalloonsFunction.Result> results = functionExecutor.execute(function);
         return results.stream()
                 .map(this::mapToBalloon)
@@ -77,19 +89,100 @@ public class JdbcBalloonRepository implements BalloonRepository {
      * {@inheritDoc}
      */
     @Override
-    public Optional<UUID> findSelectedBalloon(UUID userId) {
-        GetBalloonSelectionFunction function = new GetBalloonSelectionFunction(userId);
-        GetBalloonSelectionFunction.Result result = functionExecutor.executeForSingle(function);
-        return result != null ? Optional.of(result.getBalloonId()) : Optional.empty();
+    public List<Balloon> searchPublicBalloons(String query, OffsetDateTime cursorCreatedAt, UUID cursorId, int limit) {
+        SearchPublicBalloonsFunction function = new SearchPublicBalloonsFunction(query, cursorCreatedAt, cursorId, limit);
+        List<SearchPublicBalloonsFunction.Result> results = functionExecutor.execute(function);
+        return results.stream()
+                .map(this::mapToBalloon)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> findSelectedBalloons(UUID userId) {
+        GetBalloonSelectionsFunction function = new GetBalloonSelectionsFunction(userId);
+        return functionExecutor.execute(function).stream()
+                .map(GetBalloonSelectionsFunction.Result::getBalloonId)
+                .toList();
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void setSelection(UUID userId, UUID balloonId) {
-        SetBalloonSelectionProcedure procedure = new SetBalloonSelectionProcedure(userId, balloonId);
-        procedureExecutor.execute(procedure);
+    public Optional<BalloonMetadata> findMetadata(UUID balloonId) {
+        GetBalloonMetadataFunction function = new GetBalloonMetadataFunction(balloonId);
+        GetBalloonMetadataFunction.Result result = functionExecutor.executeForSingle(function);
+        return Optional.ofNullable(result)
+                .map(r -> new BalloonMetadata(r.getId(), r.getBalloonType(), r.getVisibility(), r.getIsActive(), r.getCountryCode()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> setSelections(UUID userId, List<UUID> balloonIds) {
+        String[] ids = balloonIds.stream().map(UUID::toString).toArray(String[]::new);
+        SetBalloonSelectionsProcedure procedure = new SetBalloonSelectionsProcedure(userId, ids);
+        return procedureExecutor.execute(procedure).stream()
+                .map(SetBalloonSelectionsProcedure.Result::getBalloonId)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<UUID> findActiveBreathingBalloonIds() {
+        GetActiveBreathingBalloonIdsFunction function = new GetActiveBreathingBalloonIdsFunction();
+        return functionExecutor.execute(function).stream()
+                .map(GetActiveBreathingBalloonIdsFunction.Result::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UUID> findIdsAfter(UUID afterId, int limit) {
+        GetReconcileBalloonIdsFunction function = new GetReconcileBalloonIdsFunction(afterId, limit);
+        return functionExecutor.execute(function).stream()
+                .map(GetReconcileBalloonIdsFunction.Result::getId)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BalloonMembership> join(UUID userId, UUID balloonId) {
+        JoinBalloonProcedure procedure = new JoinBalloonProcedure(userId, balloonId);
+        JoinBalloonProcedure.Result result = procedureExecutor.executeForSingle(procedure);
+        return Optional.ofNullable(result)
+                .map(r -> new BalloonMembership(r.getBalloonId(), r.getUserId(), r.getJoinedAt(), r.getLeftAt(), r.isChanged()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<BalloonMembership> leave(UUID userId, UUID balloonId) {
+        LeaveBalloonProcedure procedure = new LeaveBalloonProcedure(userId, balloonId);
+        LeaveBalloonProcedure.Result result = procedureExecutor.executeForSingle(procedure);
+        return Optional.ofNullable(result)
+                .map(r -> new BalloonMembership(r.getBalloonId(), r.getUserId(), r.getJoinedAt(), r.getLeftAt(), r.isChanged()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int flushMemberCountDeltas(int limit) {
+        FlushMemberCountDeltasProcedure procedure = new FlushMemberCountDeltasProcedure(limit);
+        FlushMemberCountDeltasProcedure.Result result = procedureExecutor.executeForSingle(procedure);
+        return result != null ? result.getDeltaCount() : 0;
     }
 
     /**
@@ -112,7 +205,8 @@ public class JdbcBalloonRepository implements BalloonRepository {
                 result.getCountryCode(),
                 result.getIsActive(),
                 result.getCreatedAt(),
-                result.getUpdatedAt()
+                result.getUpdatedAt(),
+                result.getMemberCount()
         );
     }
 
@@ -136,7 +230,33 @@ public class JdbcBalloonRepository implements BalloonRepository {
                 result.getCountryCode(),
                 result.getIsActive(),
                 result.getCreatedAt(),
-                result.getUpdatedAt()
+                result.getUpdatedAt(),
+                result.getMemberCount()
+        );
+    }
+
+    /**
+     * {@link SearchPublicBalloonsFunction.Result}をドメインモデル{@link Balloon}に変換します。
+     *
+     * @param result ストアドファンクションの実行結果
+     * @return ドメインモデルのBalloonオブジェクト
+     */
+    private Balloon mapToBalloon(SearchPublicBalloonsFunction.Result result) {
+        return new Balloon(
+                result.getId(),
+                result.getBalloonType(),
+                result.getDisplayGroup(),
+                result.getVisibility(),
+                result.getOwnerUserId(),
+                result.getTitle(),
+                result.getDescription(),
+                result.getColorId(),
+                result.getTagIconId(),
+                result.getCountryCode(),
+                result.getIsActive(),
+                result.getCreatedAt(),
+                result.getUpdatedAt(),
+                result.getMemberCount()
         );
     }
 }
@@ -0,0 +1,91 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.LedgerEntry;
+import com.tasbal.domain.repository.ContributionLedgerRepository;
+import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.function.reconcile.HasDetachedLedgerHistoryFunction;
+import com.tasbal.infrastructure.db.function.reconcile.StreamBalloonLedgerFunction;
+import com.tasbal.infrastructure.db.procedure.ledger.DetachLedgerPartitionsProcedure;
+import com.tasbal.infrastructure.db.procedure.ledger.EnsureLedgerPartitionsProcedure;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 貢献台帳リポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link ContributionLedgerRepository}インターフェースを実装し、
+ * ストアドファンクション・プロシージャを使用して台帳パーティションの管理と台帳の走査を提供します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see ContributionLedgerRepository
+ * @see StoredFunctionExecutor
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcContributionLedgerRepository implements ContributionLedgerRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+    private final StoredFunctionExecutor functionExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     * @param functionExecutor ストアドファンクション実行クラス
+     */
+    public JdbcContributionLedgerRepository(
+            StoredProcedureExecutor procedureExecutor,
+            StoredFunctionExecutor functionExecutor) {
+        this.procedureExecutor = procedureExecutor;
+        this.functionExecutor = functionExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> ensurePartitions(int monthsAhead) {
+        EnsureLedgerPartitionsProcedure procedure = new EnsureLedgerPartitionsProcedure(monthsAhead);
+        return procedureExecutor.execute(procedure).stream()
+                .map(EnsureLedgerPartitionsProcedure.Result::getPartitionName)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> detachExpiredPartitions(int retentionMonths) {
+        DetachLedgerPartitionsProcedure procedure = new DetachLedgerPartitionsProcedure(retentionMonths);
+        return procedureExecutor.execute(procedure).stream()
+                .map(DetachLedgerPartitionsProcedure.Result::getPartitionName)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamByBalloon(UUID balloonId, int fetchSize, Consumer<LedgerEntry> consumer) {
+        StreamBalloonLedgerFunction function = new StreamBalloonLedgerFunction(balloonId);
+        functionExecutor.stream(function, fetchSize, row -> consumer.accept(new LedgerEntry(
+                row.getUnitType(),
+                row.getUnitKey(),
+                row.getAmount(),
+                row.getCreatedAt())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasDetachedHistory(UUID balloonId) {
+        HasDetachedLedgerHistoryFunction function = new HasDetachedLedgerHistoryFunction(balloonId);
+        return Boolean.TRUE.equals(functionExecutor.executeForSingleRequired(function).getDetached());
+    }
+}
@@ -0,0 +1,53 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.UserDevice;
+import com.tasbal.domain.repository.DeviceRepository;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.procedure.session.RegisterDeviceProcedure;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 端末リポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link DeviceRepository}インターフェースを実装し、
+ * ストアドプロシージャを使用して端末のデータアクセスを提供します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see DeviceRepository
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcDeviceRepository implements DeviceRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     */
+    public JdbcDeviceRepository(StoredProcedureExecutor procedureExecutor) {
+        this.procedureExecutor = procedureExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserDevice register(String deviceFingerprint, String deviceName, short platform, String appVersion, String osVersion) {
+        RegisterDeviceProcedure procedure = new RegisterDeviceProcedure(
+                deviceFingerprint, deviceName, platform, appVersion, osVersion);
+        RegisterDeviceProcedure.Result result = procedureExecutor.executeForSingleRequired(procedure);
+        return new UserDevice(
+                result.getId(),
+                result.getUserId(),
+                result.getDeviceName(),
+                result.getPlatform(),
+                result.getAppVersion(),
+                result.getOsVersion(),
+                result.getCreatedAt(),
+                result.getLastSeenAt()
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.GuerrillaEvent;
+import com.tasbal.domain.repository.GuerrillaEventRepository;
+import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.function.guerrilla.GetGuerrillaEventsInRangeFunction;
+import com.tasbal.infrastructure.db.procedure.guerrilla.GenerateGuerrillaEventsProcedure;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * ゲリライベントリポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link GuerrillaEventRepository}インターフェースを実装し、
+ * ストアドファンクション・プロシージャを使用してゲリライベントのデータアクセスを提供します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEventRepository
+ * @see StoredFunctionExecutor
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcGuerrillaEventRepository implements GuerrillaEventRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+    private final StoredFunctionExecutor functionExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     * @param functionExecutor ストアドファンクション実行クラス
+     */
+    public JdbcGuerrillaEventRepository(
+            StoredProcedureExecutor procedureExecutor,
+            StoredFunctionExecutor functionExecutor) {
+        this.procedureExecutor = procedureExecutor;
+        this.functionExecutor = functionExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GuerrillaEvent> generateAutoEvents(LocalDate tasbalDay, int minGapMinutes) {
+        GenerateGuerrillaEventsProcedure procedure = new GenerateGuerrillaEventsProcedure(tasbalDay, minGapMinutes);
+        List<GenerateGuerrillaEventsProcedure.Result> results = procedureExecutor.execute(procedure);
+        return results.stream()
+                .map(this::mapToGuerrillaEvent)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<GuerrillaEvent> findInRange(OffsetDateTime from, OffsetDateTime to) {
+        GetGuerrillaEventsInRangeFunction function = new GetGuerrillaEventsInRangeFunction(from, to);
+        List<GetGuerrillaEventsInRangeFunction.Result> results = functionExecutor.execute(function);
+        return results.stream()
+                .map(this::mapToGuerrillaEvent)
+                .toList();
+    }
+
+    /**
+     * {@link GenerateGuerrillaEventsProcedure.Result}をドメインモデル{@link GuerrillaEvent}に変換します。
+     *
+     * @param result ストアドプロシージャの実行結果
+     * @return ドメインモデルのGuerrillaEventオブジェクト
+     */
+    private GuerrillaEvent mapToGuerrillaEvent(GenerateGuerrillaEventsProcedure.Result result) {
+        return new GuerrillaEvent(
+                result.getId(),
+                result.getTasbalDay(),
+                result.getStartsAt(),
+                result.getEndsAt(),
+                result.getSource(),
+                result.getPriority(),
+                result.getCreatedAt(),
+                result.getBalloonIds()
+        );
+    }
+
+    /**
+     * {@link GetGuerrillaEventsInRangeFunction.Result}をドメインモデル{@link GuerrillaEvent}に変換します。
+     *
+     * @param result ストアドファンクションの実行結果
+     * @return ドメインモデルのGuerrillaEventオブジェクト
+     */
+    private GuerrillaEvent mapToGuerrillaEvent(GetGuerrillaEventsInRangeFunction.Result result) {
+        return new GuerrillaEvent(
+                result.getId(),
+                result.getTasbalDay(),
+                result.getStartsAt(),
+                result.getEndsAt(),
+                result.getSource(),
+                result.getPriority(),
+                result.getCreatedAt(),
+                result.getBalloonIds()
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.GuestSession;
+import com.tasbal.domain.model.User;
+import com.tasbal.domain.model.UserSession;
+import com.tasbal.domain.repository.SessionRepository;
+import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.function.session.GetSessionFunction;
+import com.tasbal.infrastructure.db.procedure.session.StartGuestSessionProcedure;
+import com.tasbal.infrastructure.db.procedure.session.TouchSessionsProcedure;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * セッションリポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link SessionRepository}インターフェースを実装し、
+ * ストアドプロシージャ・ストアドファンクションを使用してセッションのデータアクセスを提供します。
+ * 最終利用日時の更新は配列パラメータで1回の呼び出しにまとめます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see SessionRepository
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcSessionRepository implements SessionRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+    private final StoredFunctionExecutor functionExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     * @param functionExecutor ストアドファンクション実行クラス
+     */
+    public JdbcSessionRepository(
+            StoredProcedureExecutor procedureExecutor,
+            StoredFunctionExecutor functionExecutor) {
+        this.procedureExecutor = procedureExecutor;
+        this.functionExecutor = functionExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GuestSession> startGuestSession(String deviceFingerprint, String refreshTokenHash) {
+        StartGuestSessionProcedure procedure = new StartGuestSessionProcedure(deviceFingerprint, refreshTokenHash);
+        StartGuestSessionProcedure.Result result = procedureExecutor.executeForSingle(procedure);
+        if (result == null) {
+            return Optional.empty();
+        }
+        User user = new User(
+                result.getId(),
+                result.getHandle(),
+                result.getPlan(),
+                result.getIsGuest(),
+                result.getAuthState(),
+                result.getCreatedAt(),
+                result.getUpdatedAt(),
+                result.getLastLoginAt(),
+                null  // deleted_at is not returned by sp_start_guest_session
+        );
+        return Optional.of(new GuestSession(user, result.getSessionId(), result.getDeviceId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UserSession> findById(UUID sessionId) {
+        GetSessionFunction.Result result = functionExecutor.executeForSingle(new GetSessionFunction(sessionId));
+        if (result == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new UserSession(result.getId(), result.getUserId(), result.getDeviceId(), result.getIsRevoked()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int touch(Map<UUID, Instant> sessionLastUsed, Map<UUID, Instant> deviceLastSeen) {
+        if (sessionLastUsed.isEmpty() && deviceLastSeen.isEmpty()) {
+            return 0;
+        }
+        String[] sessionIds = new String[sessionLastUsed.size()];
+        long[] sessionUsedMillis = new long[sessionLastUsed.size()];
+        int i = 0;
+        for (Map.Entry<UUID, Instant> entry : sessionLastUsed.entrySet()) {
+            sessionIds[i] = entry.getKey().toString();
+            sessionUsedMillis[i] = entry.getValue().toEpochMilli();
+            i++;
+        }
+        String[] deviceIds = new String[deviceLastSeen.size()];
+        long[] deviceSeenMillis = new long[deviceLastSeen.size()];
+        i = 0;
+        for (Map.Entry<UUID, Instant> entry : deviceLastSeen.entrySet()) {
+            deviceIds[i] = entry.getKey().toString();
+            deviceSeenMillis[i] = entry.getValue().toEpochMilli();
+            i++;
+        }
+        TouchSessionsProcedure.Result result = procedureExecutor.executeForSingleRequired(
+                new TouchSessionsProcedure(sessionIds, sessionUsedMillis, deviceIds, deviceSeenMillis));
+        return result.getSessionCount() + result.getDeviceCount();
+    }
+}
@@ -1,6 +1,8 @@
 package com.tasbal.infrastructure.db.jdbc;
 
+import com.tasbal.domain.model.ContributionTarget;
 import com.tasbal.domain.model.Task;
+import com.tasbal.domain.model.TaskToggleResult;
 import com.tasbal.domain.repository.TaskRepository;
 import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
 import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
@@ -101,10 +103,10 @@ public class JdbcTaskRepository implements TaskRepository {
      * {@inheritDoc}
      */
     @Override
-    public Task toggleCompletion(UUID taskId, UUID userId, boolean isDone) {
-        ToggleTaskCompletionProcedure procedure = new ToggleTaskCompletionProcedure(taskId, userId, isDone);
+    public TaskToggleResult toggleCompletion(UUID taskId, UUID userId, boolean isDone, List<ContributionTarget> targets) {
+        ToggleTaskCompletionProcedure procedure = new ToggleTaskCompletionProcedure(taskId, userId, isDone, targets);
         ToggleTaskCompletionProcedure.Result result = procedureExecutor.executeForSingle(procedure);
-        return result != null ? mapToTask(result) : null;
+        return result != null ? new TaskToggleResult(mapToTask(result), result.getContributedBalloonIds()) : null;
     }
 
     /**
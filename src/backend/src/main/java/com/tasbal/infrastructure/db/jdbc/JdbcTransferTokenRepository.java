@@ -0,0 +1,95 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.GuestSession;
+import com.tasbal.domain.model.TransferToken;
+import com.tasbal.domain.model.User;
+import com.tasbal.domain.repository.TransferTokenRepository;
+import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
+import com.tasbal.infrastructure.db.procedure.session.ConsumeTransferTokenProcedure;
+import com.tasbal.infrastructure.db.procedure.session.DeleteExpiredTransferTokensProcedure;
+import com.tasbal.infrastructure.db.procedure.session.IssueTransferTokenProcedure;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークンリポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link TransferTokenRepository}インターフェースを実装し、
+ * ストアドプロシージャを使用して引き継ぎトークンのデータアクセスを提供します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferTokenRepository
+ * @see StoredProcedureExecutor
+ */
+@Repository
+public class JdbcTransferTokenRepository implements TransferTokenRepository {
+
+    private final StoredProcedureExecutor procedureExecutor;
+    private final Duration mergeStatementTimeout;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param procedureExecutor ストアドプロシージャ実行クラス
+     * @param mergeStatementTimeout ゲストユーザーを統合する場合の{@code statement_timeout}
+     */
+    public JdbcTransferTokenRepository(
+            StoredProcedureExecutor procedureExecutor,
+            @Value("${tasbal.transfer.merge-statement-timeout:PT30S}") Duration mergeStatementTimeout) {
+        this.procedureExecutor = procedureExecutor;
+        this.mergeStatementTimeout = mergeStatementTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<TransferToken> issue(UUID userId, String tokenHash, int expiresInMinutes) {
+        IssueTransferTokenProcedure.Result result = procedureExecutor.executeForSingle(
+                new IssueTransferTokenProcedure(userId, tokenHash, expiresInMinutes));
+        if (result == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TransferToken(result.getId(), result.getExpiresAt(), result.getCreatedAt()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GuestSession> consume(String deviceFingerprint, String tokenHash, String refreshTokenHash,
+                                          boolean mergeDeviceUser) {
+        ConsumeTransferTokenProcedure.Result result = procedureExecutor.executeForSingle(
+                new ConsumeTransferTokenProcedure(deviceFingerprint, tokenHash, refreshTokenHash, mergeDeviceUser,
+                        mergeStatementTimeout));
+        if (result == null) {
+            return Optional.empty();
+        }
+        User user = new User(
+                result.getId(),
+                result.getHandle(),
+                result.getPlan(),
+                result.getIsGuest(),
+                result.getAuthState(),
+                result.getCreatedAt(),
+                result.getUpdatedAt(),
+                result.getLastLoginAt(),
+                null  // deleted_at is not returned by sp_consume_transfer_token
+        );
+        return Optional.of(new GuestSession(user, result.getSessionId(), result.getDeviceId(), result.getMergedUserId()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int deleteExpired(int batchSize) {
+        return procedureExecutor.executeForSingleRequired(new DeleteExpiredTransferTokensProcedure(batchSize))
+                .getDeletedCount();
+    }
+}
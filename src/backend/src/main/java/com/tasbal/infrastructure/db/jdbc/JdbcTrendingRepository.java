@@ -0,0 +1,85 @@
+package com.tasbal.infrastructure.db.jdbc;
+
+import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.HourlyContribution;
+import com.tasbal.domain.model.TrendingCandidate;
+import com.tasbal.domain.repository.TrendingRepository;
+import com.tasbal.infrastructure.db.common.StoredFunctionExecutor;
+import com.tasbal.infrastructure.db.function.trending.GetTrendingCandidatesFunction;
+import com.tasbal.infrastructure.db.function.trending.GetTrendingContributionsFunction;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 人気ランキングリポジトリのJDBC実装。
+ *
+ * <p>このクラスは{@link TrendingRepository}インターフェースを実装し、
+ * ストアドファンクションを使用して人気ランキングの再構築に必要なデータを取得します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingRepository
+ * @see StoredFunctionExecutor
+ */
+@Repository
+public class JdbcTrendingRepository implements TrendingRepository {
+
+    private final StoredFunctionExecutor functionExecutor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param functionExecutor ストアドファンクション実行クラス
+     */
+    public JdbcTrendingRepository(StoredFunctionExecutor functionExecutor) {
+        this.functionExecutor = functionExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TrendingCandidate> findCandidates() {
+        return functionExecutor.execute(new GetTrendingCandidatesFunction()).stream()
+                .map(this::mapToCandidate)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<HourlyContribution> findContributionsSince(OffsetDateTime since) {
+        return functionExecutor.execute(new GetTrendingContributionsFunction(since)).stream()
+                .map(result -> new HourlyContribution(result.getBalloonId(), result.getHour(), result.getAmountSum()))
+                .toList();
+    }
+
+    /**
+     * {@link GetTrendingCandidatesFunction.Result}をドメインモデル{@link TrendingCandidate}に変換します。
+     *
+     * @param result ストアドファンクションの実行結果
+     * @return 人気ランキングの対象風船
+     */
+    private TrendingCandidate mapToCandidate(GetTrendingCandidatesFunction.Result result) {
+        Balloon balloon = new Balloon(
+                result.getId(),
+                result.getBalloonType(),
+                result.getDisplayGroup(),
+                result.getVisibility(),
+                result.getOwnerUserId(),
+                result.getTitle(),
+                result.getDescription(),
+                result.getColorId(),
+                result.getTagIconId(),
+                result.getCountryCode(),
+                result.getIsActive(),
+                result.getCreatedAt(),
+                result.getUpdatedAt(),
+                result.getMemberCount()
+        );
+        return new TrendingCandidate(balloon, result.getRankingCountryCode());
+    }
+}
@@ -1,5 +1,6 @@
 package com.tasbal.infrastructure.db.jdbc;
 
+import com.tasbal.domain.model.GuestPurgeBatch;
 import com.tasbal.domain.model.User;
 import com.tasbal.domain.model.UserSettings;
 import com.tasbal.domain.repository.UserRepository;
@@ -8,9 +9,12 @@ import com.tasbal.infrastructure.db.common.StoredProcedureExecutor;
 import com.tasbal.infrastructure.db.function.user.CreateGuestUserFunction;
 import com.tasbal.infrastructure.db.function.user.GetUserByIdFunction;
 import com.tasbal.infrastructure.db.function.user.GetUserSettingsFunction;
+import com.tasbal.infrastructure.db.procedure.user.PurgeInactiveGuestsProcedure;
 import com.tasbal.infrastructure.db.procedure.user.UpdateUserSettingsProcedure;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -87,6 +91,18 @@ public class JdbcUserRepository implements UserRepository {
         return result != null ? mapToUserSettings(result) : null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GuestPurgeBatch purgeInactiveGuests(OffsetDateTime inactiveBefore, UUID afterId, int batchSize,
+                                               Duration timeBudget, Duration lockTimeout) {
+        PurgeInactiveGuestsProcedure procedure = new PurgeInactiveGuestsProcedure(
+                inactiveBefore, afterId, batchSize, (int) timeBudget.toMillis(), (int) lockTimeout.toMillis());
+        PurgeInactiveGuestsProcedure.Result result = procedureExecutor.executeForSingleRequired(procedure);
+        return new GuestPurgeBatch(result.getScannedCount(), result.getDeletedCount(), result.getLastId());
+    }
+
     /**
      * {@link CreateGuestUserFunction.Result}をドメインモデル{@link User}に変換します。
      *
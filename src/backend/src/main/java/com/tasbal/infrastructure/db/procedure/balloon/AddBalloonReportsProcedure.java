@@ -0,0 +1,101 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.UUID;
+
+/**
+ * 通報一括登録ストアドプロシージャ {@code sp_add_balloon_reports} の呼び出しクラス。
+ *
+ * <p>このクラスはメモリ上にまとめた通報を配列パラメータで渡し、1回の呼び出しで登録します。
+ * 各配列の同じ添字の要素が1件の通報に対応します。UUIDはテキスト配列として渡し、
+ * SQL側でキャストします。登録済み（同じユーザー・同じ風船）の通報は読み飛ばされ、
+ * 通報が登録された風船ごとに、ウィンドウ内の未処理の通報数が返されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_add_balloon_reports")
+public class AddBalloonReportsProcedure extends BaseStoredProcedure<AddBalloonReportsProcedure.Result> {
+
+    /** 風船IDの配列 */
+    @Parameter("p_balloon_ids")
+    private String[] balloonIds;
+
+    /** 通報したユーザーIDの配列 */
+    @Parameter("p_reporter_user_ids")
+    private String[] reporterUserIds;
+
+    /** 通報理由区分値の配列 */
+    @Parameter("p_reason_types")
+    private int[] reasonTypes;
+
+    /** 通報コメントの配列 */
+    @Parameter("p_comments")
+    private String[] comments;
+
+    /** 通報日時（エポックミリ秒）の配列 */
+    @Parameter("p_reported_at_millis")
+    private long[] reportedAtMillis;
+
+    /** 通報を数える期間（ミリ秒） */
+    @Parameter("p_window_millis")
+    private long windowMillis;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonIds 風船IDの配列
+     * @param reporterUserIds 通報したユーザーIDの配列
+     * @param reasonTypes 通報理由区分値の配列
+     * @param comments 通報コメントの配列
+     * @param reportedAtMillis 通報日時（エポックミリ秒）の配列
+     * @param windowMillis 通報を数える期間（ミリ秒）
+     */
+    public AddBalloonReportsProcedure(String[] balloonIds, String[] reporterUserIds, int[] reasonTypes,
+                                      String[] comments, long[] reportedAtMillis, long windowMillis) {
+        super(new ResultRowMapper());
+        this.balloonIds = balloonIds;
+        this.reporterUserIds = reporterUserIds;
+        this.reasonTypes = reasonTypes;
+        this.comments = comments;
+        this.reportedAtMillis = reportedAtMillis;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス（通報が登録された風船1件に対応）。
+     */
+    public static class Result {
+        /** 通報された風船ID */
+        private UUID balloonId;
+
+        /** ウィンドウ内の未処理の通報数 */
+        private int openReports;
+
+        public UUID getBalloonId() { return balloonId; }
+        public void setBalloonId(UUID balloonId) { this.balloonId = balloonId; }
+
+        public int getOpenReports() { return openReports; }
+        public void setOpenReports(int openReports) { this.openReports = openReports; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setBalloonId((UUID) rs.getObject("balloon_id"));
+            result.setOpenReports(rs.getInt("open_reports"));
+            return result;
+        }
+    }
+}
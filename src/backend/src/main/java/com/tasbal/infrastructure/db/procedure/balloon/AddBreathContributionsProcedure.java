@@ -0,0 +1,84 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 呼吸貢献一括加算ストアドプロシージャ {@code sp_add_breath_contributions} の呼び出しクラス。
+ *
+ * <p>このクラスは集約済みの呼吸貢献を配列パラメータでまとめて渡し、
+ * 貢献台帳への挿入と進捗の加算を1回の呼び出しで行います。
+ * 各配列の同じ添字の要素が1件の貢献に対応します。UUIDはテキスト配列として渡し、
+ * SQL側でキャストします。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_add_breath_contributions")
+public class AddBreathContributionsProcedure extends BaseStoredProcedure<AddBreathContributionsProcedure.Result> {
+
+    /** 風船IDの配列 */
+    @Parameter("p_balloon_ids")
+    private String[] balloonIds;
+
+    /** 集計単位キー（Tasbal Day）の配列 */
+    @Parameter("p_unit_keys")
+    private String[] unitKeys;
+
+    /** ユーザーIDの配列 */
+    @Parameter("p_user_ids")
+    private String[] userIds;
+
+    /** 呼吸回数の配列 */
+    @Parameter("p_amounts")
+    private int[] amounts;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonIds 風船IDの配列
+     * @param unitKeys 集計単位キーの配列
+     * @param userIds ユーザーIDの配列
+     * @param amounts 呼吸回数の配列
+     */
+    public AddBreathContributionsProcedure(String[] balloonIds, String[] unitKeys, String[] userIds, int[] amounts) {
+        super(new ResultRowMapper());
+        this.balloonIds = balloonIds;
+        this.unitKeys = unitKeys;
+        this.userIds = userIds;
+        this.amounts = amounts;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 挿入された台帳行の数 */
+        private Integer ledgerCount;
+        /** 更新された進捗行の数 */
+        private Integer progressCount;
+
+        public Integer getLedgerCount() { return ledgerCount; }
+        public void setLedgerCount(Integer ledgerCount) { this.ledgerCount = ledgerCount; }
+        public Integer getProgressCount() { return progressCount; }
+        public void setProgressCount(Integer progressCount) { this.progressCount = progressCount; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setLedgerCount(rs.getInt("ledger_count"));
+            result.setProgressCount(rs.getInt("progress_count"));
+            return result;
+        }
+    }
+}
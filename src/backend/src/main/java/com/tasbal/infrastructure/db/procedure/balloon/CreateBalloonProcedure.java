@@ -60,6 +60,7 @@ public class CreateBalloonProcedure extends BaseStoredProcedure<CreateBalloonPro
         private Boolean isActive;
         private OffsetDateTime createdAt;
         private OffsetDateTime updatedAt;
+        private Integer memberCount;
 
         public UUID getId() { return id; }
         public void setId(UUID id) { this.id = id; }
@@ -87,6 +88,8 @@ public class CreateBalloonProcedure extends BaseStoredProcedure<CreateBalloonPro
         public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
         public OffsetDateTime getUpdatedAt() { return updatedAt; }
         public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+        public Integer getMemberCount() { return memberCount; }
+        public void setMemberCount(Integer memberCount) { this.memberCount = memberCount; }
     }
 
     private static class ResultRowMapper implements RowMapper<Result> {
@@ -106,6 +109,7 @@ public class CreateBalloonProcedure extends BaseStoredProcedure<CreateBalloonPro
             result.setIsActive(rs.getBoolean("is_active"));
             result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
             result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
+            result.setMemberCount(rs.getInt("member_count"));
             return result;
         }
     }
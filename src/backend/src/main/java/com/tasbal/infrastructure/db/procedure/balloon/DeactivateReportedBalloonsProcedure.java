@@ -1,48 +1,46 @@
 package com.tasbal.infrastructure.db.procedure.balloon;
 
 import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.util.UUID;
 
 /**
- * バルーン選択設定ストアドプロシージャ {@code sp_set_balloon_selection} の呼び出しクラス。
+ * 通報風船一括停止ストアドプロシージャ {@code sp_deactivate_reported_balloons} の呼び出しクラス。
  *
- * <p>このクラスはユーザーが選択するバルーンを設定します。</p>
+ * <p>このクラスは通報が閾値を超えた風船を1回の更新でまとめて停止し、
+ * その風船の未処理の通報を処理済みにします。停止された風船ごとに1行を返します。</p>
  *
  * @author Tasbal Team
  * @since 1.0.0
  */
-@StoredProcedure("sp_set_balloon_selection")
-public class SetBalloonSelectionProcedure extends BaseStoredProcedure<SetBalloonSelectionProcedure.Result> {
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_deactivate_reported_balloons")
+public class DeactivateReportedBalloonsProcedure extends BaseStoredProcedure<DeactivateReportedBalloonsProcedure.Result> {
 
-    /** ユーザーID */
-    @Parameter("p_user_id")
-    private UUID userId;
-
-    /** バルーンID */
-    @Parameter("p_balloon_id")
-    private UUID balloonId;
+    /** 停止する風船IDの配列 */
+    @Parameter("p_balloon_ids")
+    private String[] balloonIds;
 
     /**
      * コンストラクタ。
      *
-     * @param userId ユーザーID
-     * @param balloonId バルーンID
+     * @param balloonIds 停止する風船IDの配列
      */
-    public SetBalloonSelectionProcedure(UUID userId, UUID balloonId) {
+    public DeactivateReportedBalloonsProcedure(String[] balloonIds) {
         super(new ResultRowMapper());
-        this.userId = userId;
-        this.balloonId = balloonId;
+        this.balloonIds = balloonIds;
     }
 
     /**
      * ストアドプロシージャの戻り値を表すクラス。
      */
     public static class Result {
-        /** バルーンID（設定確認用） */
+        /** 停止された風船ID */
         private UUID balloonId;
 
         public UUID getBalloonId() { return balloonId; }
@@ -0,0 +1,67 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 参加人数反映ストアドプロシージャ {@code sp_flush_member_count_deltas} の呼び出しクラス。
+ *
+ * <p>このクラスは参加・離脱で追記された参加人数の増減を古い順に最大{@code limit}件取り出し、
+ * 風船ごとに合算して{@code balloons.member_count}に反映します。
+ * 人気の風船への参加が集中しても、風船の行の更新は1回の呼び出しにつき1回に抑えられます。
+ * 他ノードが処理中の増減は読み飛ばすため、複数ノードで同時に実行しても安全です。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_flush_member_count_deltas")
+public class FlushMemberCountDeltasProcedure extends BaseStoredProcedure<FlushMemberCountDeltasProcedure.Result> {
+
+    /** 1回に取り出す最大件数 */
+    @Parameter("p_limit")
+    private int limit;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param limit 1回に取り出す最大件数
+     */
+    public FlushMemberCountDeltasProcedure(int limit) {
+        super(new ResultRowMapper());
+        this.limit = limit;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 参加人数を更新した風船の数 */
+        private int balloonCount;
+
+        /** 取り出した増減の件数 */
+        private int deltaCount;
+
+        public int getBalloonCount() { return balloonCount; }
+        public void setBalloonCount(int balloonCount) { this.balloonCount = balloonCount; }
+        public int getDeltaCount() { return deltaCount; }
+        public void setDeltaCount(int deltaCount) { this.deltaCount = deltaCount; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setBalloonCount(rs.getInt("balloon_count"));
+            result.setDeltaCount(rs.getInt("delta_count"));
+            return result;
+        }
+    }
+}
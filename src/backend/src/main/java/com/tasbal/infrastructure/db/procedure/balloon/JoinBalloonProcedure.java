@@ -0,0 +1,85 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 風船参加ストアドプロシージャ {@code sp_join_balloon} の呼び出しクラス。
+ *
+ * <p>このクラスはユーザーを風船に参加させます。参加できるのは有効な公開風船、
+ * または自分がオーナーの風船のみで、対象外の場合は結果を返しません。
+ * 参加済みの場合は既存のメンバーシップを{@code changed = false}で返します。</p>
+ *
+ * <p>参加人数は増減テーブルに1行追記するのみで、{@code balloons.member_count}への反映は
+ * {@link FlushMemberCountDeltasProcedure}がまとめて行います。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@StoredProcedure("sp_join_balloon")
+public class JoinBalloonProcedure extends BaseStoredProcedure<JoinBalloonProcedure.Result> {
+
+    /** ユーザーID */
+    @Parameter("p_user_id")
+    private UUID userId;
+
+    /** 風船ID */
+    @Parameter("p_balloon_id")
+    private UUID balloonId;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param userId ユーザーID
+     * @param balloonId 風船ID
+     */
+    public JoinBalloonProcedure(UUID userId, UUID balloonId) {
+        super(new ResultRowMapper());
+        this.userId = userId;
+        this.balloonId = balloonId;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private UUID balloonId;
+        private UUID userId;
+        private OffsetDateTime joinedAt;
+        private OffsetDateTime leftAt;
+        /** 操作によって参加状態が変わった場合true */
+        private boolean changed;
+
+        public UUID getBalloonId() { return balloonId; }
+        public void setBalloonId(UUID balloonId) { this.balloonId = balloonId; }
+        public UUID getUserId() { return userId; }
+        public void setUserId(UUID userId) { this.userId = userId; }
+        public OffsetDateTime getJoinedAt() { return joinedAt; }
+        public void setJoinedAt(OffsetDateTime joinedAt) { this.joinedAt = joinedAt; }
+        public OffsetDateTime getLeftAt() { return leftAt; }
+        public void setLeftAt(OffsetDateTime leftAt) { this.leftAt = leftAt; }
+        public boolean isChanged() { return changed; }
+        public void setChanged(boolean changed) { this.changed = changed; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setBalloonId((UUID) rs.getObject("balloon_id"));
+            result.setUserId((UUID) rs.getObject("user_id"));
+            result.setJoinedAt(rs.getObject("joined_at", OffsetDateTime.class));
+            result.setLeftAt(rs.getObject("left_at", OffsetDateTime.class));
+            result.setChanged(rs.getBoolean("changed"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+
+/**
+ * 呼吸風船日次進捗の事前作成ストアドプロシージャ {@code sp_prepare_breathing_day} の呼び出しクラス。
+ *
+ * <p>このクラスは指定したTasbal Dayについて、すべての有効な呼吸風船の
+ * UTC_DAY進捗行をまとめて作成します。作成済みの行はそのまま残ります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_prepare_breathing_day")
+public class PrepareBreathingDayProcedure extends BaseStoredProcedure<PrepareBreathingDayProcedure.Result> {
+
+    /** 対象のTasbal Day */
+    @Parameter("p_tasbal_day")
+    private LocalDate tasbalDay;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param tasbalDay 対象のTasbal Day
+     */
+    public PrepareBreathingDayProcedure(LocalDate tasbalDay) {
+        super(new ResultRowMapper());
+        this.tasbalDay = tasbalDay;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 新たに作成された進捗行の数 */
+        private Integer createdCount;
+
+        public Integer getCreatedCount() { return createdCount; }
+        public void setCreatedCount(Integer createdCount) { this.createdCount = createdCount; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setCreatedCount(rs.getInt("created_count"));
+            return result;
+        }
+    }
+}
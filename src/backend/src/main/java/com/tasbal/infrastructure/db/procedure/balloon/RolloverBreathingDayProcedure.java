@@ -0,0 +1,74 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+
+/**
+ * 呼吸風船日次集計ストアドプロシージャ {@code sp_rollover_breathing_day} の呼び出しクラス。
+ *
+ * <p>このクラスは指定したTasbal Dayの貢献台帳を風船ごとに集計し、割れ回数の判定、
+ * 割れ履歴の記録、翌日行の必要量の補正を行います。集計済みの日に対して呼び出した場合は
+ * 記録済みの集計結果のみを返します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_rollover_breathing_day")
+public class RolloverBreathingDayProcedure extends BaseStoredProcedure<RolloverBreathingDayProcedure.Result> {
+
+    /** 集計対象のTasbal Day */
+    @Parameter("p_tasbal_day")
+    private LocalDate tasbalDay;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param tasbalDay 集計対象のTasbal Day
+     */
+    public RolloverBreathingDayProcedure(LocalDate tasbalDay) {
+        super(new ResultRowMapper());
+        this.tasbalDay = tasbalDay;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private LocalDate tasbalDay;
+        private Integer balloonCount;
+        private Integer popCount;
+        private OffsetDateTime rolledAt;
+
+        public LocalDate getTasbalDay() { return tasbalDay; }
+        public void setTasbalDay(LocalDate tasbalDay) { this.tasbalDay = tasbalDay; }
+        public Integer getBalloonCount() { return balloonCount; }
+        public void setBalloonCount(Integer balloonCount) { this.balloonCount = balloonCount; }
+        public Integer getPopCount() { return popCount; }
+        public void setPopCount(Integer popCount) { this.popCount = popCount; }
+        public OffsetDateTime getRolledAt() { return rolledAt; }
+        public void setRolledAt(OffsetDateTime rolledAt) { this.rolledAt = rolledAt; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setTasbalDay(rs.getObject("tasbal_day", LocalDate.class));
+            result.setBalloonCount(rs.getInt("balloon_count"));
+            result.setPopCount(rs.getInt("pop_count"));
+            result.setRolledAt(rs.getObject("rolled_at", OffsetDateTime.class));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.tasbal.infrastructure.db.procedure.balloon;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.UUID;
+
+/**
+ * 選択中風船一覧設定ストアドプロシージャ {@code sp_set_balloon_selections} の呼び出しクラス。
+ *
+ * <p>このクラスはユーザーの選択中の風船を指定された一覧で置き換えます。
+ * 一覧の並び順が優先度となり、一覧に含まれない選択は解除されます。
+ * UUIDはテキスト配列として渡し、SQL側でキャストします。</p>
+ *
+ * <p>有効でない風船は選択されないため、戻り値には設定後の選択中の風船のみが含まれます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@StoredProcedure("sp_set_balloon_selections")
+public class SetBalloonSelectionsProcedure extends BaseStoredProcedure<SetBalloonSelectionsProcedure.Result> {
+
+    /** ユーザーID */
+    @Parameter("p_user_id")
+    private UUID userId;
+
+    /** 選択する風船IDの配列（優先度順） */
+    @Parameter("p_balloon_ids")
+    private String[] balloonIds;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param userId ユーザーID
+     * @param balloonIds 選択する風船IDの配列（優先度順）
+     */
+    public SetBalloonSelectionsProcedure(UUID userId, String[] balloonIds) {
+        super(new ResultRowMapper());
+        this.userId = userId;
+        this.balloonIds = balloonIds;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 選択中の風船ID */
+        private UUID balloonId;
+        /** 優先度 */
+        private int priority;
+
+        public UUID getBalloonId() { return balloonId; }
+        public void setBalloonId(UUID balloonId) { this.balloonId = balloonId; }
+        public int getPriority() { return priority; }
+        public void setPriority(int priority) { this.priority = priority; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setBalloonId((UUID) rs.getObject("balloon_id"));
+            result.setPriority(rs.getInt("priority"));
+            return result;
+        }
+    }
+}
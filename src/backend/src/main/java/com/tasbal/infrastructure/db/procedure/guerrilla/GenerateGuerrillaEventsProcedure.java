@@ -0,0 +1,103 @@
+package com.tasbal.infrastructure.db.procedure.guerrilla;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ゲリライベント自動生成ストアドプロシージャ {@code sp_generate_guerrilla_events} の呼び出しクラス。
+ *
+ * <p>指定したTasbal Dayについて、重なりのない1〜3時間のゲリライベントを3〜5件生成し、
+ * それぞれにゲリラ風船を作成して紐付けます。既にAUTOイベントが存在する日、
+ * または他ノードが同じ日を生成中の場合は何も生成せず、その日の既存イベントを返します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_generate_guerrilla_events")
+public class GenerateGuerrillaEventsProcedure extends BaseStoredProcedure<GenerateGuerrillaEventsProcedure.Result> {
+
+    /** 生成対象のTasbal Day */
+    @Parameter("p_tasbal_day")
+    private LocalDate tasbalDay;
+
+    /** イベント間の最小間隔（分） */
+    @Parameter("p_min_gap_minutes")
+    private Integer minGapMinutes;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param tasbalDay 生成対象のTasbal Day
+     * @param minGapMinutes イベント間の最小間隔（分）
+     */
+    public GenerateGuerrillaEventsProcedure(LocalDate tasbalDay, Integer minGapMinutes) {
+        super(new ResultRowMapper());
+        this.tasbalDay = tasbalDay;
+        this.minGapMinutes = minGapMinutes;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private LocalDate tasbalDay;
+        private OffsetDateTime startsAt;
+        private OffsetDateTime endsAt;
+        private Short source;
+        private Integer priority;
+        private OffsetDateTime createdAt;
+        private List<UUID> balloonIds;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public LocalDate getTasbalDay() { return tasbalDay; }
+        public void setTasbalDay(LocalDate tasbalDay) { this.tasbalDay = tasbalDay; }
+        public OffsetDateTime getStartsAt() { return startsAt; }
+        public void setStartsAt(OffsetDateTime startsAt) { this.startsAt = startsAt; }
+        public OffsetDateTime getEndsAt() { return endsAt; }
+        public void setEndsAt(OffsetDateTime endsAt) { this.endsAt = endsAt; }
+        public Short getSource() { return source; }
+        public void setSource(Short source) { this.source = source; }
+        public Integer getPriority() { return priority; }
+        public void setPriority(Integer priority) { this.priority = priority; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public List<UUID> getBalloonIds() { return balloonIds; }
+        public void setBalloonIds(List<UUID> balloonIds) { this.balloonIds = balloonIds; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setTasbalDay(rs.getObject("tasbal_day", LocalDate.class));
+            result.setStartsAt(rs.getObject("starts_at", OffsetDateTime.class));
+            result.setEndsAt(rs.getObject("ends_at", OffsetDateTime.class));
+            result.setSource(rs.getShort("source"));
+            result.setPriority(rs.getInt("priority"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            Array balloonIds = rs.getArray("balloon_ids");
+            result.setBalloonIds(balloonIds != null
+                    ? Arrays.asList((UUID[]) balloonIds.getArray())
+                    : List.of());
+            return result;
+        }
+    }
+}
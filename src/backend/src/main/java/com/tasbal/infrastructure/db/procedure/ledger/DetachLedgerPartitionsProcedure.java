@@ -0,0 +1,151 @@
+package com.tasbal.infrastructure.db.procedure.ledger;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 貢献台帳パーティション切り離しの呼び出しクラス。
+ *
+ * <p>このクラスは{@code sp_get_expired_ledger_partitions}で保持期間を過ぎた月パーティションを取得し、
+ * 1つずつ{@code DETACH PARTITION ... CONCURRENTLY}で台帳から切り離して{@code ledger_archive}スキーマへ移動します。
+ * 切り離されたパーティション名が1行ずつ返されます。</p>
+ *
+ * <h3>ロック:</h3>
+ * <p>{@code CONCURRENTLY}の切り離しは親テーブルに{@code ACCESS EXCLUSIVE}ロックを取らないため、
+ * 台帳への追記を止めません。ただしトランザクションブロック・関数内では実行できないため、
+ * 1つの自動コミットの接続で各文を実行します（トランザクション内で呼び出した場合は{@link IllegalStateException}）。
+ * 複数ノードでの同時実行はセッション単位のアドバイザリロックで防ぎ、取得できない場合は何もしません。</p>
+ *
+ * <p>中断された切り離し（{@code detach_pending}）は{@code FINALIZE}で完了させます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_get_expired_ledger_partitions")
+public class DetachLedgerPartitionsProcedure extends BaseStoredProcedure<DetachLedgerPartitionsProcedure.Result> {
+
+    /** パーティションの作成・切り離しを直列化するアドバイザリロックのキー */
+    private static final String LOCK_KEY = "contribution_ledger_partitions";
+
+    /** 保持する月数（当月を含まない） */
+    @Parameter("p_retention_months")
+    private Integer retentionMonths;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param retentionMonths 保持する月数
+     */
+    public DetachLedgerPartitionsProcedure(Integer retentionMonths) {
+        super(new ResultRowMapper());
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * 保持期間を過ぎたパーティションを切り離します。
+     *
+     * @param jdbcTemplate JDBCテンプレート
+     * @return 切り離されたパーティションのリスト（他ノードが実行中の場合は空のリスト）
+     * @throws IllegalStateException トランザクション内で呼び出された場合
+     */
+    @Override
+    public List<Result> executeWith(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Result>>) connection -> {
+            if (!connection.getAutoCommit()) {
+                throw new IllegalStateException("DETACH PARTITION CONCURRENTLY cannot run inside a transaction");
+            }
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            if (!Boolean.TRUE.equals(session.queryForObject(
+                    "SELECT pg_try_advisory_lock(hashtext(?))", Boolean.class, LOCK_KEY))) {
+                return List.of();
+            }
+            try {
+                List<Result> detached = new ArrayList<>();
+                for (Result partition : super.executeWith(session)) {
+                    String name = quoteIdentifier(partition.getPartitionName());
+                    session.execute("ALTER TABLE contribution_ledger DETACH PARTITION " + name
+                            + (Boolean.TRUE.equals(partition.getDetachPending()) ? " FINALIZE" : " CONCURRENTLY"));
+                    session.execute("ALTER TABLE " + name + " SET SCHEMA ledger_archive");
+                    detached.add(partition);
+                }
+                return detached;
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(hashtext(?))", Boolean.class, LOCK_KEY);
+            }
+        });
+    }
+
+    private static String quoteIdentifier(String name) {
+        return "\"" + name.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** パーティション名 */
+        private String partitionName;
+        /** 中断された切り離しの場合true */
+        private Boolean detachPending;
+
+        /**
+         * パーティション名を取得します。
+         *
+         * @return パーティション名
+         */
+        public String getPartitionName() {
+            return partitionName;
+        }
+
+        /**
+         * パーティション名を設定します。
+         *
+         * @param partitionName パーティション名
+         */
+        public void setPartitionName(String partitionName) {
+            this.partitionName = partitionName;
+        }
+
+        /**
+         * 中断された切り離しかを取得します。
+         *
+         * @return 中断された切り離し（{@code DETACH ... FINALIZE}が必要）の場合true
+         */
+        public Boolean getDetachPending() {
+            return detachPending;
+        }
+
+        /**
+         * 中断された切り離しかを設定します。
+         *
+         * @param detachPending 中断された切り離しの場合true
+         */
+        public void setDetachPending(Boolean detachPending) {
+            this.detachPending = detachPending;
+        }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setPartitionName(rs.getString("partition_name"));
+            result.setDetachPending(rs.getBoolean("detach_pending"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.tasbal.infrastructure.db.procedure.ledger;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 貢献台帳パーティション事前作成ストアドプロシージャ {@code sp_ensure_ledger_partitions} の呼び出しクラス。
+ *
+ * <p>このクラスは当月から指定か月先までの月パーティションのうち、
+ * 未作成のものを作成します。作成されたパーティション名が1行ずつ返されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_ensure_ledger_partitions")
+public class EnsureLedgerPartitionsProcedure extends BaseStoredProcedure<EnsureLedgerPartitionsProcedure.Result> {
+
+    /** 事前作成する月数（当月を含まない） */
+    @Parameter("p_months_ahead")
+    private Integer monthsAhead;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param monthsAhead 事前作成する月数
+     */
+    public EnsureLedgerPartitionsProcedure(Integer monthsAhead) {
+        super(new ResultRowMapper());
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 作成されたパーティション名 */
+        private String partitionName;
+
+        public String getPartitionName() { return partitionName; }
+        public void setPartitionName(String partitionName) { this.partitionName = partitionName; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setPartitionName(rs.getString("partition_name"));
+            return result;
+        }
+    }
+}
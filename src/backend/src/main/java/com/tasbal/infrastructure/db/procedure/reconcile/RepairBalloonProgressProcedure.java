@@ -0,0 +1,103 @@
+package com.tasbal.infrastructure.db.procedure.reconcile;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.UUID;
+
+/**
+ * 風船進捗一括修復ストアドプロシージャ {@code sp_repair_balloon_progress} の呼び出しクラス。
+ *
+ * <p>このクラスは再集計で求めた期待値を配列パラメータでまとめて渡し、
+ * 1つの風船の複数の集計単位を1回の呼び出しで修復します。
+ * 各配列の同じ添字の要素が1つの集計単位に対応します。</p>
+ *
+ * <p>既存行は走査時点の{@code lock_version}と一致する場合のみ更新されるため、
+ * 走査後に加算された進捗を上書きすることはありません。
+ * {@code lock_version}がnullの要素は進捗行が存在しない集計単位として新規作成されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_repair_balloon_progress")
+public class RepairBalloonProgressProcedure extends BaseStoredProcedure<RepairBalloonProgressProcedure.Result> {
+
+    /** 対象の風船ID */
+    @Parameter("p_balloon_id")
+    private UUID balloonId;
+
+    /** 集計単位区分値の配列 */
+    @Parameter("p_unit_types")
+    private int[] unitTypes;
+
+    /** 集計単位キーの配列 */
+    @Parameter("p_unit_keys")
+    private String[] unitKeys;
+
+    /** 現在値の配列 */
+    @Parameter("p_current_values")
+    private int[] currentValues;
+
+    /** 次回の割れに必要な量の配列 */
+    @Parameter("p_next_thresholds")
+    private int[] nextThresholds;
+
+    /** 割れ回数の配列 */
+    @Parameter("p_break_counts")
+    private int[] breakCounts;
+
+    /** 走査時点の楽観的ロックのバージョンの配列（進捗行が存在しない場合はnull） */
+    @Parameter("p_lock_versions")
+    private Integer[] lockVersions;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 対象の風船ID
+     * @param unitTypes 集計単位区分値の配列
+     * @param unitKeys 集計単位キーの配列
+     * @param currentValues 現在値の配列
+     * @param nextThresholds 次回の割れに必要な量の配列
+     * @param breakCounts 割れ回数の配列
+     * @param lockVersions 走査時点の楽観的ロックのバージョンの配列
+     */
+    public RepairBalloonProgressProcedure(UUID balloonId, int[] unitTypes, String[] unitKeys, int[] currentValues,
+                                          int[] nextThresholds, int[] breakCounts, Integer[] lockVersions) {
+        super(new ResultRowMapper());
+        this.balloonId = balloonId;
+        this.unitTypes = unitTypes;
+        this.unitKeys = unitKeys;
+        this.currentValues = currentValues;
+        this.nextThresholds = nextThresholds;
+        this.breakCounts = breakCounts;
+        this.lockVersions = lockVersions;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 修復された進捗行の数 */
+        private Integer repairedCount;
+
+        public Integer getRepairedCount() { return repairedCount; }
+        public void setRepairedCount(Integer repairedCount) { this.repairedCount = repairedCount; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(java.sql.ResultSet rs, int rowNum) throws java.sql.SQLException {
+            Result result = new Result();
+            result.setRepairedCount(rs.getInt("repaired_count"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.tasbal.infrastructure.db.procedure.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークン使用ストアドプロシージャ {@code sp_consume_transfer_token} の呼び出しクラス。
+ *
+ * <p>このクラスはトークンを1文の更新で使用済みにし、端末を引き継ぎ元のユーザーに紐付け直して
+ * セッションを作成します。端末に紐付いていた別のゲストユーザーのデータを統合する場合は、
+ * 統合したユーザーのIDが返されます。端末・トークンが無効（不正・使用済み・期限切れ）な場合は0行が返されます。</p>
+ *
+ * <p>対話的なリクエストのため書き込み用のコネクションプールで実行します。
+ * 統合はデータ量に比例して時間がかかるため、統合する場合のみ同じトランザクション内で
+ * 先に{@code statement_timeout}を延長します（{@code SET LOCAL}相当のためトランザクションの終了で元に戻ります）。
+ * {@code statement_timeout}は文の開始時に適用されるため、{@code sp_merge_users}の中では延長できません。
+ * トランザクション内で呼び出してください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@StoredProcedure("sp_consume_transfer_token")
+public class ConsumeTransferTokenProcedure extends BaseStoredProcedure<ConsumeTransferTokenProcedure.Result> {
+
+    /** 引き継ぎ先の端末の端末キーのハッシュ */
+    @Parameter("p_device_fingerprint")
+    private String deviceFingerprint;
+
+    /** 引き継ぎトークンのハッシュ */
+    @Parameter("p_token_hash")
+    private String tokenHash;
+
+    /** リフレッシュトークンのハッシュ */
+    @Parameter("p_refresh_token_hash")
+    private String refreshTokenHash;
+
+    /** 端末に紐付いていた別のゲストユーザーのデータを統合するか */
+    @Parameter("p_merge_device_user")
+    private Boolean mergeDeviceUser;
+
+    /** 統合する場合の{@code statement_timeout} */
+    private final Duration mergeStatementTimeout;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param deviceFingerprint 引き継ぎ先の端末の端末キーのハッシュ
+     * @param tokenHash 引き継ぎトークンのハッシュ
+     * @param refreshTokenHash リフレッシュトークンのハッシュ
+     * @param mergeDeviceUser 端末に紐付いていた別のゲストユーザーのデータを統合するか
+     * @param mergeStatementTimeout 統合する場合の{@code statement_timeout}
+     */
+    public ConsumeTransferTokenProcedure(String deviceFingerprint, String tokenHash, String refreshTokenHash,
+                                         Boolean mergeDeviceUser, Duration mergeStatementTimeout) {
+        super(new ResultRowMapper());
+        this.deviceFingerprint = deviceFingerprint;
+        this.tokenHash = tokenHash;
+        this.refreshTokenHash = refreshTokenHash;
+        this.mergeDeviceUser = mergeDeviceUser;
+        this.mergeStatementTimeout = mergeStatementTimeout;
+    }
+
+    /**
+     * 統合する場合は{@code statement_timeout}を延長してから、ストアドプロシージャを実行します。
+     *
+     * @param jdbcTemplate JDBCテンプレート
+     * @return ストアドプロシージャの実行結果のリスト
+     */
+    @Override
+    public List<Result> executeWith(JdbcTemplate jdbcTemplate) {
+        if (Boolean.TRUE.equals(mergeDeviceUser)) {
+            jdbcTemplate.queryForObject("SELECT set_config('statement_timeout', ?, true)", String.class,
+                    mergeStatementTimeout.toMillis() + "ms");
+        }
+        return super.executeWith(jdbcTemplate);
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private String handle;
+        private Short plan;
+        private Boolean isGuest;
+        private Short authState;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime updatedAt;
+        private OffsetDateTime lastLoginAt;
+        private UUID sessionId;
+        private UUID deviceId;
+        private UUID mergedUserId;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public String getHandle() { return handle; }
+        public void setHandle(String handle) { this.handle = handle; }
+        public Short getPlan() { return plan; }
+        public void setPlan(Short plan) { this.plan = plan; }
+        public Boolean getIsGuest() { return isGuest; }
+        public void setIsGuest(Boolean isGuest) { this.isGuest = isGuest; }
+        public Short getAuthState() { return authState; }
+        public void setAuthState(Short authState) { this.authState = authState; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public OffsetDateTime getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+        public OffsetDateTime getLastLoginAt() { return lastLoginAt; }
+        public void setLastLoginAt(OffsetDateTime lastLoginAt) { this.lastLoginAt = lastLoginAt; }
+        public UUID getSessionId() { return sessionId; }
+        public void setSessionId(UUID sessionId) { this.sessionId = sessionId; }
+        public UUID getDeviceId() { return deviceId; }
+        public void setDeviceId(UUID deviceId) { this.deviceId = deviceId; }
+        public UUID getMergedUserId() { return mergedUserId; }
+        public void setMergedUserId(UUID mergedUserId) { this.mergedUserId = mergedUserId; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setHandle(rs.getString("handle"));
+            result.setPlan(rs.getShort("plan"));
+            result.setIsGuest(rs.getBoolean("is_guest"));
+            result.setAuthState(rs.getShort("auth_state"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
+            result.setLastLoginAt(rs.getObject("last_login_at", OffsetDateTime.class));
+            result.setSessionId((UUID) rs.getObject("session_id"));
+            result.setDeviceId((UUID) rs.getObject("device_id"));
+            result.setMergedUserId((UUID) rs.getObject("merged_user_id"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.tasbal.infrastructure.db.procedure.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 期限切れ引き継ぎトークン削除ストアドプロシージャ {@code sp_delete_expired_transfer_tokens} の呼び出しクラス。
+ *
+ * <p>このクラスは期限切れの引き継ぎトークンを1回の呼び出しにつき最大{@code batchSize}件削除します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_delete_expired_transfer_tokens")
+public class DeleteExpiredTransferTokensProcedure extends BaseStoredProcedure<DeleteExpiredTransferTokensProcedure.Result> {
+
+    /** 1回で削除する最大件数 */
+    @Parameter("p_batch_size")
+    private Integer batchSize;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param batchSize 1回で削除する最大件数
+     */
+    public DeleteExpiredTransferTokensProcedure(Integer batchSize) {
+        super(new ResultRowMapper());
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 削除された件数 */
+        private int deletedCount;
+
+        public int getDeletedCount() { return deletedCount; }
+        public void setDeletedCount(int deletedCount) { this.deletedCount = deletedCount; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setDeletedCount(rs.getInt("deleted_count"));
+            return result;
+        }
+    }
+}
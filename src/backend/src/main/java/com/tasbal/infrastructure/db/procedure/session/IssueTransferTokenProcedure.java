@@ -0,0 +1,80 @@
+package com.tasbal.infrastructure.db.procedure.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークン発行ストアドプロシージャ {@code sp_issue_transfer_token} の呼び出しクラス。
+ *
+ * <p>このクラスはトークンのハッシュを保存し、同じユーザーの未使用のトークンを削除します。
+ * ユーザーに端末がない場合は0行が返されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@StoredProcedure("sp_issue_transfer_token")
+public class IssueTransferTokenProcedure extends BaseStoredProcedure<IssueTransferTokenProcedure.Result> {
+
+    /** 引き継ぎ元のユーザーID */
+    @Parameter("p_user_id")
+    private UUID userId;
+
+    /** トークンのハッシュ */
+    @Parameter("p_token_hash")
+    private String tokenHash;
+
+    /** 有効期間（分） */
+    @Parameter("p_expires_in_minutes")
+    private Integer expiresInMinutes;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param userId 引き継ぎ元のユーザーID
+     * @param tokenHash トークンのハッシュ
+     * @param expiresInMinutes 有効期間（分）
+     */
+    public IssueTransferTokenProcedure(UUID userId, String tokenHash, Integer expiresInMinutes) {
+        super(new ResultRowMapper());
+        this.userId = userId;
+        this.tokenHash = tokenHash;
+        this.expiresInMinutes = expiresInMinutes;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private OffsetDateTime expiresAt;
+        private OffsetDateTime createdAt;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public OffsetDateTime getExpiresAt() { return expiresAt; }
+        public void setExpiresAt(OffsetDateTime expiresAt) { this.expiresAt = expiresAt; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setExpiresAt(rs.getObject("expires_at", OffsetDateTime.class));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.tasbal.infrastructure.db.procedure.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 端末登録ストアドプロシージャ {@code sp_register_device} の呼び出しクラス。
+ *
+ * <p>このクラスは初回起動時の端末を登録します。端末キーそのものは渡さず、
+ * SHA-256 のハッシュを{@code device_fingerprint}として保存します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@StoredProcedure("sp_register_device")
+public class RegisterDeviceProcedure extends BaseStoredProcedure<RegisterDeviceProcedure.Result> {
+
+    /** 端末キーのハッシュ */
+    @Parameter("p_device_fingerprint")
+    private String deviceFingerprint;
+
+    /** 端末名 */
+    @Parameter("p_device_name")
+    private String deviceName;
+
+    /** プラットフォーム区分値 */
+    @Parameter("p_platform")
+    private Short platform;
+
+    /** アプリのバージョン */
+    @Parameter("p_app_version")
+    private String appVersion;
+
+    /** OSのバージョン */
+    @Parameter("p_os_version")
+    private String osVersion;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param deviceFingerprint 端末キーのハッシュ
+     * @param deviceName 端末名
+     * @param platform プラットフォーム区分値
+     * @param appVersion アプリのバージョン
+     * @param osVersion OSのバージョン
+     */
+    public RegisterDeviceProcedure(String deviceFingerprint, String deviceName, Short platform,
+                                   String appVersion, String osVersion) {
+        super(new ResultRowMapper());
+        this.deviceFingerprint = deviceFingerprint;
+        this.deviceName = deviceName;
+        this.platform = platform;
+        this.appVersion = appVersion;
+        this.osVersion = osVersion;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private UUID userId;
+        private String deviceName;
+        private short platform;
+        private String appVersion;
+        private String osVersion;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime lastSeenAt;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public UUID getUserId() { return userId; }
+        public void setUserId(UUID userId) { this.userId = userId; }
+        public String getDeviceName() { return deviceName; }
+        public void setDeviceName(String deviceName) { this.deviceName = deviceName; }
+        public short getPlatform() { return platform; }
+        public void setPlatform(short platform) { this.platform = platform; }
+        public String getAppVersion() { return appVersion; }
+        public void setAppVersion(String appVersion) { this.appVersion = appVersion; }
+        public String getOsVersion() { return osVersion; }
+        public void setOsVersion(String osVersion) { this.osVersion = osVersion; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public OffsetDateTime getLastSeenAt() { return lastSeenAt; }
+        public void setLastSeenAt(OffsetDateTime lastSeenAt) { this.lastSeenAt = lastSeenAt; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setUserId((UUID) rs.getObject("user_id"));
+            result.setDeviceName(rs.getString("device_name"));
+            result.setPlatform(rs.getShort("platform"));
+            result.setAppVersion(rs.getString("app_version"));
+            result.setOsVersion(rs.getString("os_version"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            result.setLastSeenAt(rs.getObject("last_seen_at", OffsetDateTime.class));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.tasbal.infrastructure.db.procedure.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * ゲスト開始ストアドプロシージャ {@code sp_start_guest_session} の呼び出しクラス。
+ *
+ * <p>このクラスは端末キーのハッシュで端末を特定し、端末に紐付いたゲストユーザー
+ * （未紐付けの場合は新規作成）のセッションを1回の呼び出しで作成します。
+ * 端末が存在しない場合は0行が返されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@StoredProcedure("sp_start_guest_session")
+public class StartGuestSessionProcedure extends BaseStoredProcedure<StartGuestSessionProcedure.Result> {
+
+    /** 端末キーのハッシュ */
+    @Parameter("p_device_fingerprint")
+    private String deviceFingerprint;
+
+    /** リフレッシュトークンのハッシュ */
+    @Parameter("p_refresh_token_hash")
+    private String refreshTokenHash;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param deviceFingerprint 端末キーのハッシュ
+     * @param refreshTokenHash リフレッシュトークンのハッシュ
+     */
+    public StartGuestSessionProcedure(String deviceFingerprint, String refreshTokenHash) {
+        super(new ResultRowMapper());
+        this.deviceFingerprint = deviceFingerprint;
+        this.refreshTokenHash = refreshTokenHash;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        private UUID id;
+        private String handle;
+        private Short plan;
+        private Boolean isGuest;
+        private Short authState;
+        private OffsetDateTime createdAt;
+        private OffsetDateTime updatedAt;
+        private OffsetDateTime lastLoginAt;
+        private UUID sessionId;
+        private UUID deviceId;
+
+        public UUID getId() { return id; }
+        public void setId(UUID id) { this.id = id; }
+        public String getHandle() { return handle; }
+        public void setHandle(String handle) { this.handle = handle; }
+        public Short getPlan() { return plan; }
+        public void setPlan(Short plan) { this.plan = plan; }
+        public Boolean getIsGuest() { return isGuest; }
+        public void setIsGuest(Boolean isGuest) { this.isGuest = isGuest; }
+        public Short getAuthState() { return authState; }
+        public void setAuthState(Short authState) { this.authState = authState; }
+        public OffsetDateTime getCreatedAt() { return createdAt; }
+        public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+        public OffsetDateTime getUpdatedAt() { return updatedAt; }
+        public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+        public OffsetDateTime getLastLoginAt() { return lastLoginAt; }
+        public void setLastLoginAt(OffsetDateTime lastLoginAt) { this.lastLoginAt = lastLoginAt; }
+        public UUID getSessionId() { return sessionId; }
+        public void setSessionId(UUID sessionId) { this.sessionId = sessionId; }
+        public UUID getDeviceId() { return deviceId; }
+        public void setDeviceId(UUID deviceId) { this.deviceId = deviceId; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setId((UUID) rs.getObject("id"));
+            result.setHandle(rs.getString("handle"));
+            result.setPlan(rs.getShort("plan"));
+            result.setIsGuest(rs.getBoolean("is_guest"));
+            result.setAuthState(rs.getShort("auth_state"));
+            result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+            result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
+            result.setLastLoginAt(rs.getObject("last_login_at", OffsetDateTime.class));
+            result.setSessionId((UUID) rs.getObject("session_id"));
+            result.setDeviceId((UUID) rs.getObject("device_id"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.tasbal.infrastructure.db.procedure.session;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 最終利用日時一括更新ストアドプロシージャ {@code sp_touch_sessions} の呼び出しクラス。
+ *
+ * <p>このクラスはメモリ上にまとめたセッション・端末の最終利用日時を配列パラメータで渡し、
+ * 1回の呼び出しで更新します。各配列の同じ添字の要素が1件に対応します。
+ * 他のトランザクションがロック中の行は読み飛ばされます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_touch_sessions")
+public class TouchSessionsProcedure extends BaseStoredProcedure<TouchSessionsProcedure.Result> {
+
+    /** セッションIDの配列 */
+    @Parameter("p_session_ids")
+    private String[] sessionIds;
+
+    /** セッションの最終利用日時（エポックミリ秒）の配列 */
+    @Parameter("p_session_used_millis")
+    private long[] sessionUsedMillis;
+
+    /** 端末IDの配列 */
+    @Parameter("p_device_ids")
+    private String[] deviceIds;
+
+    /** 端末の最終利用日時（エポックミリ秒）の配列 */
+    @Parameter("p_device_seen_millis")
+    private long[] deviceSeenMillis;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param sessionIds セッションIDの配列
+     * @param sessionUsedMillis セッションの最終利用日時（エポックミリ秒）の配列
+     * @param deviceIds 端末IDの配列
+     * @param deviceSeenMillis 端末の最終利用日時（エポックミリ秒）の配列
+     */
+    public TouchSessionsProcedure(String[] sessionIds, long[] sessionUsedMillis, String[] deviceIds, long[] deviceSeenMillis) {
+        super(new ResultRowMapper());
+        this.sessionIds = sessionIds;
+        this.sessionUsedMillis = sessionUsedMillis;
+        this.deviceIds = deviceIds;
+        this.deviceSeenMillis = deviceSeenMillis;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 更新されたセッションの数 */
+        private int sessionCount;
+        /** 更新された端末の数 */
+        private int deviceCount;
+
+        public int getSessionCount() { return sessionCount; }
+        public void setSessionCount(int sessionCount) { this.sessionCount = sessionCount; }
+        public int getDeviceCount() { return deviceCount; }
+        public void setDeviceCount(int deviceCount) { this.deviceCount = deviceCount; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setSessionCount(rs.getInt("session_count"));
+            result.setDeviceCount(rs.getInt("device_count"));
+            return result;
+        }
+    }
+}
@@ -3,16 +3,25 @@ package com.tasbal.infrastructure.db.procedure.task;
 import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
 import com.tasbal.infrastructure.db.common.annotation.Parameter;
 import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.domain.model.ContributionTarget;
 import org.springframework.jdbc.core.RowMapper;
 
 import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * タスク完了状態切り替えストアドプロシージャ {@code sp_toggle_task_completion} の呼び出しクラス。
  *
  * <p>このクラスはタスクの完了/未完了状態を切り替えます。
- * 完了時には完了日時が設定され、未完了時には完了日時がクリアされます。</p>
+ * 完了時には完了日時が設定され、未完了時には完了日時がクリアされます。
+ * 完了時には選択中のすべての風船へ1回の一括加算で貢献が加算され、加算された風船IDの一覧も返されます。</p>
+ *
+ * <p>加算先（選択中の風船と集計単位）を呼び出し側で解決済みの場合は、
+ * {@link #ToggleTaskCompletionProcedure(UUID, UUID, Boolean, List)}で指定すると
+ * ストアドプロシージャ内での balloon_selections・balloons の参照を省略します。
+ * 加算先は同じ添字の要素が1件に対応する配列で渡し、UUIDはテキスト配列としてSQL側でキャストします。</p>
  *
  * @author Tasbal Team
  * @since 1.0.0
@@ -32,18 +41,61 @@ public class ToggleTaskCompletionProcedure extends BaseStoredProcedure<ToggleTas
     @Parameter("p_is_done")
     private Boolean isDone;
 
+    /** 加算先の解決済みフラグ（true: 以下の加算先を使用、false: データベースで解決） */
+    @Parameter("p_target_resolved")
+    private Boolean targetResolved;
+
+    /** 加算先の風船IDの配列（選択中の風船がない場合は空） */
+    @Parameter("p_balloon_ids")
+    private String[] balloonIds;
+
+    /** 加算先の集計単位区分値の配列 */
+    @Parameter("p_unit_types")
+    private int[] unitTypes;
+
+    /** 加算先の集計単位キーの配列 */
+    @Parameter("p_unit_keys")
+    private String[] unitKeys;
+
     /**
      * コンストラクタ。
      *
+     * <p>加算先はデータベースで解決されます。</p>
+     *
      * @param taskId タスクID
      * @param userId ユーザーID
      * @param isDone 完了フラグ（true: 完了、false: 未完了）
      */
     public ToggleTaskCompletionProcedure(UUID taskId, UUID userId, Boolean isDone) {
+        this(taskId, userId, isDone, null);
+    }
+
+    /**
+     * コンストラクタ。
+     *
+     * @param taskId タスクID
+     * @param userId ユーザーID
+     * @param isDone 完了フラグ（true: 完了、false: 未完了）
+     * @param targets 解決済みの加算先の一覧（nullの場合はデータベースで解決）
+     */
+    public ToggleTaskCompletionProcedure(UUID taskId, UUID userId, Boolean isDone, List<ContributionTarget> targets) {
         super(new ResultRowMapper());
         this.taskId = taskId;
         this.userId = userId;
         this.isDone = isDone;
+        this.targetResolved = targets != null;
+        if (targets != null) {
+            int size = targets.size();
+            this.balloonIds = new String[size];
+            this.unitTypes = new int[size];
+            this.unitKeys = new String[size];
+            for (int i = 0; i < size; i++) {
+                ContributionTarget target = targets.get(i);
+                this.balloonIds[i] = target.getBalloonId().toString();
+                this.unitTypes[i] = target.getUnitType();
+                this.unitKeys[i] = target.getUnitKey();
+            }
+        }
     }
 
     /**
@@ -86,6 +138,9 @@ public class ToggleTaskCompletionProcedure extends BaseStoredProcedure<ToggleTas
         /** 削除日時 */
         private OffsetDateTime deletedAt;
 
+        /** 貢献が加算された風船のIDの一覧（加算されなかった場合は空） */
+        private List<UUID> contributedBalloonIds;
+
         public UUID getId() { return id; }
         public void setId(UUID id) { this.id = id; }
         public UUID getUserId() { return userId; }
@@ -110,6 +165,8 @@ public class ToggleTaskCompletionProcedure extends BaseStoredProcedure<ToggleTas
         public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
         public OffsetDateTime getDeletedAt() { return deletedAt; }
         public void setDeletedAt(OffsetDateTime deletedAt) { this.deletedAt = deletedAt; }
+        public List<UUID> getContributedBalloonIds() { return contributedBalloonIds; }
+        public void setContributedBalloonIds(List<UUID> contributedBalloonIds) { this.contributedBalloonIds = contributedBalloonIds; }
     }
 
     /**
@@ -131,6 +188,10 @@ public class ToggleTaskCompletionProcedure extends BaseStoredProcedure<ToggleTas
             result.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
             result.setUpdatedAt(rs.getObject("updated_at", OffsetDateTime.class));
             result.setDeletedAt(rs.getObject("deleted_at", OffsetDateTime.class));
+            java.sql.Array contributed = rs.getArray("contributed_balloon_ids");
+            result.setContributedBalloonIds(contributed != null
+                    ? Arrays.asList((UUID[]) contributed.getArray())
+                    : List.of());
             return result;
         }
     }
@@ -0,0 +1,100 @@
+package com.tasbal.infrastructure.db.procedure.user;
+
+import com.tasbal.infrastructure.db.common.BaseStoredProcedure;
+import com.tasbal.infrastructure.db.common.WorkloadClass;
+import com.tasbal.infrastructure.db.common.annotation.Parameter;
+import com.tasbal.infrastructure.db.common.annotation.StoredProcedure;
+import com.tasbal.infrastructure.db.common.annotation.Workload;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 非アクティブなゲストユーザー削除ストアドプロシージャ {@code sp_purge_inactive_guests} の呼び出しクラス。
+ *
+ * <p>このクラスは{@code afterId}より後のゲストユーザーのうち、{@code inactiveBefore}以降に利用されていないユーザーを
+ * IDの順に最大{@code batchSize}件ロックして削除します。ロック待ちが{@code lockTimeoutMs}を超えたユーザーは読み飛ばし、
+ * 処理時間が{@code timeBudgetMs}を超えた場合は残りを次のバッチに回します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Workload(WorkloadClass.BACKGROUND)
+@StoredProcedure("sp_purge_inactive_guests")
+public class PurgeInactiveGuestsProcedure extends BaseStoredProcedure<PurgeInactiveGuestsProcedure.Result> {
+
+    /** この日時より前から利用されていないゲストユーザーを削除する */
+    @Parameter("p_inactive_before")
+    private OffsetDateTime inactiveBefore;
+
+    /** 走査を開始するユーザーID（このIDより後から走査、nullの場合は先頭から） */
+    @Parameter("p_after_id")
+    private UUID afterId;
+
+    /** 1回で走査する最大件数 */
+    @Parameter("p_batch_size")
+    private Integer batchSize;
+
+    /** 1回の処理時間の上限（ミリ秒） */
+    @Parameter("p_time_budget_ms")
+    private Integer timeBudgetMs;
+
+    /** ロック待ちの上限（ミリ秒） */
+    @Parameter("p_lock_timeout_ms")
+    private Integer lockTimeoutMs;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param inactiveBefore この日時より前から利用されていないゲストユーザーを削除する
+     * @param afterId 走査を開始するユーザーID（nullの場合は先頭から）
+     * @param batchSize 1回で走査する最大件数
+     * @param timeBudgetMs 1回の処理時間の上限（ミリ秒）
+     * @param lockTimeoutMs ロック待ちの上限（ミリ秒）
+     */
+    public PurgeInactiveGuestsProcedure(OffsetDateTime inactiveBefore, UUID afterId, Integer batchSize,
+                                        Integer timeBudgetMs, Integer lockTimeoutMs) {
+        super(new ResultRowMapper());
+        this.inactiveBefore = inactiveBefore;
+        this.afterId = afterId;
+        this.batchSize = batchSize;
+        this.timeBudgetMs = timeBudgetMs;
+        this.lockTimeoutMs = lockTimeoutMs;
+    }
+
+    /**
+     * ストアドプロシージャの戻り値を表すクラス。
+     */
+    public static class Result {
+        /** 走査したゲストユーザーの件数 */
+        private int scannedCount;
+        /** 削除したゲストユーザーの件数 */
+        private int deletedCount;
+        /** 最後に走査したユーザーID（走査したユーザーがいない場合はnull） */
+        private UUID lastId;
+
+        public int getScannedCount() { return scannedCount; }
+        public void setScannedCount(int scannedCount) { this.scannedCount = scannedCount; }
+        public int getDeletedCount() { return deletedCount; }
+        public void setDeletedCount(int deletedCount) { this.deletedCount = deletedCount; }
+        public UUID getLastId() { return lastId; }
+        public void setLastId(UUID lastId) { this.lastId = lastId; }
+    }
+
+    /**
+     * ResultSetから Result へのマッピングを行う RowMapper。
+     */
+    private static class ResultRowMapper implements RowMapper<Result> {
+        @Override
+        public Result mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Result result = new Result();
+            result.setScannedCount(rs.getInt("scanned_count"));
+            result.setDeletedCount(rs.getInt("deleted_count"));
+            result.setLastId((UUID) rs.getObject("last_id"));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * キーごとのトークンバケットを保持する上限付きのマップ。
+ *
+ * <p>ユーザーID・端末・IPアドレスなどのキーごとに同じ容量・補充速度の{@link TokenBucket}を保持します。
+ * 満杯のまま{@code idleNanos}以上使われていないバケットは{@link #evictIdle(long)}で破棄します
+ * （破棄しても次回作成時と同じ満杯の状態になるため、制限が緩むことはありません）。</p>
+ *
+ * <h3>保持件数の上限:</h3>
+ * <p>保持件数が{@code maxKeys}に達した場合は未使用のバケットを破棄し（全件の走査は1秒に1回まで）、
+ * それでも上限に達している場合は最後の利用（拒否されたリクエストを含む）が最も古いバケットから{@code maxKeys}の1/10を破棄します。
+ * キーを変えながらのリクエストでメモリを使い切ることはなく、破棄されるのは使われなくなった順のため、
+ * リクエストを続けている制限中のキーのバケットが新しいキーに押し出されることはほとんどありません。
+ * 他のキーが上限を超えても、正規のキーが共有のバケットで制限されることはありません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TokenBucket
+ */
+public final class KeyedTokenBuckets {
+
+    private static final long FULL_EVICTION_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long capacity;
+    private final double refillPerSecond;
+    private final int maxKeys;
+    private final long idleNanos;
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    private final AtomicLong nextFullEviction = new AtomicLong(System.nanoTime());
+
+    /**
+     * コンストラクタ。
+     *
+     * @param capacity バケットの容量（連続して許可する最大リクエスト数）
+     * @param refillPerSecond 1秒あたりの補充トークン数
+     * @param maxKeys 保持する最大キー数
+     * @param idleNanos 未使用のバケットを破棄するまでの時間（ナノ秒）
+     */
+    public KeyedTokenBuckets(long capacity, double refillPerSecond, int maxKeys, long idleNanos) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.maxKeys = maxKeys;
+        this.idleNanos = idleNanos;
+    }
+
+    /**
+     * キーのトークンバケットを取得します（存在しない場合は作成します）。
+     *
+     * @param key キー
+     * @param now 現在時刻（{@link System#nanoTime()}）
+     * @return トークンバケット
+     */
+    public TokenBucket get(String key, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            long next = nextFullEviction.get();
+            if (now - next >= 0 && nextFullEviction.compareAndSet(next, now + FULL_EVICTION_INTERVAL_NANOS)) {
+                evictIdle(now);
+            }
+            synchronized (evictionLock) {
+                if (buckets.size() >= maxKeys) {
+                    evictLeastRecentlyUsed(Math.max(1, maxKeys / 10));
+                }
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, refillPerSecond));
+    }
+
+    /**
+     * 満杯のまま使われていないバケットを破棄します。
+     *
+     * @param now 現在時刻（{@link System#nanoTime()}）
+     * @return 破棄したバケットの数
+     */
+    public int evictIdle(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        return before - buckets.size();
+    }
+
+    /**
+     * 最後の利用が最も古いバケットを指定数だけ破棄します。
+     *
+     * @param count 破棄するバケットの数
+     * @return 破棄したバケットの数
+     */
+    int evictLeastRecentlyUsed(int count) {
+        // 最後の利用が新しいものを先頭にした上限 count 件のヒープで、古い順の count 件を残す
+        PriorityQueue<Map.Entry<String, Long>> oldest = new PriorityQueue<>(count + 1,
+                Map.Entry.<String, Long>comparingByValue().reversed());
+        for (Map.Entry<String, TokenBucket> entry : buckets.entrySet()) {
+            oldest.add(Map.entry(entry.getKey(), entry.getValue().lastAccessNanos()));
+            if (oldest.size() > count) {
+                oldest.poll();
+            }
+        }
+        int evicted = 0;
+        for (Map.Entry<String, Long> entry : oldest) {
+            if (buckets.remove(entry.getKey()) != null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 保持しているキーの数を取得します。
+     *
+     * @return 保持件数
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
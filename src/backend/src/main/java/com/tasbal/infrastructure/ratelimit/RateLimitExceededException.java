@@ -0,0 +1,31 @@
+package com.tasbal.infrastructure.ratelimit;
+
+/**
+ * レート制限超過例外。
+ *
+ * <p>トークンバケットなどによるレート制限でリクエストが拒否された場合にスローされます。
+ * {@link com.tasbal.presentation.exception.GlobalExceptionHandler}により
+ * HTTPステータス429（Too Many Requests）と{@code Retry-After}ヘッダーに変換されます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param message エラーメッセージ
+     * @param retryAfterSeconds 再試行までの推奨待ち時間（秒）
+     */
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,163 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.tasbal.infrastructure.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * リクエストをユーザー・端末・IPアドレスごとのトークンバケットで制限するフィルター。
+ *
+ * <p>{@link JwtAuthenticationFilter}の前に実行し、{@link RateLimitPolicy}の規則に一致したリクエストの
+ * トークンを消費します。トークンが不足している場合は認証（セッションの有効性の確認）とコントローラーに進まずに、
+ * 共通エラーフォーマットの429と{@code Retry-After}ヘッダーを返します。
+ * 判定はメモリ上のトークンバケットのみで行うため、制限を超えたリクエストがデータベースにアクセスすることはありません。</p>
+ *
+ * <p>ユーザー・端末は、アクセストークンの{@code sub}・{@code sid}クレームを署名を検証せずに読み取って特定します。
+ * 署名が不正なトークンは直後の{@link JwtAuthenticationFilter}でデータベースにアクセスせずに拒否されるため、
+ * クレームを偽装しても制限を回避してデータベースに負荷をかけることはできません。
+ * アクセストークンがない・読み取れない場合はIPアドレスで制限します。</p>
+ *
+ * <h3>レスポンス例:</h3>
+ * <pre>
+ * {
+ *   "error": {
+ *     "code": "TOO_MANY_REQUESTS",
+ *     "message": "Rate limit exceeded",
+ *     "details": { "retryAfterSeconds": 3 }
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>未使用のトークンバケットは、リクエストを処理するスレッドのうち1つが{@code idle}ごとにまとめて破棄します。
+ * 拒否したリクエスト数は規則ごとに{@code tasbal.ratelimit.rejected}カウンタとして公開します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see RateLimitPolicy
+ * @see KeyedTokenBuckets
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final RateLimitPolicy policy;
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    private final long evictionIntervalNanos;
+    private final AtomicLong nextEviction;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param policy レート制限の規則
+     * @param meterRegistry メトリクスレジストリ
+     */
+    public RateLimitFilter(RateLimitPolicy policy, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        for (RateLimitRule rule : policy.getRules()) {
+            rejectedCounters.computeIfAbsent(rule.getName(),
+                    name -> meterRegistry.counter("tasbal.ratelimit.rejected", "rule", name));
+        }
+        this.evictionIntervalNanos = policy.getIdle().toNanos();
+        this.nextEviction = new AtomicLong(System.nanoTime() + evictionIntervalNanos);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !policy.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        evictIdleIfDue(now);
+
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitRule rule : policy.getRules()) {
+            if (!rule.matches(method, path)) {
+                continue;
+            }
+            TokenBucket bucket = rule.getBuckets().get(resolveKey(rule.getKey(), request), now);
+            if (!bucket.tryConsume(1, now)) {
+                rejectedCounters.get(rule.getName()).increment();
+                long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(bucket.nanosUntilAvailable(1)) + 1);
+                reject(response, retryAfter);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static String resolveKey(RateLimitKey key, HttpServletRequest request) {
+        JWTClaimsSet claims = key != RateLimitKey.IP ? unverifiedClaims(request) : null;
+        if (claims != null) {
+            if (key == RateLimitKey.DEVICE) {
+                Object sessionId = claims.getClaim(JwtAuthenticationFilter.SESSION_ID_CLAIM);
+                if (sessionId != null) {
+                    return "s:" + sessionId;
+                }
+            }
+            if (claims.getSubject() != null) {
+                return "u:" + claims.getSubject();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * アクセストークンのクレームを署名を検証せずに読み取ります。
+     *
+     * @param request リクエスト
+     * @return クレーム（アクセストークンがない・読み取れない場合はnull）
+     */
+    private static JWTClaimsSet unverifiedClaims(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        try {
+            return JWTParser.parse(authorization.substring(BEARER_PREFIX.length()).strip()).getJWTClaimsSet();
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    private void evictIdleIfDue(long now) {
+        long next = nextEviction.get();
+        if (now - next < 0 || !nextEviction.compareAndSet(next, now + evictionIntervalNanos)) {
+            return;
+        }
+        for (RateLimitRule rule : policy.getRules()) {
+            rule.getBuckets().evictIdle(now);
+        }
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        byte[] body = ("{\"error\":{\"code\":\"TOO_MANY_REQUESTS\",\"message\":\"Rate limit exceeded\","
+                + "\"details\":{\"retryAfterSeconds\":" + retryAfterSeconds + "}}}").getBytes(StandardCharsets.UTF_8);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tasbal.infrastructure.ratelimit;
+
+/**
+ * レート制限の単位。
+ *
+ * <p>認証されていないリクエストでユーザー・端末を特定できない場合は、IPアドレスで制限します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see RateLimitRule
+ */
+public enum RateLimitKey {
+
+    /** ユーザー（アクセストークンの{@code sub}） */
+    USER,
+
+    /** 端末（アクセストークンの{@code sid}、セッションは端末ごとに作成される） */
+    DEVICE,
+
+    /** 接続元のIPアドレス */
+    IP
+}
@@ -0,0 +1,85 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * APIのレート制限の規則の一覧。
+ *
+ * <p>コネクションプールを使い切るような連続したリクエストを、データベースにアクセスする前に拒否するための規則です。
+ * リクエストは一致したすべての規則のトークンを消費し、いずれかが不足した場合に拒否されます。</p>
+ *
+ * <h3>規則:</h3>
+ * <ul>
+ *   <li>{@code anonymous}: 認証不要の作成系エンドポイント（端末登録・ゲスト開始・ゲスト作成・引き継ぎコードの使用）をIPアドレスごとに制限</li>
+ *   <li>{@code task-toggle}: タスクの完了切り替えを端末ごとに制限</li>
+ *   <li>{@code api}: すべてのAPIをユーザーごと（未認証の場合はIPアドレスごと）に制限</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see RateLimitFilter
+ */
+@Component
+public class RateLimitPolicy {
+
+    private final boolean enabled;
+    private final Duration idle;
+    private final List<RateLimitRule> rules;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param enabled レート制限を有効にする場合true
+     * @param maxKeys 規則ごとに保持する最大キー数
+     * @param idle 未使用のトークンバケットを破棄するまでの時間
+     * @param anonymousCapacity 認証不要の作成系エンドポイントの連続リクエスト数の上限
+     * @param anonymousRefillPerSecond 認証不要の作成系エンドポイントの1秒あたりの補充数
+     * @param taskToggleCapacity タスクの完了切り替えの連続リクエスト数の上限
+     * @param taskToggleRefillPerSecond タスクの完了切り替えの1秒あたりの補充数
+     * @param apiCapacity APIの連続リクエスト数の上限
+     * @param apiRefillPerSecond APIの1秒あたりの補充数
+     */
+    public RateLimitPolicy(
+            @Value("${tasbal.rate-limit.enabled:true}") boolean enabled,
+            @Value("${tasbal.rate-limit.max-keys:100000}") int maxKeys,
+            @Value("${tasbal.rate-limit.idle:PT10M}") Duration idle,
+            @Value("${tasbal.rate-limit.anonymous.capacity:10}") long anonymousCapacity,
+            @Value("${tasbal.rate-limit.anonymous.refill-per-second:0.2}") double anonymousRefillPerSecond,
+            @Value("${tasbal.rate-limit.task-toggle.capacity:20}") long taskToggleCapacity,
+            @Value("${tasbal.rate-limit.task-toggle.refill-per-second:5}") double taskToggleRefillPerSecond,
+            @Value("${tasbal.rate-limit.api.capacity:120}") long apiCapacity,
+            @Value("${tasbal.rate-limit.api.refill-per-second:30}") double apiRefillPerSecond) {
+        this.enabled = enabled;
+        this.idle = idle;
+        long idleNanos = idle.toNanos();
+        this.rules = List.of(
+                new RateLimitRule("anonymous", "POST", "/api/v1/devices/register", RateLimitKey.IP,
+                        new KeyedTokenBuckets(anonymousCapacity, anonymousRefillPerSecond, maxKeys, idleNanos)),
+                new RateLimitRule("anonymous", "POST", "/api/v1/auth/guest", RateLimitKey.IP,
+                        new KeyedTokenBuckets(anonymousCapacity, anonymousRefillPerSecond, maxKeys, idleNanos)),
+                new RateLimitRule("anonymous", "POST", "/api/v1/users/guest", RateLimitKey.IP,
+                        new KeyedTokenBuckets(anonymousCapacity, anonymousRefillPerSecond, maxKeys, idleNanos)),
+                new RateLimitRule("anonymous", "POST", "/api/v1/transfer-tokens/consume", RateLimitKey.IP,
+                        new KeyedTokenBuckets(anonymousCapacity, anonymousRefillPerSecond, maxKeys, idleNanos)),
+                new RateLimitRule("task-toggle", "POST", "/api/v1/tasks/*/toggle-done", RateLimitKey.DEVICE,
+                        new KeyedTokenBuckets(taskToggleCapacity, taskToggleRefillPerSecond, maxKeys, idleNanos)),
+                new RateLimitRule("api", null, "/api/**", RateLimitKey.USER,
+                        new KeyedTokenBuckets(apiCapacity, apiRefillPerSecond, maxKeys, idleNanos)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration getIdle() {
+        return idle;
+    }
+
+    public List<RateLimitRule> getRules() {
+        return rules;
+    }
+}
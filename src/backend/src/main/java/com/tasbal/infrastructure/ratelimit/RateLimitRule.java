@@ -0,0 +1,64 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * エンドポイントごとのレート制限の規則。
+ *
+ * <p>HTTPメソッドとパスのパターンに一致するリクエストを、{@link RateLimitKey}の単位ごとの
+ * {@link KeyedTokenBuckets}で制限します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see RateLimitFilter
+ */
+public final class RateLimitRule {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String name;
+    private final String method;
+    private final String pathPattern;
+    private final RateLimitKey key;
+    private final KeyedTokenBuckets buckets;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param name 規則の名前（メトリクスのタグ）
+     * @param method HTTPメソッド（nullの場合はすべてのメソッド）
+     * @param pathPattern パスのパターン（{@link AntPathMatcher}形式）
+     * @param key 制限の単位
+     * @param buckets 単位ごとのトークンバケット
+     */
+    public RateLimitRule(String name, String method, String pathPattern, RateLimitKey key, KeyedTokenBuckets buckets) {
+        this.name = name;
+        this.method = method;
+        this.pathPattern = pathPattern;
+        this.key = key;
+        this.buckets = buckets;
+    }
+
+    /**
+     * リクエストがこの規則の対象かを判定します。
+     *
+     * @param requestMethod リクエストのHTTPメソッド
+     * @param path リクエストのパス（コンテキストパスを除く）
+     * @return 対象の場合true
+     */
+    public boolean matches(String requestMethod, String path) {
+        return (method == null || method.equals(requestMethod)) && PATH_MATCHER.match(pathPattern, path);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RateLimitKey getKey() {
+        return key;
+    }
+
+    public KeyedTokenBuckets getBuckets() {
+        return buckets;
+    }
+}
@@ -0,0 +1,134 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ロックフリーなトークンバケット。
+ *
+ * <p>容量{@code capacity}のバケットに毎秒{@code refillPerSecond}個のトークンが補充され、
+ * リクエストは必要な数のトークンを消費できた場合のみ許可されます。
+ * 補充は消費時にまとめて計算するため、バックグラウンドのタイマーは不要です。</p>
+ *
+ * <h3>スレッドセーフティ:</h3>
+ * <p>状態（残トークン数と最終更新時刻）を不変オブジェクトとして保持し、
+ * {@link AtomicReference#compareAndSet}で更新するため、ロックを取得せずに
+ * 複数スレッドから安全に呼び出せます。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public final class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+    private volatile long lastAccessNanos;
+
+    /**
+     * 満杯の状態でバケットを構築します。
+     *
+     * @param capacity バケットの容量（一度に消費できる最大トークン数）
+     * @param refillPerSecond 1秒あたりの補充トークン数
+     * @throws IllegalArgumentException 容量または補充速度が正でない場合
+     */
+    public TokenBucket(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        this.lastAccessNanos = state.get().timestamp;
+    }
+
+    /**
+     * 指定数のトークンの消費を試みます。
+     *
+     * @param permits 消費するトークン数
+     * @return 消費できた場合true、トークンが不足している場合false
+     */
+    public boolean tryConsume(long permits) {
+        return tryConsume(permits, System.nanoTime());
+    }
+
+    /**
+     * 指定時刻における指定数のトークンの消費を試みます。
+     *
+     * @param permits 消費するトークン数
+     * @param now 現在時刻（{@link System#nanoTime()}）
+     * @return 消費できた場合true、トークンが不足している場合false
+     */
+    public boolean tryConsume(long permits, long now) {
+        if (now - lastAccessNanos > 0) {
+            lastAccessNanos = now;
+        }
+        if (permits > capacity) {
+            return false;
+        }
+        while (true) {
+            State current = state.get();
+            double available = available(current, now);
+            if (available < permits) {
+                return false;
+            }
+            State next = new State(available - permits, Math.max(now, current.timestamp));
+            if (state.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 指定数のトークンが利用可能になるまでの待ち時間を取得します。
+     *
+     * @param permits 必要なトークン数
+     * @return 待ち時間（ナノ秒）、既に利用可能な場合は0
+     */
+    public long nanosUntilAvailable(long permits) {
+        double missing = Math.min(permits, capacity) - available(state.get(), System.nanoTime());
+        return missing <= 0 ? 0 : (long) Math.ceil(missing / refillPerNano);
+    }
+
+    /**
+     * バケットが満杯のまま指定時間以上使われていないかを判定します。
+     *
+     * <p>満杯かつ未使用のバケットは破棄しても次回作成時と同じ状態になるため、
+     * キー別バケットのマップからの削除判定に使用します。</p>
+     *
+     * @param now 現在時刻（{@link System#nanoTime()}）
+     * @param idleNanos 未使用とみなす時間（ナノ秒）
+     * @return 満杯かつ未使用の場合true
+     */
+    public boolean isIdle(long now, long idleNanos) {
+        State current = state.get();
+        return now - current.timestamp >= idleNanos && available(current, now) >= capacity;
+    }
+
+    /**
+     * 最後にトークンの消費を試みた時刻を取得します（消費できなかった場合を含む）。
+     *
+     * @return 最後に消費を試みた時刻（{@link System#nanoTime()}、未使用の場合は作成時刻）
+     */
+    public long lastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    private double available(State current, long now) {
+        long elapsed = Math.max(0, now - current.timestamp);
+        return Math.min(capacity, current.tokens + elapsed * refillPerNano);
+    }
+
+    /**
+     * バケットの不変な状態。
+     */
+    private static final class State {
+        private final double tokens;
+        private final long timestamp;
+
+        private State(double tokens, long timestamp) {
+            this.tokens = tokens;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.tasbal.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * アクセストークン（JWT）の発行クラス。
+ *
+ * <p>{@code tasbal.auth.signing-key}のRSA鍵（JWK形式の秘密鍵）で RS256 の署名を行います。
+ * トークンには{@code sub}（ユーザーID）、{@code sid}（セッションID）、{@code iat}、{@code exp}、
+ * および設定されている場合は{@code iss}を含めます。</p>
+ *
+ * <p>署名鍵が設定されていない場合は起動時に一時的な鍵を生成します（ローカル開発用）。
+ * この場合、発行したトークンは再起動後や他のノードでは検証できません。
+ * 複数ノードで運用する場合は全ノードに同じ署名鍵を設定してください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see JwtAuthenticationFilter
+ */
+@Component
+public class AccessTokenIssuer {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenIssuer.class);
+
+    private final RSAKey signingKey;
+    private final JWSSigner signer;
+    private final String issuer;
+    private final Duration ttl;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param signingKey 署名鍵（JWK形式のRSA秘密鍵、未設定の場合は空）
+     * @param issuer 発行者（設定しない場合は空）
+     * @param ttl アクセストークンの有効期間
+     * @throws ParseException 署名鍵の形式が不正な場合
+     * @throws JOSEException 署名鍵が使用できない場合
+     */
+    public AccessTokenIssuer(
+            @Value("${tasbal.auth.signing-key:}") String signingKey,
+            @Value("${tasbal.auth.issuer:}") String issuer,
+            @Value("${tasbal.auth.access-token-ttl:PT1H}") Duration ttl) throws ParseException, JOSEException {
+        if (signingKey.isBlank()) {
+            log.warn("tasbal.auth.signing-key is not set; using an ephemeral key (tokens will not survive a restart)");
+            this.signingKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+        } else {
+            this.signingKey = RSAKey.parse(signingKey);
+        }
+        this.signer = new RSASSASigner(this.signingKey);
+        this.issuer = issuer;
+        this.ttl = ttl;
+    }
+
+    /**
+     * アクセストークンを発行します。
+     *
+     * @param userId ユーザーID
+     * @param sessionId セッションID
+     * @return 署名済みのアクセストークン
+     */
+    public String issue(UUID userId, UUID sessionId) {
+        Instant now = Instant.now();
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder()
+                .subject(userId.toString())
+                .claim(JwtAuthenticationFilter.SESSION_ID_CLAIM, sessionId.toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(ttl)));
+        if (!issuer.isBlank()) {
+            claims.issuer(issuer);
+        }
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+                claims.build());
+        try {
+            jwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Failed to sign access token", e);
+        }
+        return jwt.serialize();
+    }
+
+    /**
+     * アクセストークンの有効期間を取得します。
+     *
+     * @return 有効期間
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * 署名の検証に使用する公開鍵のJWKセットを取得します。
+     *
+     * @return 公開鍵のみを含むJWKセット
+     */
+    public JWKSet getPublicJwkSet() {
+        return new JWKSet(signingKey.toPublicJWK());
+    }
+}
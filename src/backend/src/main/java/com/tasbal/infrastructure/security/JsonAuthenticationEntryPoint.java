@@ -0,0 +1,53 @@
+package com.tasbal.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 認証されていないリクエストに共通エラーフォーマットの401を返すエントリーポイント。
+ *
+ * <h4>レスポンス例:</h4>
+ * <pre>
+ * {
+ *   "error": {
+ *     "code": "UNAUTHORIZED",
+ *     "message": "Authentication required"
+ *   }
+ * }
+ * </pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see com.tasbal.presentation.exception.GlobalExceptionHandler
+ */
+public class JsonAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private static final byte[] BODY =
+            "{\"error\":{\"code\":\"UNAUTHORIZED\",\"message\":\"Authentication required\"}}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 401レスポンスを書き込みます。
+     *
+     * @param request リクエスト
+     * @param response レスポンス
+     * @param authException 認証例外
+     * @throws IOException レスポンスの書き込みに失敗した場合
+     */
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(BODY.length);
+        response.getOutputStream().write(BODY);
+    }
+}
@@ -0,0 +1,71 @@
+package com.tasbal.infrastructure.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * JWKセットで署名を検証する{@link NimbusJwtDecoder}の生成クラス。
+ *
+ * <p>署名の検証はメモリ上のJWKセットのみで行い、リクエスト処理中にJWKセットを取得しません。
+ * リモートのJWKセットは有効期限の{@code refreshAhead}前にバックグラウンドで再取得するため、
+ * 鍵のローテーション時もリクエストが取得を待つことはありません
+ * （未知の{@code kid}のトークンを受け取った場合のみ、その場で再取得します）。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see JwtAuthenticationFilter
+ */
+public final class JwkJwtDecoders {
+
+    private JwkJwtDecoders() {
+    }
+
+    /**
+     * リモートのJWKセットをキャッシュし、バックグラウンドで更新するJWKソースを生成します。
+     *
+     * @param jwkSetUrl JWKセットのURL
+     * @param ttl JWKセットのキャッシュの有効期間
+     * @param refreshAhead 有効期限のどれだけ前にバックグラウンドで再取得するか
+     * @param refreshTimeout JWKセットの取得のタイムアウト
+     * @return JWKソース
+     */
+    public static JWKSource<SecurityContext> remoteJwkSource(
+            URL jwkSetUrl, Duration ttl, Duration refreshAhead, Duration refreshTimeout) {
+        return JWKSourceBuilder.<SecurityContext>create(jwkSetUrl)
+                .cache(ttl.toMillis(), refreshTimeout.toMillis())
+                .refreshAheadCache(refreshAhead.toMillis(), true)
+                .retrying(true)
+                .build();
+    }
+
+    /**
+     * JWKソースで RS256 の署名を検証するデコーダーを生成します。
+     *
+     * <p>有効期限（{@code exp}・{@code nbf}）と、指定された場合は発行者（{@code iss}）を検証します。</p>
+     *
+     * @param jwkSource JWKソース
+     * @param issuer 期待する発行者（検証しない場合はnullまたは空文字）
+     * @return デコーダー
+     */
+    public static NimbusJwtDecoder fromJwkSource(JWKSource<SecurityContext> jwkSource, String issuer) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // クレームの検証は NimbusJwtDecoder の JwtValidator で行う
+        processor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(issuer == null || issuer.isBlank()
+                ? JwtValidators.createDefault()
+                : JwtValidators.createDefaultWithIssuer(issuer));
+        return decoder;
+    }
+}
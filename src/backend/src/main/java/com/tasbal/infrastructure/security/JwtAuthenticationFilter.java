@@ -0,0 +1,173 @@
+package com.tasbal.infrastructure.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bearerトークン（JWT）でリクエストを認証するフィルター。
+ *
+ * <p>{@code Authorization: Bearer <access_token>}ヘッダーのJWTを検証し、
+ * {@code sub}クレームのユーザーIDをリクエスト属性{@link #USER_ID_ATTRIBUTE}に、
+ * {@code sid}クレームのセッションIDをリクエスト属性{@link #SESSION_ID_ATTRIBUTE}に設定します。
+ * コントローラーは{@code @AuthenticatedUserId}でこの属性を受け取ります。</p>
+ *
+ * <h3>認証処理:</h3>
+ * <ol>
+ *   <li>{@link JwtPrincipalCache}に検証済みのトークンがあればそのユーザーIDを使用（署名検証なし）</li>
+ *   <li>なければ{@link JwtDecoder}でメモリ上のJWKセットにより署名・有効期限を検証し、キャッシュに保持</li>
+ *   <li>{@code sid}クレームがあれば{@link SessionValidator}でセッションが失効していないことを確認</li>
+ * </ol>
+ * <p>署名の検証はネットワークにアクセスせず、セッションの確認もキャッシュ済みであればデータベースにアクセスしないため、
+ * 認証は通常リクエストごとに数マイクロ秒で完了します（データベースで確認するのはキャッシュにないセッションのみです）。
+ * セッションの確認はトークンのキャッシュとは別にリクエストごとに行うため、失効は有効期限を待たずに反映されます。</p>
+ *
+ * <p>トークンが不正な場合は認証が不要なエンドポイントであっても401を返します。
+ * トークンがない場合は匿名のまま後続のフィルターに進み、認可の設定に従って処理されます。</p>
+ *
+ * <p>{@code trustUserIdHeader}が有効な場合（ローカル開発用）は、Bearerトークンがないリクエストの
+ * {@code X-User-Id}ヘッダーを検証なしでユーザーIDとして扱います。本番環境では無効にしてください。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see JwtPrincipalCache
+ * @see JwkJwtDecoders
+ * @see SessionValidator
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * 認証済みのユーザーID（{@link UUID}）を保持するリクエスト属性の名前。
+     */
+    public static final String USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".USER_ID";
+
+    /**
+     * 認証済みのセッションID（{@link UUID}）を保持するリクエスト属性の名前。
+     */
+    public static final String SESSION_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".SESSION_ID";
+
+    /**
+     * セッションIDを保持するクレームの名前。
+     */
+    public static final String SESSION_ID_CLAIM = "sid";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_ID_HEADER = "X-User-Id";
+
+    private final JwtDecoder jwtDecoder;
+    private final JwtPrincipalCache principalCache;
+    private final SessionValidator sessionValidator;
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+    private final boolean trustUserIdHeader;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param jwtDecoder JWTのデコーダー
+     * @param principalCache 検証済みトークンのキャッシュ
+     * @param sessionValidator セッションの有効性の確認
+     * @param authenticationEntryPoint 不正なトークンの401レスポンスを返すエントリーポイント
+     * @param trustUserIdHeader {@code X-User-Id}ヘッダーを検証なしで信頼する場合true（ローカル開発用）
+     */
+    public JwtAuthenticationFilter(JwtDecoder jwtDecoder, JwtPrincipalCache principalCache, SessionValidator sessionValidator,
+                                   AuthenticationEntryPoint authenticationEntryPoint, boolean trustUserIdHeader) {
+        this.jwtDecoder = jwtDecoder;
+        this.principalCache = principalCache;
+        this.sessionValidator = sessionValidator;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+        this.trustUserIdHeader = trustUserIdHeader;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        JwtPrincipalCache.Principal principal;
+        try {
+            principal = authenticate(request);
+        } catch (InvalidBearerTokenException e) {
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.commence(request, response, e);
+            return;
+        }
+        if (principal != null) {
+            UUID userId = principal.getUserId();
+            request.setAttribute(USER_ID_ATTRIBUTE, userId);
+            if (principal.getSessionId() != null) {
+                request.setAttribute(SESSION_ID_ATTRIBUTE, principal.getSessionId());
+            }
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(userId, null, List.of()));
+            SecurityContextHolder.setContext(context);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private JwtPrincipalCache.Principal authenticate(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return authenticateBearer(authorization.substring(BEARER_PREFIX.length()).strip());
+        }
+        if (trustUserIdHeader) {
+            String header = request.getHeader(USER_ID_HEADER);
+            if (header != null) {
+                try {
+                    return new JwtPrincipalCache.Principal(UUID.fromString(header), null);
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidBearerTokenException("Invalid X-User-Id header");
+                }
+            }
+        }
+        return null;
+    }
+
+    private JwtPrincipalCache.Principal authenticateBearer(String token) {
+        JwtPrincipalCache.Principal principal = resolvePrincipal(token);
+        if (principal.getSessionId() != null && !sessionValidator.validate(principal.getSessionId(), principal.getUserId())) {
+            throw new InvalidBearerTokenException("Session has been revoked");
+        }
+        return principal;
+    }
+
+    private JwtPrincipalCache.Principal resolvePrincipal(String token) {
+        long now = System.currentTimeMillis();
+        JwtPrincipalCache.Principal cached = principalCache.find(token, now);
+        if (cached != null) {
+            return cached;
+        }
+        Jwt jwt;
+        try {
+            jwt = jwtDecoder.decode(token);
+        } catch (JwtException e) {
+            throw new InvalidBearerTokenException("Invalid access token", e);
+        }
+        if (jwt.getExpiresAt() == null || jwt.getSubject() == null) {
+            throw new InvalidBearerTokenException("Access token must have exp and sub claims");
+        }
+        JwtPrincipalCache.Principal principal;
+        try {
+            String sessionId = jwt.getClaimAsString(SESSION_ID_CLAIM);
+            principal = new JwtPrincipalCache.Principal(
+                    UUID.fromString(jwt.getSubject()),
+                    sessionId != null ? UUID.fromString(sessionId) : null);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidBearerTokenException("Invalid access token subject", e);
+        }
+        principalCache.put(token, principal, jwt.getExpiresAt().toEpochMilli(), now);
+        return principal;
+    }
+}
@@ -0,0 +1,117 @@
+package com.tasbal.infrastructure.security;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 検証済みアクセストークンの主体を保持するキャッシュ。
+ *
+ * <p>署名・有効期限の検証に成功したトークンの文字列をキーに、ユーザーID・セッションIDとトークンの有効期限を保持します。
+ * 同じトークンによる2回目以降のリクエストは署名検証とクレームの解析を行わず、
+ * ハッシュ表の参照のみで認証を完了します。
+ * トークンの有効期限を過ぎたエントリは参照時に破棄されます。</p>
+ *
+ * <p>保持件数が上限に達した場合は期限切れのエントリを破棄し、それでも上限に達している場合は全件を破棄します
+ * （破棄されたトークンは次回の署名検証で再び保持されます）。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see JwtAuthenticationFilter
+ */
+public class JwtPrincipalCache {
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ。
+     *
+     * @param maxEntries 保持する最大件数
+     */
+    public JwtPrincipalCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 検証済みのトークンの主体を取得します。
+     *
+     * @param token アクセストークン
+     * @param nowMillis 現在時刻（エポックミリ秒）
+     * @return トークンの主体（保持していない場合、またはトークンの有効期限切れの場合はnull）
+     */
+    public Principal find(String token, long nowMillis) {
+        Entry entry = entries.get(token);
+        if (entry == null) {
+            return null;
+        }
+        if (nowMillis >= entry.expiresAtMillis) {
+            entries.remove(token, entry);
+            return null;
+        }
+        return entry.principal;
+    }
+
+    /**
+     * 検証済みのトークンを保持します。
+     *
+     * @param token アクセストークン
+     * @param principal トークンの主体
+     * @param expiresAtMillis トークンの有効期限（エポックミリ秒）
+     * @param nowMillis 現在時刻（エポックミリ秒）
+     */
+    public void put(String token, Principal principal, long expiresAtMillis, long nowMillis) {
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> nowMillis >= entry.expiresAtMillis);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(token, new Entry(principal, expiresAtMillis));
+    }
+
+    /**
+     * 保持している件数を取得します。
+     *
+     * @return 保持件数
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * アクセストークンの主体。
+     */
+    public static final class Principal {
+        private final UUID userId;
+        private final UUID sessionId;
+
+        /**
+         * コンストラクタ。
+         *
+         * @param userId ユーザーID（{@code sub}クレーム）
+         * @param sessionId セッションID（{@code sid}クレーム、含まれない場合はnull）
+         */
+        public Principal(UUID userId, UUID sessionId) {
+            this.userId = userId;
+            this.sessionId = sessionId;
+        }
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        public UUID getSessionId() {
+            return sessionId;
+        }
+    }
+
+    private static class Entry {
+        private final Principal principal;
+        private final long expiresAtMillis;
+
+        private Entry(Principal principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
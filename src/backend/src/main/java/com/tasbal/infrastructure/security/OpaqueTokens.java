@@ -0,0 +1,54 @@
+package com.tasbal.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 不透明なトークン（端末キー・リフレッシュトークン）の生成とハッシュ化を行うユーティリティ。
+ *
+ * <p>トークンは256ビットの乱数をBase64URLで表現した文字列です。
+ * データベースにはトークンそのものではなく SHA-256 のハッシュのみを保存し、
+ * ハッシュの一致（一意インデックスの参照）で照合します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public final class OpaqueTokens {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private OpaqueTokens() {
+    }
+
+    /**
+     * 新しいトークンを生成します。
+     *
+     * @return トークン
+     */
+    public static String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * トークンのハッシュを計算します。
+     *
+     * @param token トークン
+     * @return SHA-256 のハッシュ（16進数の小文字64文字）
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
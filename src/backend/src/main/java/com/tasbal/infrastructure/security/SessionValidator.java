@@ -0,0 +1,26 @@
+package com.tasbal.infrastructure.security;
+
+import java.util.UUID;
+
+/**
+ * アクセストークンの{@code sid}クレームが指すセッションの有効性を確認するインターフェース。
+ *
+ * <p>{@link JwtAuthenticationFilter}がリクエストごとに呼び出すため、
+ * 実装はキャッシュを利用し、データベースへのアクセスをキャッシュにないセッションの読み込みに限る必要があります。
+ * 実装はこの呼び出しをセッションの利用として記録して構いません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see JwtAuthenticationFilter
+ */
+public interface SessionValidator {
+
+    /**
+     * セッションが有効かどうかを確認します。
+     *
+     * @param sessionId セッションID
+     * @param userId アクセストークンのユーザーID
+     * @return セッションが存在し、失効しておらず、ユーザーが一致する場合true
+     */
+    boolean validate(UUID sessionId, UUID userId);
+}
@@ -0,0 +1,69 @@
+package com.tasbal.infrastructure.security;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+
+/**
+ * 引き継ぎトークン（引き継ぎコード）の生成と正規化を行うユーティリティ。
+ *
+ * <p>引き継ぎコードは別の端末で手入力されるため、読み間違えやすい文字を含まない
+ * Crockford の Base32（{@code 0-9 A-Z}から{@code I L O U}を除いた32文字）の12文字（60ビット）とし、
+ * {@code XXXX-XXXX-XXXX}の形式で表示します。
+ * 照合時は区切り文字・空白・大文字小文字の違いを無視し、{@code O}は{@code 0}、{@code I}・{@code L}は{@code 1}として扱います。</p>
+ *
+ * <p>データベースには正規化したコードの SHA-256 のハッシュのみを保存します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see OpaqueTokens
+ */
+public final class TransferCodes {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int LENGTH = 12;
+    private static final int GROUP = 4;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private TransferCodes() {
+    }
+
+    /**
+     * 新しい引き継ぎコードを生成します。
+     *
+     * @return 表示用の引き継ぎコード（{@code XXXX-XXXX-XXXX}）
+     */
+    public static String generate() {
+        StringBuilder code = new StringBuilder(LENGTH + LENGTH / GROUP);
+        for (int i = 0; i < LENGTH; i++) {
+            if (i > 0 && i % GROUP == 0) {
+                code.append('-');
+            }
+            code.append(ALPHABET[RANDOM.nextInt(ALPHABET.length)]);
+        }
+        return code.toString();
+    }
+
+    /**
+     * 引き継ぎコードを正規化してハッシュを計算します。
+     *
+     * @param code 入力された引き継ぎコード
+     * @return 正規化したコードの SHA-256 のハッシュ
+     */
+    public static String hash(String code) {
+        return OpaqueTokens.hash(normalize(code));
+    }
+
+    static String normalize(String code) {
+        StringBuilder normalized = new StringBuilder(LENGTH);
+        for (char c : code.toUpperCase(Locale.ROOT).toCharArray()) {
+            switch (c) {
+                case '-', ' ' -> {
+                }
+                case 'O' -> normalized.append('0');
+                case 'I', 'L' -> normalized.append('1');
+                default -> normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.tasbal.presentation.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 認証済みのユーザーIDを受け取るコントローラーの引数を示すアノテーション。
+ *
+ * <p>{@link com.tasbal.infrastructure.security.JwtAuthenticationFilter}がアクセストークンから解決した
+ * ユーザーIDを、{@link AuthenticatedUserIdArgumentResolver}が{@link java.util.UUID}型の引数に設定します。
+ * 認証されていないリクエストの場合は401を返します。</p>
+ *
+ * <h3>使用例:</h3>
+ * <pre>{@code
+ * @GetMapping("/me")
+ * public ResponseEntity<UserResponse> getCurrentUser(
+ *         @Parameter(hidden = true) @AuthenticatedUserId UUID userId) {
+ *     // 実装...
+ * }
+ * }</pre>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see AuthenticatedUserIdArgumentResolver
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AuthenticatedUserId {
+}
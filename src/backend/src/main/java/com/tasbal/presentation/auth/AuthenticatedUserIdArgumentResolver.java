@@ -0,0 +1,47 @@
+package com.tasbal.presentation.auth;
+
+import com.tasbal.infrastructure.security.JwtAuthenticationFilter;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import java.util.UUID;
+
+/**
+ * {@link AuthenticatedUserId}が付与された引数に認証済みのユーザーIDを設定するリゾルバー。
+ *
+ * <p>ユーザーIDは認証フィルターがリクエスト属性に設定したものをそのまま使用し、
+ * ヘッダーやトークンの再解析は行いません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see AuthenticatedUserId
+ * @see JwtAuthenticationFilter#USER_ID_ATTRIBUTE
+ */
+public class AuthenticatedUserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(AuthenticatedUserId.class)
+                && UUID.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * 認証済みのユーザーIDを取得します。
+     *
+     * @throws AuthenticationCredentialsNotFoundException 認証されていないリクエストの場合
+     */
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object userId = webRequest.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (userId == null) {
+            throw new AuthenticationCredentialsNotFoundException("Authentication required");
+        }
+        return userId;
+    }
+}
@@ -0,0 +1,73 @@
+package com.tasbal.presentation.controller;
+
+import com.tasbal.application.service.SessionService;
+import com.tasbal.infrastructure.security.AccessTokenIssuer;
+import com.tasbal.presentation.dto.GuestSessionResponse;
+import com.tasbal.presentation.dto.GuestStartRequest;
+import com.tasbal.presentation.dto.TokenResponse;
+import com.tasbal.presentation.dto.UserResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 認証REST APIコントローラー。
+ *
+ * <p>このコントローラーはゲスト開始（匿名ログイン）と、
+ * アクセストークンの署名の検証に使用する公開鍵（JWKセット）のHTTPエンドポイントを提供します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see SessionService
+ * @see AccessTokenIssuer
+ */
+@RestController
+@Tag(name = "Auth", description = "認証API")
+public class AuthController {
+
+    private final SessionService sessionService;
+    private final AccessTokenIssuer accessTokenIssuer;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param sessionService セッションビジネスロジックを提供するサービス
+     * @param accessTokenIssuer アクセストークンの発行クラス
+     */
+    public AuthController(SessionService sessionService, AccessTokenIssuer accessTokenIssuer) {
+        this.sessionService = sessionService;
+        this.accessTokenIssuer = accessTokenIssuer;
+    }
+
+    /**
+     * 端末キーでゲストとしてログインします。
+     *
+     * <p>端末にユーザーが紐付いていなければゲストユーザーを作成します。
+     * 同じ端末で再度呼び出した場合は同じユーザーの新しいセッションが作成されます。</p>
+     *
+     * @param request ゲスト開始リクエスト
+     * @return ユーザーと発行したトークンのレスポンスDTO
+     */
+    @PostMapping("/api/v1/auth/guest")
+    @Operation(summary = "ゲスト開始", description = "端末キーでゲストとしてログインし、トークンを発行します")
+    public ResponseEntity<GuestSessionResponse> startGuest(@Valid @RequestBody GuestStartRequest request) {
+        SessionService.SessionStart result = sessionService.startGuestSession(request.getDeviceKey());
+        return ResponseEntity.ok(new GuestSessionResponse(
+                UserResponse.from(result.getUser()), TokenResponse.from(result.getTokens())));
+    }
+
+    /**
+     * アクセストークンの署名の検証に使用する公開鍵を取得します。
+     *
+     * @return 公開鍵のJWKセット
+     */
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "JWKセットを取得", description = "アクセストークンの署名を検証する公開鍵を取得します")
+    public Map<String, Object> getJwkSet() {
+        return accessTokenIssuer.getPublicJwkSet().toJSONObject();
+    }
+}
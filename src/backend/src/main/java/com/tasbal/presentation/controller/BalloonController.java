@@ -1,12 +1,22 @@
 package com.tasbal.presentation.controller;
 
+import com.tasbal.application.service.BalloonReportService;
 import com.tasbal.application.service.BalloonService;
+import com.tasbal.application.service.TrendingService;
 import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.BalloonCursor;
+import com.tasbal.domain.model.BalloonMembership;
+import com.tasbal.domain.model.TrendingBalloon;
+import com.tasbal.presentation.auth.AuthenticatedUserId;
+import com.tasbal.presentation.dto.BalloonPageResponse;
+import com.tasbal.presentation.dto.BalloonReportRequest;
 import com.tasbal.presentation.dto.BalloonRequest;
 import com.tasbal.presentation.dto.BalloonResponse;
 import com.tasbal.presentation.dto.BalloonSelectionRequest;
 import com.tasbal.presentation.dto.BalloonSelectionResponse;
+import com.tasbal.presentation.dto.MembershipResponse;
 import com.tasbal.presentation.dto.MessageResponse;
+import com.tasbal.presentation.dto.TrendingBalloonResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * 風船管理REST APIコントローラー。
@@ -29,7 +40,11 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>風船の作成</li>
  *   <li>公開風船の一覧取得</li>
+ *   <li>公開風船の検索</li>
+ *   <li>人気ランキングの取得</li>
  *   <li>選択中の風船の取得・設定</li>
+ *   <li>風船への参加・離脱</li>
+ *   <li>風船の通報</li>
  *   <li>HTTPリクエストのバリデーション</li>
  *   <li>DTOとドメインモデル間の変換</li>
  * </ul>
@@ -52,15 +67,26 @@ import java.util.stream.Collectors;
 @Tag(name = "Balloons", description = "風船管理API")
 public class BalloonController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_QUERY_LENGTH = 3;
+    private static final int MAX_QUERY_LENGTH = 100;
+
     private final BalloonService balloonService;
+    private final TrendingService trendingService;
+    private final BalloonReportService balloonReportService;
 
     /**
      * コンストラクタインジェクション。
      *
      * @param balloonService 風船ビジネスロジックを提供するサービス
+     * @param trendingService 人気ランキングを提供するサービス
+     * @param balloonReportService 風船の通報を受け付けるサービス
      */
-    public BalloonController(BalloonService balloonService) {
+    public BalloonController(BalloonService balloonService, TrendingService trendingService,
+                             BalloonReportService balloonReportService) {
         this.balloonService = balloonService;
+        this.trendingService = trendingService;
+        this.balloonReportService = balloonReportService;
     }
 
     /**
@@ -70,14 +96,14 @@ public class BalloonController {
      * 風船にはタイトル、説明、色、アイコン、公開設定を指定できます。
      * 作成された風船は自動的にそのユーザーに関連付けられます。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param request 風船作成リクエスト（タイトル、説明、色ID、タグアイコンID、公開設定）
      * @return 作成された風船のレスポンスDTO（ステータス: 201 CREATED）
      */
     @PostMapping
     @Operation(summary = "風船を作成", description = "新しいユーザー作成風船を作成します")
     public ResponseEntity<BalloonResponse> createBalloon(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Valid @RequestBody BalloonRequest request) {
         Balloon balloon = balloonService.createBalloon(
                 userId,
@@ -93,58 +119,191 @@ public class BalloonController {
     /**
      * 公開風船の一覧を取得します。
      *
-     * <p>すべてのユーザーが参加可能な公開設定の風船一覧を取得します。
-     * ページネーションに対応しており、取得件数とオフセットを指定できます。</p>
+     * <p>すべてのユーザーが参加可能な公開設定の風船一覧を作成日時の新しい順に取得します。
+     * カーソルによるページネーションに対応しており、レスポンスの{@code nextCursor}を
+     * 次のリクエストの{@code cursor}に指定すると続きを取得できます。</p>
      *
-     * @param limit 取得件数（デフォルト: 20）
-     * @param offset 取得開始位置のオフセット（デフォルト: 0）
-     * @return 公開風船のレスポンスDTOリスト
+     * @param limit 取得件数（デフォルト: 20、最大: 100）
+     * @param cursor 前ページのレスポンスの次ページカーソル（先頭ページの場合は省略）
+     * @return 公開風船のページ
      */
     @GetMapping("/public")
     @Operation(summary = "公開風船一覧を取得", description = "すべてのユーザーが参加可能な公開風船の一覧を取得します")
-    public ResponseEntity<List<BalloonResponse>> getPublicBalloons(
+    public ResponseEntity<BalloonPageResponse> getPublicBalloons(
+            @Parameter(description = "取得件数") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "ページングカーソル") @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        BalloonCursor after = cursor != null ? BalloonCursor.decode(cursor) : null;
+        List<Balloon> balloons = balloonService.getPublicBalloons(after, limit);
+        List<BalloonResponse> responses = balloons.stream()
+                .map(BalloonResponse::from)
+                .collect(Collectors.toList());
+        String nextCursor = balloons.size() == limit
+                ? BalloonCursor.of(balloons.get(balloons.size() - 1)).encode()
+                : null;
+        return ResponseEntity.ok(new BalloonPageResponse(responses, nextCursor));
+    }
+
+    /**
+     * 公開風船をタイトル・説明で検索します。
+     *
+     * <p>タイトルまたは説明に検索語を含む公開風船を作成日時の新しい順に取得します。
+     * 大文字・小文字は区別しません。ページネーションは公開風船一覧と同じく
+     * レスポンスの{@code nextCursor}を次のリクエストの{@code cursor}に指定します。</p>
+     *
+     * @param q 検索語（前後の空白を除いて3〜100文字）
+     * @param limit 取得件数（デフォルト: 20、最大: 100）
+     * @param cursor 前ページのレスポンスの次ページカーソル（先頭ページの場合は省略）
+     * @return 検索語に一致する公開風船のページ
+     */
+    @GetMapping("/search")
+    @Operation(summary = "公開風船を検索", description = "タイトルまたは説明に検索語を含む公開風船を検索します")
+    public ResponseEntity<BalloonPageResponse> searchPublicBalloons(
+            @Parameter(description = "検索語") @RequestParam(defaultValue = "") String q,
             @Parameter(description = "取得件数") @RequestParam(defaultValue = "20") int limit,
-            @Parameter(description = "オフセット") @RequestParam(defaultValue = "0") int offset) {
-        List<Balloon> balloons = balloonService.getPublicBalloons(limit, offset);
+            @Parameter(description = "ページングカーソル") @RequestParam(required = false) String cursor) {
+        String query = q.strip();
+        int queryLength = query.codePointCount(0, query.length());
+        if (queryLength < MIN_QUERY_LENGTH || queryLength > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "q must be between " + MIN_QUERY_LENGTH + " and " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        BalloonCursor after = cursor != null ? BalloonCursor.decode(cursor) : null;
+        List<Balloon> balloons = balloonService.searchPublicBalloons(query, after, limit);
         List<BalloonResponse> responses = balloons.stream()
                 .map(BalloonResponse::from)
                 .collect(Collectors.toList());
+        String nextCursor = balloons.size() == limit
+                ? BalloonCursor.of(balloons.get(balloons.size() - 1)).encode()
+                : null;
+        return ResponseEntity.ok(new BalloonPageResponse(responses, nextCursor));
+    }
+
+    /**
+     * 人気ランキングを取得します。
+     *
+     * <p>直近の貢献が多い公開風船を人気スコアの高い順に取得します。
+     * 国コードを指定するとその国のランキング、省略すると全体のランキングを返します。
+     * ランキングはメモリ上で差分更新されており、リクエストごとの集計は行いません。</p>
+     *
+     * @param country 国コード（ISO 3166-1 alpha-2、全体の場合は省略）
+     * @param limit 取得件数（デフォルト: 20、最大: 100）
+     * @return 人気ランキング
+     */
+    @GetMapping("/trending")
+    @Operation(summary = "人気ランキングを取得", description = "直近の貢献が多い公開風船のランキングを取得します")
+    public ResponseEntity<List<TrendingBalloonResponse>> getTrendingBalloons(
+            @Parameter(description = "国コード") @RequestParam(required = false) String country,
+            @Parameter(description = "取得件数") @RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<TrendingBalloon> ranking = trendingService.getTrending(country, limit);
+        List<TrendingBalloonResponse> responses = IntStream.range(0, ranking.size())
+                .mapToObj(i -> TrendingBalloonResponse.from(i + 1, ranking.get(i)))
+                .collect(Collectors.toList());
         return ResponseEntity.ok(responses);
     }
 
     /**
      * 選択中の風船を取得します。
      *
-     * <p>ユーザーが現在選択している風船のIDを取得します。
+     * <p>ユーザーが現在選択している風船のIDを優先度順に取得します。
      * 選択中の風船は、タスク完了時に達成度が加算される対象となります。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
-     * @return 選択中の風船IDを含むレスポンス
+     * @param userId 認証済みのユーザーID
+     * @return 選択中の風船IDの一覧と最大選択数を含むレスポンス
      */
     @GetMapping("/selection")
-    @Operation(summary = "選択中の風船を取得", description = "現在選択している風船のIDを取得します")
-    public ResponseEntity<BalloonSelectionResponse> getSelectedBalloon(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId) {
-        UUID balloonId = balloonService.getSelectedBalloon(userId);
-        return ResponseEntity.ok(new BalloonSelectionResponse(balloonId));
+    @Operation(summary = "選択中の風船を取得", description = "現在選択している風船のIDの一覧を取得します")
+    public ResponseEntity<BalloonSelectionResponse> getSelectedBalloons(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId) {
+        List<UUID> balloonIds = balloonService.getSelectedBalloons(userId);
+        return ResponseEntity.ok(new BalloonSelectionResponse(balloonIds, balloonService.getMaxSelections(userId)));
     }
 
     /**
      * 選択中の風船を設定します。
      *
-     * <p>ユーザーが選択する風船を変更します。
-     * 選択された風船は、タスク完了時に達成度が加算される対象となります。</p>
+     * <p>ユーザーが選択する風船を指定された一覧で置き換えます。
+     * 選択されたすべての風船が、タスク完了時に達成度が加算される対象となります。
+     * 選択できる数はプランで制限されます（無料プランは1件）。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
-     * @param request 選択する風船のIDを含むリクエスト
-     * @return 更新成功メッセージ
+     * @param userId 認証済みのユーザーID
+     * @param request 選択する風船のIDの一覧を含むリクエスト
+     * @return 設定後の選択中の風船IDの一覧と最大選択数を含むレスポンス
      */
     @PutMapping("/selection")
     @Operation(summary = "選択中の風船を設定", description = "タスク完了時に加算される風船を選択します")
-    public ResponseEntity<MessageResponse> setSelectedBalloon(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+    public ResponseEntity<BalloonSelectionResponse> setSelectedBalloons(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Valid @RequestBody BalloonSelectionRequest request) {
-        balloonService.setSelectedBalloon(userId, request.getBalloonId());
-        return ResponseEntity.ok(new MessageResponse("Selection updated"));
+        List<UUID> balloonIds = balloonService.setSelectedBalloons(userId, request.getBalloonIds());
+        return ResponseEntity.ok(new BalloonSelectionResponse(balloonIds, balloonService.getMaxSelections(userId)));
+    }
+
+    /**
+     * 風船に参加します。
+     *
+     * <p>公開風船、または自分が作成した風船に参加します。
+     * 参加済みの場合は何もせず現在の参加状態を返します。
+     * 風船の参加人数は数秒以内に反映されます。</p>
+     *
+     * @param userId 認証済みのユーザーID
+     * @param balloonId 参加する風船のID
+     * @return 参加状態
+     */
+    @PostMapping("/{balloonId}/membership")
+    @Operation(summary = "風船に参加", description = "公開風船に参加します")
+    public ResponseEntity<MembershipResponse> joinBalloon(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
+            @Parameter(description = "風船ID") @PathVariable UUID balloonId) {
+        BalloonMembership membership = balloonService.joinBalloon(userId, balloonId);
+        return ResponseEntity.ok(MembershipResponse.from(membership));
+    }
+
+    /**
+     * 風船から離脱します。
+     *
+     * <p>参加していない場合も成功として扱います。</p>
+     *
+     * @param userId 認証済みのユーザーID
+     * @param balloonId 離脱する風船のID
+     * @return 参加状態
+     */
+    @DeleteMapping("/{balloonId}/membership")
+    @Operation(summary = "風船から離脱", description = "参加中の風船から離脱します")
+    public ResponseEntity<MembershipResponse> leaveBalloon(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
+            @Parameter(description = "風船ID") @PathVariable UUID balloonId) {
+        balloonService.leaveBalloon(userId, balloonId);
+        return ResponseEntity.ok(new MembershipResponse(balloonId, false, null));
+    }
+
+    /**
+     * 風船を通報します。
+     *
+     * <p>不適切な風船を通報します。同じ風船への通報は1ユーザーにつき1件として扱い、
+     * 通報済みの場合も成功として扱います。
+     * 一定時間内に複数のユーザーから通報された風船は自動的に停止され、公開一覧から取り除かれます。</p>
+     *
+     * @param userId 認証済みのユーザーID
+     * @param balloonId 通報する風船のID
+     * @param request 通報理由区分値とコメントを含むリクエスト
+     * @return 受付メッセージ（ステータス: 202 ACCEPTED）
+     */
+    @PostMapping("/{balloonId}/reports")
+    @Operation(summary = "風船を通報", description = "不適切な風船を通報します")
+    public ResponseEntity<MessageResponse> reportBalloon(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
+            @Parameter(description = "風船ID") @PathVariable UUID balloonId,
+            @Valid @RequestBody BalloonReportRequest request) {
+        balloonReportService.submit(userId, balloonId, request.getReasonType(), request.getComment());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new MessageResponse("Report accepted"));
     }
 }
@@ -0,0 +1,71 @@
+package com.tasbal.presentation.controller;
+
+import com.tasbal.application.service.BreathService;
+import com.tasbal.presentation.auth.AuthenticatedUserId;
+import com.tasbal.presentation.dto.BreathRequest;
+import com.tasbal.presentation.dto.BreathResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 呼吸REST APIコントローラー。
+ *
+ * <p>このコントローラーは呼吸風船への呼吸貢献を受け付けるHTTPエンドポイントを提供します。
+ * 呼吸は高頻度に発生するため、クライアントは回数をまとめて送信し、
+ * サーバーはメモリ上で集約してから定期的にデータベースへ書き出します。</p>
+ *
+ * <h3>主な責務:</h3>
+ * <ul>
+ *   <li>呼吸回数の受付</li>
+ *   <li>HTTPリクエストのバリデーション</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BreathService
+ */
+@RestController
+@RequestMapping("/api/v1/breaths")
+@Tag(name = "Breaths", description = "呼吸API")
+public class BreathController {
+
+    private final BreathService breathService;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param breathService 呼吸貢献のビジネスロジックを提供するサービス
+     */
+    public BreathController(BreathService breathService) {
+        this.breathService = breathService;
+    }
+
+    /**
+     * 呼吸回数を送信します。
+     *
+     * <p>受け付けた呼吸回数は非同期にデータベースへ書き出されるため、
+     * ステータス202（Accepted）を返します。ユーザーごとの送信量が上限を超えた場合は
+     * ステータス429（Too Many Requests）を返します。</p>
+     *
+     * @param userId 認証済みのユーザーID
+     * @param request 呼吸送信リクエスト（呼吸風船ID、呼吸回数）
+     * @return 受付結果のレスポンスDTO（ステータス: 202 ACCEPTED）
+     */
+    @PostMapping
+    @Operation(summary = "呼吸を送信", description = "呼吸風船への呼吸回数をまとめて送信します")
+    public ResponseEntity<BreathResponse> submitBreaths(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
+            @Valid @RequestBody BreathRequest request) {
+        LocalDate tasbalDay = breathService.submit(userId, request.getBalloonId(), request.getCount());
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new BreathResponse(request.getBalloonId(), request.getCount(), tasbalDay));
+    }
+}
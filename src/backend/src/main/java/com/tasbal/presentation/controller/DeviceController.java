@@ -0,0 +1,56 @@
+package com.tasbal.presentation.controller;
+
+import com.tasbal.application.service.DeviceService;
+import com.tasbal.presentation.dto.DeviceRegisterRequest;
+import com.tasbal.presentation.dto.DeviceRegistrationResponse;
+import com.tasbal.presentation.dto.DeviceResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 端末管理REST APIコントローラー。
+ *
+ * <p>このコントローラーは初回起動時の端末登録のHTTPエンドポイントを提供します。
+ * 登録時に発行される端末キーは、ゲスト開始（{@code POST /api/v1/auth/guest}）で使用します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see DeviceService
+ */
+@RestController
+@RequestMapping("/api/v1/devices")
+@Tag(name = "Devices", description = "端末管理API")
+public class DeviceController {
+
+    private final DeviceService deviceService;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param deviceService 端末ビジネスロジックを提供するサービス
+     */
+    public DeviceController(DeviceService deviceService) {
+        this.deviceService = deviceService;
+    }
+
+    /**
+     * 端末を登録します。
+     *
+     * <p>認証は不要です。レスポンスの端末キーは再取得できないため、クライアントで安全に保存してください。</p>
+     *
+     * @param request 端末登録リクエスト
+     * @return 登録された端末のレスポンスDTO（ステータス: 201 CREATED）
+     */
+    @PostMapping("/register")
+    @Operation(summary = "端末を登録", description = "初回起動時に端末を登録し、端末キーを発行します")
+    public ResponseEntity<DeviceRegistrationResponse> registerDevice(@Valid @RequestBody DeviceRegisterRequest request) {
+        DeviceService.Registration registration = deviceService.registerDevice(
+                request.getDeviceName(), request.getPlatform(), request.getAppVersion(), request.getOsVersion());
+        DeviceResponse device = DeviceResponse.from(registration.getDevice(), registration.getDeviceKey());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new DeviceRegistrationResponse(device));
+    }
+}
@@ -0,0 +1,64 @@
+package com.tasbal.presentation.controller;
+
+import com.tasbal.application.service.GuerrillaEventService;
+import com.tasbal.presentation.dto.GuerrillaEventResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ゲリライベントREST APIコントローラー。
+ *
+ * <p>このコントローラーは期間限定で出現するゲリラ風船イベントの
+ * HTTPエンドポイントを提供します。</p>
+ *
+ * <h3>主な責務:</h3>
+ * <ul>
+ *   <li>現在開催中のゲリライベントの取得</li>
+ *   <li>DTOとドメインモデル間の変換</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEventService
+ * @see GuerrillaEventResponse
+ */
+@RestController
+@RequestMapping("/api/v1/guerrilla-events")
+@Tag(name = "Guerrilla Events", description = "ゲリライベントAPI")
+public class GuerrillaEventController {
+
+    private final GuerrillaEventService guerrillaEventService;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param guerrillaEventService ゲリライベントのビジネスロジックを提供するサービス
+     */
+    public GuerrillaEventController(GuerrillaEventService guerrillaEventService) {
+        this.guerrillaEventService = guerrillaEventService;
+    }
+
+    /**
+     * 現在開催中のゲリライベントを取得します。
+     *
+     * <p>サーバー内のインデックスから取得するため、データベースにはアクセスしません。
+     * 複数のイベントが重なる時間帯は、優先度が最も高いイベントのみが返されます。</p>
+     *
+     * @return 開催中のゲリライベントのレスポンスDTOリスト
+     */
+    @GetMapping("/active")
+    @Operation(summary = "開催中のゲリライベントを取得", description = "現在開催中のゲリライベントと対象風船の一覧を取得します")
+    public ResponseEntity<List<GuerrillaEventResponse>> getActiveEvents() {
+        List<GuerrillaEventResponse> responses = guerrillaEventService.getActiveEvents().stream()
+                .map(GuerrillaEventResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -2,6 +2,7 @@ package com.tasbal.presentation.controller;
 
 import com.tasbal.application.service.TaskService;
 import com.tasbal.domain.model.Task;
+import com.tasbal.presentation.auth.AuthenticatedUserId;
 import com.tasbal.presentation.dto.TaskRequest;
 import com.tasbal.presentation.dto.TaskResponse;
 import com.tasbal.presentation.dto.ToggleDoneRequest;
@@ -72,14 +73,14 @@ public class TaskController {
      * タスクにはタイトル、メモ、期限を指定できます。
      * 作成されたタスクは自動的にそのユーザーに関連付けられます。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param request タスク作成リクエスト（タイトル、メモ、期限）
      * @return 作成されたタスクのレスポンスDTO（ステータス: 201 CREATED）
      */
     @PostMapping
     @Operation(summary = "タスクを作成", description = "新しいタスクを作成します")
     public ResponseEntity<TaskResponse> createTask(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Valid @RequestBody TaskRequest request) {
         Task task = taskService.createTask(userId, request.getTitle(), request.getMemo(), request.getDueAt());
         return ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.from(task));
@@ -91,7 +92,7 @@ public class TaskController {
      * <p>指定されたユーザーのタスク一覧を取得します。
      * ページネーションに対応しており、取得件数とオフセットを指定できます。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param limit 取得件数（デフォルト: 20）
      * @param offset 取得開始位置のオフセット（デフォルト: 0）
      * @return タスクのレスポンスDTOリスト
@@ -99,7 +100,7 @@ public class TaskController {
     @GetMapping
     @Operation(summary = "タスク一覧を取得", description = "ユーザーのタスク一覧を取得します")
     public ResponseEntity<List<TaskResponse>> getTasks(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Parameter(description = "取得件数") @RequestParam(defaultValue = "20") int limit,
             @Parameter(description = "オフセット") @RequestParam(defaultValue = "0") int offset) {
         List<Task> tasks = taskService.getTasks(userId, limit, offset);
@@ -115,14 +116,14 @@ public class TaskController {
      * <p>タスクIDを指定して、該当するタスクの詳細情報を取得します。
      * 権限チェックが行われ、他ユーザーのタスクは取得できません。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param taskId 取得するタスクのID
      * @return タスクのレスポンスDTO
      */
     @GetMapping("/{taskId}")
     @Operation(summary = "タスクを取得", description = "指定されたIDのタスクを取得します")
     public ResponseEntity<TaskResponse> getTask(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Parameter(description = "タスクID") @PathVariable UUID taskId) {
         Task task = taskService.getTaskById(taskId, userId);
         return ResponseEntity.ok(TaskResponse.from(task));
@@ -135,7 +136,7 @@ public class TaskController {
      * タイトル、メモ、期限を変更できます。
      * 権限チェックが行われ、他ユーザーのタスクは更新できません。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param taskId 更新するタスクのID
      * @param request タスク更新リクエスト（タイトル、メモ、期限）
      * @return 更新されたタスクのレスポンスDTO
@@ -143,7 +144,7 @@ public class TaskController {
     @PutMapping("/{taskId}")
     @Operation(summary = "タスクを更新", description = "指定されたIDのタスクを更新します")
     public ResponseEntity<TaskResponse> updateTask(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Parameter(description = "タスクID") @PathVariable UUID taskId,
             @Valid @RequestBody TaskRequest request) {
         Task task = taskService.updateTask(taskId, userId, request.getTitle(), request.getMemo(), request.getDueAt(), null);
@@ -158,7 +159,7 @@ public class TaskController {
      * 未完了に戻すことも可能です。
      * 権限チェックが行われ、他ユーザーのタスクは操作できません。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param taskId 対象タスクのID
      * @param request 完了状態（true: 完了、false: 未完了）
      * @return 更新されたタスクのレスポンスDTO
@@ -166,7 +167,7 @@ public class TaskController {
     @PostMapping("/{taskId}/toggle-done")
     @Operation(summary = "タスク完了を切替", description = "タスクの完了状態を切り替えます。完了時は風船への加算が行われます。")
     public ResponseEntity<TaskResponse> toggleDone(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Parameter(description = "タスクID") @PathVariable UUID taskId,
             @Valid @RequestBody ToggleDoneRequest request) {
         Task task = taskService.toggleTaskCompletion(taskId, userId, request.getIsDone());
@@ -180,14 +181,14 @@ public class TaskController {
      * 物理的にデータベースから削除されるわけではなく、削除フラグが立てられます。
      * 権限チェックが行われ、他ユーザーのタスクは削除できません。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @param taskId 削除するタスクのID
      * @return レスポンスボディなし（ステータス: 204 NO CONTENT）
      */
     @DeleteMapping("/{taskId}")
     @Operation(summary = "タスクを削除", description = "指定されたIDのタスクを削除（論理削除）します")
     public ResponseEntity<Void> deleteTask(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId,
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
             @Parameter(description = "タスクID") @PathVariable UUID taskId) {
         taskService.deleteTask(taskId, userId);
         return ResponseEntity.noContent().build();
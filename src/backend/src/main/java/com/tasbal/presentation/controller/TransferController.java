@@ -0,0 +1,94 @@
+package com.tasbal.presentation.controller;
+
+import com.tasbal.application.service.SessionService;
+import com.tasbal.application.service.TransferService;
+import com.tasbal.presentation.auth.AuthenticatedUserId;
+import com.tasbal.presentation.dto.GuestSessionResponse;
+import com.tasbal.presentation.dto.TokenResponse;
+import com.tasbal.presentation.dto.TransferConsumeRequest;
+import com.tasbal.presentation.dto.TransferIssueResponse;
+import com.tasbal.presentation.dto.TransferTokenRequest;
+import com.tasbal.presentation.dto.TransferTokenResponse;
+import com.tasbal.presentation.dto.UserResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * 引き継ぎREST APIコントローラー。
+ *
+ * <p>このコントローラーは別の端末へのユーザーの引き継ぎのHTTPエンドポイントを提供します。
+ * 引き継ぎ元の端末で引き継ぎコードを発行し、引き継ぎ先の端末でそのコードを使用します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferService
+ * @see SessionService
+ */
+@RestController
+@RequestMapping("/api/v1/transfer-tokens")
+@Tag(name = "Transfer", description = "引き継ぎAPI")
+public class TransferController {
+
+    private static final int DEFAULT_EXPIRES_IN_MINUTES = 30;
+
+    private final TransferService transferService;
+    private final SessionService sessionService;
+
+    /**
+     * コンストラクタインジェクション。
+     *
+     * @param transferService 引き継ぎトークンビジネスロジックを提供するサービス
+     * @param sessionService セッションビジネスロジックを提供するサービス
+     */
+    public TransferController(TransferService transferService, SessionService sessionService) {
+        this.transferService = transferService;
+        this.sessionService = sessionService;
+    }
+
+    /**
+     * 引き継ぎコードを発行します。
+     *
+     * <p>同じユーザーの未使用の引き継ぎコードは無効になります。</p>
+     *
+     * @param userId 認証済みのユーザーID
+     * @param request 引き継ぎトークン発行リクエスト（任意）
+     * @return 発行した引き継ぎトークンのレスポンスDTO（ステータス: 201 CREATED）
+     */
+    @PostMapping
+    @Operation(summary = "引き継ぎコードを発行", description = "別の端末に引き継ぐための一度だけ使用できるコードを発行します")
+    public ResponseEntity<TransferIssueResponse> issueTransferToken(
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId,
+            @Valid @RequestBody(required = false) TransferTokenRequest request) {
+        int expiresInMinutes = request != null && request.getExpiresInMinutes() != null
+                ? request.getExpiresInMinutes()
+                : DEFAULT_EXPIRES_IN_MINUTES;
+        TransferService.Issued issued = transferService.issue(userId, expiresInMinutes);
+        TransferTokenResponse transfer = TransferTokenResponse.from(issued.getToken(), issued.getCode());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new TransferIssueResponse(transfer));
+    }
+
+    /**
+     * 引き継ぎコードを使用し、端末で引き継ぎ元のユーザーとしてログインします。
+     *
+     * <p>認証は不要です。引き継ぎコードは一度だけ使用できます。
+     * {@code mergeGuestData}を指定した場合、端末で利用していたゲストのデータを引き継ぎ元のユーザーに統合します。</p>
+     *
+     * @param request 引き継ぎトークン使用リクエスト
+     * @return ユーザーと発行したトークンのレスポンスDTO
+     */
+    @PostMapping("/consume")
+    @Operation(summary = "引き継ぎコードを使用", description = "引き継ぎコードで引き継ぎ元のユーザーとしてログインします")
+    public ResponseEntity<GuestSessionResponse> consumeTransferToken(@Valid @RequestBody TransferConsumeRequest request) {
+        SessionService.SessionStart result = sessionService.startTransferredSession(
+                request.getDeviceKey(), request.getToken(), Boolean.TRUE.equals(request.getMergeGuestData()));
+        return ResponseEntity.ok(new GuestSessionResponse(
+                UserResponse.from(result.getUser()), TokenResponse.from(result.getTokens())));
+    }
+}
@@ -2,6 +2,7 @@ package com.tasbal.presentation.controller;
 
 import com.tasbal.application.service.UserService;
 import com.tasbal.domain.model.User;
+import com.tasbal.presentation.auth.AuthenticatedUserId;
 import com.tasbal.presentation.dto.CreateGuestUserRequest;
 import com.tasbal.presentation.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -77,17 +78,17 @@ public class UserController {
     /**
      * 現在のユーザー情報を取得します。
      *
-     * <p>リクエストヘッダーから取得したユーザーIDに基づいて、
+     * <p>アクセストークンから解決したユーザーIDに基づいて、
      * 現在ログイン中のユーザー情報を取得します。
      * ユーザーID、ハンドル名、プラン、ゲストフラグ、作成日時が返却されます。</p>
      *
-     * @param userId リクエストヘッダーから取得されたユーザーID
+     * @param userId 認証済みのユーザーID
      * @return 現在のユーザーのレスポンスDTO
      */
     @GetMapping("/me")
     @Operation(summary = "自分の情報を取得", description = "現在のユーザー情報を取得します")
     public ResponseEntity<UserResponse> getCurrentUser(
-            @Parameter(hidden = true) @RequestHeader("X-User-Id") UUID userId) {
+            @Parameter(hidden = true) @AuthenticatedUserId UUID userId) {
         User user = userService.getUserById(userId);
         return ResponseEntity.ok(UserResponse.from(user));
     }
@@ -0,0 +1,47 @@
+package com.tasbal.presentation.dto;
+
+import java.util.List;
+
+/**
+ * 風船一覧のページのレスポンスDTO。
+ *
+ * <p>このクラスはカーソルによるページネーションに対応した風船一覧を表現します。
+ * 次のページが存在する可能性がある場合は{@code nextCursor}に次ページ取得用のカーソルが設定され、
+ * 最後のページの場合はnullになります。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonResponse
+ */
+public class BalloonPageResponse {
+    private List<BalloonResponse> items;
+    private String nextCursor;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param items 風船のレスポンスDTOリスト
+     * @param nextCursor 次ページ取得用のカーソル（最後のページの場合はnull）
+     */
+    public BalloonPageResponse(List<BalloonResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<BalloonResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BalloonResponse> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 風船通報リクエストDTO。
+ *
+ * <p>このクラスは不適切な風船を通報する際のリクエストを表現します。
+ * 通報理由の区分値が必須項目として定義されています。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "風船通報リクエスト")
+public class BalloonReportRequest {
+
+    @NotNull(message = "reasonType is required")
+    @Min(value = 1, message = "reasonType must be at least 1")
+    @Schema(description = "通報理由区分値", example = "1", required = true)
+    private Short reasonType;
+
+    @Size(max = 1000, message = "comment must be at most 1000 characters")
+    @Schema(description = "通報コメント", example = "不適切なタイトルです")
+    private String comment;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public BalloonReportRequest() {
+    }
+
+    public Short getReasonType() {
+        return reasonType;
+    }
+
+    public void setReasonType(Short reasonType) {
+        this.reasonType = reasonType;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
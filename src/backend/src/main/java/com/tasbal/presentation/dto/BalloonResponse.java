@@ -1,5 +1,6 @@
 package com.tasbal.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tasbal.domain.division.BalloonVisibility;
 import com.tasbal.domain.model.Balloon;
 
@@ -17,6 +18,7 @@ import java.util.UUID;
  * <ul>
  *   <li>風船タイプは表示名（文字列）として返却</li>
  *   <li>公開区分はboolean値（isPublic）として返却</li>
+ *   <li>参加人数は非正規化されたカウンタの値を返却（参加・離脱の直後は反映されていない場合がある）</li>
  *   <li>内部の区分値は公開しない</li>
  * </ul>
  *
@@ -31,6 +33,7 @@ public class BalloonResponse {
 
     // 基本情報
     private String type;
+    private Integer typeCode;
     private String title;
     private String description;
 
@@ -39,6 +42,9 @@ public class BalloonResponse {
     private Short tagIconId;
     private Boolean isPublic;
 
+    // 集計値
+    private Integer memberCount;
+
     // タイムスタンプ
     private OffsetDateTime createdAt;
 
@@ -56,12 +62,14 @@ public class BalloonResponse {
         BalloonResponse response = new BalloonResponse();
         response.id = balloon.getId();
         response.type = balloon.getBalloonTypeEnum().getDisplayName();
+        response.typeCode = balloon.getBalloonTypeEnum().getValue();
         response.title = balloon.getTitle();
         response.description = balloon.getDescription();
         response.colorId = balloon.getColorId();
         response.tagIconId = balloon.getTagIconId();
         response.isPublic = balloon.getVisibilityEnum() == BalloonVisibility.Public_;
         response.ownerUserId = balloon.getOwnerUserId();
+        response.memberCount = balloon.getMemberCount();
         response.createdAt = balloon.getCreatedAt();
         return response;
     }
@@ -83,6 +91,15 @@ public class BalloonResponse {
         this.type = type;
     }
 
+    @JsonIgnore
+    public Integer getTypeCode() {
+        return typeCode;
+    }
+
+    public void setTypeCode(Integer typeCode) {
+        this.typeCode = typeCode;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -123,6 +140,14 @@ public class BalloonResponse {
         this.isPublic = isPublic;
     }
 
+    public Integer getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(Integer memberCount) {
+        this.memberCount = memberCount;
+    }
+
     public UUID getOwnerUserId() {
         return ownerUserId;
     }
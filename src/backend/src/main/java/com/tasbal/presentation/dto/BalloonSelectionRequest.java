@@ -3,13 +3,15 @@ package com.tasbal.presentation.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * 風船選択リクエストDTO。
  *
  * <p>このクラスはユーザーが作業対象とする風船を選択する際のリクエストを表現します。
- * 選択された風船IDが必須項目として定義されています。</p>
+ * 選択する風船IDの一覧を優先度順に指定します。空の一覧を指定するとすべての選択が解除されます。
+ * 選択できる数はユーザーのプランで制限されます（無料プランは1件）。</p>
  *
  * @author Tasbal Team
  * @since 1.0.0
@@ -17,9 +19,9 @@ import java.util.UUID;
 @Schema(description = "風船選択リクエスト")
 public class BalloonSelectionRequest {
 
-    @NotNull(message = "balloonId is required")
-    @Schema(description = "選択する風船のID", example = "123e4567-e89b-12d3-a456-426614174000", required = true)
-    private UUID balloonId;
+    @NotNull(message = "balloonIds is required")
+    @Schema(description = "選択する風船のIDの一覧（優先度順）", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]", required = true)
+    private List<@NotNull UUID> balloonIds;
 
     /**
      * デフォルトコンストラクタ。
@@ -28,19 +30,19 @@ public class BalloonSelectionRequest {
     }
 
     /**
-     * 風船IDを指定してインスタンスを構築します。
+     * 風船IDの一覧を指定してインスタンスを構築します。
      *
-     * @param balloonId 選択する風船のID
+     * @param balloonIds 選択する風船のIDの一覧（優先度順）
      */
-    public BalloonSelectionRequest(UUID balloonId) {
-        this.balloonId = balloonId;
+    public BalloonSelectionRequest(List<UUID> balloonIds) {
+        this.balloonIds = balloonIds;
     }
 
-    public UUID getBalloonId() {
-        return balloonId;
+    public List<UUID> getBalloonIds() {
+        return balloonIds;
     }
 
-    public void setBalloonId(UUID balloonId) {
-        this.balloonId = balloonId;
+    public void setBalloonIds(List<UUID> balloonIds) {
+        this.balloonIds = balloonIds;
     }
 }
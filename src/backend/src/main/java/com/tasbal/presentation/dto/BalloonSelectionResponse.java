@@ -2,13 +2,14 @@ package com.tasbal.presentation.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * 風船選択情報のレスポンスDTO。
  *
  * <p>このクラスはAPI経由でクライアントに返却される
- * 現在選択されている風船の情報を表現します。</p>
+ * 現在選択されている風船の一覧と、選択できる風船の最大数を表現します。</p>
  *
  * @author Tasbal Team
  * @since 1.0.0
@@ -16,8 +17,11 @@ import java.util.UUID;
 @Schema(description = "風船選択レスポンス")
 public class BalloonSelectionResponse {
 
-    @Schema(description = "選択中の風船ID", example = "123e4567-e89b-12d3-a456-426614174000")
-    private UUID balloonId;
+    @Schema(description = "選択中の風船IDの一覧（優先度順）", example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+    private List<UUID> balloonIds;
+
+    @Schema(description = "同時に選択できる風船の最大数", example = "1")
+    private Integer maxSelections;
 
     /**
      * デフォルトコンストラクタ。
@@ -26,19 +30,29 @@ public class BalloonSelectionResponse {
     }
 
     /**
-     * 風船IDを指定してインスタンスを構築します。
+     * 風船IDの一覧と最大選択数を指定してインスタンスを構築します。
      *
-     * @param balloonId 選択中の風船ID
+     * @param balloonIds 選択中の風船IDの一覧（優先度順）
+     * @param maxSelections 同時に選択できる風船の最大数
      */
-    public BalloonSelectionResponse(UUID balloonId) {
-        this.balloonId = balloonId;
+    public BalloonSelectionResponse(List<UUID> balloonIds, Integer maxSelections) {
+        this.balloonIds = balloonIds;
+        this.maxSelections = maxSelections;
+    }
+
+    public List<UUID> getBalloonIds() {
+        return balloonIds;
+    }
+
+    public void setBalloonIds(List<UUID> balloonIds) {
+        this.balloonIds = balloonIds;
     }
 
-    public UUID getBalloonId() {
-        return balloonId;
+    public Integer getMaxSelections() {
+        return maxSelections;
     }
 
-    public void setBalloonId(UUID balloonId) {
-        this.balloonId = balloonId;
+    public void setMaxSelections(Integer maxSelections) {
+        this.maxSelections = maxSelections;
     }
 }
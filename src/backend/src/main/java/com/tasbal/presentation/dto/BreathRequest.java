@@ -0,0 +1,51 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * 呼吸送信リクエストDTO。
+ *
+ * <p>このクラスはクライアント側でまとめられた呼吸回数の送信リクエストを表現します。
+ * クライアントは呼吸ごとではなく、一定時間ごとに回数をまとめて送信します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "呼吸送信リクエスト")
+public class BreathRequest {
+
+    @NotNull(message = "balloonId is required")
+    @Schema(description = "呼吸風船のID", example = "123e4567-e89b-12d3-a456-426614174000", required = true)
+    private UUID balloonId;
+
+    @NotNull(message = "count is required")
+    @Min(value = 1, message = "count must be at least 1")
+    @Schema(description = "前回送信以降の呼吸回数（上限はtasbal.breath.bucket-capacity）", example = "12", required = true)
+    private Integer count;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public BreathRequest() {
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public void setBalloonId(UUID balloonId) {
+        this.balloonId = balloonId;
+    }
+
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+}
@@ -0,0 +1,71 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 呼吸送信のレスポンスDTO。
+ *
+ * <p>このクラスは受け付けた呼吸回数と、加算対象となったTasbal Dayを表現します。
+ * 呼吸風船の割れ判定は日次集計で行われるため、このレスポンスには割れ情報は含まれません。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "呼吸送信レスポンス")
+public class BreathResponse {
+
+    @Schema(description = "呼吸風船のID", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID balloonId;
+
+    @Schema(description = "受け付けた呼吸回数", example = "12")
+    private Integer acceptedCount;
+
+    @Schema(description = "加算対象のTasbal Day（UTC日付）", example = "2026-01-10")
+    private LocalDate tasbalDay;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public BreathResponse() {
+    }
+
+    /**
+     * 各項目を指定してインスタンスを構築します。
+     *
+     * @param balloonId 呼吸風船のID
+     * @param acceptedCount 受け付けた呼吸回数
+     * @param tasbalDay 加算対象のTasbal Day
+     */
+    public BreathResponse(UUID balloonId, Integer acceptedCount, LocalDate tasbalDay) {
+        this.balloonId = balloonId;
+        this.acceptedCount = acceptedCount;
+        this.tasbalDay = tasbalDay;
+    }
+
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public void setBalloonId(UUID balloonId) {
+        this.balloonId = balloonId;
+    }
+
+    public Integer getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public void setAcceptedCount(Integer acceptedCount) {
+        this.acceptedCount = acceptedCount;
+    }
+
+    public LocalDate getTasbalDay() {
+        return tasbalDay;
+    }
+
+    public void setTasbalDay(LocalDate tasbalDay) {
+        this.tasbalDay = tasbalDay;
+    }
+}
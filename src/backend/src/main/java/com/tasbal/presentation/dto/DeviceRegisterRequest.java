@@ -0,0 +1,76 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 端末登録リクエストDTO。
+ *
+ * <p>このクラスは初回起動時に端末を登録する際のリクエストを表現します。
+ * プラットフォーム区分値が必須項目として定義されています。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "端末登録リクエスト")
+public class DeviceRegisterRequest {
+
+    @Size(max = 100, message = "deviceName must be at most 100 characters")
+    @Schema(description = "端末名", example = "Yohei's iPhone", nullable = true)
+    private String deviceName;
+
+    @NotNull(message = "platform is required")
+    @Min(value = 1, message = "platform must be between 1 and 3")
+    @Max(value = 3, message = "platform must be between 1 and 3")
+    @Schema(description = "プラットフォーム区分値（1:iOS 2:Android 3:Web）", example = "1", required = true)
+    private Short platform;
+
+    @Size(max = 20, message = "appVersion must be at most 20 characters")
+    @Schema(description = "アプリのバージョン", example = "1.0.0", nullable = true)
+    private String appVersion;
+
+    @Size(max = 50, message = "osVersion must be at most 50 characters")
+    @Schema(description = "OSのバージョン", example = "iOS 18.2", nullable = true)
+    private String osVersion;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public DeviceRegisterRequest() {
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public void setDeviceName(String deviceName) {
+        this.deviceName = deviceName;
+    }
+
+    public Short getPlatform() {
+        return platform;
+    }
+
+    public void setPlatform(Short platform) {
+        this.platform = platform;
+    }
+
+    public String getAppVersion() {
+        return appVersion;
+    }
+
+    public void setAppVersion(String appVersion) {
+        this.appVersion = appVersion;
+    }
+
+    public String getOsVersion() {
+        return osVersion;
+    }
+
+    public void setOsVersion(String osVersion) {
+        this.osVersion = osVersion;
+    }
+}
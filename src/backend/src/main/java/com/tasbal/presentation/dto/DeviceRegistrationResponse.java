@@ -0,0 +1,40 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 端末登録のレスポンスDTO。
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see DeviceResponse
+ */
+@Schema(description = "端末登録レスポンス")
+public class DeviceRegistrationResponse {
+
+    @Schema(description = "登録された端末")
+    private DeviceResponse device;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public DeviceRegistrationResponse() {
+    }
+
+    /**
+     * 端末を指定してインスタンスを構築します。
+     *
+     * @param device 登録された端末
+     */
+    public DeviceRegistrationResponse(DeviceResponse device) {
+        this.device = device;
+    }
+
+    public DeviceResponse getDevice() {
+        return device;
+    }
+
+    public void setDevice(DeviceResponse device) {
+        this.device = device;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tasbal.presentation.dto;
+
+import com.tasbal.domain.model.UserDevice;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 端末情報のレスポンスDTO。
+ *
+ * <p>端末キーは登録時のレスポンスでのみ返却されます（データベースにはハッシュのみを保存するため）。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see UserDevice
+ */
+@Schema(description = "端末レスポンス")
+public class DeviceResponse {
+
+    @Schema(description = "端末ID")
+    private UUID id;
+
+    @Schema(description = "端末キー（ゲスト開始で使用、登録時のみ返却）")
+    private String deviceKey;
+
+    @Schema(description = "端末名", nullable = true)
+    private String deviceName;
+
+    @Schema(description = "最終利用日時")
+    private OffsetDateTime lastUsedAt;
+
+    @Schema(description = "登録日時")
+    private OffsetDateTime createdAt;
+
+    /**
+     * ドメインモデルからレスポンスDTOを生成します。
+     *
+     * @param device 端末ドメインモデル
+     * @param deviceKey 端末キー（返却しない場合はnull）
+     * @return 構築されたDeviceResponseオブジェクト
+     */
+    public static DeviceResponse from(UserDevice device, String deviceKey) {
+        DeviceResponse response = new DeviceResponse();
+        response.id = device.getId();
+        response.deviceKey = deviceKey;
+        response.deviceName = device.getDeviceName();
+        response.lastUsedAt = device.getLastSeenAt();
+        response.createdAt = device.getCreatedAt();
+        return response;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getDeviceKey() {
+        return deviceKey;
+    }
+
+    public void setDeviceKey(String deviceKey) {
+        this.deviceKey = deviceKey;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public void setDeviceName(String deviceName) {
+        this.deviceName = deviceName;
+    }
+
+    public OffsetDateTime getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    public void setLastUsedAt(OffsetDateTime lastUsedAt) {
+        this.lastUsedAt = lastUsedAt;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
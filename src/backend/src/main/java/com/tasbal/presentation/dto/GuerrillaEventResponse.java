@@ -0,0 +1,111 @@
+package com.tasbal.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.tasbal.domain.model.GuerrillaEvent;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ゲリライベント情報のレスポンスDTO。
+ *
+ * <p>このクラスはAPI経由でクライアントに返却される開催中ゲリライベントの情報を表現します。
+ * 生成元は表示名（文字列）として返却します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see GuerrillaEvent
+ */
+public class GuerrillaEventResponse {
+    // 識別情報
+    private UUID id;
+
+    // 開催期間
+    private OffsetDateTime startsAt;
+    private OffsetDateTime endsAt;
+
+    // 生成元・優先度
+    private String source;
+    private Integer sourceCode;
+    private Integer priority;
+
+    // 紐付く風船
+    private List<UUID> balloonIds;
+
+    /**
+     * ドメインモデルからレスポンスDTOを生成します。
+     *
+     * @param event ゲリライベントドメインモデル
+     * @return 構築されたGuerrillaEventResponseオブジェクト
+     */
+    public static GuerrillaEventResponse from(GuerrillaEvent event) {
+        GuerrillaEventResponse response = new GuerrillaEventResponse();
+        response.id = event.getId();
+        response.startsAt = event.getStartsAt();
+        response.endsAt = event.getEndsAt();
+        response.source = event.getSourceEnum().getDisplayName();
+        response.sourceCode = event.getSourceEnum().getValue();
+        response.priority = event.getPriority();
+        response.balloonIds = event.getBalloonIds();
+        return response;
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public OffsetDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(OffsetDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public OffsetDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(OffsetDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    @JsonIgnore
+    public Integer getSourceCode() {
+        return sourceCode;
+    }
+
+    public void setSourceCode(Integer sourceCode) {
+        this.sourceCode = sourceCode;
+    }
+
+    public Integer getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
+    public List<UUID> getBalloonIds() {
+        return balloonIds;
+    }
+
+    public void setBalloonIds(List<UUID> balloonIds) {
+        this.balloonIds = balloonIds;
+    }
+}
@@ -0,0 +1,54 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * ゲスト開始のレスポンスDTO。
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see UserResponse
+ * @see TokenResponse
+ */
+@Schema(description = "ゲスト開始レスポンス")
+public class GuestSessionResponse {
+
+    @Schema(description = "ログインしたユーザー")
+    private UserResponse user;
+
+    @Schema(description = "発行したトークン")
+    private TokenResponse tokens;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public GuestSessionResponse() {
+    }
+
+    /**
+     * ユーザーとトークンを指定してインスタンスを構築します。
+     *
+     * @param user ログインしたユーザー
+     * @param tokens 発行したトークン
+     */
+    public GuestSessionResponse(UserResponse user, TokenResponse tokens) {
+        this.user = user;
+        this.tokens = tokens;
+    }
+
+    public UserResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponse user) {
+        this.user = user;
+    }
+
+    public TokenResponse getTokens() {
+        return tokens;
+    }
+
+    public void setTokens(TokenResponse tokens) {
+        this.tokens = tokens;
+    }
+}
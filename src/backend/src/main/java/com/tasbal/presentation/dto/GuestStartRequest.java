@@ -0,0 +1,36 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * ゲスト開始リクエストDTO。
+ *
+ * <p>このクラスは端末登録時に発行された端末キーでゲストとしてログインする際のリクエストを表現します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "ゲスト開始リクエスト")
+public class GuestStartRequest {
+
+    @NotBlank(message = "deviceKey is required")
+    @Size(max = 255, message = "deviceKey must be at most 255 characters")
+    @Schema(description = "端末キー", example = "opaque-string", required = true)
+    private String deviceKey;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public GuestStartRequest() {
+    }
+
+    public String getDeviceKey() {
+        return deviceKey;
+    }
+
+    public void setDeviceKey(String deviceKey) {
+        this.deviceKey = deviceKey;
+    }
+}
@@ -0,0 +1,72 @@
+package com.tasbal.presentation.dto;
+
+import com.tasbal.domain.model.BalloonMembership;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 風船への参加状態のレスポンスDTO。
+ *
+ * <p>このクラスは参加・離脱APIの結果として、ユーザーが風船に参加中かどうかを表現します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see BalloonMembership
+ */
+public class MembershipResponse {
+    private UUID balloonId;
+    private Boolean isMember;
+    private OffsetDateTime joinedAt;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param balloonId 風船ID
+     * @param isMember 参加中の場合true
+     * @param joinedAt 参加日時（参加していない場合はnull）
+     */
+    public MembershipResponse(UUID balloonId, Boolean isMember, OffsetDateTime joinedAt) {
+        this.balloonId = balloonId;
+        this.isMember = isMember;
+        this.joinedAt = joinedAt;
+    }
+
+    /**
+     * ドメインモデルからレスポンスDTOを生成します。
+     *
+     * @param membership 風船への参加状態
+     * @return 構築されたMembershipResponseオブジェクト
+     */
+    public static MembershipResponse from(BalloonMembership membership) {
+        return new MembershipResponse(
+                membership.getBalloonId(),
+                membership.isActive(),
+                membership.isActive() ? membership.getJoinedAt() : null);
+    }
+
+    // Getters and Setters
+    public UUID getBalloonId() {
+        return balloonId;
+    }
+
+    public void setBalloonId(UUID balloonId) {
+        this.balloonId = balloonId;
+    }
+
+    public Boolean getIsMember() {
+        return isMember;
+    }
+
+    public void setIsMember(Boolean isMember) {
+        this.isMember = isMember;
+    }
+
+    public OffsetDateTime getJoinedAt() {
+        return joinedAt;
+    }
+
+    public void setJoinedAt(OffsetDateTime joinedAt) {
+        this.joinedAt = joinedAt;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tasbal.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tasbal.domain.model.Task;
 
 import java.time.OffsetDateTime;
@@ -17,7 +18,7 @@ import java.util.UUID;
  * <ul>
  *   <li>タスク状態は表示名（文字列）として返却</li>
  *   <li>完了判定フラグ（isDone）を提供</li>
- *   <li>内部の区分値は公開しない</li>
+ *   <li>内部の区分値はJSONでは公開しない（CBORでは表示名の代わりに区分値コードを返却）</li>
  * </ul>
  *
  * @author Tasbal Team
@@ -34,6 +35,7 @@ public class TaskResponse {
     private String memo;
     private OffsetDateTime dueAt;
     private String status;
+    private Integer statusCode;
     private Boolean pinned;
     private Boolean isDone;
 
@@ -63,6 +65,7 @@ public class TaskResponse {
         response.memo = task.getMemo();
         response.dueAt = task.getDueAt();
         response.status = task.getStatusEnum().getDisplayName();
+        response.statusCode = task.getStatusEnum().getValue();
         response.pinned = task.getPinned();
         response.isDone = task.isDone();
         response.completedAt = task.getCompletedAt();
@@ -121,6 +124,15 @@ public class TaskResponse {
         this.status = status;
     }
 
+    @JsonIgnore
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    public void setStatusCode(Integer statusCode) {
+        this.statusCode = statusCode;
+    }
+
     public Boolean getPinned() {
         return pinned;
     }
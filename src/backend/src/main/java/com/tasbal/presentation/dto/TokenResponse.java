@@ -0,0 +1,62 @@
+package com.tasbal.presentation.dto;
+
+import com.tasbal.domain.model.AuthTokens;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 発行したトークンのレスポンスDTO。
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see AuthTokens
+ */
+@Schema(description = "トークンレスポンス")
+public class TokenResponse {
+
+    @Schema(description = "アクセストークン（JWT）")
+    private String accessToken;
+
+    @Schema(description = "リフレッシュトークン")
+    private String refreshToken;
+
+    @Schema(description = "アクセストークンの有効期間（秒）", example = "3600")
+    private Long expiresIn;
+
+    /**
+     * ドメインモデルからレスポンスDTOを生成します。
+     *
+     * @param tokens 発行したトークン
+     * @return 構築されたTokenResponseオブジェクト
+     */
+    public static TokenResponse from(AuthTokens tokens) {
+        TokenResponse response = new TokenResponse();
+        response.accessToken = tokens.getAccessToken();
+        response.refreshToken = tokens.getRefreshToken();
+        response.expiresIn = tokens.getExpiresInSeconds();
+        return response;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public Long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(Long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
+}
@@ -0,0 +1,60 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 引き継ぎトークン使用リクエストDTO。
+ *
+ * <p>このクラスは引き継ぎ先の端末で、引き継ぎ元の端末で発行した引き継ぎコードを使用する際のリクエストを表現します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "引き継ぎトークン使用リクエスト")
+public class TransferConsumeRequest {
+
+    @NotBlank(message = "deviceKey is required")
+    @Size(max = 255, message = "deviceKey must be at most 255 characters")
+    @Schema(description = "引き継ぎ先の端末の端末キー", example = "opaque-string", required = true)
+    private String deviceKey;
+
+    @NotBlank(message = "token is required")
+    @Size(max = 32, message = "token must be at most 32 characters")
+    @Schema(description = "引き継ぎコード（区切り文字・大文字小文字は区別しない）", example = "7K3M-Q9TX-2HFD", required = true)
+    private String token;
+
+    @Schema(description = "端末で利用していたゲストのデータ（タスク・タグ・風船・進捗）を引き継ぎ元のユーザーに統合するか", example = "false")
+    private Boolean mergeGuestData;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public TransferConsumeRequest() {
+    }
+
+    public String getDeviceKey() {
+        return deviceKey;
+    }
+
+    public void setDeviceKey(String deviceKey) {
+        this.deviceKey = deviceKey;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public Boolean getMergeGuestData() {
+        return mergeGuestData;
+    }
+
+    public void setMergeGuestData(Boolean mergeGuestData) {
+        this.mergeGuestData = mergeGuestData;
+    }
+}
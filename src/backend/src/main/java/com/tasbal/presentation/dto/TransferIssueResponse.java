@@ -0,0 +1,40 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 引き継ぎトークン発行のレスポンスDTO。
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferTokenResponse
+ */
+@Schema(description = "引き継ぎトークン発行レスポンス")
+public class TransferIssueResponse {
+
+    @Schema(description = "発行した引き継ぎトークン")
+    private TransferTokenResponse transfer;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public TransferIssueResponse() {
+    }
+
+    /**
+     * 引き継ぎトークンを指定してインスタンスを構築します。
+     *
+     * @param transfer 発行した引き継ぎトークン
+     */
+    public TransferIssueResponse(TransferTokenResponse transfer) {
+        this.transfer = transfer;
+    }
+
+    public TransferTokenResponse getTransfer() {
+        return transfer;
+    }
+
+    public void setTransfer(TransferTokenResponse transfer) {
+        this.transfer = transfer;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tasbal.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 引き継ぎトークン発行リクエストDTO。
+ *
+ * <p>有効期間は任意で、指定しない場合は30分です。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+@Schema(description = "引き継ぎトークン発行リクエスト")
+public class TransferTokenRequest {
+
+    @Min(value = 1, message = "expiresInMinutes must be between 1 and 1440")
+    @Max(value = 1440, message = "expiresInMinutes must be between 1 and 1440")
+    @Schema(description = "有効期間（分、省略時は30）", example = "30", nullable = true)
+    private Integer expiresInMinutes;
+
+    /**
+     * デフォルトコンストラクタ。
+     */
+    public TransferTokenRequest() {
+    }
+
+    public Integer getExpiresInMinutes() {
+        return expiresInMinutes;
+    }
+
+    public void setExpiresInMinutes(Integer expiresInMinutes) {
+        this.expiresInMinutes = expiresInMinutes;
+    }
+}
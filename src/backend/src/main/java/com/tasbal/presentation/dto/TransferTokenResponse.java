@@ -0,0 +1,68 @@
+package com.tasbal.presentation.dto;
+
+import com.tasbal.domain.model.TransferToken;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 引き継ぎトークンのレスポンスDTO。
+ *
+ * <p>引き継ぎコードは発行時のレスポンスでのみ返却されます（データベースにはハッシュのみを保存するため）。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TransferToken
+ */
+@Schema(description = "引き継ぎトークンレスポンス")
+public class TransferTokenResponse {
+
+    @Schema(description = "引き継ぎトークンID")
+    private UUID id;
+
+    @Schema(description = "引き継ぎコード", example = "7K3M-Q9TX-2HFD")
+    private String token;
+
+    @Schema(description = "有効期限")
+    private OffsetDateTime expiresAt;
+
+    /**
+     * ドメインモデルからレスポンスDTOを生成します。
+     *
+     * @param transferToken 引き継ぎトークンドメインモデル
+     * @param code 引き継ぎコード
+     * @return 構築されたTransferTokenResponseオブジェクト
+     */
+    public static TransferTokenResponse from(TransferToken transferToken, String code) {
+        TransferTokenResponse response = new TransferTokenResponse();
+        response.id = transferToken.getId();
+        response.token = code;
+        response.expiresAt = transferToken.getExpiresAt();
+        return response;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public OffsetDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(OffsetDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,80 @@
+package com.tasbal.presentation.dto;
+
+import com.tasbal.domain.model.TrendingBalloon;
+
+/**
+ * 人気ランキングの1件のレスポンスDTO。
+ *
+ * <p>このクラスは人気ランキングに掲載される風船を、順位・参加人数・人気スコアとともに表現します。
+ * スコアは直近の貢献ほど大きく寄与する相対値で、ランキング内の比較にのみ使用します。</p>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ * @see TrendingBalloon
+ * @see BalloonResponse
+ */
+public class TrendingBalloonResponse {
+    private int rank;
+    private BalloonResponse balloon;
+    private String countryCode;
+    private int memberCount;
+    private double score;
+
+    /**
+     * ドメインモデルからレスポンスDTOを生成します。
+     *
+     * @param rank 順位（1始まり）
+     * @param trendingBalloon 人気ランキングの風船
+     * @return 構築されたTrendingBalloonResponseオブジェクト
+     */
+    public static TrendingBalloonResponse from(int rank, TrendingBalloon trendingBalloon) {
+        TrendingBalloonResponse response = new TrendingBalloonResponse();
+        response.rank = rank;
+        response.balloon = BalloonResponse.from(trendingBalloon.getBalloon());
+        response.countryCode = trendingBalloon.getCountryCode();
+        response.memberCount = trendingBalloon.getMemberCount();
+        response.score = trendingBalloon.getScore();
+        return response;
+    }
+
+    // Getters and Setters
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public BalloonResponse getBalloon() {
+        return balloon;
+    }
+
+    public void setBalloon(BalloonResponse balloon) {
+        this.balloon = balloon;
+    }
+
+    public String getCountryCode() {
+        return countryCode;
+    }
+
+    public void setCountryCode(String countryCode) {
+        this.countryCode = countryCode;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(int memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -1,5 +1,6 @@
 package com.tasbal.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tasbal.domain.model.User;
 
 import java.time.OffsetDateTime;
@@ -30,6 +31,7 @@ public class UserResponse {
 
     // ユーザー属性
     private String plan;
+    private Integer planCode;
     private Boolean isGuest;
 
     // タイムスタンプ
@@ -50,6 +52,7 @@ public class UserResponse {
         response.id = user.getId();
         response.handle = user.getHandle();
         response.plan = user.getPlanEnum().getDisplayName();
+        response.planCode = user.getPlanEnum().getValue();
         response.isGuest = user.getIsGuest();
         response.createdAt = user.getCreatedAt();
         return response;
@@ -80,6 +83,15 @@ public class UserResponse {
         this.plan = plan;
     }
 
+    @JsonIgnore
+    public Integer getPlanCode() {
+        return planCode;
+    }
+
+    public void setPlanCode(Integer planCode) {
+        this.planCode = planCode;
+    }
+
     public Boolean getIsGuest() {
         return isGuest;
     }
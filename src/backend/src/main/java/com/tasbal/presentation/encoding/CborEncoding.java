@@ -0,0 +1,106 @@
+package com.tasbal.presentation.encoding;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tasbal.presentation.dto.BalloonResponse;
+import com.tasbal.presentation.dto.GuerrillaEventResponse;
+import com.tasbal.presentation.dto.TaskResponse;
+import com.tasbal.presentation.dto.UserResponse;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.UUID;
+
+/**
+ * モバイルクライアント向けのコンパクトなバイナリエンコーディング（CBOR）。
+ *
+ * <p>{@code Accept: application/cbor}を指定したリクエストには、JSONと同じレスポンスDTOを
+ * CBOR（RFC 8949）でエンコードして返却します。JSONとの違いは以下のとおりです。</p>
+ *
+ * <ul>
+ *   <li>日時はISO 8601の文字列ではなく、エポックミリ秒の整数</li>
+ *   <li>区分値は表示名（日本語の文字列）ではなく、区分値コードの整数
+ *       （{@code statusCode}・{@code planCode}・{@code typeCode}・{@code sourceCode}）</li>
+ *   <li>UUIDは16バイトのバイト列</li>
+ *   <li>{@code null}の項目と、リクエストしたユーザー自身のID（タスクの{@code userId}）は省略</li>
+ * </ul>
+ *
+ * @author Tasbal Team
+ * @since 1.0.0
+ */
+public final class CborEncoding {
+
+    private CborEncoding() {
+    }
+
+    /**
+     * CBORのメッセージコンバーターを生成します。
+     *
+     * @return {@code application/cbor}のメッセージコンバーター
+     */
+    public static MappingJackson2CborHttpMessageConverter messageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper());
+    }
+
+    /**
+     * CBOR用のObjectMapperを生成します。
+     *
+     * @return CBOR用のObjectMapper
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.cbor()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(
+                        SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS,
+                        DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .mixIn(TaskResponse.class, TaskResponseMixin.class)
+                .mixIn(UserResponse.class, UserResponseMixin.class)
+                .mixIn(BalloonResponse.class, BalloonResponseMixin.class)
+                .mixIn(GuerrillaEventResponse.class, GuerrillaEventResponseMixin.class)
+                .build();
+    }
+
+    abstract static class TaskResponseMixin {
+        @JsonIgnore
+        abstract UUID getUserId();
+
+        @JsonIgnore
+        abstract String getStatus();
+
+        @JsonIgnore(false)
+        @JsonProperty("statusCode")
+        abstract Integer getStatusCode();
+    }
+
+    abstract static class UserResponseMixin {
+        @JsonIgnore
+        abstract String getPlan();
+
+        @JsonIgnore(false)
+        @JsonProperty("planCode")
+        abstract Integer getPlanCode();
+    }
+
+    abstract static class BalloonResponseMixin {
+        @JsonIgnore
+        abstract String getType();
+
+        @JsonIgnore(false)
+        @JsonProperty("typeCode")
+        abstract Integer getTypeCode();
+    }
+
+    abstract static class GuerrillaEventResponseMixin {
+        @JsonIgnore
+        abstract String getSource();
+
+        @JsonIgnore(false)
+        @JsonProperty("sourceCode")
+        abstract Integer getSourceCode();
+    }
+}
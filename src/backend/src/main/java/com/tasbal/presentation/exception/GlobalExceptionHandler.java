@@ -1,9 +1,12 @@
 package com.tasbal.presentation.exception;
 
+import com.tasbal.infrastructure.ratelimit.RateLimitExceededException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -23,6 +26,8 @@ import java.util.Map;
  * <ul>
  *   <li>{@link MethodArgumentNotValidException} - バリデーションエラー（400 Bad Request）</li>
  *   <li>{@link IllegalArgumentException} - 不正な引数エラー（400 Bad Request）</li>
+ *   <li>{@link AuthenticationException} - 未認証（401 Unauthorized）</li>
+ *   <li>{@link RateLimitExceededException} - レート制限超過（429 Too Many Requests）</li>
  *   <li>{@link RuntimeException} - 実行時エラー（500 Internal Server Error）</li>
  *   <li>{@link Exception} - その他の予期しないエラー（500 Internal Server Error）</li>
  * </ul>
@@ -119,6 +124,51 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * 認証例外をハンドリングします。
+     *
+     * <p>認証済みのユーザーIDを必要とするコントローラーが認証されていないリクエストを受け取った場合に、
+     * 401エラーレスポンスを返します。</p>
+     *
+     * @param ex 認証例外
+     * @return HTTPステータス401とエラーメッセージを含むレスポンス
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Map<String, Object>> handleAuthenticationException(AuthenticationException ex) {
+        Map<String, Object> response = new HashMap<>();
+        Map<String, Object> errorDetails = new HashMap<>();
+        errorDetails.put("code", "UNAUTHORIZED");
+        errorDetails.put("message", ex.getMessage());
+        response.put("error", errorDetails);
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer")
+                .body(response);
+    }
+
+    /**
+     * レート制限超過例外をハンドリングします。
+     *
+     * <p>レート制限によって拒否されたリクエストに対し、
+     * 再試行までの待ち時間を{@code Retry-After}ヘッダーに設定した429エラーレスポンスを返します。</p>
+     *
+     * @param ex レート制限超過例外
+     * @return HTTPステータス429とエラーメッセージを含むレスポンス
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        Map<String, Object> response = new HashMap<>();
+        Map<String, Object> errorDetails = new HashMap<>();
+        errorDetails.put("code", "TOO_MANY_REQUESTS");
+        errorDetails.put("message", ex.getMessage());
+        errorDetails.put("details", Map.of("retryAfterSeconds", ex.getRetryAfterSeconds()));
+        response.put("error", errorDetails);
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
     /**
      * その他の予期しない例外をハンドリングします。
      *
@@ -0,0 +1,113 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Guerrilla Event Functions
+-- =========================================
+
+-- 期間検索用（終了日時で絞り込み、開始日時で上限を切る）
+CREATE INDEX idx_guerrilla_events_ends_at ON guerrilla_events(ends_at);
+
+-- 指定期間に重なるゲリライベント取得
+CREATE OR REPLACE FUNCTION sp_get_guerrilla_events_in_range(
+    p_from TIMESTAMPTZ,
+    p_to TIMESTAMPTZ
+)
+RETURNS TABLE(
+    id UUID,
+    tasbal_day DATE,
+    starts_at TIMESTAMPTZ,
+    ends_at TIMESTAMPTZ,
+    source SMALLINT,
+    priority INT,
+    created_at TIMESTAMPTZ,
+    balloon_ids UUID[]
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT ge.id, ge.tasbal_day, ge.starts_at, ge.ends_at, ge.source, ge.priority, ge.created_at,
+           ARRAY(
+               SELECT bel.balloon_id
+               FROM balloon_event_links bel
+               WHERE bel.event_id = ge.id
+           ) AS balloon_ids
+    FROM guerrilla_events ge
+    WHERE ge.ends_at > p_from
+      AND ge.starts_at < p_to
+    ORDER BY ge.starts_at, ge.id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Tasbal Day のゲリライベント自動生成（冪等・複数ノード安全）
+-- 1日を p_count 個のスロットに等分し、各スロット内に 1〜3時間のイベントを1つ配置する。
+-- 各イベントはスロット終端から p_min_gap_minutes 以上手前で終了するため、重なりは発生しない。
+CREATE OR REPLACE FUNCTION sp_generate_guerrilla_events(
+    p_tasbal_day DATE,
+    p_min_gap_minutes INT DEFAULT 30
+)
+RETURNS TABLE(
+    id UUID,
+    tasbal_day DATE,
+    starts_at TIMESTAMPTZ,
+    ends_at TIMESTAMPTZ,
+    source SMALLINT,
+    priority INT,
+    created_at TIMESTAMPTZ,
+    balloon_ids UUID[]
+) AS $$
+DECLARE
+    v_day_start TIMESTAMPTZ;
+    v_count INT;
+    v_slot_minutes INT;
+    v_max_duration INT;
+    v_duration INT;
+    v_offset INT;
+    v_event_id UUID;
+    v_balloon_id UUID;
+BEGIN
+    -- 他ノードが同じ日を生成中の場合は待たずに既存分のみ返す
+    IF pg_try_advisory_xact_lock(hashtext('sp_generate_guerrilla_events'), p_tasbal_day - DATE '2000-01-01')
+       AND NOT EXISTS (
+           SELECT 1 FROM guerrilla_events ge
+           WHERE ge.tasbal_day = p_tasbal_day AND ge.source = 1  -- AUTO
+       ) THEN
+
+        v_day_start := p_tasbal_day::TIMESTAMP AT TIME ZONE 'UTC';
+        v_count := 3 + floor(random() * 3)::INT;  -- 3〜5回
+        v_slot_minutes := (24 * 60) / v_count;
+        v_max_duration := LEAST(180, v_slot_minutes - p_min_gap_minutes);
+
+        FOR i IN 0 .. v_count - 1 LOOP
+            v_duration := 60 + floor(random() * (v_max_duration - 60 + 1))::INT;  -- 1〜3時間
+            v_offset := floor(random() * (v_slot_minutes - p_min_gap_minutes - v_duration + 1))::INT;
+
+            INSERT INTO guerrilla_events (tasbal_day, starts_at, ends_at, source, priority)
+            VALUES (
+                p_tasbal_day,
+                v_day_start + make_interval(mins => i * v_slot_minutes + v_offset),
+                v_day_start + make_interval(mins => i * v_slot_minutes + v_offset + v_duration),
+                1,  -- AUTO
+                1
+            )
+            RETURNING guerrilla_events.id INTO v_event_id;
+
+            -- イベント専用のゲリラ風船を作成して紐付け
+            INSERT INTO balloons (balloon_type, display_group, visibility)
+            VALUES (5, 2, 1)  -- 5:GUERRILLA, 2:DRIFTING, 1:SYSTEM
+            RETURNING balloons.id INTO v_balloon_id;
+
+            INSERT INTO balloon_event_links (event_id, balloon_id)
+            VALUES (v_event_id, v_balloon_id);
+        END LOOP;
+    END IF;
+
+    RETURN QUERY
+    SELECT ge.id, ge.tasbal_day, ge.starts_at, ge.ends_at, ge.source, ge.priority, ge.created_at,
+           ARRAY(
+               SELECT bel.balloon_id
+               FROM balloon_event_links bel
+               WHERE bel.event_id = ge.id
+           ) AS balloon_ids
+    FROM guerrilla_events ge
+    WHERE ge.tasbal_day = p_tasbal_day
+    ORDER BY ge.starts_at, ge.id;
+END;
+$$ LANGUAGE plpgsql;
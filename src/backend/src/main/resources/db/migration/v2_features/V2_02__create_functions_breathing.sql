@@ -0,0 +1,308 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Breathing Balloon Daily Rollover
+-- =========================================
+
+-- 日次集計の実行記録（同じ日を二重に集計しないためのガード）
+CREATE TABLE breathing_day_rollovers (
+    tasbal_day DATE PRIMARY KEY,
+    balloon_count INT NOT NULL DEFAULT 0,
+    pop_count INT NOT NULL DEFAULT 0,
+    rolled_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 日次集計用（UTC_DAY単位の台帳のみ）
+CREATE INDEX idx_contribution_ledger_utc_day ON contribution_ledger(unit_key, balloon_id) WHERE unit_type = 4;
+
+-- 日次集計と UTC_DAY への加算の直列化
+-- 加算は加算先の Tasbal Day の共有ロック、日次集計は排他ロックをトランザクションの終了まで保持する。
+-- 日次集計は実行中の加算のコミットを待ってから集計し、集計後の加算は集計済みであることを必ず参照できる。
+CREATE OR REPLACE FUNCTION sp_lock_breathing_days(
+    p_days DATE[],
+    p_exclusive BOOLEAN DEFAULT false
+)
+RETURNS VOID AS $$
+DECLARE
+    v_day DATE;
+BEGIN
+    FOR v_day IN
+        SELECT DISTINCT d.day
+        FROM unnest(p_days) AS d(day)
+        WHERE d.day IS NOT NULL
+        ORDER BY d.day
+    LOOP
+        IF p_exclusive THEN
+            PERFORM pg_advisory_xact_lock(hashtext('breathing_day'), v_day - DATE '2000-01-01');
+        ELSE
+            PERFORM pg_advisory_xact_lock_shared(hashtext('breathing_day'), v_day - DATE '2000-01-01');
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- UTC_DAY の加算先の決定
+-- 日次集計済みの日への加算（集計後に再試行・遅延して書き出された呼吸など）は割れ判定されず、
+-- 集計のやり直しもできないため、当日（トランザクション開始時のUTC日付）に付け替える。
+-- 台帳の行も付け替えた日で記録するため、台帳の再生と進捗は一致する。
+-- 加算先の日の sp_lock_breathing_days を取得した後に呼び出すこと。
+CREATE OR REPLACE FUNCTION sp_open_breathing_day_key(
+    p_unit_key VARCHAR
+)
+RETURNS VARCHAR AS $$
+    SELECT CASE
+               WHEN EXISTS (SELECT 1 FROM breathing_day_rollovers r WHERE r.tasbal_day = p_unit_key::DATE)
+               THEN to_char((CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::DATE, 'YYYY-MM-DD')
+               ELSE p_unit_key
+           END;
+$$ LANGUAGE sql STABLE;
+
+-- 風船に貢献を加算（システム用）
+-- UTC_DAY（呼吸風船）は unit_key を Tasbal Day（UTC日付）とし、加算のみ行う。
+-- 割れ判定は日次集計（sp_rollover_breathing_day）でまとめて行う。
+CREATE OR REPLACE FUNCTION sp_add_balloon_contribution(
+    p_actor_user_id UUID,
+    p_balloon_id UUID,
+    p_source_type SMALLINT,
+    p_source_id UUID,
+    p_amount INT
+)
+RETURNS TABLE(
+    popped_balloon_id UUID
+) AS $$
+DECLARE
+    v_unit_type SMALLINT;
+    v_unit_key VARCHAR;
+    v_current_value INT;
+    v_next_threshold INT;
+    v_break_count INT;
+    v_popped BOOLEAN := false;
+BEGIN
+    -- 風船の種類に応じて集計単位を決定
+    SELECT
+        CASE
+            WHEN b.balloon_type = 4 THEN 1  -- USER
+            WHEN b.balloon_type = 2 THEN 2  -- LOCATION (COUNTRY)
+            WHEN b.balloon_type = 1 THEN 3  -- GLOBAL
+            WHEN b.balloon_type = 3 THEN 4  -- BREATHING (UTC_DAY)
+            WHEN b.balloon_type = 5 THEN 5  -- GUERRILLA (EVENT)
+            ELSE 3
+        END INTO v_unit_type
+    FROM balloons b
+    WHERE b.id = p_balloon_id;
+
+    IF v_unit_type = 4 THEN
+        -- UTC_DAY: 当日の進捗行に加算する（通常は事前作成済みのため UPDATE のみになる）
+        -- トランザクションの開始が日付の変わる前の場合、当日が集計済みであれば翌日に付け替える
+        v_unit_key := to_char((CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::DATE, 'YYYY-MM-DD');
+        PERFORM sp_lock_breathing_days(ARRAY[v_unit_key::DATE]);
+        v_unit_key := sp_open_breathing_day_key(v_unit_key);
+
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+        VALUES (p_balloon_id, v_unit_type, v_unit_key, p_amount, 1, 0)
+        ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+        SET current_value = balloon_progress.current_value + EXCLUDED.current_value,
+            updated_at = CURRENT_TIMESTAMP,
+            lock_version = balloon_progress.lock_version + 1;
+
+        INSERT INTO contribution_ledger (actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount)
+        VALUES (p_actor_user_id, p_balloon_id, v_unit_type, v_unit_key, p_source_type, p_source_id, p_amount);
+
+        RETURN;
+    END IF;
+
+    -- unit_key を決定
+    v_unit_key := p_actor_user_id::VARCHAR;
+
+    -- 進捗を更新（楽観的ロック）
+    UPDATE balloon_progress
+    SET
+        current_value = current_value + p_amount,
+        updated_at = CURRENT_TIMESTAMP,
+        lock_version = lock_version + 1
+    WHERE balloon_id = p_balloon_id
+      AND unit_type = v_unit_type
+      AND unit_key = v_unit_key
+    RETURNING current_value, next_threshold, break_count
+    INTO v_current_value, v_next_threshold, v_break_count;
+
+    -- 進捗レコードが存在しない場合は作成
+    IF NOT FOUND THEN
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+        VALUES (p_balloon_id, v_unit_type, v_unit_key, p_amount, 1, 0)
+        RETURNING current_value, next_threshold, break_count
+        INTO v_current_value, v_next_threshold, v_break_count;
+    END IF;
+
+    -- 貢献台帳に記録
+    INSERT INTO contribution_ledger (actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount)
+    VALUES (p_actor_user_id, p_balloon_id, v_unit_type, v_unit_key, p_source_type, p_source_id, p_amount);
+
+    -- 割れ判定
+    IF v_current_value >= v_next_threshold THEN
+        v_popped := true;
+
+        -- 進捗をリセットして次回必要量を増やす
+        UPDATE balloon_progress
+        SET
+            current_value = v_current_value - v_next_threshold,
+            next_threshold = v_next_threshold + 1,
+            break_count = break_count + 1,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE balloon_id = p_balloon_id
+          AND unit_type = v_unit_type
+          AND unit_key = v_unit_key;
+
+        -- 割れ履歴に記録
+        INSERT INTO balloon_pop_history (balloon_id, unit_type, unit_key, trigger_user_id, threshold_at_pop, consumed, context_type, context_id)
+        VALUES (p_balloon_id, v_unit_type, v_unit_key, p_actor_user_id, v_next_threshold, v_next_threshold, p_source_type, p_source_id);
+    END IF;
+
+    -- 割れた風船のIDを返す
+    IF v_popped THEN
+        RETURN QUERY SELECT p_balloon_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 呼吸風船の日次進捗行を事前作成
+-- 0時UTCに全呼吸風船の行作成が集中しないよう、日中に翌日分をまとめて作成しておく。
+-- 必要量は作成時点の前日行から引き継ぐ（前日の集計後に sp_rollover_breathing_day が補正する）。
+CREATE OR REPLACE FUNCTION sp_prepare_breathing_day(
+    p_tasbal_day DATE
+)
+RETURNS TABLE(
+    created_count INT
+) AS $$
+DECLARE
+    v_unit_key VARCHAR := to_char(p_tasbal_day, 'YYYY-MM-DD');
+    v_prev_key VARCHAR := to_char(p_tasbal_day - 1, 'YYYY-MM-DD');
+    v_count INT;
+BEGIN
+    INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+    SELECT b.id, 4, v_unit_key, 0, COALESCE(prev.next_threshold, 1), 0
+    FROM balloons b
+    LEFT JOIN balloon_progress prev
+           ON prev.balloon_id = b.id
+          AND prev.unit_type = 4
+          AND prev.unit_key = v_prev_key
+    WHERE b.balloon_type = 3  -- BREATHING
+      AND b.is_active = true
+    ON CONFLICT (balloon_id, unit_type, unit_key) DO NOTHING;
+
+    GET DIAGNOSTICS v_count = ROW_COUNT;
+
+    RETURN QUERY SELECT v_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 呼吸風船の日次集計（冪等・複数ノード安全）
+-- 対象日の台帳を1回の走査で風船ごとに集計し、割れ回数をまとめて判定する。
+-- 必要量 t から k 回割れるのに必要な量は k*t + k(k-1)/2 のため、k は二次方程式の解から求める。
+CREATE OR REPLACE FUNCTION sp_rollover_breathing_day(
+    p_tasbal_day DATE
+)
+RETURNS TABLE(
+    tasbal_day DATE,
+    balloon_count INT,
+    pop_count INT,
+    rolled_at TIMESTAMPTZ
+) AS $$
+DECLARE
+    v_unit_key VARCHAR := to_char(p_tasbal_day, 'YYYY-MM-DD');
+    v_next_key VARCHAR := to_char(p_tasbal_day + 1, 'YYYY-MM-DD');
+    v_balloon_count INT := 0;
+    v_pop_count INT := 0;
+BEGIN
+    -- 実行中の当日分の加算のコミットを待つ（以降の加算は集計済みを参照して翌日以降に付け替えられる）
+    PERFORM sp_lock_breathing_days(ARRAY[p_tasbal_day], true);
+
+    -- 集計済み、または他ノードが集計中の場合は記録済みの結果のみ返す
+    INSERT INTO breathing_day_rollovers (tasbal_day)
+    VALUES (p_tasbal_day)
+    ON CONFLICT DO NOTHING;
+
+    IF FOUND THEN
+        WITH totals AS (
+            SELECT cl.balloon_id, SUM(cl.amount)::BIGINT AS total
+            FROM contribution_ledger cl
+            WHERE cl.unit_type = 4
+              AND cl.unit_key = v_unit_key
+            GROUP BY cl.balloon_id
+        ),
+        estimated AS (
+            SELECT t.balloon_id, t.total,
+                   COALESCE(bp.next_threshold, 1)::BIGINT AS threshold,
+                   GREATEST(0, floor(
+                       (1 - 2 * COALESCE(bp.next_threshold, 1)
+                        + sqrt(power(2 * COALESCE(bp.next_threshold, 1) - 1, 2) + 8 * t.total)) / 2
+                   ))::BIGINT AS k
+            FROM totals t
+            LEFT JOIN balloon_progress bp
+                   ON bp.balloon_id = t.balloon_id
+                  AND bp.unit_type = 4
+                  AND bp.unit_key = v_unit_key
+        ),
+        rolled AS (
+            -- 浮動小数点の丸め誤差を上下1回分補正する（k回の割れに必要な量は k*t + k(k-1)/2）
+            SELECT e.balloon_id, e.total, e.threshold,
+                   CASE
+                       WHEN e.k * e.threshold + e.k * (e.k - 1) / 2 > e.total THEN e.k - 1
+                       WHEN (e.k + 1) * e.threshold + (e.k + 1) * e.k / 2 <= e.total THEN e.k + 1
+                       ELSE e.k
+                   END AS pops
+            FROM estimated e
+        ),
+        day_rows AS (
+            -- 当日行を確定（余りは翌日に繰り越さない）
+            INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+            SELECT r.balloon_id, 4, v_unit_key,
+                   (r.total - (r.pops * r.threshold + r.pops * (r.pops - 1) / 2))::INT,
+                   (r.threshold + r.pops)::INT,
+                   r.pops::INT
+            FROM rolled r
+            ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+            SET current_value = EXCLUDED.current_value,
+                next_threshold = EXCLUDED.next_threshold,
+                break_count = EXCLUDED.break_count,
+                updated_at = CURRENT_TIMESTAMP,
+                lock_version = balloon_progress.lock_version + 1
+            RETURNING 1
+        ),
+        pop_rows AS (
+            -- 割れ履歴に記録（1回の割れにつき1行）
+            INSERT INTO balloon_pop_history (balloon_id, unit_type, unit_key, trigger_user_id, threshold_at_pop, consumed, context_type, context_id)
+            SELECT r.balloon_id, 4, v_unit_key, NULL, (r.threshold + g.i)::INT, (r.threshold + g.i)::INT, 2, NULL  -- 2:BREATH
+            FROM rolled r
+            CROSS JOIN LATERAL generate_series(0, r.pops - 1) AS g(i)
+            WHERE r.pops > 0
+            RETURNING 1
+        ),
+        next_rows AS (
+            -- 翌日行の必要量を集計後の値に補正（未作成の場合はここで作成）
+            INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+            SELECT r.balloon_id, 4, v_next_key, 0, (r.threshold + r.pops)::INT, 0
+            FROM rolled r
+            WHERE r.pops > 0
+            ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+            SET next_threshold = EXCLUDED.next_threshold,
+                updated_at = CURRENT_TIMESTAMP,
+                lock_version = balloon_progress.lock_version + 1
+            RETURNING 1
+        )
+        SELECT COUNT(*)::INT, COALESCE(SUM(r.pops), 0)::INT
+        INTO v_balloon_count, v_pop_count
+        FROM rolled r;
+
+        UPDATE breathing_day_rollovers
+        SET balloon_count = v_balloon_count,
+            pop_count = v_pop_count,
+            rolled_at = CURRENT_TIMESTAMP
+        WHERE breathing_day_rollovers.tasbal_day = p_tasbal_day;
+    END IF;
+
+    RETURN QUERY
+    SELECT r.tasbal_day, r.balloon_count, r.pop_count, r.rolled_at
+    FROM breathing_day_rollovers r
+    WHERE r.tasbal_day = p_tasbal_day;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,77 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Breath Contribution Functions
+-- =========================================
+
+-- 有効な呼吸風船ID一覧取得
+CREATE OR REPLACE FUNCTION sp_get_active_breathing_balloon_ids()
+RETURNS TABLE(
+    id UUID
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id
+    FROM balloons b
+    WHERE b.balloon_type = 3  -- BREATHING
+      AND b.is_active = true;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 呼吸貢献の一括加算
+-- メモリ上で (風船, Tasbal Day, ユーザー) ごとに集約された呼吸回数を1文でまとめて書き込む。
+-- 台帳は入力1件につき1行、進捗は (風船, Tasbal Day) ごとに1回だけ更新される。
+-- 無効な風船・存在しないユーザーの入力は読み捨てる。
+-- 日次集計済みの日の入力（集計後の再試行など）は当日に付け替える（sp_open_breathing_day_key）。
+CREATE OR REPLACE FUNCTION sp_add_breath_contributions(
+    p_balloon_ids TEXT[],
+    p_unit_keys TEXT[],
+    p_user_ids TEXT[],
+    p_amounts INT[]
+)
+RETURNS TABLE(
+    ledger_count INT,
+    progress_count INT
+) AS $$
+DECLARE
+    v_ledger_count INT;
+    v_progress_count INT;
+BEGIN
+    PERFORM sp_lock_breathing_days(ARRAY(SELECT k::DATE FROM unnest(p_unit_keys) AS k));
+
+    WITH input AS (
+        SELECT i.balloon_id::UUID AS balloon_id, sp_open_breathing_day_key(i.unit_key) AS unit_key,
+               i.user_id::UUID AS user_id, i.amount
+        FROM unnest(p_balloon_ids, p_unit_keys, p_user_ids, p_amounts) AS i(balloon_id, unit_key, user_id, amount)
+        WHERE i.amount > 0
+    ),
+    valid AS (
+        SELECT i.balloon_id, i.unit_key, i.user_id, i.amount
+        FROM input i
+        JOIN balloons b ON b.id = i.balloon_id
+                       AND b.balloon_type = 3  -- BREATHING
+                       AND b.is_active = true
+        JOIN users u ON u.id = i.user_id
+    ),
+    ledger AS (
+        INSERT INTO contribution_ledger (actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount)
+        SELECT v.user_id, v.balloon_id, 4, v.unit_key, 2, NULL, v.amount  -- 4:UTC_DAY, 2:BREATH
+        FROM valid v
+        RETURNING 1
+    ),
+    progress AS (
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+        SELECT v.balloon_id, 4, v.unit_key, SUM(v.amount)::INT, 1, 0
+        FROM valid v
+        GROUP BY v.balloon_id, v.unit_key
+        ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+        SET current_value = balloon_progress.current_value + EXCLUDED.current_value,
+            updated_at = CURRENT_TIMESTAMP,
+            lock_version = balloon_progress.lock_version + 1
+        RETURNING 1
+    )
+    SELECT (SELECT COUNT(*) FROM ledger)::INT, (SELECT COUNT(*) FROM progress)::INT
+    INTO v_ledger_count, v_progress_count;
+
+    RETURN QUERY SELECT v_ledger_count, v_progress_count;
+END;
+$$ LANGUAGE plpgsql;
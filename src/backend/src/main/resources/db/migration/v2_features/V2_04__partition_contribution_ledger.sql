@@ -0,0 +1,268 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Contribution Ledger Partitioning / Hourly Rollups
+-- =========================================
+
+-- 切り離した古いパーティションの保管先
+CREATE SCHEMA IF NOT EXISTS ledger_archive;
+
+-- 既存テーブルを退避（インデックス名を新テーブルで使うため削除する）
+ALTER TABLE contribution_ledger RENAME TO contribution_ledger_legacy;
+DROP INDEX IF EXISTS idx_contribution_ledger_actor_user_id;
+DROP INDEX IF EXISTS idx_contribution_ledger_balloon_id;
+DROP INDEX IF EXISTS idx_contribution_ledger_created_at;
+DROP INDEX IF EXISTS idx_contribution_ledger_utc_day;
+
+-- 月単位のレンジパーティションテーブル（主キーにはパーティションキーを含める必要がある）
+CREATE TABLE contribution_ledger (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    actor_user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    balloon_id UUID NOT NULL REFERENCES balloons(id) ON DELETE CASCADE,
+    unit_type SMALLINT NOT NULL CHECK (unit_type >= 1),
+    unit_key VARCHAR(100) NOT NULL,
+    source_type SMALLINT NOT NULL CHECK (source_type >= 1), -- 1:TASK 2:BREATH 3:SYSTEM 4:ADMIN
+    source_id UUID,
+    amount INT NOT NULL DEFAULT 1,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- DEFAULT パーティションは作成しない。
+-- DEFAULT パーティションがあると DETACH PARTITION CONCURRENTLY が使えず、切り離しに親テーブルの
+-- ACCESS EXCLUSIVE ロックが必要になる。また DEFAULT に行が入った期間の月パーティションは、行を移すまで作成できない。
+-- 代わりに月パーティションを事前作成し（sp_ensure_ledger_partitions）、作成に失敗した場合はジョブが失敗を報告する。
+
+-- 集計単位ごとの時系列走査用（再集計・風船単位の参照）
+CREATE INDEX idx_contribution_ledger_balloon_unit ON contribution_ledger(balloon_id, unit_type, unit_key, created_at);
+CREATE INDEX idx_contribution_ledger_actor_user_id ON contribution_ledger(actor_user_id);
+-- 追記専用のため作成日時は BRIN で十分
+CREATE INDEX idx_contribution_ledger_created_at ON contribution_ledger USING BRIN (created_at);
+
+-- 時間単位のロールアップ（台帳の挿入時にトリガーで増分更新する）
+CREATE TABLE contribution_ledger_hourly (
+    balloon_id UUID NOT NULL REFERENCES balloons(id) ON DELETE CASCADE,
+    unit_type SMALLINT NOT NULL CHECK (unit_type >= 1),
+    unit_key VARCHAR(100) NOT NULL,
+    hour TIMESTAMPTZ NOT NULL,
+    amount_sum BIGINT NOT NULL DEFAULT 0,
+    row_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (balloon_id, unit_type, unit_key, hour)
+);
+
+CREATE INDEX idx_contribution_ledger_hourly_hour ON contribution_ledger_hourly(hour);
+CREATE INDEX idx_contribution_ledger_hourly_utc_day ON contribution_ledger_hourly(unit_key, balloon_id) WHERE unit_type = 4;
+
+-- 月パーティションの事前作成（複数ノード安全）
+-- p_from_month 以降（省略時は当月）から p_months_ahead か月先までの未作成パーティションを作成する。
+CREATE OR REPLACE FUNCTION sp_ensure_ledger_partitions(
+    p_months_ahead INT DEFAULT 3,
+    p_from_month DATE DEFAULT NULL
+)
+RETURNS TABLE(
+    partition_name TEXT
+) AS $$
+DECLARE
+    v_current DATE := date_trunc('month', CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::DATE;
+    v_month DATE;
+    v_name TEXT;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('contribution_ledger_partitions'));
+
+    v_month := LEAST(COALESCE(date_trunc('month', p_from_month)::DATE, v_current), v_current);
+
+    WHILE v_month <= (v_current + make_interval(months => p_months_ahead))::DATE LOOP
+        v_name := 'contribution_ledger_' || to_char(v_month, '"y"YYYY"m"MM');
+
+        IF to_regclass(v_name) IS NULL THEN
+            EXECUTE format(
+                'CREATE TABLE %I PARTITION OF contribution_ledger FOR VALUES FROM (%L) TO (%L)',
+                v_name,
+                v_month::TIMESTAMP AT TIME ZONE 'UTC',
+                (v_month + INTERVAL '1 month')::TIMESTAMP AT TIME ZONE 'UTC'
+            );
+            partition_name := v_name;
+            RETURN NEXT;
+        END IF;
+
+        v_month := (v_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 保持期間を過ぎた月パーティションの一覧
+-- 切り離し（DETACH PARTITION CONCURRENTLY）はトランザクションブロック・関数内で実行できないため、
+-- アプリケーションが自動コミットの接続でパーティションごとに実行し、ledger_archive スキーマへ移動する。
+-- detach_pending は CONCURRENTLY の切り離しが中断されたパーティション（FINALIZE で完了させる）。
+-- 切り離したパーティションの集計値は contribution_ledger_hourly に残る。
+CREATE OR REPLACE FUNCTION sp_get_expired_ledger_partitions(
+    p_retention_months INT
+)
+RETURNS TABLE(
+    partition_name TEXT,
+    detach_pending BOOLEAN
+) AS $$
+DECLARE
+    v_cutoff DATE := (date_trunc('month', CURRENT_TIMESTAMP AT TIME ZONE 'UTC')
+                      - make_interval(months => p_retention_months))::DATE;
+BEGIN
+    RETURN QUERY
+    SELECT c.relname::TEXT, i.inhdetachpending
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'contribution_ledger'::REGCLASS
+      AND c.relname ~ '^contribution_ledger_y[0-9]{4}m[0-9]{2}$'
+      -- パーティションの上限（翌月1日）が保持期間の開始以前のもののみ対象
+      AND (to_date(right(c.relname::TEXT, 8), '"y"YYYY"m"MM') + INTERVAL '1 month')::DATE <= v_cutoff
+    ORDER BY c.relname;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 既存データの範囲をカバーするパーティションを作成して移行
+SELECT sp_ensure_ledger_partitions(
+    3,
+    (SELECT MIN(created_at AT TIME ZONE 'UTC')::DATE FROM contribution_ledger_legacy)
+);
+
+INSERT INTO contribution_ledger (id, actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount, created_at)
+SELECT id, actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount, created_at
+FROM contribution_ledger_legacy;
+
+-- 移行済みデータからロールアップを一括作成
+INSERT INTO contribution_ledger_hourly (balloon_id, unit_type, unit_key, hour, amount_sum, row_count)
+SELECT balloon_id, unit_type, unit_key, date_trunc('hour', created_at), SUM(amount), COUNT(*)
+FROM contribution_ledger
+GROUP BY balloon_id, unit_type, unit_key, date_trunc('hour', created_at);
+
+DROP TABLE contribution_ledger_legacy;
+
+-- ロールアップの増分更新（文単位トリガー・遷移テーブルで一括集約）
+-- 一括挿入（呼吸の書き出しなど）でも1文につき集計キーごとに1回の更新で済む。
+CREATE OR REPLACE FUNCTION trg_contribution_ledger_rollup()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO contribution_ledger_hourly (balloon_id, unit_type, unit_key, hour, amount_sum, row_count)
+    SELECT n.balloon_id, n.unit_type, n.unit_key, date_trunc('hour', n.created_at), SUM(n.amount), COUNT(*)
+    FROM new_rows n
+    GROUP BY n.balloon_id, n.unit_type, n.unit_key, date_trunc('hour', n.created_at)
+    ON CONFLICT (balloon_id, unit_type, unit_key, hour) DO UPDATE
+    SET amount_sum = contribution_ledger_hourly.amount_sum + EXCLUDED.amount_sum,
+        row_count = contribution_ledger_hourly.row_count + EXCLUDED.row_count;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER contribution_ledger_rollup
+AFTER INSERT ON contribution_ledger
+REFERENCING NEW TABLE AS new_rows
+FOR EACH STATEMENT
+EXECUTE FUNCTION trg_contribution_ledger_rollup();
+
+-- 呼吸風船の日次集計（台帳の代わりにロールアップを参照する）
+CREATE OR REPLACE FUNCTION sp_rollover_breathing_day(
+    p_tasbal_day DATE
+)
+RETURNS TABLE(
+    tasbal_day DATE,
+    balloon_count INT,
+    pop_count INT,
+    rolled_at TIMESTAMPTZ
+) AS $$
+DECLARE
+    v_unit_key VARCHAR := to_char(p_tasbal_day, 'YYYY-MM-DD');
+    v_next_key VARCHAR := to_char(p_tasbal_day + 1, 'YYYY-MM-DD');
+    v_balloon_count INT := 0;
+    v_pop_count INT := 0;
+BEGIN
+    -- 実行中の当日分の加算のコミットを待つ（以降の加算は集計済みを参照して翌日以降に付け替えられる）
+    PERFORM sp_lock_breathing_days(ARRAY[p_tasbal_day], true);
+
+    -- 集計済み、または他ノードが集計中の場合は記録済みの結果のみ返す
+    INSERT INTO breathing_day_rollovers (tasbal_day)
+    VALUES (p_tasbal_day)
+    ON CONFLICT DO NOTHING;
+
+    IF FOUND THEN
+        WITH totals AS (
+            SELECT h.balloon_id, SUM(h.amount_sum)::BIGINT AS total
+            FROM contribution_ledger_hourly h
+            WHERE h.unit_type = 4
+              AND h.unit_key = v_unit_key
+            GROUP BY h.balloon_id
+        ),
+        estimated AS (
+            SELECT t.balloon_id, t.total,
+                   COALESCE(bp.next_threshold, 1)::BIGINT AS threshold,
+                   GREATEST(0, floor(
+                       (1 - 2 * COALESCE(bp.next_threshold, 1)
+                        + sqrt(power(2 * COALESCE(bp.next_threshold, 1) - 1, 2) + 8 * t.total)) / 2
+                   ))::BIGINT AS k
+            FROM totals t
+            LEFT JOIN balloon_progress bp
+                   ON bp.balloon_id = t.balloon_id
+                  AND bp.unit_type = 4
+                  AND bp.unit_key = v_unit_key
+        ),
+        rolled AS (
+            -- 浮動小数点の丸め誤差を上下1回分補正する（k回の割れに必要な量は k*t + k(k-1)/2）
+            SELECT e.balloon_id, e.total, e.threshold,
+                   CASE
+                       WHEN e.k * e.threshold + e.k * (e.k - 1) / 2 > e.total THEN e.k - 1
+                       WHEN (e.k + 1) * e.threshold + (e.k + 1) * e.k / 2 <= e.total THEN e.k + 1
+                       ELSE e.k
+                   END AS pops
+            FROM estimated e
+        ),
+        day_rows AS (
+            -- 当日行を確定（余りは翌日に繰り越さない）
+            INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+            SELECT r.balloon_id, 4, v_unit_key,
+                   (r.total - (r.pops * r.threshold + r.pops * (r.pops - 1) / 2))::INT,
+                   (r.threshold + r.pops)::INT,
+                   r.pops::INT
+            FROM rolled r
+            ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+            SET current_value = EXCLUDED.current_value,
+                next_threshold = EXCLUDED.next_threshold,
+                break_count = EXCLUDED.break_count,
+                updated_at = CURRENT_TIMESTAMP,
+                lock_version = balloon_progress.lock_version + 1
+            RETURNING 1
+        ),
+        pop_rows AS (
+            -- 割れ履歴に記録（1回の割れにつき1行）
+            INSERT INTO balloon_pop_history (balloon_id, unit_type, unit_key, trigger_user_id, threshold_at_pop, consumed, context_type, context_id)
+            SELECT r.balloon_id, 4, v_unit_key, NULL, (r.threshold + g.i)::INT, (r.threshold + g.i)::INT, 2, NULL  -- 2:BREATH
+            FROM rolled r
+            CROSS JOIN LATERAL generate_series(0, r.pops - 1) AS g(i)
+            WHERE r.pops > 0
+            RETURNING 1
+        ),
+        next_rows AS (
+            -- 翌日行の必要量を集計後の値に補正（未作成の場合はここで作成）
+            INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+            SELECT r.balloon_id, 4, v_next_key, 0, (r.threshold + r.pops)::INT, 0
+            FROM rolled r
+            WHERE r.pops > 0
+            ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+            SET next_threshold = EXCLUDED.next_threshold,
+                updated_at = CURRENT_TIMESTAMP,
+                lock_version = balloon_progress.lock_version + 1
+            RETURNING 1
+        )
+        SELECT COUNT(*)::INT, COALESCE(SUM(r.pops), 0)::INT
+        INTO v_balloon_count, v_pop_count
+        FROM rolled r;
+
+        UPDATE breathing_day_rollovers
+        SET balloon_count = v_balloon_count,
+            pop_count = v_pop_count,
+            rolled_at = CURRENT_TIMESTAMP
+        WHERE breathing_day_rollovers.tasbal_day = p_tasbal_day;
+    END IF;
+
+    RETURN QUERY
+    SELECT r.tasbal_day, r.balloon_count, r.pop_count, r.rolled_at
+    FROM breathing_day_rollovers r
+    WHERE r.tasbal_day = p_tasbal_day;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,158 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Progress Reconciliation Functions
+-- =========================================
+
+-- 再集計対象の風船ID取得（キーセットページング）
+CREATE OR REPLACE FUNCTION sp_get_reconcile_balloon_ids(
+    p_after_id UUID DEFAULT NULL,
+    p_limit INT DEFAULT 1000
+)
+RETURNS TABLE(
+    id UUID
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id
+    FROM balloons b
+    WHERE p_after_id IS NULL OR b.id > p_after_id
+    ORDER BY b.id
+    LIMIT p_limit;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船の台帳を集計単位・時系列順に取得（カーソル走査用）
+-- PL/pgSQL の RETURN QUERY は結果をすべて生成してから返すため、
+-- インライン展開されてカーソルで逐次取得できる SQL 関数として定義する。
+CREATE OR REPLACE FUNCTION sp_stream_balloon_ledger(
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    unit_type SMALLINT,
+    unit_key VARCHAR,
+    amount INT,
+    created_at TIMESTAMPTZ
+) AS $$
+    SELECT cl.unit_type, cl.unit_key, cl.amount, cl.created_at
+    FROM contribution_ledger cl
+    WHERE cl.balloon_id = p_balloon_id
+    ORDER BY cl.unit_type, cl.unit_key, cl.created_at, cl.id;
+$$ LANGUAGE sql STABLE;
+
+-- 風船の進捗と割れ履歴件数を集計単位ごとに取得
+CREATE OR REPLACE FUNCTION sp_get_balloon_progress_units(
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    unit_type SMALLINT,
+    unit_key VARCHAR,
+    current_value INT,
+    next_threshold INT,
+    break_count INT,
+    lock_version INT,
+    pop_history_count INT
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT bp.unit_type, bp.unit_key, bp.current_value, bp.next_threshold, bp.break_count, bp.lock_version,
+           COALESCE(ph.pop_count, 0)::INT
+    FROM balloon_progress bp
+    LEFT JOIN (
+        SELECT h.unit_type, h.unit_key, COUNT(*) AS pop_count
+        FROM balloon_pop_history h
+        WHERE h.balloon_id = p_balloon_id
+        GROUP BY h.unit_type, h.unit_key
+    ) ph ON ph.unit_type = bp.unit_type AND ph.unit_key = bp.unit_key
+    WHERE bp.balloon_id = p_balloon_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 集計済みの呼吸風船の日付一覧取得
+CREATE OR REPLACE FUNCTION sp_get_breathing_rollover_days()
+RETURNS TABLE(
+    tasbal_day DATE
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT r.tasbal_day
+    FROM breathing_day_rollovers r;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 再集計結果による進捗の一括修復
+-- 走査時点の lock_version と一致する行のみ更新するため、走査後に加算された行は上書きしない。
+-- 進捗行が存在しない集計単位は新規作成する（p_lock_versions は NULL）。
+CREATE OR REPLACE FUNCTION sp_repair_balloon_progress(
+    p_balloon_id UUID,
+    p_unit_types INT[],
+    p_unit_keys TEXT[],
+    p_current_values INT[],
+    p_next_thresholds INT[],
+    p_break_counts INT[],
+    p_lock_versions INT[]
+)
+RETURNS TABLE(
+    repaired_count INT
+) AS $$
+DECLARE
+    v_updated INT;
+    v_inserted INT;
+BEGIN
+    UPDATE balloon_progress bp
+    SET current_value = r.current_value,
+        next_threshold = r.next_threshold,
+        break_count = r.break_count,
+        updated_at = CURRENT_TIMESTAMP,
+        lock_version = bp.lock_version + 1
+    FROM unnest(p_unit_types, p_unit_keys, p_current_values, p_next_thresholds, p_break_counts, p_lock_versions)
+         AS r(unit_type, unit_key, current_value, next_threshold, break_count, lock_version)
+    WHERE bp.balloon_id = p_balloon_id
+      AND bp.unit_type = r.unit_type
+      AND bp.unit_key = r.unit_key
+      AND r.lock_version IS NOT NULL
+      AND bp.lock_version = r.lock_version;
+
+    GET DIAGNOSTICS v_updated = ROW_COUNT;
+
+    INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+    SELECT p_balloon_id, r.unit_type, r.unit_key, r.current_value, r.next_threshold, r.break_count
+    FROM unnest(p_unit_types, p_unit_keys, p_current_values, p_next_thresholds, p_break_counts, p_lock_versions)
+         AS r(unit_type, unit_key, current_value, next_threshold, break_count, lock_version)
+    WHERE r.lock_version IS NULL
+    ON CONFLICT (balloon_id, unit_type, unit_key) DO NOTHING;
+
+    GET DIAGNOSTICS v_inserted = ROW_COUNT;
+
+    RETURN QUERY SELECT v_updated + v_inserted;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船の台帳の一部が切り離し済みのパーティションにあるかを判定
+-- 接続中の月パーティションの最も古い開始日時より前のロールアップがある場合、その期間の台帳は切り離し済み
+-- （ledger_archive に移動、または削除済み）で再生できないため、再集計では修復の対象外とする。
+CREATE OR REPLACE FUNCTION sp_has_detached_ledger_history(
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    detached BOOLEAN
+) AS $$
+DECLARE
+    v_retained_from TIMESTAMPTZ;
+BEGIN
+    SELECT MIN(to_date(right(c.relname::TEXT, 8), '"y"YYYY"m"MM')::TIMESTAMP AT TIME ZONE 'UTC')
+    INTO v_retained_from
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'contribution_ledger'::REGCLASS
+      AND NOT i.inhdetachpending
+      AND c.relname ~ '^contribution_ledger_y[0-9]{4}m[0-9]{2}$';
+
+    RETURN QUERY
+    SELECT v_retained_from IS NOT NULL AND EXISTS (
+        SELECT 1
+        FROM contribution_ledger_hourly h
+        WHERE h.balloon_id = p_balloon_id
+          AND h.hour < v_retained_from
+    );
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,50 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Public Balloons Keyset Pagination
+-- =========================================
+
+-- 公開風船一覧用（絞り込み条件と並び順に一致する部分インデックス）
+-- 一覧の条件に一致する行のみを (created_at, id) の降順で保持するため、
+-- 先頭ページもカーソル以降のページもインデックスの範囲走査のみで取得できる。
+CREATE INDEX idx_balloons_public_created ON balloons(created_at DESC, id DESC)
+    WHERE visibility = 3 AND is_active = true AND balloon_type = 4;
+
+-- LIMIT/OFFSET 版はスキップする行もすべて読むため、カーソル版に置き換える
+DROP FUNCTION IF EXISTS sp_get_public_balloons(INT, INT);
+
+-- 公開風船一覧取得（キーセットページング）
+-- カーソル（前ページ最後の行の created_at, id）より後の行を返す。先頭ページはカーソルに NULL を渡す。
+CREATE OR REPLACE FUNCTION sp_get_public_balloons(
+    p_cursor_created_at TIMESTAMPTZ DEFAULT NULL,
+    p_cursor_id UUID DEFAULT NULL,
+    p_limit INT DEFAULT 20
+)
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    display_group SMALLINT,
+    visibility SMALLINT,
+    owner_user_id UUID,
+    title VARCHAR,
+    description TEXT,
+    color_id SMALLINT,
+    tag_icon_id SMALLINT,
+    country_code CHAR,
+    is_active BOOLEAN,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
+           b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
+           b.is_active, b.created_at, b.updated_at
+    FROM balloons b
+    WHERE b.visibility = 3  -- PUBLIC
+      AND b.is_active = true
+      AND b.balloon_type = 4  -- USER
+      AND (p_cursor_created_at IS NULL OR (b.created_at, b.id) < (p_cursor_created_at, p_cursor_id))
+    ORDER BY b.created_at DESC, b.id DESC
+    LIMIT p_limit;
+END;
+$$ LANGUAGE plpgsql;
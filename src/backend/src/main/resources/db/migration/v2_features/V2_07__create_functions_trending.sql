@@ -0,0 +1,168 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Trending Balloons
+-- =========================================
+
+-- タスク完了切替の戻り値に加算先の風船IDを追加
+-- アプリケーション側で人気ランキングを加算するため、加算が行われた場合のみ風船IDを返す。
+DROP FUNCTION IF EXISTS sp_toggle_task_completion(UUID, UUID, BOOLEAN);
+
+CREATE OR REPLACE FUNCTION sp_toggle_task_completion(
+    p_task_id UUID,
+    p_user_id UUID,
+    p_is_done BOOLEAN
+)
+RETURNS TABLE(
+    id UUID,
+    user_id UUID,
+    title VARCHAR,
+    memo TEXT,
+    due_at TIMESTAMPTZ,
+    status SMALLINT,
+    pinned BOOLEAN,
+    completed_at TIMESTAMPTZ,
+    archived_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    deleted_at TIMESTAMPTZ,
+    was_completed BOOLEAN,
+    popped_balloon_ids UUID[],
+    contributed_balloon_id UUID
+) AS $$
+DECLARE
+    v_new_status SMALLINT;
+    v_completed_at TIMESTAMPTZ;
+    v_was_completed BOOLEAN;
+    v_selected_balloon_id UUID;
+    v_contributed_balloon_id UUID;
+    v_popped_balloons UUID[];
+BEGIN
+    -- 現在の状態を取得
+    SELECT (t.status = 3) INTO v_was_completed
+    FROM tasks t
+    WHERE t.id = p_task_id AND t.user_id = p_user_id;
+
+    -- 新しいステータスを決定
+    IF p_is_done THEN
+        v_new_status := 3; -- DONE
+        v_completed_at := CURRENT_TIMESTAMP;
+    ELSE
+        v_new_status := 1; -- TODO
+        v_completed_at := NULL;
+    END IF;
+
+    -- タスクを更新
+    UPDATE tasks
+    SET status = v_new_status,
+        completed_at = v_completed_at,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE id = p_task_id AND user_id = p_user_id;
+
+    -- 完了時の処理
+    IF p_is_done AND NOT v_was_completed THEN
+        -- 完了履歴を作成（冪等性確保）
+        INSERT INTO task_completions (task_id, user_id, completed_at)
+        VALUES (p_task_id, p_user_id, v_completed_at)
+        ON CONFLICT (task_id) DO NOTHING;
+
+        -- 選択中の風船を取得
+        SELECT bs.balloon_id INTO v_selected_balloon_id
+        FROM balloon_selections bs
+        WHERE bs.user_id = p_user_id
+          AND bs.left_at IS NULL
+        LIMIT 1;
+
+        -- 風船に加算（ストアドプロシージャを呼び出し）
+        IF v_selected_balloon_id IS NOT NULL THEN
+            SELECT ARRAY_AGG(popped_id) INTO v_popped_balloons
+            FROM sp_add_balloon_contribution(
+                p_user_id,
+                v_selected_balloon_id,
+                1, -- TASK
+                p_task_id,
+                1  -- amount
+            ) AS popped_id;
+            v_contributed_balloon_id := v_selected_balloon_id;
+        ELSE
+            v_popped_balloons := ARRAY[]::UUID[];
+        END IF;
+    ELSE
+        v_popped_balloons := ARRAY[]::UUID[];
+    END IF;
+
+    -- 結果を返す
+    RETURN QUERY
+    SELECT
+        t.id, t.user_id, t.title, t.memo, t.due_at, t.status, t.pinned,
+        t.completed_at, t.archived_at, t.created_at, t.updated_at, t.deleted_at,
+        v_was_completed,
+        v_popped_balloons,
+        v_contributed_balloon_id
+    FROM tasks t
+    WHERE t.id = p_task_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 人気ランキングの対象風船取得（公開・有効なユーザー風船）
+-- 国は風船の国コード（未設定の場合はオーナーのユーザー設定の国コード）、参加人数は離脱していないメンバーの数。
+-- 起動時と定期的な再同期でのみ呼び出す（リクエストごとには呼び出さない）。
+CREATE OR REPLACE FUNCTION sp_get_trending_candidates()
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    display_group SMALLINT,
+    visibility SMALLINT,
+    owner_user_id UUID,
+    title VARCHAR,
+    description TEXT,
+    color_id SMALLINT,
+    tag_icon_id SMALLINT,
+    country_code CHAR,
+    is_active BOOLEAN,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    ranking_country_code CHAR,
+    member_count INT
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
+           b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
+           b.is_active, b.created_at, b.updated_at,
+           COALESCE(b.country_code, us.country_code),
+           COALESCE(m.member_count, 0)::INT
+    FROM balloons b
+    LEFT JOIN user_settings us ON us.user_id = b.owner_user_id
+    LEFT JOIN (
+        SELECT bm.balloon_id, COUNT(*) AS member_count
+        FROM balloon_memberships bm
+        WHERE bm.left_at IS NULL
+        GROUP BY bm.balloon_id
+    ) m ON m.balloon_id = b.id
+    WHERE b.visibility = 3  -- PUBLIC
+      AND b.is_active = true
+      AND b.balloon_type = 4;  -- USER
+END;
+$$ LANGUAGE plpgsql;
+
+-- 人気ランキング用の時間別貢献量取得（時間別ロールアップから）
+CREATE OR REPLACE FUNCTION sp_get_trending_contributions(
+    p_since TIMESTAMPTZ
+)
+RETURNS TABLE(
+    balloon_id UUID,
+    hour TIMESTAMPTZ,
+    amount_sum BIGINT
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT h.balloon_id, h.hour, SUM(h.amount_sum)::BIGINT
+    FROM contribution_ledger_hourly h
+    JOIN balloons b ON b.id = h.balloon_id
+    WHERE h.hour >= date_trunc('hour', p_since)
+      AND b.visibility = 3  -- PUBLIC
+      AND b.is_active = true
+      AND b.balloon_type = 4  -- USER
+    GROUP BY h.balloon_id, h.hour;
+END;
+$$ LANGUAGE plpgsql;
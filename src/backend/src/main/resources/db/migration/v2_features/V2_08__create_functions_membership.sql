@@ -0,0 +1,297 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Balloon Membership Join/Leave
+-- =========================================
+
+-- 重複した参加中メンバーシップを解消（一意インデックス作成前に最古の1件のみ残す）
+UPDATE balloon_memberships bm
+SET left_at = CURRENT_TIMESTAMP
+WHERE bm.left_at IS NULL
+  AND EXISTS (
+      SELECT 1 FROM balloon_memberships o
+      WHERE o.balloon_id = bm.balloon_id
+        AND o.user_id = bm.user_id
+        AND o.left_at IS NULL
+        AND (o.joined_at, o.id) < (bm.joined_at, bm.id)
+  );
+
+-- 参加中メンバーシップ（風船ごとの参加者検索・二重参加の防止）
+CREATE UNIQUE INDEX idx_balloon_memberships_active ON balloon_memberships(balloon_id, user_id) WHERE left_at IS NULL;
+
+-- 参加人数（非正規化カウンタ）
+ALTER TABLE balloons ADD COLUMN member_count INT NOT NULL DEFAULT 0;
+
+UPDATE balloons b
+SET member_count = m.member_count
+FROM (
+    SELECT bm.balloon_id, COUNT(*)::INT AS member_count
+    FROM balloon_memberships bm
+    WHERE bm.left_at IS NULL
+    GROUP BY bm.balloon_id
+) m
+WHERE m.balloon_id = b.id;
+
+-- 参加人数の増減（追記のみ）
+-- 人気の風船で balloons の同じ行への更新が集中しないよう、参加・離脱はここに1行追記し、
+-- sp_flush_member_count_deltas が風船ごとに合算してまとめて balloons.member_count に反映する。
+CREATE TABLE balloon_member_count_deltas (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    balloon_id UUID NOT NULL REFERENCES balloons(id) ON DELETE CASCADE,
+    delta SMALLINT NOT NULL CHECK (delta IN (-1, 1)),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 風船作成（参加人数を追加）
+-- 作成者の自動参加は新規行のため、増減を経由せず参加人数1で作成する。
+DROP FUNCTION IF EXISTS sp_create_balloon(UUID, VARCHAR, TEXT, SMALLINT, SMALLINT, BOOLEAN);
+
+CREATE OR REPLACE FUNCTION sp_create_balloon(
+    p_owner_user_id UUID,
+    p_title VARCHAR,
+    p_description TEXT,
+    p_color_id SMALLINT,
+    p_tag_icon_id SMALLINT,
+    p_is_public BOOLEAN
+)
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    display_group SMALLINT,
+    visibility SMALLINT,
+    owner_user_id UUID,
+    title VARCHAR,
+    description TEXT,
+    color_id SMALLINT,
+    tag_icon_id SMALLINT,
+    country_code CHAR,
+    is_active BOOLEAN,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    member_count INT
+) AS $$
+DECLARE
+    v_balloon_id UUID;
+    v_visibility SMALLINT;
+BEGIN
+    -- 公開設定に応じてvisibilityを決定
+    v_visibility := CASE WHEN p_is_public THEN 3 ELSE 2 END; -- 3:PUBLIC, 2:PRIVATE
+
+    INSERT INTO balloons (balloon_type, display_group, visibility, owner_user_id, title, description, color_id, tag_icon_id, member_count)
+    VALUES (4, 2, v_visibility, p_owner_user_id, p_title, p_description, p_color_id, p_tag_icon_id, 1) -- 4:USER, 2:DRIFTING
+    RETURNING balloons.id INTO v_balloon_id;
+
+    -- 自動参加
+    INSERT INTO balloon_memberships (user_id, balloon_id)
+    VALUES (p_owner_user_id, v_balloon_id);
+
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
+           b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
+           b.is_active, b.created_at, b.updated_at, b.member_count
+    FROM balloons b
+    WHERE b.id = v_balloon_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 公開風船一覧取得（参加人数を追加）
+DROP FUNCTION IF EXISTS sp_get_public_balloons(TIMESTAMPTZ, UUID, INT);
+
+CREATE OR REPLACE FUNCTION sp_get_public_balloons(
+    p_cursor_created_at TIMESTAMPTZ DEFAULT NULL,
+    p_cursor_id UUID DEFAULT NULL,
+    p_limit INT DEFAULT 20
+)
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    display_group SMALLINT,
+    visibility SMALLINT,
+    owner_user_id UUID,
+    title VARCHAR,
+    description TEXT,
+    color_id SMALLINT,
+    tag_icon_id SMALLINT,
+    country_code CHAR,
+    is_active BOOLEAN,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    member_count INT
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
+           b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
+           b.is_active, b.created_at, b.updated_at, b.member_count
+    FROM balloons b
+    WHERE b.visibility = 3  -- PUBLIC
+      AND b.is_active = true
+      AND b.balloon_type = 4  -- USER
+      AND (p_cursor_created_at IS NULL OR (b.created_at, b.id) < (p_cursor_created_at, p_cursor_id))
+    ORDER BY b.created_at DESC, b.id DESC
+    LIMIT p_limit;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 人気ランキングの対象風船取得（参加人数を非正規化カウンタから取得）
+DROP FUNCTION IF EXISTS sp_get_trending_candidates();
+
+CREATE OR REPLACE FUNCTION sp_get_trending_candidates()
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    display_group SMALLINT,
+    visibility SMALLINT,
+    owner_user_id UUID,
+    title VARCHAR,
+    description TEXT,
+    color_id SMALLINT,
+    tag_icon_id SMALLINT,
+    country_code CHAR,
+    is_active BOOLEAN,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    member_count INT,
+    ranking_country_code CHAR
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
+           b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
+           b.is_active, b.created_at, b.updated_at, b.member_count,
+           COALESCE(b.country_code, us.country_code)
+    FROM balloons b
+    LEFT JOIN user_settings us ON us.user_id = b.owner_user_id
+    WHERE b.visibility = 3  -- PUBLIC
+      AND b.is_active = true
+      AND b.balloon_type = 4;  -- USER
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船に参加
+-- 参加できるのは有効な公開風船、または自分がオーナーの風船のみ（対象外の場合は0行を返す）。
+-- 参加済みの場合は既存のメンバーシップを changed = false で返す。
+CREATE OR REPLACE FUNCTION sp_join_balloon(
+    p_user_id UUID,
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    balloon_id UUID,
+    user_id UUID,
+    joined_at TIMESTAMPTZ,
+    left_at TIMESTAMPTZ,
+    changed BOOLEAN
+) AS $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM balloons b
+        WHERE b.id = p_balloon_id
+          AND b.is_active = true
+          AND (b.visibility = 3 OR b.owner_user_id = p_user_id)  -- 3:PUBLIC
+    ) THEN
+        RETURN;
+    END IF;
+
+    RETURN QUERY
+    WITH inserted AS (
+        INSERT INTO balloon_memberships (user_id, balloon_id)
+        VALUES (p_user_id, p_balloon_id)
+        ON CONFLICT (balloon_id, user_id) WHERE left_at IS NULL DO NOTHING
+        RETURNING balloon_memberships.balloon_id, balloon_memberships.user_id,
+                  balloon_memberships.joined_at, balloon_memberships.left_at
+    ),
+    delta AS (
+        INSERT INTO balloon_member_count_deltas (balloon_id, delta)
+        SELECT i.balloon_id, 1
+        FROM inserted i
+        RETURNING 1
+    )
+    SELECT i.balloon_id, i.user_id, i.joined_at, i.left_at, true
+    FROM inserted i
+    UNION ALL
+    SELECT bm.balloon_id, bm.user_id, bm.joined_at, bm.left_at, false
+    FROM balloon_memberships bm
+    WHERE bm.balloon_id = p_balloon_id
+      AND bm.user_id = p_user_id
+      AND bm.left_at IS NULL
+      AND NOT EXISTS (SELECT 1 FROM inserted);
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船から離脱
+-- 参加中でない場合は0行を返す。
+CREATE OR REPLACE FUNCTION sp_leave_balloon(
+    p_user_id UUID,
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    balloon_id UUID,
+    user_id UUID,
+    joined_at TIMESTAMPTZ,
+    left_at TIMESTAMPTZ,
+    changed BOOLEAN
+) AS $$
+BEGIN
+    RETURN QUERY
+    WITH updated AS (
+        UPDATE balloon_memberships bm
+        SET left_at = CURRENT_TIMESTAMP
+        WHERE bm.balloon_id = p_balloon_id
+          AND bm.user_id = p_user_id
+          AND bm.left_at IS NULL
+        RETURNING bm.balloon_id, bm.user_id, bm.joined_at, bm.left_at
+    ),
+    delta AS (
+        INSERT INTO balloon_member_count_deltas (balloon_id, delta)
+        SELECT u.balloon_id, -1
+        FROM updated u
+        RETURNING 1
+    )
+    SELECT u.balloon_id, u.user_id, u.joined_at, u.left_at, true
+    FROM updated u;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 参加人数の増減を balloons.member_count に反映（複数ノード安全）
+-- 古い順に最大 p_limit 件の増減を取り出して風船ごとに合算し、風船1件につき1回だけ更新する。
+-- 他ノードが処理中の行は SKIP LOCKED で読み飛ばすため、同時に実行しても二重に反映されない。
+CREATE OR REPLACE FUNCTION sp_flush_member_count_deltas(
+    p_limit INT DEFAULT 10000
+)
+RETURNS TABLE(
+    balloon_count INT,
+    delta_count INT
+) AS $$
+DECLARE
+    v_balloon_count INT;
+    v_delta_count INT;
+BEGIN
+    WITH taken AS (
+        DELETE FROM balloon_member_count_deltas d
+        WHERE d.id IN (
+            SELECT t.id
+            FROM balloon_member_count_deltas t
+            ORDER BY t.id
+            LIMIT p_limit
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING d.balloon_id, d.delta
+    ),
+    summed AS (
+        SELECT t.balloon_id, SUM(t.delta)::INT AS delta
+        FROM taken t
+        GROUP BY t.balloon_id
+    ),
+    applied AS (
+        UPDATE balloons b
+        SET member_count = GREATEST(0, b.member_count + s.delta)
+        FROM summed s
+        WHERE b.id = s.balloon_id
+          AND s.delta <> 0
+        RETURNING 1
+    )
+    SELECT (SELECT COUNT(*) FROM applied)::INT, (SELECT COUNT(*) FROM taken)::INT
+    INTO v_balloon_count, v_delta_count;
+
+    RETURN QUERY SELECT v_balloon_count, v_delta_count;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,315 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Balloon Metadata Near-Cache
+-- =========================================
+
+-- 風船メタデータの変更通知
+-- アプリケーション側のニアキャッシュ（風船の種類・公開区分・有効フラグ・国コード）を無効化する。
+-- 通知はコミット時に配信され、同一トランザクション内の同じ風船IDの通知は1件にまとめられる。
+CREATE OR REPLACE FUNCTION trg_notify_balloon_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('tasbal_balloon_changed', OLD.id::TEXT);
+    ELSE
+        PERFORM pg_notify('tasbal_balloon_changed', NEW.id::TEXT);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_balloons_metadata_updated
+    AFTER UPDATE OF balloon_type, visibility, is_active, country_code ON balloons
+    FOR EACH ROW
+    WHEN ((OLD.balloon_type, OLD.visibility, OLD.is_active, OLD.country_code)
+          IS DISTINCT FROM (NEW.balloon_type, NEW.visibility, NEW.is_active, NEW.country_code))
+    EXECUTE FUNCTION trg_notify_balloon_changed();
+
+CREATE TRIGGER trg_balloons_deleted
+    AFTER DELETE ON balloons
+    FOR EACH ROW
+    EXECUTE FUNCTION trg_notify_balloon_changed();
+
+-- 選択中風船の変更通知（ユーザーIDを通知）
+CREATE OR REPLACE FUNCTION trg_notify_selection_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('tasbal_selection_changed', OLD.user_id::TEXT);
+    ELSE
+        PERFORM pg_notify('tasbal_selection_changed', NEW.user_id::TEXT);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_balloon_selections_changed
+    AFTER INSERT OR UPDATE OR DELETE ON balloon_selections
+    FOR EACH ROW
+    EXECUTE FUNCTION trg_notify_selection_changed();
+
+-- 風船メタデータ取得（ニアキャッシュの読み込み用）
+CREATE OR REPLACE FUNCTION sp_get_balloon_metadata(
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    visibility SMALLINT,
+    is_active BOOLEAN,
+    country_code CHAR
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.visibility, b.is_active, b.country_code
+    FROM balloons b
+    WHERE b.id = p_balloon_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船に貢献を加算（集計単位解決済み）
+-- 集計単位の解決（balloons の参照）を呼び出し側で済ませた場合に使用する。
+-- UTC_DAY（呼吸風船）は加算のみ行い、割れ判定は日次集計（sp_rollover_breathing_day）でまとめて行う。
+CREATE OR REPLACE FUNCTION sp_add_balloon_contribution_resolved(
+    p_actor_user_id UUID,
+    p_balloon_id UUID,
+    p_unit_type SMALLINT,
+    p_unit_key VARCHAR,
+    p_source_type SMALLINT,
+    p_source_id UUID,
+    p_amount INT
+)
+RETURNS TABLE(
+    popped_balloon_id UUID
+) AS $$
+DECLARE
+    v_current_value INT;
+    v_next_threshold INT;
+    v_break_count INT;
+BEGIN
+    IF p_unit_type = 4 THEN
+        -- UTC_DAY: 当日の進捗行に加算する（通常は事前作成済みのため UPDATE のみになる）
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+        VALUES (p_balloon_id, p_unit_type, p_unit_key, p_amount, 1, 0)
+        ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+        SET current_value = balloon_progress.current_value + EXCLUDED.current_value,
+            updated_at = CURRENT_TIMESTAMP,
+            lock_version = balloon_progress.lock_version + 1;
+
+        INSERT INTO contribution_ledger (actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount)
+        VALUES (p_actor_user_id, p_balloon_id, p_unit_type, p_unit_key, p_source_type, p_source_id, p_amount);
+
+        RETURN;
+    END IF;
+
+    -- 進捗を更新（楽観的ロック）
+    UPDATE balloon_progress
+    SET
+        current_value = current_value + p_amount,
+        updated_at = CURRENT_TIMESTAMP,
+        lock_version = lock_version + 1
+    WHERE balloon_id = p_balloon_id
+      AND unit_type = p_unit_type
+      AND unit_key = p_unit_key
+    RETURNING current_value, next_threshold, break_count
+    INTO v_current_value, v_next_threshold, v_break_count;
+
+    -- 進捗レコードが存在しない場合は作成
+    IF NOT FOUND THEN
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+        VALUES (p_balloon_id, p_unit_type, p_unit_key, p_amount, 1, 0)
+        RETURNING current_value, next_threshold, break_count
+        INTO v_current_value, v_next_threshold, v_break_count;
+    END IF;
+
+    -- 貢献台帳に記録
+    INSERT INTO contribution_ledger (actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount)
+    VALUES (p_actor_user_id, p_balloon_id, p_unit_type, p_unit_key, p_source_type, p_source_id, p_amount);
+
+    -- 割れ判定
+    IF v_current_value >= v_next_threshold THEN
+        -- 進捗をリセットして次回必要量を増やす
+        UPDATE balloon_progress
+        SET
+            current_value = v_current_value - v_next_threshold,
+            next_threshold = v_next_threshold + 1,
+            break_count = break_count + 1,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE balloon_id = p_balloon_id
+          AND unit_type = p_unit_type
+          AND unit_key = p_unit_key;
+
+        -- 割れ履歴に記録
+        INSERT INTO balloon_pop_history (balloon_id, unit_type, unit_key, trigger_user_id, threshold_at_pop, consumed, context_type, context_id)
+        VALUES (p_balloon_id, p_unit_type, p_unit_key, p_actor_user_id, v_next_threshold, v_next_threshold, p_source_type, p_source_id);
+
+        -- 割れた風船のIDを返す
+        RETURN QUERY SELECT p_balloon_id;
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船に貢献を加算（システム用）
+-- 集計単位を風船の種類から解決し、sp_add_balloon_contribution_resolved に委譲する。
+CREATE OR REPLACE FUNCTION sp_add_balloon_contribution(
+    p_actor_user_id UUID,
+    p_balloon_id UUID,
+    p_source_type SMALLINT,
+    p_source_id UUID,
+    p_amount INT
+)
+RETURNS TABLE(
+    popped_balloon_id UUID
+) AS $$
+DECLARE
+    v_unit_type SMALLINT;
+    v_unit_key VARCHAR;
+BEGIN
+    -- 風船の種類に応じて集計単位を決定
+    SELECT
+        CASE
+            WHEN b.balloon_type = 4 THEN 1  -- USER
+            WHEN b.balloon_type = 2 THEN 2  -- LOCATION (COUNTRY)
+            WHEN b.balloon_type = 1 THEN 3  -- GLOBAL
+            WHEN b.balloon_type = 3 THEN 4  -- BREATHING (UTC_DAY)
+            WHEN b.balloon_type = 5 THEN 5  -- GUERRILLA (EVENT)
+            ELSE 3
+        END INTO v_unit_type
+    FROM balloons b
+    WHERE b.id = p_balloon_id;
+
+    -- unit_key を決定（UTC_DAY は Tasbal Day、それ以外はユーザーID）
+    IF v_unit_type = 4 THEN
+        v_unit_key := to_char((CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::DATE, 'YYYY-MM-DD');
+    ELSE
+        v_unit_key := p_actor_user_id::VARCHAR;
+    END IF;
+
+    RETURN QUERY
+    SELECT r.popped_balloon_id
+    FROM sp_add_balloon_contribution_resolved(
+        p_actor_user_id, p_balloon_id, v_unit_type, v_unit_key, p_source_type, p_source_id, p_amount
+    ) r;
+END;
+$$ LANGUAGE plpgsql;
+
+-- タスク完了状態切り替え（加算先の解決済み指定に対応）
+-- p_target_resolved = true の場合、選択中風船と集計単位はアプリケーションのニアキャッシュで解決済みとして
+-- balloon_selections・balloons を参照しない（p_balloon_id が NULL の場合は選択中の風船なし）。
+-- false の場合は従来どおりデータベースで解決する。
+DROP FUNCTION IF EXISTS sp_toggle_task_completion(UUID, UUID, BOOLEAN);
+
+CREATE OR REPLACE FUNCTION sp_toggle_task_completion(
+    p_task_id UUID,
+    p_user_id UUID,
+    p_is_done BOOLEAN,
+    p_target_resolved BOOLEAN DEFAULT false,
+    p_balloon_id UUID DEFAULT NULL,
+    p_unit_type SMALLINT DEFAULT NULL,
+    p_unit_key VARCHAR DEFAULT NULL
+)
+RETURNS TABLE(
+    id UUID,
+    user_id UUID,
+    title VARCHAR,
+    memo TEXT,
+    due_at TIMESTAMPTZ,
+    status SMALLINT,
+    pinned BOOLEAN,
+    completed_at TIMESTAMPTZ,
+    archived_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    deleted_at TIMESTAMPTZ,
+    was_completed BOOLEAN,
+    popped_balloon_ids UUID[],
+    contributed_balloon_id UUID
+) AS $$
+DECLARE
+    v_new_status SMALLINT;
+    v_completed_at TIMESTAMPTZ;
+    v_was_completed BOOLEAN;
+    v_selected_balloon_id UUID;
+    v_contributed_balloon_id UUID;
+    v_popped_balloons UUID[];
+BEGIN
+    -- 現在の状態を取得
+    SELECT (t.status = 3) INTO v_was_completed
+    FROM tasks t
+    WHERE t.id = p_task_id AND t.user_id = p_user_id;
+
+    -- 新しいステータスを決定
+    IF p_is_done THEN
+        v_new_status := 3; -- DONE
+        v_completed_at := CURRENT_TIMESTAMP;
+    ELSE
+        v_new_status := 1; -- TODO
+        v_completed_at := NULL;
+    END IF;
+
+    -- タスクを更新
+    UPDATE tasks
+    SET status = v_new_status,
+        completed_at = v_completed_at,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE id = p_task_id AND user_id = p_user_id;
+
+    -- 完了時の処理
+    IF p_is_done AND NOT v_was_completed THEN
+        -- 完了履歴を作成（冪等性確保）
+        INSERT INTO task_completions (task_id, user_id, completed_at)
+        VALUES (p_task_id, p_user_id, v_completed_at)
+        ON CONFLICT (task_id) DO NOTHING;
+
+        IF p_target_resolved THEN
+            -- 解決済みの加算先に加算
+            IF p_balloon_id IS NOT NULL THEN
+                SELECT ARRAY_AGG(popped_id) INTO v_popped_balloons
+                FROM sp_add_balloon_contribution_resolved(
+                    p_user_id,
+                    p_balloon_id,
+                    p_unit_type,
+                    p_unit_key,
+                    1, -- TASK
+                    p_task_id,
+                    1  -- amount
+                ) AS popped_id;
+                v_contributed_balloon_id := p_balloon_id;
+            END IF;
+        ELSE
+            -- 選択中の風船を取得
+            SELECT bs.balloon_id INTO v_selected_balloon_id
+            FROM balloon_selections bs
+            WHERE bs.user_id = p_user_id
+              AND bs.left_at IS NULL
+            LIMIT 1;
+
+            -- 風船に加算（ストアドプロシージャを呼び出し）
+            IF v_selected_balloon_id IS NOT NULL THEN
+                SELECT ARRAY_AGG(popped_id) INTO v_popped_balloons
+                FROM sp_add_balloon_contribution(
+                    p_user_id,
+                    v_selected_balloon_id,
+                    1, -- TASK
+                    p_task_id,
+                    1  -- amount
+                ) AS popped_id;
+                v_contributed_balloon_id := v_selected_balloon_id;
+            END IF;
+        END IF;
+    END IF;
+
+    v_popped_balloons := COALESCE(v_popped_balloons, ARRAY[]::UUID[]);
+
+    -- 結果を返す
+    RETURN QUERY
+    SELECT
+        t.id, t.user_id, t.title, t.memo, t.due_at, t.status, t.pinned,
+        t.completed_at, t.archived_at, t.created_at, t.updated_at, t.deleted_at,
+        v_was_completed,
+        v_popped_balloons,
+        v_contributed_balloon_id
+    FROM tasks t
+    WHERE t.id = p_task_id;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,311 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Multi-Balloon Selection
+-- =========================================
+
+-- 選択中風船一覧取得（優先度順）
+CREATE OR REPLACE FUNCTION sp_get_balloon_selections(
+    p_user_id UUID
+)
+RETURNS TABLE(
+    user_id UUID,
+    balloon_id UUID,
+    priority INT,
+    selected_at TIMESTAMPTZ,
+    left_at TIMESTAMPTZ
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT bs.user_id, bs.balloon_id, bs.priority, bs.selected_at, bs.left_at
+    FROM balloon_selections bs
+    WHERE bs.user_id = p_user_id
+      AND bs.left_at IS NULL
+    ORDER BY bs.priority, bs.selected_at;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 選択中風船一覧設定
+-- p_balloon_ids の並び順を優先度（1始まり）とし、含まれない選択は解除する。
+-- 選択できるのは有効な風船のみ（存在しない・無効な風船は設定されず、結果に含まれない）。
+-- 選択数の上限（プランによる制限）はアプリケーション側で検証する。
+CREATE OR REPLACE FUNCTION sp_set_balloon_selections(
+    p_user_id UUID,
+    p_balloon_ids TEXT[]
+)
+RETURNS TABLE(
+    user_id UUID,
+    balloon_id UUID,
+    priority INT,
+    selected_at TIMESTAMPTZ,
+    left_at TIMESTAMPTZ
+) AS $$
+BEGIN
+    -- 指定されなかった選択を解除
+    UPDATE balloon_selections bs
+    SET left_at = CURRENT_TIMESTAMP
+    WHERE bs.user_id = p_user_id
+      AND bs.left_at IS NULL
+      AND bs.balloon_id <> ALL (p_balloon_ids::UUID[]);
+
+    -- 指定された選択を作成・再選択・優先度を更新
+    INSERT INTO balloon_selections (user_id, balloon_id, priority)
+    SELECT p_user_id, b.id, MIN(i.ord)::INT
+    FROM unnest(p_balloon_ids) WITH ORDINALITY AS i(balloon_id, ord)
+    JOIN balloons b ON b.id = i.balloon_id::UUID
+                   AND b.is_active = true
+    GROUP BY b.id
+    ON CONFLICT (user_id, balloon_id) DO UPDATE
+    SET priority = EXCLUDED.priority,
+        selected_at = CASE WHEN balloon_selections.left_at IS NULL
+                           THEN balloon_selections.selected_at
+                           ELSE CURRENT_TIMESTAMP END,
+        left_at = NULL;
+
+    RETURN QUERY
+    SELECT bs.user_id, bs.balloon_id, bs.priority, bs.selected_at, bs.left_at
+    FROM balloon_selections bs
+    WHERE bs.user_id = p_user_id
+      AND bs.left_at IS NULL
+    ORDER BY bs.priority, bs.selected_at;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 複数の風船に貢献を一括加算（集計単位解決済み）
+-- 配列の同じ添字の要素が1件の加算先に対応する。
+-- 台帳は1回の複数行INSERT、進捗は1回の複数行UPSERTで加算し、
+-- 閾値に達した進捗（UTC_DAY を除く）のみ2文目でまとめて割る。
+-- UTC_DAY（呼吸風船）の割れ判定は日次集計（sp_rollover_breathing_day）でまとめて行う。
+-- 加算先は優先度順に渡されるものとし、FREEプランのユーザーは先頭の1件のみに加算する
+-- （プラン変更前の選択やニアキャッシュに残った選択が複数あっても、プランの上限を超えて加算しない）。
+-- 加算した風船ごとに、割れたかどうかを返す。
+-- UTC_DAY の加算先が日次集計済みの日の場合は当日に付け替える（sp_open_breathing_day_key）。
+CREATE OR REPLACE FUNCTION sp_add_balloon_contributions(
+    p_actor_user_id UUID,
+    p_balloon_ids UUID[],
+    p_unit_types SMALLINT[],
+    p_unit_keys VARCHAR[],
+    p_source_type SMALLINT,
+    p_source_id UUID,
+    p_amount INT
+)
+RETURNS TABLE(
+    contributed_balloon_id UUID,
+    is_popped BOOLEAN
+) AS $$
+DECLARE
+    v_plan SMALLINT;
+    v_reached_count INT;
+BEGIN
+    SELECT u.plan INTO v_plan
+    FROM users u
+    WHERE u.id = p_actor_user_id;
+
+    IF v_plan IS DISTINCT FROM 2 AND cardinality(p_balloon_ids) > 1 THEN  -- 2:PRO
+        p_balloon_ids := p_balloon_ids[1:1];
+        p_unit_types := p_unit_types[1:1];
+        p_unit_keys := p_unit_keys[1:1];
+    END IF;
+
+    PERFORM sp_lock_breathing_days(ARRAY(
+        SELECT i.unit_key::DATE
+        FROM unnest(p_unit_types, p_unit_keys) AS i(unit_type, unit_key)
+        WHERE i.unit_type = 4
+    ));
+
+    WITH input AS (
+        SELECT DISTINCT i.balloon_id, i.unit_type,
+               CASE WHEN i.unit_type = 4 THEN sp_open_breathing_day_key(i.unit_key) ELSE i.unit_key END AS unit_key
+        FROM unnest(p_balloon_ids, p_unit_types, p_unit_keys) AS i(balloon_id, unit_type, unit_key)
+    ),
+    ledger AS (
+        INSERT INTO contribution_ledger (actor_user_id, balloon_id, unit_type, unit_key, source_type, source_id, amount)
+        SELECT p_actor_user_id, i.balloon_id, i.unit_type, i.unit_key, p_source_type, p_source_id, p_amount
+        FROM input i
+        RETURNING 1
+    ),
+    progress AS (
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count)
+        SELECT i.balloon_id, i.unit_type, i.unit_key, p_amount, 1, 0
+        FROM input i
+        ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+        SET current_value = balloon_progress.current_value + EXCLUDED.current_value,
+            updated_at = CURRENT_TIMESTAMP,
+            lock_version = balloon_progress.lock_version + 1
+        RETURNING balloon_progress.unit_type, balloon_progress.current_value, balloon_progress.next_threshold
+    )
+    SELECT COUNT(*) FILTER (WHERE p.unit_type <> 4 AND p.current_value >= p.next_threshold)::INT
+    INTO v_reached_count
+    FROM progress p;
+
+    IF v_reached_count = 0 THEN
+        RETURN QUERY
+        SELECT i.balloon_id, false
+        FROM unnest(p_balloon_ids) WITH ORDINALITY AS i(balloon_id, ord)
+        GROUP BY i.balloon_id
+        ORDER BY MIN(i.ord);
+        RETURN;
+    END IF;
+
+    -- 割れ判定（進捗をリセットして次回必要量を増やし、割れ履歴に記録）
+    RETURN QUERY
+    WITH popped AS (
+        UPDATE balloon_progress bp
+        SET current_value = bp.current_value - bp.next_threshold,
+            next_threshold = bp.next_threshold + 1,
+            break_count = bp.break_count + 1,
+            updated_at = CURRENT_TIMESTAMP
+        FROM unnest(p_balloon_ids, p_unit_types, p_unit_keys) AS i(balloon_id, unit_type, unit_key)
+        WHERE bp.balloon_id = i.balloon_id
+          AND bp.unit_type = i.unit_type
+          AND bp.unit_key = i.unit_key
+          AND bp.unit_type <> 4  -- UTC_DAY
+          AND bp.current_value >= bp.next_threshold
+        RETURNING bp.balloon_id, bp.unit_type, bp.unit_key, bp.next_threshold - 1 AS threshold
+    ),
+    history AS (
+        INSERT INTO balloon_pop_history (balloon_id, unit_type, unit_key, trigger_user_id, threshold_at_pop, consumed, context_type, context_id)
+        SELECT p.balloon_id, p.unit_type, p.unit_key, p_actor_user_id, p.threshold, p.threshold, p_source_type, p_source_id
+        FROM popped p
+        RETURNING 1
+    )
+    SELECT i.balloon_id, bool_or(p.balloon_id IS NOT NULL)
+    FROM unnest(p_balloon_ids) WITH ORDINALITY AS i(balloon_id, ord)
+    LEFT JOIN popped p ON p.balloon_id = i.balloon_id
+    GROUP BY i.balloon_id
+    ORDER BY MIN(i.ord);
+END;
+$$ LANGUAGE plpgsql;
+
+-- タスク完了状態切り替え（複数の選択中風船への一括加算）
+-- p_target_resolved = true の場合、選択中風船と集計単位はアプリケーションのニアキャッシュで解決済みとして
+-- balloon_selections・balloons を参照しない（p_balloon_ids が空の場合は選択中の風船なし）。
+-- false の場合は選択中風船と集計単位をデータベースで1文で解決する。
+-- いずれの場合も加算は sp_add_balloon_contributions の1回の呼び出しで行う。
+DROP FUNCTION IF EXISTS sp_toggle_task_completion(UUID, UUID, BOOLEAN, BOOLEAN, UUID, SMALLINT, VARCHAR);
+
+CREATE OR REPLACE FUNCTION sp_toggle_task_completion(
+    p_task_id UUID,
+    p_user_id UUID,
+    p_is_done BOOLEAN,
+    p_target_resolved BOOLEAN DEFAULT false,
+    p_balloon_ids TEXT[] DEFAULT NULL,
+    p_unit_types INT[] DEFAULT NULL,
+    p_unit_keys TEXT[] DEFAULT NULL
+)
+RETURNS TABLE(
+    id UUID,
+    user_id UUID,
+    title VARCHAR,
+    memo TEXT,
+    due_at TIMESTAMPTZ,
+    status SMALLINT,
+    pinned BOOLEAN,
+    completed_at TIMESTAMPTZ,
+    archived_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    deleted_at TIMESTAMPTZ,
+    was_completed BOOLEAN,
+    popped_balloon_ids UUID[],
+    contributed_balloon_ids UUID[]
+) AS $$
+DECLARE
+    v_new_status SMALLINT;
+    v_completed_at TIMESTAMPTZ;
+    v_was_completed BOOLEAN;
+    v_balloon_ids UUID[];
+    v_unit_types SMALLINT[];
+    v_unit_keys VARCHAR[];
+    v_contributed_balloon_ids UUID[];
+    v_popped_balloons UUID[];
+BEGIN
+    -- 現在の状態を取得
+    SELECT (t.status = 3) INTO v_was_completed
+    FROM tasks t
+    WHERE t.id = p_task_id AND t.user_id = p_user_id;
+
+    -- 新しいステータスを決定
+    IF p_is_done THEN
+        v_new_status := 3; -- DONE
+        v_completed_at := CURRENT_TIMESTAMP;
+    ELSE
+        v_new_status := 1; -- TODO
+        v_completed_at := NULL;
+    END IF;
+
+    -- タスクを更新
+    UPDATE tasks
+    SET status = v_new_status,
+        completed_at = v_completed_at,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE id = p_task_id AND user_id = p_user_id;
+
+    -- 完了時の処理
+    IF p_is_done AND NOT v_was_completed THEN
+        -- 完了履歴を作成（冪等性確保）
+        INSERT INTO task_completions (task_id, user_id, completed_at)
+        VALUES (p_task_id, p_user_id, v_completed_at)
+        ON CONFLICT (task_id) DO NOTHING;
+
+        IF p_target_resolved THEN
+            -- 解決済みの加算先
+            v_balloon_ids := p_balloon_ids::UUID[];
+            v_unit_types := p_unit_types::SMALLINT[];
+            v_unit_keys := p_unit_keys::VARCHAR[];
+        ELSE
+            -- 選択中の風船と集計単位を解決（UTC_DAY は Tasbal Day、それ以外はユーザーID）
+            SELECT
+                ARRAY_AGG(s.balloon_id ORDER BY s.priority),
+                ARRAY_AGG(s.unit_type ORDER BY s.priority),
+                ARRAY_AGG(CASE WHEN s.unit_type = 4
+                               THEN to_char((CURRENT_TIMESTAMP AT TIME ZONE 'UTC')::DATE, 'YYYY-MM-DD')
+                               ELSE p_user_id::VARCHAR END ORDER BY s.priority)
+            INTO v_balloon_ids, v_unit_types, v_unit_keys
+            FROM (
+                SELECT bs.balloon_id, bs.priority,
+                    (CASE
+                        WHEN b.balloon_type = 4 THEN 1  -- USER
+                        WHEN b.balloon_type = 2 THEN 2  -- LOCATION (COUNTRY)
+                        WHEN b.balloon_type = 1 THEN 3  -- GLOBAL
+                        WHEN b.balloon_type = 3 THEN 4  -- BREATHING (UTC_DAY)
+                        WHEN b.balloon_type = 5 THEN 5  -- GUERRILLA (EVENT)
+                        ELSE 3
+                    END)::SMALLINT AS unit_type
+                FROM balloon_selections bs
+                JOIN balloons b ON b.id = bs.balloon_id
+                WHERE bs.user_id = p_user_id
+                  AND bs.left_at IS NULL
+            ) s;
+        END IF;
+
+        -- 選択中のすべての風船に一括加算（プランの上限を超える選択には加算されない）
+        IF COALESCE(cardinality(v_balloon_ids), 0) > 0 THEN
+            SELECT ARRAY_AGG(r.contributed_balloon_id) FILTER (WHERE r.is_popped), ARRAY_AGG(r.contributed_balloon_id)
+            INTO v_popped_balloons, v_contributed_balloon_ids
+            FROM sp_add_balloon_contributions(
+                p_user_id,
+                v_balloon_ids,
+                v_unit_types,
+                v_unit_keys,
+                1, -- TASK
+                p_task_id,
+                1  -- amount
+            ) r;
+        END IF;
+    END IF;
+
+    v_popped_balloons := COALESCE(v_popped_balloons, ARRAY[]::UUID[]);
+    v_contributed_balloon_ids := COALESCE(v_contributed_balloon_ids, ARRAY[]::UUID[]);
+
+    -- 結果を返す
+    RETURN QUERY
+    SELECT
+        t.id, t.user_id, t.title, t.memo, t.due_at, t.status, t.pinned,
+        t.completed_at, t.archived_at, t.created_at, t.updated_at, t.deleted_at,
+        v_was_completed,
+        v_popped_balloons,
+        v_contributed_balloon_ids
+    FROM tasks t
+    WHERE t.id = p_task_id;
+END;
+$$ LANGUAGE plpgsql;
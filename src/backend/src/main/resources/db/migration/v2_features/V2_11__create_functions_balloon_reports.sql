@@ -0,0 +1,107 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Balloon Report Moderation
+-- =========================================
+
+-- 通報ステータス: 1:OPEN（未処理） 2:ACTIONED（自動停止済み） 3:DUPLICATE（重複として処理済み）
+
+-- 重複した通報を解消（一意インデックス作成前に最古の1件のみ残し、他は重複として処理済みにする）
+UPDATE balloon_reports br
+SET status = 3,  -- DUPLICATE
+    resolved_at = CURRENT_TIMESTAMP
+WHERE br.status <> 3
+  AND EXISTS (
+      SELECT 1 FROM balloon_reports o
+      WHERE o.balloon_id = br.balloon_id
+        AND o.reporter_user_id = br.reporter_user_id
+        AND o.status <> 3
+        AND (o.created_at, o.id) < (br.created_at, br.id)
+  );
+
+-- 同じユーザーによる同じ風船の通報は1件のみ（重複として処理済みの通報を除く）
+CREATE UNIQUE INDEX idx_balloon_reports_reporter ON balloon_reports(balloon_id, reporter_user_id) WHERE status <> 3;
+
+-- 未処理の通報（風船単位の一括処理用）
+CREATE INDEX idx_balloon_reports_open ON balloon_reports(balloon_id) WHERE status = 1;
+
+-- 通報の一括登録
+-- 配列の同じ添字の要素が1件の通報に対応する。
+-- 存在しない風船・ユーザーの通報と、登録済み（同じユーザー・同じ風船）の通報は読み飛ばす。
+-- 通報を登録した風船ごとに、直近 p_window_millis 以内の未処理の通報数を返す
+-- （他ノード・再起動前に登録された通報も含めてデータベースで数えるため、呼び出し元はこの件数で閾値を判定する）。
+CREATE OR REPLACE FUNCTION sp_add_balloon_reports(
+    p_balloon_ids TEXT[],
+    p_reporter_user_ids TEXT[],
+    p_reason_types INT[],
+    p_comments TEXT[],
+    p_reported_at_millis BIGINT[],
+    p_window_millis BIGINT
+)
+RETURNS TABLE(
+    balloon_id UUID,
+    open_reports INT
+) AS $$
+DECLARE
+    v_balloon_ids UUID[];
+BEGIN
+    WITH input AS (
+        SELECT i.balloon_id::UUID AS balloon_id, i.reporter_user_id::UUID AS reporter_user_id,
+               i.reason_type::SMALLINT AS reason_type, i.comment,
+               to_timestamp(i.reported_at_millis / 1000.0) AS created_at
+        FROM unnest(p_balloon_ids, p_reporter_user_ids, p_reason_types, p_comments, p_reported_at_millis)
+             AS i(balloon_id, reporter_user_id, reason_type, comment, reported_at_millis)
+    ),
+    inserted AS (
+        INSERT INTO balloon_reports AS r (reporter_user_id, balloon_id, reason_type, comment, created_at)
+        SELECT i.reporter_user_id, i.balloon_id, i.reason_type, i.comment, i.created_at
+        FROM input i
+        JOIN balloons b ON b.id = i.balloon_id
+        JOIN users u ON u.id = i.reporter_user_id
+        ON CONFLICT DO NOTHING
+        RETURNING r.balloon_id
+    )
+    SELECT array_agg(DISTINCT ins.balloon_id) INTO v_balloon_ids FROM inserted ins;
+
+    -- 別の文で数えることで、登録した通報とコミット済みの他ノードの通報を含める
+    RETURN QUERY
+    SELECT r.balloon_id, count(*)::INT
+    FROM balloon_reports r
+    WHERE r.balloon_id = ANY (v_balloon_ids)
+      AND r.status = 1  -- OPEN
+      AND r.created_at >= CURRENT_TIMESTAMP - p_window_millis * INTERVAL '1 millisecond'
+    GROUP BY r.balloon_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 通報が閾値を超えた風船の一括停止
+-- 有効なユーザー作成風船のみ停止し（システム風船は対象外）、その風船の未処理の通報を処理済みにする。
+-- is_active の変更は trg_balloons_metadata_updated により tasbal_balloon_changed で全ノードに通知される。
+CREATE OR REPLACE FUNCTION sp_deactivate_reported_balloons(
+    p_balloon_ids TEXT[]
+)
+RETURNS TABLE(
+    balloon_id UUID
+) AS $$
+BEGIN
+    RETURN QUERY
+    WITH deactivated AS (
+        UPDATE balloons b
+        SET is_active = false,
+            updated_at = CURRENT_TIMESTAMP
+        WHERE b.id = ANY (p_balloon_ids::UUID[])
+          AND b.is_active = true
+          AND b.balloon_type = 4  -- USER
+        RETURNING b.id
+    ),
+    resolved AS (
+        UPDATE balloon_reports r
+        SET status = 2,  -- ACTIONED
+            resolved_at = CURRENT_TIMESTAMP
+        FROM deactivated d
+        WHERE r.balloon_id = d.id
+          AND r.status = 1  -- OPEN
+        RETURNING 1
+    )
+    SELECT d.id FROM deactivated d;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,58 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Public Balloon Search
+-- =========================================
+
+-- 部分一致検索用（trigram）
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 公開風船のタイトル・説明の部分一致検索用（公開風船一覧と同じ条件の部分インデックス）
+-- 複数列GINのため、タイトルと説明それぞれの ILIKE をビットマップORで1つのインデックスから引ける。
+CREATE INDEX idx_balloons_public_search ON balloons
+    USING gin (title gin_trgm_ops, description gin_trgm_ops)
+    WHERE visibility = 3 AND is_active = true AND balloon_type = 4;
+
+-- 公開風船検索（キーセットページング）
+-- タイトルまたは説明に検索語を含む公開風船を、公開風船一覧と同じ (created_at, id) の降順で返す。
+-- 検索語の % _ \ はエスケープし、文字どおりに一致させる。
+-- trigram でインデックスを引くため、検索語は3文字以上であること（呼び出し側で検証）。
+-- 一致件数が多い検索語では idx_balloons_public_created を降順に走査して LIMIT で打ち切るプランも選択される。
+CREATE OR REPLACE FUNCTION sp_search_public_balloons(
+    p_query TEXT,
+    p_cursor_created_at TIMESTAMPTZ DEFAULT NULL,
+    p_cursor_id UUID DEFAULT NULL,
+    p_limit INT DEFAULT 20
+)
+RETURNS TABLE(
+    id UUID,
+    balloon_type SMALLINT,
+    display_group SMALLINT,
+    visibility SMALLINT,
+    owner_user_id UUID,
+    title VARCHAR,
+    description TEXT,
+    color_id SMALLINT,
+    tag_icon_id SMALLINT,
+    country_code CHAR,
+    is_active BOOLEAN,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    member_count INT
+) AS $$
+DECLARE
+    v_pattern TEXT := '%' || replace(replace(replace(p_query, '\', '\\'), '%', '\%'), '_', '\_') || '%';
+BEGIN
+    RETURN QUERY
+    SELECT b.id, b.balloon_type, b.display_group, b.visibility, b.owner_user_id,
+           b.title, b.description, b.color_id, b.tag_icon_id, b.country_code,
+           b.is_active, b.created_at, b.updated_at, b.member_count
+    FROM balloons b
+    WHERE b.visibility = 3  -- PUBLIC
+      AND b.is_active = true
+      AND b.balloon_type = 4  -- USER
+      AND (b.title ILIKE v_pattern OR b.description ILIKE v_pattern)
+      AND (p_cursor_created_at IS NULL OR (b.created_at, b.id) < (p_cursor_created_at, p_cursor_id))
+    ORDER BY b.created_at DESC, b.id DESC
+    LIMIT p_limit;
+END;
+$$ LANGUAGE plpgsql;
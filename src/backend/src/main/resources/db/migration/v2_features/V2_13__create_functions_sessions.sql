@@ -0,0 +1,197 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Device Registration and Sessions
+-- =========================================
+
+-- 端末登録（初回起動）はゲスト開始より前に行われるため、ユーザー未紐付けの端末を許可する
+ALTER TABLE user_devices ALTER COLUMN user_id DROP NOT NULL;
+
+-- セッションの失効・削除の通知
+-- アプリケーション側のセッションのニアキャッシュを無効化する。
+CREATE OR REPLACE FUNCTION trg_notify_session_changed()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        PERFORM pg_notify('tasbal_session_changed', OLD.id::TEXT);
+    ELSE
+        PERFORM pg_notify('tasbal_session_changed', NEW.id::TEXT);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_user_sessions_revoked
+    AFTER UPDATE OF revoked_at, user_id ON user_sessions
+    FOR EACH ROW
+    WHEN ((OLD.revoked_at, OLD.user_id) IS DISTINCT FROM (NEW.revoked_at, NEW.user_id))
+    EXECUTE FUNCTION trg_notify_session_changed();
+
+CREATE TRIGGER trg_user_sessions_deleted
+    AFTER DELETE ON user_sessions
+    FOR EACH ROW
+    EXECUTE FUNCTION trg_notify_session_changed();
+
+-- 端末登録
+-- 端末キーはアプリケーションで生成し、SHA-256 のハッシュのみを device_fingerprint に保存する。
+CREATE OR REPLACE FUNCTION sp_register_device(
+    p_device_fingerprint VARCHAR,
+    p_device_name VARCHAR DEFAULT NULL,
+    p_platform SMALLINT DEFAULT 1,
+    p_app_version VARCHAR DEFAULT NULL,
+    p_os_version VARCHAR DEFAULT NULL
+)
+RETURNS TABLE(
+    id UUID,
+    user_id UUID,
+    device_name VARCHAR,
+    platform SMALLINT,
+    app_version VARCHAR,
+    os_version VARCHAR,
+    created_at TIMESTAMPTZ,
+    last_seen_at TIMESTAMPTZ
+) AS $$
+BEGIN
+    RETURN QUERY
+    INSERT INTO user_devices (device_fingerprint, device_name, platform, app_version, os_version)
+    VALUES (p_device_fingerprint, p_device_name, p_platform, p_app_version, p_os_version)
+    RETURNING user_devices.id, user_devices.user_id, user_devices.device_name, user_devices.platform,
+              user_devices.app_version, user_devices.os_version, user_devices.created_at, user_devices.last_seen_at;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ゲスト開始（匿名ログイン）
+-- 端末にユーザーが紐付いていなければゲストユーザーを作成して紐付け、セッションを作成する。
+-- 端末の行をロックするため、同じ端末からの同時実行でもゲストユーザーは1人だけ作成される。
+-- 端末が存在しない場合は0行を返す。
+CREATE OR REPLACE FUNCTION sp_start_guest_session(
+    p_device_fingerprint VARCHAR,
+    p_refresh_token_hash TEXT
+)
+RETURNS TABLE(
+    id UUID,
+    handle VARCHAR,
+    plan SMALLINT,
+    is_guest BOOLEAN,
+    auth_state SMALLINT,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    last_login_at TIMESTAMPTZ,
+    session_id UUID,
+    device_id UUID
+) AS $$
+DECLARE
+    v_device_id UUID;
+    v_user_id UUID;
+    v_session_id UUID;
+BEGIN
+    SELECT d.id, d.user_id INTO v_device_id, v_user_id
+    FROM user_devices d
+    WHERE d.device_fingerprint = p_device_fingerprint
+    FOR UPDATE;
+
+    IF v_device_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    IF v_user_id IS NULL THEN
+        SELECT g.id INTO v_user_id FROM sp_create_guest_user(NULL) g;
+
+        UPDATE user_devices d
+        SET user_id = v_user_id
+        WHERE d.id = v_device_id;
+    END IF;
+
+    INSERT INTO user_sessions (user_id, device_id, refresh_token_hash)
+    VALUES (v_user_id, v_device_id, p_refresh_token_hash)
+    RETURNING user_sessions.id INTO v_session_id;
+
+    UPDATE users u
+    SET last_login_at = CURRENT_TIMESTAMP
+    WHERE u.id = v_user_id;
+
+    RETURN QUERY
+    SELECT u.id, u.handle, u.plan, u.is_guest, u.auth_state, u.created_at, u.updated_at, u.last_login_at,
+           v_session_id, v_device_id
+    FROM users u
+    WHERE u.id = v_user_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- セッション取得（セッションのニアキャッシュの読み込み用）
+CREATE OR REPLACE FUNCTION sp_get_session(
+    p_session_id UUID
+)
+RETURNS TABLE(
+    id UUID,
+    user_id UUID,
+    device_id UUID,
+    is_revoked BOOLEAN
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT s.id, s.user_id, s.device_id, s.revoked_at IS NOT NULL
+    FROM user_sessions s
+    WHERE s.id = p_session_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- セッション・端末の最終利用日時の一括更新
+-- アプリケーションがメモリ上でまとめた最終利用日時を配列で受け取り、新しい場合のみ更新する。
+-- 最終利用日時は概算でよいため、他のトランザクションがロック中の行は待たずに読み飛ばす（次回の更新で反映される）。
+CREATE OR REPLACE FUNCTION sp_touch_sessions(
+    p_session_ids TEXT[],
+    p_session_used_millis BIGINT[],
+    p_device_ids TEXT[],
+    p_device_seen_millis BIGINT[]
+)
+RETURNS TABLE(
+    session_count INT,
+    device_count INT
+) AS $$
+DECLARE
+    v_session_count INT;
+    v_device_count INT;
+BEGIN
+    WITH input AS (
+        SELECT i.id::UUID AS id, to_timestamp(i.used_millis / 1000.0) AS used_at
+        FROM unnest(p_session_ids, p_session_used_millis) AS i(id, used_millis)
+    ),
+    locked AS (
+        SELECT s.id, i.used_at
+        FROM user_sessions s
+        JOIN input i ON i.id = s.id
+        WHERE s.last_used_at < i.used_at
+        FOR UPDATE OF s SKIP LOCKED
+    ),
+    updated AS (
+        UPDATE user_sessions s
+        SET last_used_at = l.used_at
+        FROM locked l
+        WHERE s.id = l.id
+        RETURNING 1
+    )
+    SELECT COUNT(*)::INT INTO v_session_count FROM updated;
+
+    WITH input AS (
+        SELECT i.id::UUID AS id, to_timestamp(i.seen_millis / 1000.0) AS seen_at
+        FROM unnest(p_device_ids, p_device_seen_millis) AS i(id, seen_millis)
+    ),
+    locked AS (
+        SELECT d.id, i.seen_at
+        FROM user_devices d
+        JOIN input i ON i.id = d.id
+        WHERE d.last_seen_at < i.seen_at
+        FOR UPDATE OF d SKIP LOCKED
+    ),
+    updated AS (
+        UPDATE user_devices d
+        SET last_seen_at = l.seen_at
+        FROM locked l
+        WHERE d.id = l.id
+        RETURNING 1
+    )
+    SELECT COUNT(*)::INT INTO v_device_count FROM updated;
+
+    RETURN QUERY SELECT v_session_count, v_device_count;
+END;
+$$ LANGUAGE plpgsql;
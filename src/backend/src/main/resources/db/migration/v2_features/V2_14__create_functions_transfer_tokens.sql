@@ -0,0 +1,161 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Transfer Tokens
+-- =========================================
+
+-- 期限切れの引き継ぎトークンの削除用
+CREATE INDEX idx_transfer_tokens_expires_at ON transfer_tokens(expires_at);
+
+-- 未使用の引き継ぎトークン（発行時に同じユーザーの未使用トークンを無効化する）
+CREATE INDEX idx_transfer_tokens_user_unused ON transfer_tokens(user_id) WHERE used_at IS NULL;
+
+-- ユーザーの端末（引き継ぎトークンの発行元の端末の特定用）
+CREATE INDEX idx_user_devices_user_id ON user_devices(user_id, last_seen_at DESC) WHERE user_id IS NOT NULL;
+
+-- 引き継ぎトークンの発行
+-- トークンはアプリケーションで生成し、SHA-256 のハッシュのみを token_hash に保存する。
+-- 有効なトークンはユーザーごとに1件とし、同じユーザーの未使用のトークンは削除する。
+-- 発行元の端末はユーザーの最終利用日時が最も新しい端末とする。端末がない場合は0行を返す。
+CREATE OR REPLACE FUNCTION sp_issue_transfer_token(
+    p_user_id UUID,
+    p_token_hash TEXT,
+    p_expires_in_minutes INT
+)
+RETURNS TABLE(
+    id UUID,
+    expires_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ
+) AS $$
+DECLARE
+    v_device_id UUID;
+BEGIN
+    SELECT d.id INTO v_device_id
+    FROM user_devices d
+    WHERE d.user_id = p_user_id
+    ORDER BY d.last_seen_at DESC
+    LIMIT 1;
+
+    IF v_device_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    DELETE FROM transfer_tokens t
+    WHERE t.user_id = p_user_id
+      AND t.used_at IS NULL;
+
+    RETURN QUERY
+    INSERT INTO transfer_tokens (user_id, issued_device_id, token_hash, expires_at)
+    VALUES (p_user_id, v_device_id, p_token_hash,
+            CURRENT_TIMESTAMP + make_interval(mins => p_expires_in_minutes))
+    RETURNING transfer_tokens.id, transfer_tokens.expires_at, transfer_tokens.created_at;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 引き継ぎトークンの使用
+-- トークンは unique_token_hash の一意インデックスで参照し、未使用かつ有効期限内の場合のみ
+-- 1文の UPDATE ... RETURNING で使用済みにする。同じトークンの同時使用では、
+-- 後続の UPDATE は先行するトランザクションの確定後に条件を再評価して0行となるため、
+-- 引き継ぎは1回だけ成功する（ロックはトークンの1行のみ）。
+-- 使用した端末は引き継ぎ元のユーザーに紐付け直し、端末の他のユーザーのセッションは失効させる。
+-- 端末またはトークンが無効な場合は0行を返す。
+CREATE OR REPLACE FUNCTION sp_consume_transfer_token(
+    p_device_fingerprint VARCHAR,
+    p_token_hash TEXT,
+    p_refresh_token_hash TEXT
+)
+RETURNS TABLE(
+    id UUID,
+    handle VARCHAR,
+    plan SMALLINT,
+    is_guest BOOLEAN,
+    auth_state SMALLINT,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    last_login_at TIMESTAMPTZ,
+    session_id UUID,
+    device_id UUID
+) AS $$
+DECLARE
+    v_device_id UUID;
+    v_user_id UUID;
+    v_session_id UUID;
+BEGIN
+    SELECT d.id INTO v_device_id
+    FROM user_devices d
+    WHERE d.device_fingerprint = p_device_fingerprint;
+
+    IF v_device_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    UPDATE transfer_tokens t
+    SET used_at = CURRENT_TIMESTAMP,
+        used_by_device_id = v_device_id
+    WHERE t.token_hash = p_token_hash
+      AND t.used_at IS NULL
+      AND t.expires_at > CURRENT_TIMESTAMP
+    RETURNING t.user_id INTO v_user_id;
+
+    IF v_user_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    UPDATE user_devices d
+    SET user_id = v_user_id
+    WHERE d.id = v_device_id
+      AND d.user_id IS DISTINCT FROM v_user_id;
+
+    -- 失効は trg_user_sessions_revoked により tasbal_session_changed で全ノードに通知される
+    UPDATE user_sessions s
+    SET revoked_at = CURRENT_TIMESTAMP
+    WHERE s.device_id = v_device_id
+      AND s.user_id <> v_user_id
+      AND s.revoked_at IS NULL;
+
+    INSERT INTO user_sessions (user_id, device_id, refresh_token_hash)
+    VALUES (v_user_id, v_device_id, p_refresh_token_hash)
+    RETURNING user_sessions.id INTO v_session_id;
+
+    UPDATE users u
+    SET last_login_at = CURRENT_TIMESTAMP
+    WHERE u.id = v_user_id;
+
+    RETURN QUERY
+    SELECT u.id, u.handle, u.plan, u.is_guest, u.auth_state, u.created_at, u.updated_at, u.last_login_at,
+           v_session_id, v_device_id
+    FROM users u
+    WHERE u.id = v_user_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 期限切れの引き継ぎトークンの削除
+-- 1回の呼び出しで最大 p_batch_size 件を削除する（ロックの保持時間とWALの量を抑えるため）。
+-- 使用中のトークンの行は待たずに読み飛ばす。
+CREATE OR REPLACE FUNCTION sp_delete_expired_transfer_tokens(
+    p_batch_size INT
+)
+RETURNS TABLE(
+    deleted_count INT
+) AS $$
+DECLARE
+    v_deleted_count INT;
+BEGIN
+    WITH expired AS (
+        SELECT t.id
+        FROM transfer_tokens t
+        WHERE t.expires_at <= CURRENT_TIMESTAMP
+        ORDER BY t.expires_at
+        LIMIT p_batch_size
+        FOR UPDATE SKIP LOCKED
+    ),
+    deleted AS (
+        DELETE FROM transfer_tokens t
+        USING expired e
+        WHERE t.id = e.id
+        RETURNING 1
+    )
+    SELECT COUNT(*)::INT INTO v_deleted_count FROM deleted;
+
+    RETURN QUERY SELECT v_deleted_count;
+END;
+$$ LANGUAGE plpgsql;
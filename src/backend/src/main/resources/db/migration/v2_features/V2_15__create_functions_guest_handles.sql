@@ -0,0 +1,70 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Collision-Free Guest Handles
+-- =========================================
+
+-- 'guest-' で始まる既存のハンドルの改名
+-- このマイグレーション以前は 'guest-' で始まるハンドルを指定できたため、自動生成するハンドルと衝突しうる。
+-- 予約する接頭辞を空けるため、ユーザーIDから作る重複しないハンドル（'legacy-' + ユーザーIDの16進数32文字）に改名する。
+UPDATE users
+SET handle = 'legacy-' || replace(id::TEXT, '-', ''),
+    updated_at = CURRENT_TIMESTAMP
+WHERE handle ILIKE 'guest-%';
+
+-- ゲストのハンドルの採番用シーケンス
+-- シーケンスはトランザクションの外で採番されるため、同時に作成しても互いに待たない。
+-- CACHE によりセッションごとにまとめて確保し、シーケンスの更新の競合も抑える。
+CREATE SEQUENCE guest_handle_seq AS BIGINT START WITH 1 CACHE 100;
+
+-- ゲストのハンドルの生成
+-- 採番した値を 2^40 を法として奇数倍（全単射）し、小文字の36進数8桁で表す（'guest-' + 8文字）。
+-- 採番した値が重複しない限りハンドルも重複しないため、一意制約違反による再試行は発生しない。
+-- 奇数倍により連番が推測されにくくなり、利用者数も表に出ない。
+-- 旧形式（'guest_' + 16進数8文字）とは区切り文字が異なるため衝突しない。
+-- 'guest-' で始まるハンドルは自動生成用に予約する（指定されたハンドルはアプリケーションで拒否する）。
+CREATE OR REPLACE FUNCTION sp_next_guest_handle()
+RETURNS VARCHAR AS $$
+DECLARE
+    v_alphabet CONSTANT TEXT := '0123456789abcdefghijklmnopqrstuvwxyz';
+    v_value BIGINT;
+    v_suffix TEXT := '';
+BEGIN
+    v_value := (nextval('guest_handle_seq') * 4194301) % 1099511627776;  -- 2^40
+    FOR i IN 1..8 LOOP
+        v_suffix := substr(v_alphabet, (v_value % 36)::INT + 1, 1) || v_suffix;
+        v_value := v_value / 36;
+    END LOOP;
+    RETURN 'guest-' || v_suffix;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ゲストユーザー作成
+-- ユーザーとユーザー設定を1文（データ変更を含むCTE）で作成し、作成した行をそのまま返す。
+CREATE OR REPLACE FUNCTION sp_create_guest_user(
+    p_handle VARCHAR DEFAULT NULL
+)
+RETURNS TABLE(
+    id UUID,
+    handle VARCHAR,
+    plan SMALLINT,
+    is_guest BOOLEAN,
+    auth_state SMALLINT,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ
+) AS $$
+BEGIN
+    RETURN QUERY
+    WITH new_user AS (
+        INSERT INTO users (handle, is_guest, auth_state, plan)
+        VALUES (COALESCE(p_handle, sp_next_guest_handle()), true, 1, 1)  -- 1:GUEST, 1:FREE
+        RETURNING users.id, users.handle, users.plan, users.is_guest, users.auth_state,
+                  users.created_at, users.updated_at
+    ),
+    new_settings AS (
+        INSERT INTO user_settings (user_id)
+        SELECT n.id FROM new_user n
+    )
+    SELECT n.id, n.handle, n.plan, n.is_guest, n.auth_state, n.created_at, n.updated_at
+    FROM new_user n;
+END;
+$$ LANGUAGE plpgsql;
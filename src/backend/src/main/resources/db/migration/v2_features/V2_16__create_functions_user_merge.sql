@@ -0,0 +1,385 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- User Merge
+-- =========================================
+
+-- 統合元ユーザーの行の検索用（統合の各文が統合元の行数に比例する時間で終わるようにする）
+CREATE INDEX idx_tasks_user_id_deleted ON tasks(user_id) WHERE deleted_at IS NOT NULL;
+CREATE INDEX idx_task_completions_user_id ON task_completions(user_id);
+CREATE INDEX idx_user_identities_user_id ON user_identities(user_id);
+CREATE INDEX idx_balloon_memberships_user_id ON balloon_memberships(user_id);
+CREATE INDEX idx_balloon_reports_reporter_user_id ON balloon_reports(reporter_user_id);
+CREATE INDEX idx_balloon_pop_history_trigger_user_id ON balloon_pop_history(trigger_user_id) WHERE trigger_user_id IS NOT NULL;
+CREATE INDEX idx_balloon_pop_history_user_unit ON balloon_pop_history(unit_key) WHERE unit_type <> 4;
+CREATE INDEX idx_balloon_progress_user_unit ON balloon_progress(unit_key) WHERE unit_type <> 4;
+CREATE INDEX idx_contribution_ledger_hourly_user_unit ON contribution_ledger_hourly(unit_key, balloon_id) WHERE unit_type <> 4;
+
+-- 統合で加算した進捗の記録（統合後の進捗は台帳の再生と一致しないため、再集計の修復対象から除く）
+ALTER TABLE balloon_progress ADD COLUMN merged_at TIMESTAMPTZ;
+
+-- 非アクティブな風船も所有者で検索できるようにする
+DROP INDEX IF EXISTS idx_balloons_owner_user_id;
+CREATE INDEX idx_balloons_owner_user_id ON balloons(owner_user_id) WHERE owner_user_id IS NOT NULL;
+
+-- ユーザーの統合
+-- 統合元ユーザー（別の端末で作成されたゲストなど）のデータを統合先ユーザーに集合単位の UPDATE で移し、
+-- 統合元ユーザーを論理削除する。呼び出し元のトランザクション内で実行され、途中で失敗した場合は何も変更されない。
+--
+-- ロックの方針:
+--   * 両ユーザーの行は ID の順に FOR NO KEY UPDATE でロックする（同じ組の同時統合の直列化とデッドロックの防止）。
+--     外部キーの検査が取る FOR KEY SHARE とは競合しないため、統合中も統合先ユーザーの書き込みは待たされない。
+--   * 移動する行は統合元ユーザーの行のみで、統合先ユーザーの既存の行は更新しない。
+--     例外は進捗・ロールアップの加算で、加算の書き込みと競合するため最後に更新してロックの保持時間を短くする。
+--   * lock_timeout を超えてロックを待つ場合はエラーとし、ロック待ちの列を作らない。
+--
+-- UTC_DAY 以外の集計単位（unit_key = 貢献したユーザーID）の進捗は加算で統合する。
+-- 必要量は割れ回数と同じく1回の割れにつき1増えるため、合算した割れ回数から求める。
+-- 統合後は統合元・統合先の台帳が時系列で混在し、台帳の再生は加算での統合と一致しない。
+-- 統合した進捗行には merged_at を記録し、再集計では差異として報告するが修復はしない。
+--
+-- p_source_user_id と p_target_user_id が同じ場合、またはどちらかが存在しない・削除済みの場合は0行を返す。
+CREATE OR REPLACE FUNCTION sp_merge_users(
+    p_source_user_id UUID,
+    p_target_user_id UUID,
+    p_lock_timeout_ms INT DEFAULT 2000
+)
+RETURNS TABLE(
+    task_count INT,
+    tag_count INT,
+    identity_count INT,
+    device_count INT,
+    membership_count INT,
+    selection_count INT,
+    progress_unit_count INT,
+    ledger_row_count INT
+) AS $$
+DECLARE
+    v_locked_count INT;
+    v_task_count INT;
+    v_tag_count INT;
+    v_identity_count INT;
+    v_device_count INT;
+    v_membership_count INT;
+    v_selection_count INT;
+    v_progress_unit_count INT;
+    v_ledger_row_count INT;
+    v_target_selecting BOOLEAN;
+    v_source_key VARCHAR := p_source_user_id::TEXT;
+    v_target_key VARCHAR := p_target_user_id::TEXT;
+BEGIN
+    IF p_source_user_id = p_target_user_id THEN
+        RETURN;
+    END IF;
+
+    PERFORM set_config('lock_timeout', p_lock_timeout_ms || 'ms', true);
+
+    SELECT COUNT(*) INTO v_locked_count
+    FROM (
+        SELECT u.id
+        FROM users u
+        WHERE u.id IN (p_source_user_id, p_target_user_id)
+          AND u.deleted_at IS NULL
+        ORDER BY u.id
+        FOR NO KEY UPDATE
+    ) locked;
+
+    IF v_locked_count < 2 THEN
+        RETURN;
+    END IF;
+
+    -- 認証・端末
+    UPDATE user_identities i
+    SET user_id = p_target_user_id
+    WHERE i.user_id = p_source_user_id;
+    GET DIAGNOSTICS v_identity_count = ROW_COUNT;
+
+    UPDATE user_devices d
+    SET user_id = p_target_user_id
+    WHERE d.user_id = p_source_user_id;
+    GET DIAGNOSTICS v_device_count = ROW_COUNT;
+
+    -- 失効は trg_user_sessions_revoked により tasbal_session_changed で全ノードに通知される
+    UPDATE user_sessions s
+    SET revoked_at = CURRENT_TIMESTAMP
+    WHERE s.user_id = p_source_user_id
+      AND s.revoked_at IS NULL;
+
+    DELETE FROM transfer_tokens t
+    WHERE t.user_id = p_source_user_id
+      AND t.used_at IS NULL;
+
+    -- タスク・タグ（同名のタグは統合先のタグにまとめる）
+    UPDATE tasks t
+    SET user_id = p_target_user_id
+    WHERE t.user_id = p_source_user_id;
+    GET DIAGNOSTICS v_task_count = ROW_COUNT;
+
+    UPDATE task_completions c
+    SET user_id = p_target_user_id
+    WHERE c.user_id = p_source_user_id;
+
+    INSERT INTO task_tags (task_id, tag_id)
+    SELECT tt.task_id, dst.id
+    FROM tags src
+    JOIN tags dst ON dst.user_id = p_target_user_id
+                 AND dst.name = src.name
+    JOIN task_tags tt ON tt.tag_id = src.id
+    WHERE src.user_id = p_source_user_id
+    ON CONFLICT DO NOTHING;
+
+    -- 統合先のタグに付け替えた同名のタグを削除（task_tags は外部キーで削除される）
+    DELETE FROM tags src
+    USING tags dst
+    WHERE src.user_id = p_source_user_id
+      AND dst.user_id = p_target_user_id
+      AND dst.name = src.name;
+
+    UPDATE tags g
+    SET user_id = p_target_user_id
+    WHERE g.user_id = p_source_user_id;
+    GET DIAGNOSTICS v_tag_count = ROW_COUNT;
+
+    -- 風船
+    UPDATE balloons b
+    SET owner_user_id = p_target_user_id
+    WHERE b.owner_user_id = p_source_user_id;
+
+    -- 両方が参加中の風船は統合元の参加を終了し、参加人数の減少を記録する
+    WITH closed AS (
+        UPDATE balloon_memberships src
+        SET left_at = CURRENT_TIMESTAMP
+        FROM balloon_memberships dst
+        WHERE src.user_id = p_source_user_id
+          AND src.left_at IS NULL
+          AND dst.user_id = p_target_user_id
+          AND dst.balloon_id = src.balloon_id
+          AND dst.left_at IS NULL
+        RETURNING src.balloon_id
+    )
+    INSERT INTO balloon_member_count_deltas (balloon_id, delta)
+    SELECT c.balloon_id, -1
+    FROM closed c;
+
+    UPDATE balloon_memberships m
+    SET user_id = p_target_user_id
+    WHERE m.user_id = p_source_user_id;
+    GET DIAGNOSTICS v_membership_count = ROW_COUNT;
+
+    -- 選択は統合先の選択を優先する（統合先に選択中の風船がある場合、移した選択は解除済みとする）
+    SELECT EXISTS (
+        SELECT 1 FROM balloon_selections bs
+        WHERE bs.user_id = p_target_user_id
+          AND bs.left_at IS NULL
+    ) INTO v_target_selecting;
+
+    DELETE FROM balloon_selections src
+    USING balloon_selections dst
+    WHERE src.user_id = p_source_user_id
+      AND dst.user_id = p_target_user_id
+      AND dst.balloon_id = src.balloon_id;
+
+    UPDATE balloon_selections bs
+    SET user_id = p_target_user_id,
+        left_at = CASE WHEN v_target_selecting THEN COALESCE(bs.left_at, CURRENT_TIMESTAMP) ELSE bs.left_at END
+    WHERE bs.user_id = p_source_user_id;
+    GET DIAGNOSTICS v_selection_count = ROW_COUNT;
+
+    DELETE FROM balloon_reports src
+    USING balloon_reports dst
+    WHERE src.reporter_user_id = p_source_user_id
+      AND dst.reporter_user_id = p_target_user_id
+      AND dst.balloon_id = src.balloon_id;
+
+    UPDATE balloon_reports r
+    SET reporter_user_id = p_target_user_id
+    WHERE r.reporter_user_id = p_source_user_id;
+
+    -- 台帳・割れ履歴（UTC_DAY 以外の集計単位は統合先の集計単位に付け替える）
+    -- ロールアップのトリガーは INSERT のみのため、ロールアップは下で別に統合する。
+    UPDATE contribution_ledger cl
+    SET actor_user_id = p_target_user_id,
+        unit_key = CASE WHEN cl.unit_type <> 4 AND cl.unit_key = v_source_key THEN v_target_key ELSE cl.unit_key END
+    WHERE cl.actor_user_id = p_source_user_id;
+    GET DIAGNOSTICS v_ledger_row_count = ROW_COUNT;
+
+    UPDATE balloon_pop_history ph
+    SET unit_key = v_target_key
+    WHERE ph.unit_type <> 4
+      AND ph.unit_key = v_source_key;
+
+    UPDATE balloon_pop_history ph
+    SET trigger_user_id = p_target_user_id
+    WHERE ph.trigger_user_id = p_source_user_id;
+
+    -- UTC_DAY 以外の進捗・ロールアップを加算で統合（統合先の加算と競合するため最後に行う）
+    WITH moved AS (
+        DELETE FROM balloon_progress bp
+        WHERE bp.unit_type <> 4
+          AND bp.unit_key = v_source_key
+        RETURNING bp.balloon_id, bp.unit_type, bp.current_value, bp.break_count
+    ),
+    merged AS (
+        INSERT INTO balloon_progress (balloon_id, unit_type, unit_key, current_value, next_threshold, break_count, merged_at)
+        SELECT m.balloon_id, m.unit_type, v_target_key, m.current_value, m.break_count + 1, m.break_count, CURRENT_TIMESTAMP
+        FROM moved m
+        ORDER BY m.balloon_id, m.unit_type
+        ON CONFLICT (balloon_id, unit_type, unit_key) DO UPDATE
+        SET current_value = balloon_progress.current_value + EXCLUDED.current_value,
+            break_count = balloon_progress.break_count + EXCLUDED.break_count,
+            next_threshold = balloon_progress.break_count + EXCLUDED.break_count + 1,
+            merged_at = EXCLUDED.merged_at,
+            updated_at = CURRENT_TIMESTAMP,
+            lock_version = balloon_progress.lock_version + 1
+        RETURNING 1
+    )
+    SELECT COUNT(*)::INT INTO v_progress_unit_count FROM merged;
+
+    WITH moved AS (
+        DELETE FROM contribution_ledger_hourly h
+        WHERE h.unit_type <> 4
+          AND h.unit_key = v_source_key
+        RETURNING h.balloon_id, h.unit_type, h.hour, h.amount_sum, h.row_count
+    )
+    INSERT INTO contribution_ledger_hourly (balloon_id, unit_type, unit_key, hour, amount_sum, row_count)
+    SELECT m.balloon_id, m.unit_type, v_target_key, m.hour, m.amount_sum, m.row_count
+    FROM moved m
+    ORDER BY m.balloon_id, m.unit_type, m.hour
+    ON CONFLICT (balloon_id, unit_type, unit_key, hour) DO UPDATE
+    SET amount_sum = contribution_ledger_hourly.amount_sum + EXCLUDED.amount_sum,
+        row_count = contribution_ledger_hourly.row_count + EXCLUDED.row_count;
+
+    UPDATE users u
+    SET deleted_at = CURRENT_TIMESTAMP,
+        updated_at = CURRENT_TIMESTAMP
+    WHERE u.id = p_source_user_id;
+
+    RETURN QUERY
+    SELECT v_task_count, v_tag_count, v_identity_count, v_device_count, v_membership_count,
+           v_selection_count, v_progress_unit_count, v_ledger_row_count;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 引き継ぎトークンの使用（端末のゲストの統合に対応）
+-- p_merge_device_user = true の場合、端末に紐付いていた別のゲストユーザーのデータを
+-- 引き継ぎ元のユーザーに統合する（統合は sp_merge_users を参照）。
+-- 統合したユーザーのIDを merged_user_id に返す（統合しなかった場合はNULL）。
+DROP FUNCTION IF EXISTS sp_consume_transfer_token(VARCHAR, TEXT, TEXT);
+
+CREATE OR REPLACE FUNCTION sp_consume_transfer_token(
+    p_device_fingerprint VARCHAR,
+    p_token_hash TEXT,
+    p_refresh_token_hash TEXT,
+    p_merge_device_user BOOLEAN DEFAULT false
+)
+RETURNS TABLE(
+    id UUID,
+    handle VARCHAR,
+    plan SMALLINT,
+    is_guest BOOLEAN,
+    auth_state SMALLINT,
+    created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ,
+    last_login_at TIMESTAMPTZ,
+    session_id UUID,
+    device_id UUID,
+    merged_user_id UUID
+) AS $$
+DECLARE
+    v_device_id UUID;
+    v_device_user_id UUID;
+    v_user_id UUID;
+    v_session_id UUID;
+    v_merged_user_id UUID;
+BEGIN
+    SELECT d.id, d.user_id INTO v_device_id, v_device_user_id
+    FROM user_devices d
+    WHERE d.device_fingerprint = p_device_fingerprint;
+
+    IF v_device_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    UPDATE transfer_tokens t
+    SET used_at = CURRENT_TIMESTAMP,
+        used_by_device_id = v_device_id
+    WHERE t.token_hash = p_token_hash
+      AND t.used_at IS NULL
+      AND t.expires_at > CURRENT_TIMESTAMP
+    RETURNING t.user_id INTO v_user_id;
+
+    IF v_user_id IS NULL THEN
+        RETURN;
+    END IF;
+
+    -- 統合するのはゲストのみ（連携済みのユーザー同士は統合しない）
+    IF p_merge_device_user AND v_device_user_id IS NOT NULL AND v_device_user_id <> v_user_id THEN
+        SELECT u.id INTO v_merged_user_id
+        FROM users u
+        WHERE u.id = v_device_user_id
+          AND u.is_guest = true
+          AND u.deleted_at IS NULL;
+
+        IF v_merged_user_id IS NOT NULL THEN
+            PERFORM sp_merge_users(v_merged_user_id, v_user_id);
+        END IF;
+    END IF;
+
+    UPDATE user_devices d
+    SET user_id = v_user_id
+    WHERE d.id = v_device_id
+      AND d.user_id IS DISTINCT FROM v_user_id;
+
+    -- 失効は trg_user_sessions_revoked により tasbal_session_changed で全ノードに通知される
+    UPDATE user_sessions s
+    SET revoked_at = CURRENT_TIMESTAMP
+    WHERE s.device_id = v_device_id
+      AND s.user_id <> v_user_id
+      AND s.revoked_at IS NULL;
+
+    INSERT INTO user_sessions (user_id, device_id, refresh_token_hash)
+    VALUES (v_user_id, v_device_id, p_refresh_token_hash)
+    RETURNING user_sessions.id INTO v_session_id;
+
+    UPDATE users u
+    SET last_login_at = CURRENT_TIMESTAMP
+    WHERE u.id = v_user_id;
+
+    RETURN QUERY
+    SELECT u.id, u.handle, u.plan, u.is_guest, u.auth_state, u.created_at, u.updated_at, u.last_login_at,
+           v_session_id, v_device_id, v_merged_user_id
+    FROM users u
+    WHERE u.id = v_user_id;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 風船の進捗と割れ履歴件数を集計単位ごとに取得（統合で加算した進捗かを merged に返す）
+DROP FUNCTION IF EXISTS sp_get_balloon_progress_units(UUID);
+
+CREATE OR REPLACE FUNCTION sp_get_balloon_progress_units(
+    p_balloon_id UUID
+)
+RETURNS TABLE(
+    unit_type SMALLINT,
+    unit_key VARCHAR,
+    current_value INT,
+    next_threshold INT,
+    break_count INT,
+    lock_version INT,
+    pop_history_count INT,
+    merged BOOLEAN
+) AS $$
+BEGIN
+    RETURN QUERY
+    SELECT bp.unit_type, bp.unit_key, bp.current_value, bp.next_threshold, bp.break_count, bp.lock_version,
+           COALESCE(ph.pop_count, 0)::INT,
+           bp.merged_at IS NOT NULL
+    FROM balloon_progress bp
+    LEFT JOIN (
+        SELECT h.unit_type, h.unit_key, COUNT(*) AS pop_count
+        FROM balloon_pop_history h
+        WHERE h.balloon_id = p_balloon_id
+        GROUP BY h.unit_type, h.unit_key
+    ) ph ON ph.unit_type = bp.unit_type AND ph.unit_key = bp.unit_key
+    WHERE bp.balloon_id = p_balloon_id;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,97 @@
+-- =========================================
+-- Tasbal Feature Migration
+-- Inactive Guest Purge
+-- =========================================
+
+-- ゲストユーザーのIDでのキーセット走査用
+CREATE INDEX idx_users_guest_id ON users(id) WHERE is_guest = true;
+
+-- 利用されなくなったゲストユーザーの削除（1バッチ分）
+-- p_after_id より後のゲストユーザーのうち、最終ログイン日時・端末の最終利用日時（どちらもない場合は作成日時）が
+-- p_inactive_before より前のユーザーと、統合済み（論理削除済み）のゲストユーザーを ID の順に最大 p_batch_size 件ロックし、
+-- 1件ずつ削除する。利用中のユーザーはロックしない。
+--
+-- ロックの方針:
+--   * 対象のユーザーは FOR NO KEY UPDATE SKIP LOCKED でロックする。外部キーの検査が取る FOR KEY SHARE とは競合しないため、
+--     バッチの処理中も対象ユーザーの子テーブルへの書き込みは待たされない。他のトランザクションがロック中のユーザーは読み飛ばす。
+--   * 削除の際の行ロックの強化と子テーブルのロック待ちは p_lock_timeout_ms でエラーとし、
+--     そのユーザーの削除のみを取り消して次のユーザーに進む（次回以降の実行で改めて削除される）。
+--
+-- p_time_budget_ms を超えた時点で残りを次のバッチに回す（last_id は最後に処理したID）。
+-- 外部キーのない行（参加人数の増減、UTC_DAY 以外の集計単位の進捗・ロールアップ・割れ履歴）はここで削除・記録し、
+-- それ以外の子テーブルの行は ON DELETE CASCADE で削除される。
+-- 対象のユーザーがいない場合は last_id に NULL を返す。
+CREATE OR REPLACE FUNCTION sp_purge_inactive_guests(
+    p_inactive_before TIMESTAMPTZ,
+    p_after_id UUID,
+    p_batch_size INT,
+    p_time_budget_ms INT,
+    p_lock_timeout_ms INT
+)
+RETURNS TABLE(
+    scanned_count INT,
+    deleted_count INT,
+    last_id UUID
+) AS $$
+DECLARE
+    v_deadline TIMESTAMPTZ := clock_timestamp() + make_interval(secs => p_time_budget_ms / 1000.0);
+    v_scanned_count INT := 0;
+    v_deleted_count INT := 0;
+    v_last_id UUID;
+    v_candidate RECORD;
+    v_unit_key VARCHAR;
+BEGIN
+    PERFORM set_config('lock_timeout', p_lock_timeout_ms || 'ms', true);
+
+    FOR v_candidate IN
+        SELECT u.id
+        FROM users u
+        WHERE u.is_guest = true
+          AND (p_after_id IS NULL OR u.id > p_after_id)
+          AND (u.deleted_at IS NOT NULL
+               OR GREATEST(u.created_at, u.last_login_at,
+                           (SELECT MAX(d.last_seen_at) FROM user_devices d WHERE d.user_id = u.id)) < p_inactive_before)
+        ORDER BY u.id
+        LIMIT p_batch_size
+        FOR NO KEY UPDATE SKIP LOCKED
+    LOOP
+        IF clock_timestamp() > v_deadline THEN
+            EXIT;
+        END IF;
+
+        v_scanned_count := v_scanned_count + 1;
+        v_last_id := v_candidate.id;
+        v_unit_key := v_candidate.id::TEXT;
+
+        BEGIN
+            INSERT INTO balloon_member_count_deltas (balloon_id, delta)
+            SELECT m.balloon_id, -1
+            FROM balloon_memberships m
+            WHERE m.user_id = v_candidate.id
+              AND m.left_at IS NULL;
+
+            DELETE FROM balloon_progress bp
+            WHERE bp.unit_type <> 4
+              AND bp.unit_key = v_unit_key;
+
+            DELETE FROM contribution_ledger_hourly h
+            WHERE h.unit_type <> 4
+              AND h.unit_key = v_unit_key;
+
+            DELETE FROM balloon_pop_history ph
+            WHERE ph.unit_type <> 4
+              AND ph.unit_key = v_unit_key;
+
+            DELETE FROM users u
+            WHERE u.id = v_candidate.id;
+
+            v_deleted_count := v_deleted_count + 1;
+        EXCEPTION
+            WHEN lock_not_available THEN
+                NULL;
+        END;
+    END LOOP;
+
+    RETURN QUERY SELECT v_scanned_count, v_deleted_count, v_last_id;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,99 @@
+package com.tasbal.application.cache;
+
+import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.BalloonCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PublicBalloonPageCache}のテスト。
+ */
+class PublicBalloonPageCacheTest {
+
+    private static final OffsetDateTime T0 = OffsetDateTime.of(2026, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void findPastCachedTailFallsBackUnlessComplete() {
+        Balloon b1 = balloon(3, 1);
+        Balloon b2 = balloon(2, 2);
+        Balloon b3 = balloon(1, 3);
+        PublicBalloonPageCache cache = new PublicBalloonPageCache(3);
+
+        cache.replace(List.of(b1, b2, b3));
+        assertEquals(Optional.of(List.of(b3)), cache.find(BalloonCursor.of(b2), 1));
+        assertTrue(cache.find(BalloonCursor.of(b2), 2).isEmpty());
+        assertTrue(cache.find(BalloonCursor.of(b3), 1).isEmpty());
+
+        cache.replace(List.of(b1, b2));
+        assertEquals(Optional.of(List.of(b2)), cache.find(BalloonCursor.of(b1), 5));
+        assertEquals(Optional.of(List.of()), cache.find(BalloonCursor.of(b3), 5));
+    }
+
+    @Test
+    void completeFlagFollowsPrependAndRemove() {
+        Balloon b0 = balloon(4, 0);
+        Balloon b1 = balloon(3, 1);
+        Balloon b2 = balloon(2, 2);
+        Balloon b3 = balloon(1, 3);
+        PublicBalloonPageCache cache = new PublicBalloonPageCache(3);
+        cache.replace(List.of(b2, b3));
+
+        cache.prepend(b1);
+        assertEquals(Optional.of(List.of(b1, b2, b3)), cache.find(null, 10));
+
+        // 容量を超えて末尾が押し出されると、キャッシュ外のページはデータベースから取得する
+        cache.prepend(b0);
+        assertTrue(cache.find(null, 10).isEmpty());
+        assertEquals(Optional.of(List.of(b0, b1, b2)), cache.find(null, 3));
+
+        cache.remove(Set.of(b0.getId()));
+        assertTrue(cache.find(null, 3).isEmpty());
+        assertEquals(Optional.of(List.of(b1, b2)), cache.find(null, 2));
+
+        cache.replace(List.of(b1, b2));
+        cache.remove(Set.of(b1.getId()));
+        assertEquals(Optional.of(List.of(b2)), cache.find(null, 10));
+    }
+
+    @Test
+    void firstAfterFollowsBalloonOrder() {
+        // 作成日時が同じ風船はIDの符号なしの降順に並ぶ
+        List<Balloon> balloons = new ArrayList<>(List.of(
+                balloon(2, 1),
+                balloon(1, 0x7fL),
+                balloon(1, 0x80L),
+                balloon(1, 0x8000000000000000L),
+                balloon(1, 0xffffffffffffffffL),
+                balloon(0, 5)));
+        balloons.sort(BalloonCursor.ORDER);
+        assertEquals(0xffffffffffffffffL, balloons.get(1).getId().getMostSignificantBits());
+        assertEquals(0x7fL, balloons.get(4).getId().getMostSignificantBits());
+
+        PublicBalloonPageCache cache = new PublicBalloonPageCache(10);
+        cache.replace(balloons);
+
+        for (int i = 0; i < balloons.size(); i++) {
+            assertEquals(Optional.of(balloons.subList(i + 1, balloons.size())),
+                    cache.find(BalloonCursor.of(balloons.get(i)), 10));
+        }
+
+        // キャッシュにない位置を指すカーソルは、その次に古い風船から返す
+        BalloonCursor between = new BalloonCursor(T0.plusSeconds(1), new UUID(0x100L, 0));
+        assertEquals(Optional.of(balloons.subList(3, balloons.size())), cache.find(between, 10));
+    }
+
+    private static Balloon balloon(int createdAtSeconds, long idBits) {
+        return new Balloon(new UUID(idBits, 0), (short) 4, (short) 2, (short) 3, null, "balloon", null,
+                (short) 1, (short) 1, null, true, T0.plusSeconds(createdAtSeconds), T0, 0);
+    }
+}
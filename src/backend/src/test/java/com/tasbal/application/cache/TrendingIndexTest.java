@@ -0,0 +1,98 @@
+package com.tasbal.application.cache;
+
+import com.tasbal.domain.model.Balloon;
+import com.tasbal.domain.model.TrendingBalloon;
+import com.tasbal.domain.model.TrendingCandidate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link TrendingIndex}のテスト。
+ */
+class TrendingIndexTest {
+
+    private static final Instant T0 = Instant.parse("2026-10-01T00:00:00Z");
+    private static final UUID A = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID B = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID C = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+    private static final UUID D = UUID.fromString("00000000-0000-0000-0000-00000000000d");
+
+    @Test
+    void rebasePreservesOrderAndDecayedScores() {
+        TrendingIndex index = new TrendingIndex(10, Duration.ofSeconds(1), T0);
+        for (UUID id : List.of(A, B, C, D)) {
+            index.register(candidate(id, null));
+        }
+        index.addContribution(A, 3, T0);
+        index.addContribution(B, 2, T0);
+        index.addContribution(C, 1, T0);
+
+        // 半減期1秒で100秒後は指数が約69となり、基準時刻が進む
+        Instant later = T0.plusSeconds(100);
+        index.addContribution(D, 1, later);
+        index.publish(later);
+
+        List<TrendingBalloon> top = index.top(null, 10);
+        assertEquals(List.of(D, A, B, C), ids(top));
+        assertEquals(1.0, top.get(0).getScore(), 1e-9);
+        assertEquals(3 * Math.pow(2, -100), top.get(1).getScore(), 3 * Math.pow(2, -100) * 1e-6);
+    }
+
+    @Test
+    void evictsLowestWhenTopKPlusOneArrives() {
+        TrendingIndex index = new TrendingIndex(2, Duration.ofHours(1), T0);
+        for (UUID id : List.of(A, B, C, D)) {
+            index.register(candidate(id, null));
+        }
+        index.addContribution(A, 1, T0);
+        index.addContribution(B, 2, T0);
+        index.publish(T0);
+        assertEquals(List.of(B, A), ids(index.top(null, 10)));
+
+        index.addContribution(C, 3, T0);
+        index.publish(T0);
+        assertEquals(List.of(C, B), ids(index.top(null, 10)));
+
+        // 最下位に届かない風船はランクインしない
+        index.addContribution(D, 0.5, T0);
+        index.publish(T0);
+        assertEquals(List.of(C, B), ids(index.top(null, 10)));
+    }
+
+    @Test
+    void registerMovesBalloonToNewCountry() {
+        TrendingIndex index = new TrendingIndex(10, Duration.ofHours(1), T0);
+        index.register(candidate(A, "jp"));
+        index.addContribution(A, 1, T0);
+        index.publish(T0);
+        assertEquals(List.of(A), ids(index.top("JP", 10)));
+
+        index.register(candidate(A, "US"));
+        index.publish(T0);
+
+        assertTrue(index.top("JP", 10).isEmpty());
+        List<TrendingBalloon> us = index.top("us", 10);
+        assertEquals(List.of(A), ids(us));
+        assertEquals("US", us.get(0).getCountryCode());
+        assertEquals(1.0, us.get(0).getScore(), 1e-9);
+        assertEquals(List.of(A), ids(index.top(null, 10)));
+        assertEquals(1, index.size());
+    }
+
+    private static TrendingCandidate candidate(UUID id, String countryCode) {
+        Balloon balloon = new Balloon(id, (short) 4, (short) 2, (short) 3, null, "balloon", null,
+                (short) 1, (short) 1, null, true, null, null, 0);
+        return new TrendingCandidate(balloon, countryCode);
+    }
+
+    private static List<UUID> ids(List<TrendingBalloon> ranking) {
+        return ranking.stream().map(b -> b.getBalloon().getId()).toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.tasbal.application.reconcile;
+
+import com.tasbal.domain.division.ProgressUnitType;
+import com.tasbal.domain.model.LedgerEntry;
+import com.tasbal.domain.model.ProgressUnit;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BalloonReplay}のテスト。
+ */
+class BalloonReplayTest {
+
+    private static final UUID BALLOON_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final short USER = (short) ProgressUnitType.User.getValue();
+    private static final short UTC_DAY = (short) ProgressUnitType.UtcDay.getValue();
+    private static final OffsetDateTime AT = OffsetDateTime.of(2026, 10, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final String DAY = "2026-10-01";
+    private static final String NEXT_DAY = "2026-10-02";
+
+    @Test
+    void popsForMatchesIncrementalBreaks() {
+        assertEquals(0, BalloonReplay.popsFor(1, 0));
+        assertEquals(1, BalloonReplay.popsFor(1, 1));
+        assertEquals(1, BalloonReplay.popsFor(1, 2));
+        assertEquals(2, BalloonReplay.popsFor(1, 3));
+        assertEquals(2, BalloonReplay.popsFor(1, 5));
+        assertEquals(3, BalloonReplay.popsFor(1, 6));
+        assertEquals(0, BalloonReplay.popsFor(5, 4));
+        assertEquals(2, BalloonReplay.popsFor(5, 11));
+    }
+
+    @Test
+    void popsForIsExactAtLargeTotals() {
+        long k = 94_906_265L;
+        long total = k * (k + 1) / 2;
+        assertEquals(k, BalloonReplay.popsFor(1, total));
+        assertEquals(k - 1, BalloonReplay.popsFor(1, total - 1));
+
+        long threshold = 1_000_000_000L;
+        assertEquals(3, BalloonReplay.popsFor(threshold, 3 * threshold + 3));
+        assertEquals(2, BalloonReplay.popsFor(threshold, 3 * threshold + 2));
+    }
+
+    @Test
+    void matchingUnitReportsNoMismatch() {
+        BalloonReplay replay = replay(List.of(unit(USER, "u1", 0, 3, 2, 2, false)), Set.of());
+        replay.accept(entry(USER, "u1", 1));
+        replay.accept(entry(USER, "u1", 1));
+        replay.accept(entry(USER, "u1", 1));
+
+        assertTrue(replay.finish().isEmpty());
+        assertEquals(3, replay.getRowCount());
+        assertEquals(1, replay.getUnitCount());
+    }
+
+    @Test
+    void driftedUnitIsRepairable() {
+        BalloonReplay replay = replay(List.of(unit(USER, "u1", 1, 3, 2, 2, false)), Set.of());
+        replay.accept(entry(USER, "u1", 1));
+        replay.accept(entry(USER, "u1", 1));
+        replay.accept(entry(USER, "u1", 1));
+
+        List<UnitMismatch> mismatches = replay.finish();
+
+        assertEquals(1, mismatches.size());
+        UnitMismatch mismatch = mismatches.get(0);
+        assertTrue(mismatch.isProgressDrift());
+        assertFalse(mismatch.isHistoryDrift());
+        assertTrue(mismatch.isRepairable());
+        assertEquals(0, mismatch.getExpected().getCurrentValue());
+        assertEquals(3, mismatch.getExpected().getNextThreshold());
+        assertEquals(2, mismatch.getExpected().getBreakCount());
+    }
+
+    @Test
+    void missingProgressRowIsReported() {
+        BalloonReplay replay = replay(List.of(), Set.of());
+        replay.accept(entry(USER, "u1", 1));
+
+        List<UnitMismatch> mismatches = replay.finish();
+
+        assertEquals(1, mismatches.size());
+        assertNull(mismatches.get(0).getActual());
+        assertTrue(mismatches.get(0).isRepairable());
+        assertTrue(mismatches.get(0).isHistoryDrift());
+    }
+
+    @Test
+    void unitWithoutLedgerRowsIsComparedToEmptyState() {
+        BalloonReplay replay = replay(List.of(unit(USER, "u1", 2, 1, 0, 0, false)), Set.of());
+
+        List<UnitMismatch> mismatches = replay.finish();
+
+        assertEquals(1, mismatches.size());
+        assertEquals(0, mismatches.get(0).getExpected().getCurrentValue());
+        assertEquals(1, mismatches.get(0).getExpected().getNextThreshold());
+    }
+
+    @Test
+    void mergedUnitIsReportedButNotRepairable() {
+        BalloonReplay replay = replay(List.of(unit(USER, "u1", 4, 3, 2, 2, true)), Set.of());
+        replay.accept(entry(USER, "u1", 1));
+        replay.accept(entry(USER, "u1", 1));
+        replay.accept(entry(USER, "u1", 1));
+
+        List<UnitMismatch> mismatches = replay.finish();
+
+        assertEquals(1, mismatches.size());
+        assertTrue(mismatches.get(0).isProgressDrift());
+        assertFalse(mismatches.get(0).isRepairable());
+    }
+
+    @Test
+    void rolledDayExpectsPopsAndUnrolledDayExpectsAdditionsOnly() {
+        BalloonReplay replay = replay(
+                List.of(unit(UTC_DAY, DAY, 0, 3, 2, 2, false), unit(UTC_DAY, NEXT_DAY, 4, 3, 0, 0, false)),
+                Set.of(LocalDate.parse(DAY)));
+        replay.accept(entry(UTC_DAY, DAY, 2));
+        replay.accept(entry(UTC_DAY, DAY, 1));
+        replay.accept(entry(UTC_DAY, NEXT_DAY, 4));
+
+        assertTrue(replay.finish().isEmpty());
+        assertEquals(2, replay.getUnitCount());
+    }
+
+    @Test
+    void rolledDayWithWrongThresholdIsReported() {
+        BalloonReplay replay = replay(List.of(unit(UTC_DAY, DAY, 0, 2, 2, 2, false)), Set.of(LocalDate.parse(DAY)));
+        replay.accept(entry(UTC_DAY, DAY, 3));
+
+        List<UnitMismatch> mismatches = replay.finish();
+
+        assertEquals(1, mismatches.size());
+        assertEquals(3, mismatches.get(0).getExpected().getNextThreshold());
+    }
+
+    private static BalloonReplay replay(List<ProgressUnit> actualUnits, Set<LocalDate> rolledDays) {
+        return new BalloonReplay(BALLOON_ID, actualUnits, rolledDays);
+    }
+
+    private static ProgressUnit unit(short type, String key, int current, int threshold, int breaks,
+                                     int popHistory, boolean merged) {
+        return new ProgressUnit(type, key, current, threshold, breaks, 1, popHistory, merged);
+    }
+
+    private static LedgerEntry entry(short type, String key, int amount) {
+        return new LedgerEntry(type, key, amount, AT);
+    }
+}
@@ -0,0 +1,59 @@
+package com.tasbal.infrastructure.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link AdaptiveConcurrencyLimit}のテスト。
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void rejectsWhenInFlightReachesLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, TARGET_NANOS, 0.5);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertFalse(limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+    }
+
+    @Test
+    void slowResponsesDecreaseLimitOncePerTarget() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8, 1, 10, TARGET_NANOS, 0.5);
+        long now = System.nanoTime() + TARGET_NANOS;
+
+        limit.tryAcquire();
+        limit.tryAcquire();
+        limit.release(TARGET_NANOS * 2, now, false);
+        limit.release(TARGET_NANOS * 2, now, false);
+        assertEquals(4, limit.getLimit());
+
+        limit.tryAcquire();
+        limit.release(0, now + TARGET_NANOS, true);
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void fastResponsesIncreaseLimitWhileItIsUsed() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, TARGET_NANOS, 0.5);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire();
+            limit.tryAcquire();
+            limit.release(TARGET_NANOS / 10, now, false);
+            limit.release(TARGET_NANOS / 10, now, false);
+        }
+
+        assertTrue(limit.getLimit() > 2);
+        assertEquals(0, limit.getInFlight());
+    }
+}
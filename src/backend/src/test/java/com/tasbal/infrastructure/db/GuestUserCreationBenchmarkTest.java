@@ -0,0 +1,111 @@
+package com.tasbal.infrastructure.db;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code sp_create_guest_user}のスループットのベンチマーク。
+ *
+ * <p>マイグレーション済みのデータベースに対して、複数の接続から同時にゲストユーザーを作成し、
+ * 1秒あたりの作成数と一意制約違反の件数をログに出力します。ハンドルはシーケンスから生成されるため、
+ * 一意制約違反（SQLSTATE 23505）は0件でなければなりません。</p>
+ *
+ * <p>環境変数{@code TASBAL_BENCH_JDBC_URL}（必要に応じて{@code TASBAL_BENCH_DB_USER}・{@code TASBAL_BENCH_DB_PASSWORD}）
+ * が設定されている場合のみ実行します。スレッド数と実行時間はシステムプロパティ
+ * {@code bench.threads}・{@code bench.seconds}で変更できます。</p>
+ *
+ * <pre>{@code
+ * TASBAL_BENCH_JDBC_URL=jdbc:postgresql://localhost:5432/tasbal \
+ *   mvn test -Dtest=GuestUserCreationBenchmarkTest -Dbench.threads=32 -Dbench.seconds=30
+ * }</pre>
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "TASBAL_BENCH_JDBC_URL", matches = ".+")
+class GuestUserCreationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestUserCreationBenchmarkTest.class);
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    @Test
+    void createsGuestsWithoutConstraintViolations() throws Exception {
+        int threads = Integer.getInteger("bench.threads", 16);
+        long seconds = Long.getLong("bench.seconds", 10);
+
+        AtomicLong created = new AtomicLong();
+        AtomicLong violations = new AtomicLong();
+        Set<String> handles = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>(threads);
+        long[] window = new long[2];
+        try {
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    try (Connection connection = connect();
+                         PreparedStatement statement = connection.prepareStatement("SELECT handle FROM sp_create_guest_user(NULL)")) {
+                        start.await();
+                        while (System.nanoTime() < window[1]) {
+                            try (ResultSet rs = statement.executeQuery()) {
+                                rs.next();
+                                handles.add(rs.getString(1));
+                                created.incrementAndGet();
+                            } catch (SQLException e) {
+                                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                                    throw e;
+                                }
+                                violations.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            window[0] = System.nanoTime();
+            window[1] = window[0] + TimeUnit.SECONDS.toNanos(seconds);
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double elapsedSeconds = (System.nanoTime() - window[0]) / 1e9;
+        log.info("guest creation: threads={} created={} violations={} rate={}/s",
+                threads, created.get(), violations.get(), Math.round(created.get() / elapsedSeconds));
+
+        assertTrue(created.get() > 0);
+        assertEquals(0, violations.get());
+        assertEquals(created.get(), handles.size());
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                System.getenv("TASBAL_BENCH_JDBC_URL"),
+                System.getenv("TASBAL_BENCH_DB_USER"),
+                System.getenv("TASBAL_BENCH_DB_PASSWORD"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.tasbal.infrastructure.db;
+
+import com.tasbal.infrastructure.db.procedure.ledger.DetachLedgerPartitionsProcedure;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 貢献台帳の月パーティションの作成・切り離しのテスト。
+ *
+ * <p>マイグレーション済みの使い捨てのデータベースに対して、過去の月パーティションを作成し、
+ * 保持期間を過ぎたものが{@code DETACH PARTITION ... CONCURRENTLY}で切り離されて
+ * {@code ledger_archive}スキーマへ移動することを確認します。テストで切り離したパーティションは削除します。</p>
+ *
+ * <p>環境変数{@code TASBAL_BENCH_JDBC_URL}（必要に応じて{@code TASBAL_BENCH_DB_USER}・{@code TASBAL_BENCH_DB_PASSWORD}）
+ * が設定されている場合のみ実行します。</p>
+ */
+@Tag("database")
+@EnabledIfEnvironmentVariable(named = "TASBAL_BENCH_JDBC_URL", matches = ".+")
+class LedgerPartitionMaintenanceTest {
+
+    private static final DateTimeFormatter PARTITION_NAME =
+            DateTimeFormatter.ofPattern("'contribution_ledger_y'yyyy'm'MM");
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            System.getenv("TASBAL_BENCH_JDBC_URL"),
+            System.getenv("TASBAL_BENCH_DB_USER"),
+            System.getenv("TASBAL_BENCH_DB_PASSWORD")));
+
+    @Test
+    void createsMissingPartitionsOnce() {
+        LocalDate from = currentMonth().minusMonths(2);
+        jdbcTemplate.queryForList(
+                "SELECT partition_name FROM sp_ensure_ledger_partitions(1, ?)", String.class, from);
+
+        for (LocalDate month = from; !month.isAfter(currentMonth().plusMonths(1)); month = month.plusMonths(1)) {
+            assertTrue(isAttached(partitionName(month)), partitionName(month));
+        }
+        assertTrue(jdbcTemplate.queryForList(
+                "SELECT partition_name FROM sp_ensure_ledger_partitions(1, ?)", String.class, from).isEmpty());
+    }
+
+    @Test
+    void detachesExpiredPartitionsToArchive() {
+        LocalDate expired = currentMonth().minusMonths(14);
+        LocalDate retained = currentMonth().minusMonths(12);
+        jdbcTemplate.queryForList(
+                "SELECT partition_name FROM sp_ensure_ledger_partitions(0, ?)", String.class, expired);
+
+        List<String> detached = new DetachLedgerPartitionsProcedure(12).executeWith(jdbcTemplate).stream()
+                .map(DetachLedgerPartitionsProcedure.Result::getPartitionName)
+                .toList();
+        try {
+            assertTrue(detached.contains(partitionName(expired)));
+            assertTrue(detached.contains(partitionName(expired.plusMonths(1))));
+            assertFalse(detached.contains(partitionName(retained)));
+
+            assertFalse(isAttached(partitionName(expired)));
+            assertNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class,
+                    "public." + partitionName(expired)));
+            assertNotNull(jdbcTemplate.queryForObject("SELECT to_regclass(?)::TEXT", String.class,
+                    "ledger_archive." + partitionName(expired)));
+            assertTrue(isAttached(partitionName(retained)));
+
+            assertEquals(List.of(), new DetachLedgerPartitionsProcedure(12).executeWith(jdbcTemplate));
+        } finally {
+            for (String name : detached) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS ledger_archive.\"" + name + "\"");
+            }
+        }
+    }
+
+    private boolean isAttached(String partitionName) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'contribution_ledger'::REGCLASS AND c.relname = ?)",
+                Boolean.class, partitionName));
+    }
+
+    private static LocalDate currentMonth() {
+        return LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+    }
+
+    private static String partitionName(LocalDate month) {
+        return month.format(PARTITION_NAME);
+    }
+}
@@ -0,0 +1,120 @@
+package com.tasbal.infrastructure.db.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link SingleFlight}のテスト。
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    @Test
+    void concurrentCallsWithSameKeyShareOneExecution() throws Exception {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger shared = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "result";
+        }, shared::incrementAndGet), () -> shared.get() + executions.get() == CALLERS, release);
+
+        for (Future<String> result : results) {
+            assertEquals("result", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(CALLERS - 1, shared.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void failureIsPropagatedToSharedCallers() throws Exception {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger shared = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.execute("key", () -> {
+            executions.incrementAndGet();
+            await(release);
+            throw failure;
+        }, shared::incrementAndGet), () -> shared.get() + executions.get() == CALLERS, release);
+
+        for (Future<String> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertSame(failure, e.getCause());
+        }
+        assertEquals(1, executions.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void completedCallIsNotCached() {
+        SingleFlight<Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+
+        assertEquals(1, singleFlight.execute("key", executions::incrementAndGet, () -> { }));
+        assertEquals(2, singleFlight.execute("key", executions::incrementAndGet, () -> { }));
+    }
+
+    @Test
+    void callsWithDifferentKeysAreNotShared() {
+        SingleFlight<String> singleFlight = new SingleFlight<>();
+        AtomicInteger shared = new AtomicInteger();
+
+        String outer = singleFlight.execute("a",
+                () -> "a:" + singleFlight.execute("b", () -> "b", shared::incrementAndGet),
+                shared::incrementAndGet);
+
+        assertEquals("a:b", outer);
+        assertEquals(0, shared.get());
+    }
+
+    private static <T> List<Future<T>> runConcurrently(Callable<T> call, BooleanSupplier allArrived,
+                                                       CountDownLatch release) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<T>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(call));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!allArrived.getAsBoolean() && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(allArrived.getAsBoolean(), "all callers should reach the in-flight call");
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
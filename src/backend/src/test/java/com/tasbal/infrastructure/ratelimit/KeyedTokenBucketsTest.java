@@ -0,0 +1,66 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * {@link KeyedTokenBuckets}のテスト。
+ */
+class KeyedTokenBucketsTest {
+
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void keysBeyondLimitEvictLeastRecentlyUsedBuckets() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(1, 0.001, 10, IDLE_NANOS);
+        long now = System.nanoTime() + SECOND;
+        TokenBucket active = buckets.get("active", now);
+        for (int i = 0; i < 9; i++) {
+            buckets.get("k" + i, now).tryConsume(1, now + (i + 1) * SECOND);
+        }
+        active.tryConsume(1, now + 100 * SECOND);
+
+        TokenBucket added = buckets.get("new", now + 200 * SECOND);
+
+        assertEquals(10, buckets.size());
+        assertSame(active, buckets.get("active", now + 200 * SECOND));
+        assertSame(added, buckets.get("new", now + 200 * SECOND));
+        assertNotSame(active, added);
+    }
+
+    @Test
+    void throttledKeyIsNotResetByNewKeys() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(1, 0.001, 10, IDLE_NANOS);
+        long now = System.nanoTime() + SECOND;
+        buckets.get("throttled", now).tryConsume(1, now);
+
+        for (int i = 0; i < 100; i++) {
+            // 制限中のキーは拒否されてもリクエストを続けている
+            buckets.get("throttled", now).tryConsume(1, now + (i + 1) * SECOND);
+            buckets.get("k" + i, now).tryConsume(1, now + i * SECOND);
+        }
+
+        assertFalse(buckets.get("throttled", now).tryConsume(1, now + 101 * SECOND));
+    }
+
+    @Test
+    void evictLeastRecentlyUsedRemovesOldestFirst() {
+        KeyedTokenBuckets buckets = new KeyedTokenBuckets(5, 0.001, 100, IDLE_NANOS);
+        long now = System.nanoTime() + SECOND;
+        for (int i = 0; i < 5; i++) {
+            buckets.get("k" + i, now).tryConsume(1, now + i * SECOND);
+        }
+        TokenBucket newest = buckets.get("k4", now);
+
+        assertEquals(4, buckets.evictLeastRecentlyUsed(4));
+        assertEquals(1, buckets.size());
+        assertSame(newest, buckets.get("k4", now));
+    }
+}
@@ -0,0 +1,144 @@
+package com.tasbal.infrastructure.ratelimit;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import com.tasbal.infrastructure.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link RateLimitFilter}のテスト。
+ *
+ * <p>補充が十分に遅い規則で、連続したリクエストが上限を超えた時点で拒否されることを確認します。
+ * フィルターは認証の前に実行されるため、ユーザー・端末はアクセストークンのクレームから特定されます。</p>
+ */
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitPolicy policy = new RateLimitPolicy(true, 1000, Duration.ofMinutes(10),
+                2, 0.001, 3, 0.001, 5, 0.001);
+        filter = new RateLimitFilter(policy, meterRegistry);
+    }
+
+    @Test
+    void requestsBeyondCapacityAreRejectedWithRetryAfter() throws Exception {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(authenticatedRequest("GET", "/api/v1/tasks", userId, null), response, chain);
+            assertNotNull(chain.getRequest());
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(authenticatedRequest("GET", "/api/v1/tasks", userId, null), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.counter("tasbal.ratelimit.rejected", "rule", "api").count());
+    }
+
+    @Test
+    void usersHaveIndependentBuckets() throws Exception {
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(authenticatedRequest("GET", "/api/v1/tasks", userId, null),
+                    new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(authenticatedRequest("GET", "/api/v1/tasks", UUID.randomUUID(), null),
+                response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void taskToggleIsLimitedPerDevice() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID sessionId = UUID.randomUUID();
+        String path = "/api/v1/tasks/" + UUID.randomUUID() + "/toggle-done";
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(authenticatedRequest("POST", path, userId, sessionId), response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(authenticatedRequest("POST", path, userId, sessionId), rejected, new MockFilterChain());
+        assertEquals(429, rejected.getStatus());
+
+        MockHttpServletResponse otherDevice = new MockHttpServletResponse();
+        filter.doFilter(authenticatedRequest("POST", path, userId, UUID.randomUUID()), otherDevice, new MockFilterChain());
+        assertEquals(200, otherDevice.getStatus());
+    }
+
+    @Test
+    void anonymousEndpointsAreLimitedPerIpAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(anonymousRequest("/api/v1/auth/guest", "198.51.100.1"), response, new MockFilterChain());
+            assertEquals(200, response.getStatus());
+        }
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(anonymousRequest("/api/v1/auth/guest", "198.51.100.1"), rejected, new MockFilterChain());
+        assertEquals(429, rejected.getStatus());
+
+        MockHttpServletResponse otherAddress = new MockHttpServletResponse();
+        filter.doFilter(anonymousRequest("/api/v1/auth/guest", "198.51.100.2"), otherAddress, new MockFilterChain());
+        assertEquals(200, otherAddress.getStatus());
+    }
+
+    @Test
+    void requestsWithoutReadableTokenAreLimitedPerIpAddress() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer not-a-jwt");
+            request.setRemoteAddr("198.51.100.3");
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/tasks");
+        request.setRemoteAddr("198.51.100.3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(429, response.getStatus());
+    }
+
+    private static MockHttpServletRequest authenticatedRequest(String method, String path, UUID userId, UUID sessionId) {
+        JWTClaimsSet.Builder claims = new JWTClaimsSet.Builder().subject(userId.toString());
+        if (sessionId != null) {
+            claims.claim(JwtAuthenticationFilter.SESSION_ID_CLAIM, sessionId.toString());
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + new PlainJWT(claims.build()).serialize());
+        return request;
+    }
+
+    private static MockHttpServletRequest anonymousRequest(String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,178 @@
+package com.tasbal.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link JwtAuthenticationFilter}のテスト。
+ *
+ * <p>テスト用に生成したRSA鍵ペアでトークンに署名し、公開鍵のJWKセットで検証します。</p>
+ */
+class JwtAuthenticationFilterTest {
+
+    private RSAKey signingKey;
+    private AtomicInteger decodeCount;
+    private Set<UUID> revokedSessions;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+        JwtDecoder decoder = JwkJwtDecoders.fromJwkSource(
+                new ImmutableJWKSet<>(new JWKSet(signingKey.toPublicJWK())), "https://tasbal.test");
+        decodeCount = new AtomicInteger();
+        JwtDecoder countingDecoder = token -> {
+            decodeCount.incrementAndGet();
+            return decoder.decode(token);
+        };
+        revokedSessions = new HashSet<>();
+        SessionValidator sessionValidator = (sessionId, userId) -> !revokedSessions.contains(sessionId);
+        filter = new JwtAuthenticationFilter(countingDecoder, new JwtPrincipalCache(1000), sessionValidator,
+                new JsonAuthenticationEntryPoint(), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenResolvesUserId() throws Exception {
+        UUID userId = UUID.randomUUID();
+        MockHttpServletRequest request = bearerRequest(sign(signingKey, userId, Instant.now().plus(Duration.ofHours(1))));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(userId, request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE));
+        assertEquals(userId, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    }
+
+    @Test
+    void repeatedTokenSkipsSignatureVerification() throws Exception {
+        UUID userId = UUID.randomUUID();
+        String token = sign(signingKey, userId, Instant.now().plus(Duration.ofHours(1)));
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletRequest request = bearerRequest(token);
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            assertEquals(userId, request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE));
+        }
+
+        assertEquals(1, decodeCount.get());
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        String token = sign(signingKey, UUID.randomUUID(), Instant.now().minus(Duration.ofMinutes(5)));
+        MockHttpServletRequest request = bearerRequest(token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE));
+    }
+
+    @Test
+    void tokenSignedByUnknownKeyIsRejected() throws Exception {
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+        String token = sign(otherKey, UUID.randomUUID(), Instant.now().plus(Duration.ofHours(1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(bearerRequest(token), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void revokedSessionIsRejectedEvenWhenTokenIsCached() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        String token = sign(signingKey, UUID.randomUUID(), sessionId, Instant.now().plus(Duration.ofHours(1)));
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(bearerRequest(token), first, new MockFilterChain());
+        assertEquals(200, first.getStatus());
+
+        revokedSessions.add(sessionId);
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(bearerRequest(token), second, chain);
+
+        assertEquals(401, second.getStatus());
+        assertNull(chain.getRequest());
+        assertEquals(1, decodeCount.get());
+    }
+
+    @Test
+    void requestWithoutTokenContinuesAnonymously() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/me");
+        request.addHeader("X-User-Id", UUID.randomUUID().toString());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertNull(request.getAttribute(JwtAuthenticationFilter.USER_ID_ATTRIBUTE));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private static MockHttpServletRequest bearerRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    private static String sign(RSAKey key, UUID userId, Instant expiresAt) throws JOSEException {
+        return sign(key, userId, null, expiresAt);
+    }
+
+    private static String sign(RSAKey key, UUID userId, UUID sessionId, Instant expiresAt) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(userId.toString())
+                .claim(JwtAuthenticationFilter.SESSION_ID_CLAIM, sessionId != null ? sessionId.toString() : null)
+                .issuer("https://tasbal.test")
+                .issueTime(Date.from(expiresAt.minus(Duration.ofHours(1))))
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+}
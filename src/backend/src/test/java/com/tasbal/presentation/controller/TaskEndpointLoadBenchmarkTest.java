@@ -0,0 +1,175 @@
+package com.tasbal.presentation.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * タスクAPIの負荷試験。
+ *
+ * <p>起動中のサーバーに対して、複数のゲストユーザーでタスク一覧の取得（{@code GET /api/v1/tasks}）と
+ * 完了の切替（{@code POST /api/v1/tasks/{id}/toggle-done}）を交互に送り続け、
+ * スループットと応答時間のパーセンタイルをログに出力します。過負荷で制限された応答（429・503）は
+ * エラーとは別に数えます。</p>
+ *
+ * <p>環境変数{@code TASBAL_BENCH_BASE_URL}が設定されている場合のみ実行します。
+ * 同時接続数・ユーザー数・実行時間はシステムプロパティ{@code bench.concurrency}・{@code bench.users}・
+ * {@code bench.seconds}で変更できます。サーバーはレート制限を無効にして起動してください。</p>
+ *
+ * <p>プラットフォームスレッドと仮想スレッドの比較は、サーバーを{@code TASBAL_VIRTUAL_THREADS=false}と
+ * {@code TASBAL_VIRTUAL_THREADS=true}でそれぞれ起動し、同じ条件で実行した出力を比べます。</p>
+ *
+ * <pre>{@code
+ * TASBAL_VIRTUAL_THREADS=true ./mvnw spring-boot:run -Dspring-boot.run.arguments=--tasbal.rate-limit.enabled=false
+ * TASBAL_BENCH_BASE_URL=http://localhost:8080 \
+ *   mvn test -Dtest=TaskEndpointLoadBenchmarkTest -Dbench.concurrency=400 -Dbench.seconds=30
+ * }</pre>
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "TASBAL_BENCH_BASE_URL", matches = ".+")
+class TaskEndpointLoadBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskEndpointLoadBenchmarkTest.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl = System.getenv("TASBAL_BENCH_BASE_URL");
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void taskEndpointsUnderLoad() throws Exception {
+        int concurrency = Integer.getInteger("bench.concurrency", 200);
+        int users = Integer.getInteger("bench.users", 50);
+        long seconds = Long.getLong("bench.seconds", 10);
+
+        List<String[]> sessions = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String token = startGuest();
+            sessions.add(new String[] {token, createTask(token)});
+        }
+
+        AtomicLong ok = new AtomicLong();
+        AtomicLong shed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        long[] window = new long[2];
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                String[] session = sessions.get(i % users);
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    boolean done = false;
+                    start.await();
+                    while (System.nanoTime() < window[1]) {
+                        HttpRequest request = count % 2 == 0
+                                ? authorized(session[0], "/api/v1/tasks?limit=20").GET().build()
+                                : authorized(session[0], "/api/v1/tasks/" + session[1] + "/toggle-done")
+                                        .header("Content-Type", "application/json")
+                                        .POST(HttpRequest.BodyPublishers.ofString("{\"isDone\":" + (done = !done) + "}"))
+                                        .build();
+                        long begin = System.nanoTime();
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        long latency = System.nanoTime() - begin;
+                        if (status / 100 == 2) {
+                            ok.incrementAndGet();
+                        } else if (status == 429 || status == 503) {
+                            shed.incrementAndGet();
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = latency;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+            window[0] = System.nanoTime();
+            window[1] = window[0] + TimeUnit.SECONDS.toNanos(seconds);
+            start.countDown();
+
+            long[] all = new long[0];
+            for (Future<long[]> worker : workers) {
+                long[] latencies = worker.get();
+                int offset = all.length;
+                all = Arrays.copyOf(all, offset + latencies.length);
+                System.arraycopy(latencies, 0, all, offset, latencies.length);
+            }
+            Arrays.sort(all);
+
+            double elapsedSeconds = (System.nanoTime() - window[0]) / 1e9;
+            log.info("task endpoints: concurrency={} users={} requests={} ok={} shed={} errors={} "
+                            + "rate={}/s p50={}ms p99={}ms max={}ms",
+                    concurrency, users, all.length, ok.get(), shed.get(), errors.get(),
+                    Math.round(ok.get() / elapsedSeconds), percentileMillis(all, 0.50), percentileMillis(all, 0.99),
+                    percentileMillis(all, 1.0));
+        }
+
+        assertTrue(ok.get() > 0);
+        assertEquals(0, errors.get());
+    }
+
+    private String startGuest() throws Exception {
+        JsonNode body = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/guest"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"deviceKey\":\"bench-" + UUID.randomUUID() + "\"}"))
+                .build());
+        return body.path("tokens").path("accessToken").asText();
+    }
+
+    private String createTask(String token) throws Exception {
+        JsonNode body = send(authorized(token, "/api/v1/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"title\":\"benchmark\"}"))
+                .build());
+        return body.path("id").asText();
+    }
+
+    private JsonNode send(HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(2, response.statusCode() / 100, () -> request.uri() + " returned " + response.statusCode());
+        return MAPPER.readTree(response.body());
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private static String percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return "0.0";
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return String.format("%.1f", sorted[Math.max(0, index)] / 1e6);
+    }
+}
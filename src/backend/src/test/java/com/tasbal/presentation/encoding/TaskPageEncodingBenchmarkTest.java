@@ -0,0 +1,133 @@
+package com.tasbal.presentation.encoding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tasbal.domain.division.TaskStatus;
+import com.tasbal.presentation.dto.TaskResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * タスク一覧1ページ分のエンコーディングのベンチマーク。
+ *
+ * <p>現在のJSON（Spring Bootの既定の設定）と{@link CborEncoding}のCBORについて、
+ * 1ページあたりのサイズ（非圧縮・gzip）とシリアライズのCPU時間をログに出力します。</p>
+ *
+ * <p>計測は環境変数{@code TASBAL_BENCH_ENCODING}が設定されている場合のみ実行します（CBORの内容の検証は常に実行します）。
+ * 反復回数はシステムプロパティ{@code bench.iterations}で変更できます。</p>
+ *
+ * <pre>{@code
+ * TASBAL_BENCH_ENCODING=1 mvn test -Dtest=TaskPageEncodingBenchmarkTest -Dbench.iterations=20000
+ * }</pre>
+ */
+class TaskPageEncodingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskPageEncodingBenchmarkTest.class);
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper cbor = CborEncoding.objectMapper();
+
+    @Test
+    @Tag("benchmark")
+    @EnabledIfEnvironmentVariable(named = "TASBAL_BENCH_ENCODING", matches = ".+")
+    void cborPageIsSmallerThanJson() throws IOException {
+        int iterations = Integer.getInteger("bench.iterations", 2000);
+
+        for (int pageSize : new int[] {20, 100}) {
+            List<TaskResponse> page = page(pageSize);
+            byte[] jsonBytes = json.writeValueAsBytes(page);
+            byte[] cborBytes = cbor.writeValueAsBytes(page);
+
+            log.info("tasks page={}: json={}B (gzip {}B) {}us, cbor={}B (gzip {}B) {}us",
+                    pageSize,
+                    jsonBytes.length, gzip(jsonBytes).length, cpuMicrosPerPage(json, page, iterations),
+                    cborBytes.length, gzip(cborBytes).length, cpuMicrosPerPage(cbor, page, iterations));
+
+            assertTrue(cborBytes.length < jsonBytes.length);
+        }
+    }
+
+    @Test
+    void cborUsesStatusCodesAndEpochMillis() throws IOException {
+        TaskResponse task = page(1).get(0);
+
+        JsonNode node = cbor.readTree(cbor.writeValueAsBytes(task));
+
+        assertEquals(TaskStatus.Todo.getValue(), node.get("statusCode").asInt());
+        assertTrue(node.get("createdAt").isIntegralNumber());
+        assertEquals(task.getCreatedAt().toInstant().toEpochMilli(), node.get("createdAt").asLong());
+        assertFalse(node.has("status"));
+        assertFalse(node.has("userId"));
+        assertFalse(node.has("completedAt"));
+
+        JsonNode jsonNode = json.readTree(json.writeValueAsBytes(task));
+        assertEquals(TaskStatus.Todo.getDisplayName(), jsonNode.get("status").asText());
+        assertFalse(jsonNode.has("statusCode"));
+    }
+
+    private static String cpuMicrosPerPage(ObjectMapper mapper, List<TaskResponse> page, int iterations)
+            throws IOException {
+        for (int i = 0; i < iterations; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        return String.format("%.1f", (threads.getCurrentThreadCpuTime() - start) / 1e3 / iterations);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<TaskResponse> page(int size) {
+        UUID userId = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.of(2026, 1, 6, 10, 0, 0, 0, ZoneOffset.UTC);
+        List<TaskResponse> page = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskResponse task = new TaskResponse();
+            task.setId(UUID.randomUUID());
+            task.setUserId(userId);
+            task.setTitle("散歩する " + i);
+            task.setMemo("10分だけでもOK");
+            task.setDueAt(now.plusDays(i));
+            task.setStatus(TaskStatus.Todo.getDisplayName());
+            task.setStatusCode(TaskStatus.Todo.getValue());
+            task.setPinned(i % 5 == 0);
+            task.setIsDone(false);
+            task.setCreatedAt(now.minusHours(i));
+            task.setUpdatedAt(now.minusMinutes(i));
+            task.setTagIds(List.of(UUID.randomUUID(), UUID.randomUUID()));
+            page.add(task);
+        }
+        return page;
+    }
+}